@@ -0,0 +1,99 @@
+package goorm.eagle7.stelligence.common.compression;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * 섹션 본문 압축의 인코딩, 디코딩 처리량을 측정합니다.
+ *
+ * <p>본문은 Sanitize를 거친 위키 문서와 비슷한 형태의 HTML로 생성합니다.
+ * 문단, 링크, 목록, 표가 섞여 있으며 한글과 영문이 함께 사용됩니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class TextCompressorBenchmark {
+
+	private static final String[] WORDS = {
+		"문서", "스텔리전스", "위키", "수정요청", "토론", "투표", "섹션", "기여자", "별자리", "은하",
+		"document", "section", "contribute", "revision", "the", "of", "and", "merge", "graph", "node"
+	};
+
+	@Param({"1024", "16384", "65536"})
+	private int size;
+
+	private String html;
+	private String compressed;
+
+	@Setup
+	public void setUp() {
+		html = generateWikiHtml(size, new Random(7));
+		compressed = TextCompressor.compress(html);
+	}
+
+	@Benchmark
+	public String compress() {
+		return TextCompressor.compress(html);
+	}
+
+	@Benchmark
+	public String decompress() {
+		return TextCompressor.decompress(compressed);
+	}
+
+	/**
+	 * 지정된 길이 이상의 위키 HTML을 생성합니다.
+	 */
+	static String generateWikiHtml(int length, Random random) {
+		StringBuilder sb = new StringBuilder(length + 256);
+		int block = 0;
+		while (sb.length() < length) {
+			switch (block++ % 4) {
+				case 0 -> sb.append("<p>").append(sentence(random, 30))
+					.append(" <a href=\"/documents/").append(random.nextInt(10_000)).append("\">")
+					.append(sentence(random, 2)).append("</a> ").append(sentence(random, 20)).append("</p>");
+				case 1 -> {
+					sb.append("<ul>");
+					for (int i = 0; i < 4; i++) {
+						sb.append("<li>").append(sentence(random, 8)).append("</li>");
+					}
+					sb.append("</ul>");
+				}
+				case 2 -> {
+					sb.append("<table><tbody>");
+					for (int row = 0; row < 3; row++) {
+						sb.append("<tr>");
+						for (int col = 0; col < 3; col++) {
+							sb.append("<td>").append(sentence(random, 3)).append("</td>");
+						}
+						sb.append("</tr>");
+					}
+					sb.append("</tbody></table>");
+				}
+				default -> sb.append("<p><strong>").append(sentence(random, 5)).append("</strong> ")
+					.append(sentence(random, 40)).append("</p>");
+			}
+		}
+		return sb.toString();
+	}
+
+	private static String sentence(Random random, int words) {
+		StringBuilder sb = new StringBuilder();
+		for (int i = 0; i < words; i++) {
+			if (i > 0) {
+				sb.append(' ');
+			}
+			sb.append(WORDS[random.nextInt(WORDS.length)]);
+		}
+		return sb.append('.').toString();
+	}
+}
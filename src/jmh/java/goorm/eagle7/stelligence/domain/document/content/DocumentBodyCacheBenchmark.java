@@ -0,0 +1,147 @@
+package goorm.eagle7.stelligence.domain.document.content;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+
+import goorm.eagle7.stelligence.api.ResponseTemplate;
+import goorm.eagle7.stelligence.domain.document.content.dto.DocumentHeaderRow;
+import goorm.eagle7.stelligence.domain.document.content.dto.DocumentResponse;
+import goorm.eagle7.stelligence.domain.document.content.dto.SectionResponse;
+import goorm.eagle7.stelligence.domain.document.status.DocumentStateService;
+import goorm.eagle7.stelligence.domain.document.status.model.DocumentState;
+import goorm.eagle7.stelligence.domain.member.dto.MemberSimpleResponse;
+import goorm.eagle7.stelligence.domain.section.model.Heading;
+
+/**
+ * 캐시 적중 시 최신 문서의 응답 본문을 만드는 처리량을 캐시 저장 형식별로 측정합니다.
+ *
+ * <ul>
+ *     <li>object : GenericJackson2JsonRedisSerializer로 저장된 DocumentResponse를 역직렬화하고 응답 JSON으로 다시 직렬화합니다.</li>
+ *     <li>smileObject : Smile(바이너리 JSON)로 저장된 DocumentResponse를 역직렬화하고 응답 JSON으로 다시 직렬화합니다.
+ *     object와 같은 객체 캐시이며, 텍스트 JSON 대신 바이너리 형식을 사용했을 때의 차이를 측정합니다.</li>
+ *     <li>compressedBytes : LZ4로 압축된 CachedBodyEnvelope를 해제하여 응답에 씁니다.</li>
+ *     <li>rawBytes : 압축되지 않은 CachedBodyEnvelope를 복사 없이 응답에 씁니다.</li>
+ * </ul>
+ * Redis와의 통신 비용은 형식과 무관하게 저장된 값의 크기에만 비례하므로 제외했습니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class DocumentBodyCacheBenchmark {
+
+	private static final String PARAGRAPH = "<p>스텔리전스는 별자리처럼 연결된 문서를 함께 편집하는 위키입니다. "
+		+ "Contributors propose <a href=\"/documents/42\">changes</a> and vote on each revision.</p>";
+
+	@Param({"10", "50"})
+	private int sections;
+
+	private final ObjectMapper objectMapper = new ObjectMapper()
+		.registerModule(new JavaTimeModule())
+		.disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+
+	private final GenericJackson2JsonRedisSerializer redisSerializer = new GenericJackson2JsonRedisSerializer()
+		.configure(mapper -> mapper.registerModule(new JavaTimeModule()));
+
+	private final DocumentState documentState = DocumentState.editable(1L);
+
+	private final ByteArrayOutputStream out = new ByteArrayOutputStream(1 << 16);
+
+	private final ObjectMapper smileMapper = new ObjectMapper(new SmileFactory())
+		.registerModule(new JavaTimeModule());
+
+	private byte[] storedObject;
+	private byte[] storedSmile;
+	private DocumentBodyCache compressedCache;
+	private DocumentBodyCache rawCache;
+
+	@Setup
+	public void setUp() throws IOException {
+		DocumentResponse documentResponse = documentResponse(sections);
+		storedObject = redisSerializer.serialize(documentResponse);
+		storedSmile = smileMapper.writeValueAsBytes(documentResponse);
+
+		compressedCache = bodyCache(documentResponse, 0);
+		rawCache = bodyCache(documentResponse, -1);
+
+		//캐시를 채워 둡니다.
+		compressedCache.write(1L, out);
+		rawCache.write(1L, out);
+	}
+
+	@Benchmark
+	public byte[] object() throws IOException {
+		DocumentResponse cached = (DocumentResponse)redisSerializer.deserialize(storedObject);
+		return objectMapper.writeValueAsBytes(ResponseTemplate.ok(cached.withStatus(documentState)));
+	}
+
+	@Benchmark
+	public byte[] smileObject() throws IOException {
+		DocumentResponse cached = smileMapper.readValue(storedSmile, DocumentResponse.class);
+		return objectMapper.writeValueAsBytes(ResponseTemplate.ok(cached.withStatus(documentState)));
+	}
+
+	@Benchmark
+	public int compressedBytes() throws IOException {
+		out.reset();
+		compressedCache.write(1L, out);
+		return out.size();
+	}
+
+	@Benchmark
+	public int rawBytes() throws IOException {
+		out.reset();
+		rawCache.write(1L, out);
+		return out.size();
+	}
+
+	private DocumentBodyCache bodyCache(DocumentResponse documentResponse, int compressionThreshold) {
+		DocumentReadService documentReadService = new DocumentReadService(null) {
+			@Override
+			public DocumentResponse getLatestDocument(Long documentId) {
+				return documentResponse;
+			}
+		};
+		DocumentStateService documentStateService = new DocumentStateService(null, null) {
+			@Override
+			public DocumentState getState(Long documentId) {
+				return documentState;
+			}
+		};
+		return new DocumentBodyCache(documentReadService, documentStateService,
+			new ConcurrentMapCacheManager(DocumentBodyCache.CACHE_NAME), objectMapper, compressionThreshold, 5000L);
+	}
+
+	private static DocumentResponse documentResponse(int sectionCount) {
+		List<SectionResponse> sectionResponses = new ArrayList<>(sectionCount);
+		for (long i = 1; i <= sectionCount; i++) {
+			sectionResponses.add(SectionResponse.of(i, 1L, Heading.H2, "섹션 " + i, PARAGRAPH.repeat(8)));
+		}
+		List<MemberSimpleResponse> contributors = List.of(
+			MemberSimpleResponse.of(2L, "contributor1", null),
+			MemberSimpleResponse.of(3L, "contributor2", null)
+		);
+		DocumentHeaderRow header = new DocumentHeaderRow(1L, "스텔리전스", null, null, 1L, LocalDateTime.now(),
+			1L, "author", null, null, null, null, null, null, null, null);
+		return DocumentResponse.of(header, sectionResponses, contributors);
+	}
+}
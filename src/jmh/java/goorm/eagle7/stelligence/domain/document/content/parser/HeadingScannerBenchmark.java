@@ -0,0 +1,101 @@
+package goorm.eagle7.stelligence.domain.document.content.parser;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import goorm.eagle7.stelligence.domain.document.content.dto.SectionRequest;
+import goorm.eagle7.stelligence.domain.section.model.Heading;
+
+/**
+ * Sanitize된 문서를 섹션으로 나누는 비용을 기존 정규식과 HeadingScanner로 비교합니다.
+ *
+ * <p>Sanitize는 두 방식에서 같으므로 제외하고, Sanitize를 거친 형태의 HTML을 입력으로 사용합니다.
+ * 섹션 하나는 2KB 내외이며 heading 수준과 본문 길이가 섞여 있습니다.
+ * 할당량은 build.gradle의 gc 프로파일러 결과(gc.alloc.rate.norm)로 확인할 수 있습니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class HeadingScannerBenchmark {
+
+	private static final Pattern HEADING_TAG_PATTERN = Pattern.compile(
+		"(<h([1-6])>(.*?)</h\\2>)(.*?)(?=<h[1-6]>|$)", Pattern.DOTALL);
+
+	private static final String[] WORDS = {
+		"문서", "스텔리전스", "위키", "수정요청", "토론", "투표", "섹션", "기여자", "별자리", "은하",
+		"document", "section", "contribute", "revision", "the", "of", "and", "merge", "graph", "node"
+	};
+
+	/**
+	 * 10KB, 1MB, 10MB
+	 */
+	@Param({"10240", "1048576", "10485760"})
+	private int size;
+
+	private String html;
+
+	@Setup
+	public void setUp() {
+		html = generateDocument(size, new Random(7));
+	}
+
+	@Benchmark
+	public List<SectionRequest> regex() {
+		List<SectionRequest> sectionRequests = new ArrayList<>();
+		Matcher matcher = HEADING_TAG_PATTERN.matcher(html);
+		while (matcher.find()) {
+			Heading heading = Heading.valueOf("H" + matcher.group(2));
+			sectionRequests.add(new SectionRequest(heading, matcher.group(3), matcher.group(4).trim()));
+		}
+		return sectionRequests;
+	}
+
+	@Benchmark
+	public List<SectionRequest> scanner() {
+		return HeadingScanner.scan(html);
+	}
+
+	/**
+	 * 지정된 길이 이상의 문서를 생성합니다.
+	 */
+	private static String generateDocument(int length, Random random) {
+		StringBuilder sb = new StringBuilder(length + 4096);
+		while (sb.length() < length) {
+			int level = 1 + random.nextInt(3);
+			sb.append("<h").append(level).append('>').append(sentence(random, 3)).append("</h").append(level)
+				.append('>');
+
+			int paragraphs = 1 + random.nextInt(6);
+			for (int i = 0; i < paragraphs; i++) {
+				sb.append("<p>").append(sentence(random, 20 + random.nextInt(60)))
+					.append(" <a href=\"/documents/").append(random.nextInt(10_000)).append("\">")
+					.append(sentence(random, 2)).append("</a></p>");
+			}
+		}
+		return sb.toString();
+	}
+
+	private static String sentence(Random random, int words) {
+		StringBuilder sb = new StringBuilder();
+		for (int i = 0; i < words; i++) {
+			if (i > 0) {
+				sb.append(' ');
+			}
+			sb.append(WORDS[random.nextInt(WORDS.length)]);
+		}
+		return sb.append('.').toString();
+	}
+}
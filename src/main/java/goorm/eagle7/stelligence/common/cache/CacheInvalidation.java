@@ -0,0 +1,10 @@
+package goorm.eagle7.stelligence.common.cache;
+
+/**
+ * 다른 서버의 로컬 캐시를 무효화하기 위해 Redis 채널로 전달하는 메시지입니다.
+ * @param origin 메시지를 보낸 서버의 ID, 자신이 보낸 메시지는 무시합니다.
+ * @param cacheName 무효화할 캐시의 이름
+ * @param key 무효화할 키, null이라면 캐시 전체를 무효화합니다.
+ */
+record CacheInvalidation(String origin, String cacheName, String key) {
+}
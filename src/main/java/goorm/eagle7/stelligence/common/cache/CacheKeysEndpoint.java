@@ -0,0 +1,74 @@
+package goorm.eagle7.stelligence.common.cache;
+
+import java.util.Comparator;
+import java.util.List;
+
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Selector;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 캐시마다의 적중률과 가장 많이 조회된 키, 가장 큰 키를 조회하는 actuator endpoint입니다.
+ *
+ * <p>/actuator/cachekeys는 모든 캐시를, /actuator/cachekeys/{cacheName}은 하나의 캐시를 반환합니다.
+ * TTL과 L1의 크기를 정하는 데 사용합니다. Spring Boot의 caches endpoint와 겹치지 않도록 cachekeys를 id로 사용합니다.
+ */
+@Component
+@Endpoint(id = "cachekeys")
+@RequiredArgsConstructor
+public class CacheKeysEndpoint {
+
+	private static final int KEY_LIMIT = 20;
+
+	private final CacheMetrics cacheMetrics;
+
+	@ReadOperation
+	public List<CacheKeysDescriptor> caches() {
+		return cacheMetrics.caches()
+			.stream()
+			.sorted(Comparator.comparing(CacheStats::getName))
+			.map(CacheKeysDescriptor::of)
+			.toList();
+	}
+
+	/**
+	 * @return 캐시의 통계, 한 번도 사용되지 않은 캐시라면 null (404)
+	 */
+	@Nullable
+	@ReadOperation
+	public CacheKeysDescriptor cache(@Selector String cacheName) {
+		return cacheMetrics.find(cacheName)
+			.map(CacheKeysDescriptor::of)
+			.orElse(null);
+	}
+
+	public record CacheKeysDescriptor(
+		String name,
+		long localHits,
+		long remoteHits,
+		long misses,
+		long puts,
+		double hitRatio,
+		double meanLoadMillis,
+		List<TopKCounter.Count<String>> hottestKeys,
+		List<CacheStats.KeySize> largestKeys
+	) {
+		static CacheKeysDescriptor of(CacheStats stats) {
+			return new CacheKeysDescriptor(
+				stats.getName(),
+				stats.getLocalHits(),
+				stats.getRemoteHits(),
+				stats.getMisses(),
+				stats.getPuts(),
+				stats.getHitRatio(),
+				stats.getMeanLoadMillis(),
+				stats.hottestKeys(KEY_LIMIT),
+				stats.largestKeys(KEY_LIMIT)
+			);
+		}
+	}
+}
@@ -0,0 +1,46 @@
+package goorm.eagle7.stelligence.common.cache;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * TwoLevelCacheManager가 관리하는 캐시마다의 CacheStats를 보관합니다.
+ *
+ * <p>Spring Boot의 CacheMetricsRegistrar는 알려진 캐시 구현(Caffeine, Redis 등)만 계측하므로 TwoLevelCache는 직접 계측합니다.
+ * meter 이름은 Spring Boot의 cache.gets 등과 겹치지 않도록 cache.twolevel 접두사를 사용합니다. (CacheStats 참조)
+ */
+public class CacheMetrics {
+
+	private final MeterRegistry meterRegistry;
+	private final Map<String, CacheStats> stats = new ConcurrentHashMap<>();
+
+	public CacheMetrics(MeterRegistry meterRegistry) {
+		this.meterRegistry = meterRegistry;
+	}
+
+	public MeterRegistry getMeterRegistry() {
+		return meterRegistry;
+	}
+
+	/**
+	 * 캐시의 CacheStats를 반환하며, 없다면 meter를 등록하고 만듭니다.
+	 */
+	public CacheStats stats(String cacheName) {
+		return stats.computeIfAbsent(cacheName, name -> new CacheStats(name, meterRegistry));
+	}
+
+	/**
+	 * 한 번이라도 사용된 캐시의 CacheStats를 반환합니다.
+	 */
+	public Collection<CacheStats> caches() {
+		return stats.values();
+	}
+
+	public Optional<CacheStats> find(String cacheName) {
+		return Optional.ofNullable(stats.get(cacheName));
+	}
+}
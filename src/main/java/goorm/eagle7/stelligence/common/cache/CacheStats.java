@@ -0,0 +1,246 @@
+package goorm.eagle7.stelligence.common.cache;
+
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * 캐시 하나의 조회, 저장, 삭제, 로딩 시간, 값의 크기를 기록합니다. 모든 meter는 cache 태그로 캐시 이름을 가집니다.
+ *
+ * <p><b>LOAD TIME</b> @Cacheable은 캐시를 놓치면 메서드를 실행한 뒤 같은 키로 저장합니다.
+ * 그래서 키를 놓친 시각을 기록해 두고, 같은 키가 저장될 때까지의 시간을 로딩 시간으로 기록합니다.
+ * 놓친 뒤 저장되지 않는 키(예외, null)는 PENDING_LOAD_TTL이 지나면 잊습니다.
+ *
+ * <p><b>KEYS</b> 가장 많이 조회된 키는 TopKCounter로, 가장 큰 키는 L2에서 읽거나 L2에 저장한 크기 중 가장 큰 TRACKED_KEYS개로 유지합니다.
+ * 크기는 값이 마지막으로 직렬화된 크기이며 L1에서 찾은 값은 크기를 다시 기록하지 않습니다.
+ */
+public class CacheStats {
+
+	static final String GETS = "cache.twolevel.gets";
+	static final String PUTS = "cache.twolevel.puts";
+	static final String EVICTIONS = "cache.twolevel.evictions";
+	static final String LOAD = "cache.twolevel.load";
+	static final String PAYLOAD_SIZE = "cache.twolevel.payload.size";
+
+	static final int TRACKED_KEYS = 100;
+	private static final int SKETCH_WIDTH = 4096;
+	private static final int PENDING_LOADS = 10_000;
+	private static final Duration PENDING_LOAD_TTL = Duration.ofMinutes(1);
+
+	private final String name;
+	private final MeterRegistry meterRegistry;
+
+	private final Counter localHitCounter;
+	private final Counter remoteHitCounter;
+	private final Counter missCounter;
+	private final Counter putCounter;
+	private final Counter evictCounter;
+	private final Counter clearCounter;
+	private final Timer loadTimer;
+	private final DistributionSummary sizeSummary;
+
+	/**
+	 * 캐시를 놓친 키와 놓친 시각(nanoTime)
+	 */
+	private final Cache<String, Long> pendingLoads = Caffeine.newBuilder()
+		.maximumSize(PENDING_LOADS)
+		.expireAfterWrite(PENDING_LOAD_TTL)
+		.build();
+
+	private final TopKCounter<String> hotKeys = new TopKCounter<>(TRACKED_KEYS, SKETCH_WIDTH, String::hashCode);
+
+	/**
+	 * 가장 큰 키와 마지막으로 기록된 크기
+	 */
+	private final Map<String, Long> largestKeys = new ConcurrentHashMap<>();
+
+	/**
+	 * 가장 큰 키가 가득 찼을 때 그 중 가장 작은 크기, 이 값 이하의 크기는 가장 큰 키를 변경하지 않습니다.
+	 */
+	private volatile long largestThreshold;
+
+	CacheStats(String name, MeterRegistry meterRegistry) {
+		this.name = name;
+		this.meterRegistry = meterRegistry;
+
+		this.localHitCounter = getCounter("hit", "local");
+		this.remoteHitCounter = getCounter("hit", "remote");
+		this.missCounter = getCounter("miss", "none");
+		this.putCounter = Counter.builder(PUTS).tag("cache", name).register(meterRegistry);
+		this.evictCounter = evictionCounter("explicit");
+		this.clearCounter = evictionCounter("clear");
+		this.loadTimer = Timer.builder(LOAD)
+			.description("캐시를 놓친 뒤 값을 만들어 저장하기까지의 시간")
+			.tag("cache", name)
+			.publishPercentileHistogram()
+			.register(meterRegistry);
+		this.sizeSummary = DistributionSummary.builder(PAYLOAD_SIZE)
+			.description("L2에서 읽거나 L2에 저장한 값의 직렬화된 크기")
+			.baseUnit("bytes")
+			.tag("cache", name)
+			.publishPercentileHistogram()
+			.register(meterRegistry);
+	}
+
+	public String getName() {
+		return name;
+	}
+
+	void localHit(String key) {
+		localHitCounter.increment();
+		hotKeys.record(key);
+	}
+
+	void remoteHit(String key) {
+		remoteHitCounter.increment();
+		hotKeys.record(key);
+	}
+
+	void miss(String key) {
+		missCounter.increment();
+		hotKeys.record(key);
+		pendingLoads.put(key, System.nanoTime());
+	}
+
+	void put(String key) {
+		putCounter.increment();
+		Long missedAt = pendingLoads.asMap().remove(key);
+		if (missedAt != null) {
+			loadTimer.record(System.nanoTime() - missedAt, TimeUnit.NANOSECONDS);
+		}
+	}
+
+	/**
+	 * get(key, valueLoader)처럼 캐시가 직접 값을 만든 시간을 기록합니다.
+	 */
+	void load(String key, long nanos) {
+		pendingLoads.invalidate(key);
+		loadTimer.record(nanos, TimeUnit.NANOSECONDS);
+	}
+
+	void evict() {
+		evictCounter.increment();
+	}
+
+	void clear() {
+		clearCounter.increment();
+	}
+
+	/**
+	 * L1이 크기 제한이나 만료로 값을 제거했음을 기록합니다.
+	 */
+	void localEviction(RemovalCause cause) {
+		evictionCounter(cause.name().toLowerCase(Locale.ROOT)).increment();
+	}
+
+	/**
+	 * 값의 직렬화된 크기를 기록합니다.
+	 * @param size 바이트 수, 음수라면 무시합니다.
+	 */
+	void size(String key, long size) {
+		if (size < 0) {
+			return;
+		}
+		sizeSummary.record(size);
+
+		if (largestKeys.computeIfPresent(key, (candidate, previous) -> size) == null && size > largestThreshold) {
+			offerLargest(key, size);
+		}
+	}
+
+	public long getLocalHits() {
+		return (long)localHitCounter.count();
+	}
+
+	public long getRemoteHits() {
+		return (long)remoteHitCounter.count();
+	}
+
+	public long getMisses() {
+		return (long)missCounter.count();
+	}
+
+	public long getPuts() {
+		return (long)putCounter.count();
+	}
+
+	public double getHitRatio() {
+		double hits = localHitCounter.count() + remoteHitCounter.count();
+		double total = hits + missCounter.count();
+		return total == 0 ? 0 : hits / total;
+	}
+
+	/**
+	 * 로딩 시간의 평균
+	 */
+	public double getMeanLoadMillis() {
+		return loadTimer.mean(TimeUnit.MILLISECONDS);
+	}
+
+	/**
+	 * 추정 조회 수가 많은 순서로 키를 반환합니다.
+	 */
+	public List<TopKCounter.Count<String>> hottestKeys(int limit) {
+		return hotKeys.top(limit);
+	}
+
+	/**
+	 * 직렬화된 크기가 큰 순서로 키를 반환합니다.
+	 */
+	public List<KeySize> largestKeys(int limit) {
+		return largestKeys.entrySet()
+			.stream()
+			.map(entry -> new KeySize(entry.getKey(), entry.getValue()))
+			.sorted(Comparator.comparingLong(KeySize::bytes).reversed())
+			.limit(limit)
+			.toList();
+	}
+
+	private synchronized void offerLargest(String key, long size) {
+		largestKeys.put(key, size);
+		if (largestKeys.size() > TRACKED_KEYS) {
+			largestKeys.entrySet()
+				.stream()
+				.min(Map.Entry.comparingByValue())
+				.map(Map.Entry::getKey)
+				.ifPresent(largestKeys::remove);
+		}
+		if (largestKeys.size() >= TRACKED_KEYS) {
+			largestThreshold = largestKeys.values().stream().min(Comparator.naturalOrder()).orElse(0L);
+		}
+	}
+
+	private Counter getCounter(String result, String level) {
+		return Counter.builder(GETS)
+			.tag("cache", name)
+			.tag("result", result)
+			.tag("level", level)
+			.register(meterRegistry);
+	}
+
+	private Counter evictionCounter(String cause) {
+		return Counter.builder(EVICTIONS)
+			.tag("cache", name)
+			.tag("cause", cause)
+			.register(meterRegistry);
+	}
+
+	/**
+	 * 키와 직렬화된 크기
+	 */
+	public record KeySize(String key, long bytes) {
+	}
+}
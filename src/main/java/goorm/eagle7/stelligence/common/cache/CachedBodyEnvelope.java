@@ -0,0 +1,123 @@
+package goorm.eagle7.stelligence.common.cache;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+import net.jpountz.lz4.LZ4Compressor;
+import net.jpountz.lz4.LZ4Factory;
+import net.jpountz.lz4.LZ4FastDecompressor;
+
+/**
+ * 이미 직렬화된 응답 본문을 캐시에 저장하기 위한 바이너리 형식입니다.
+ *
+ * <p>값은 다음과 같은 형식으로 저장됩니다.
+ * <pre>
+ *     MAGIC(1byte) + VERSION(1byte) + FLAGS(1byte) + 원본 바이트 길이(4byte) + 본문
+ * </pre>
+ * FLAGS의 FLAG_LZ4가 설정되어 있다면 본문은 LZ4 블록이며, 아니라면 원본 바이트 그대로입니다.
+ *
+ * <p>GenericJackson2JsonRedisSerializer와 달리 타입 정보(@class)를 포함하지 않고, 읽을 때 객체를 만들지 않습니다.
+ * 압축되지 않은 본문은 복사하지 않고 그대로 응답에 쓸 수 있습니다. ({@link #writeTo(byte[], OutputStream)})
+ */
+public final class CachedBodyEnvelope {
+
+	static final byte MAGIC = (byte)0xB7;
+	static final byte VERSION = 1;
+	static final byte FLAG_LZ4 = 0x01;
+
+	static final int HEADER_BYTES = 3 + Integer.BYTES;
+
+	private static final LZ4Compressor COMPRESSOR = LZ4Factory.fastestInstance().fastCompressor();
+	private static final LZ4FastDecompressor DECOMPRESSOR = LZ4Factory.fastestInstance().fastDecompressor();
+
+	private CachedBodyEnvelope() {
+	}
+
+	/**
+	 * 본문을 저장할 형식으로 만듭니다.
+	 * 본문이 임계값 이상이고 압축의 효과가 있는 경우에만 압축합니다.
+	 * @param body 직렬화된 본문
+	 * @param compressionThreshold 이 길이 이상인 본문만 압축합니다. 음수라면 압축하지 않습니다.
+	 * @return 저장할 값
+	 */
+	public static byte[] encode(byte[] body, int compressionThreshold) {
+		if (compressionThreshold >= 0 && body.length >= compressionThreshold) {
+			byte[] target = new byte[HEADER_BYTES + COMPRESSOR.maxCompressedLength(body.length)];
+			int compressedLength = COMPRESSOR.compress(body, 0, body.length, target, HEADER_BYTES,
+				target.length - HEADER_BYTES);
+
+			if (compressedLength < body.length) {
+				writeHeader(target, FLAG_LZ4, body.length);
+				return Arrays.copyOf(target, HEADER_BYTES + compressedLength);
+			}
+		}
+
+		byte[] target = new byte[HEADER_BYTES + body.length];
+		writeHeader(target, (byte)0, body.length);
+		System.arraycopy(body, 0, target, HEADER_BYTES, body.length);
+		return target;
+	}
+
+	/**
+	 * 저장된 값에서 본문을 꺼냅니다.
+	 * @param envelope 저장된 값
+	 * @return 직렬화된 본문
+	 * @throws IllegalArgumentException 형식이 올바르지 않은 경우
+	 */
+	public static byte[] decode(byte[] envelope) {
+		int length = validate(envelope);
+		if (isCompressed(envelope)) {
+			byte[] restored = new byte[length];
+			DECOMPRESSOR.decompress(envelope, HEADER_BYTES, restored, 0, length);
+			return restored;
+		}
+		return Arrays.copyOfRange(envelope, HEADER_BYTES, HEADER_BYTES + length);
+	}
+
+	/**
+	 * 저장된 값의 본문을 출력 스트림에 씁니다.
+	 * 압축되지 않은 본문은 복사하지 않고 그대로 씁니다.
+	 * @param envelope 저장된 값
+	 * @param out 본문을 쓸 출력 스트림
+	 * @throws IllegalArgumentException 형식이 올바르지 않은 경우
+	 */
+	public static void writeTo(byte[] envelope, OutputStream out) throws IOException {
+		int length = validate(envelope);
+		if (isCompressed(envelope)) {
+			out.write(decode(envelope));
+		} else {
+			out.write(envelope, HEADER_BYTES, length);
+		}
+	}
+
+	/**
+	 * 압축된 본문을 가지고 있는지 확인합니다.
+	 */
+	public static boolean isCompressed(byte[] envelope) {
+		return (envelope[2] & FLAG_LZ4) != 0;
+	}
+
+	private static void writeHeader(byte[] target, byte flags, int length) {
+		ByteBuffer.wrap(target).put(MAGIC).put(VERSION).put(flags).putInt(length);
+	}
+
+	/**
+	 * @return 원본 바이트 길이
+	 */
+	private static int validate(byte[] envelope) {
+		if (envelope == null || envelope.length < HEADER_BYTES || envelope[0] != MAGIC) {
+			throw new IllegalArgumentException("캐시된 본문의 형식이 올바르지 않습니다.");
+		}
+		if (envelope[1] != VERSION) {
+			throw new IllegalArgumentException("지원하지 않는 캐시 본문 버전입니다. 버전 : " + envelope[1]);
+		}
+
+		int length = ByteBuffer.wrap(envelope, 3, Integer.BYTES).getInt();
+		if (!isCompressed(envelope) && envelope.length != HEADER_BYTES + length) {
+			throw new IllegalArgumentException("캐시된 본문의 길이가 올바르지 않습니다.");
+		}
+		return length;
+	}
+}
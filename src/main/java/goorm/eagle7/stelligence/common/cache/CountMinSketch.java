@@ -0,0 +1,81 @@
+package goorm.eagle7.stelligence.common.cache;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 키마다의 빈도를 고정된 크기의 메모리로 추정하는 Count-Min Sketch입니다.
+ *
+ * <p>depth개의 행마다 서로 다른 해시로 width개의 카운터 중 하나를 증가시키고, 행들의 카운터 중 가장 작은 값을 빈도로 추정합니다.
+ * 해시 충돌로 인해 실제보다 크게 추정될 수는 있지만 작게 추정되지는 않습니다.
+ * 키의 개수와 관계없이 width * depth개의 카운터만 사용합니다.
+ *
+ * <p>카운터는 AtomicLongArray로 관리하므로 여러 스레드에서 잠금 없이 증가시킬 수 있습니다.
+ * {@link #halve()}로 모든 카운터를 절반으로 줄여 오래된 빈도의 비중을 낮출 수 있습니다.
+ */
+public class CountMinSketch {
+
+	private static final long[] SEEDS = {
+		0x9E3779B97F4A7C15L, 0xC2B2AE3D27D4EB4FL, 0x165667B19E3779F9L, 0xD6E8FEB86659FD93L,
+		0xFF51AFD7ED558CCDL, 0xC4CEB9FE1A85EC53L, 0x27D4EB2F165667C5L, 0x85EBCA77C2B2AE63L
+	};
+
+	private final int width;
+	private final int depth;
+	private final AtomicLongArray counters;
+
+	/**
+	 * @param width 행마다의 카운터 수, 2의 거듭제곱으로 올림합니다.
+	 * @param depth 행의 수 (1 ~ 8)
+	 */
+	public CountMinSketch(int width, int depth) {
+		if (width < 1 || depth < 1 || depth > SEEDS.length) {
+			throw new IllegalArgumentException("width는 1 이상, depth는 1 ~ " + SEEDS.length + "이어야 합니다.");
+		}
+		this.width = width == 1 ? 1 : Integer.highestOneBit(width - 1) << 1;
+		this.depth = depth;
+		this.counters = new AtomicLongArray(this.width * depth);
+	}
+
+	/**
+	 * 키의 빈도를 1 증가시킵니다.
+	 * @param key 키
+	 * @return 증가시킨 뒤의 추정 빈도
+	 */
+	public long increment(long key) {
+		long estimate = Long.MAX_VALUE;
+		for (int row = 0; row < depth; row++) {
+			estimate = Math.min(estimate, counters.incrementAndGet(index(row, key)));
+		}
+		return estimate;
+	}
+
+	/**
+	 * 키의 빈도를 추정합니다.
+	 * @param key 키
+	 * @return 추정 빈도
+	 */
+	public long estimate(long key) {
+		long estimate = Long.MAX_VALUE;
+		for (int row = 0; row < depth; row++) {
+			estimate = Math.min(estimate, counters.get(index(row, key)));
+		}
+		return estimate;
+	}
+
+	/**
+	 * 모든 카운터를 절반으로 줄입니다.
+	 */
+	public void halve() {
+		for (int i = 0; i < counters.length(); i++) {
+			counters.updateAndGet(i, count -> count >>> 1);
+		}
+	}
+
+	private int index(int row, long key) {
+		long hash = (key + SEEDS[row]) * 0xBF58476D1CE4E5B9L;
+		hash ^= hash >>> 31;
+		hash *= 0x94D049BB133111EBL;
+		hash ^= hash >>> 29;
+		return row * width + (int)(hash & (width - 1));
+	}
+}
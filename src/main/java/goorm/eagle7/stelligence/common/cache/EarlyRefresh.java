@@ -0,0 +1,47 @@
+package goorm.eagle7.stelligence.common.cache;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.DoubleSupplier;
+
+/**
+ * 캐시 항목을 만료 전에 미리 갱신할지 확률적으로 결정합니다. (XFetch, Probabilistic Early Expiration)
+ *
+ * <p>현재 시각을 now, 값을 만드는 데 걸린 시간을 delta라고 할 때 다음 조건을 만족하면 갱신합니다.
+ * <pre>
+ *     now - delta * beta * ln(random) >= expiresAt    (0 < random <= 1)
+ * </pre>
+ * 만료 시각에 가까울수록, 값을 만드는 데 오래 걸리는 항목일수록 갱신할 확률이 높아집니다.
+ * 요청마다 독립적으로 판단하므로 요청이 많은 항목은 만료되기 전에 어느 한 요청이 갱신하게 되고,
+ * 요청이 드문 항목은 대부분 갱신되지 않고 만료됩니다.
+ *
+ * <p>beta가 클수록 더 일찍 갱신합니다. 0이라면 만료 시각이 지난 항목만 갱신합니다.
+ */
+public class EarlyRefresh {
+
+	private final double beta;
+	private final DoubleSupplier random;
+
+	public EarlyRefresh(double beta) {
+		//nextDouble()은 [0, 1)이므로 ln(0)이 되지 않도록 (0, 1]로 바꿉니다.
+		this(beta, () -> 1.0 - ThreadLocalRandom.current().nextDouble());
+	}
+
+	EarlyRefresh(double beta, DoubleSupplier random) {
+		if (beta < 0) {
+			throw new IllegalArgumentException("beta는 0 이상이어야 합니다. beta : " + beta);
+		}
+		this.beta = beta;
+		this.random = random;
+	}
+
+	/**
+	 * 항목을 지금 갱신해야 하는지 판단합니다.
+	 * @param entry 캐시된 항목
+	 * @param nowMillis 현재 시각(epoch ms)
+	 * @return 갱신해야 한다면 true
+	 */
+	public boolean shouldRefresh(RefreshableEntry<?> entry, long nowMillis) {
+		double earlyMillis = -entry.getComputeMillis() * beta * Math.log(random.getAsDouble());
+		return nowMillis + earlyMillis >= entry.getExpiresAtMillis();
+	}
+}
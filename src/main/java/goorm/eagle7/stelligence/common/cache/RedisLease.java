@@ -0,0 +1,67 @@
+package goorm.eagle7.stelligence.common.cache;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.Optional;
+import java.util.UUID;
+
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 여러 서버 사이에서 하나의 작업만 수행되도록 Redis에 짧은 임대(lease)를 겁니다.
+ *
+ * <p>SET NX PX로 키를 선점하며, 임대는 TTL이 지나면 자동으로 풀립니다. 임대를 가진 서버가 멈추더라도 TTL 이후에는 다른 서버가 수행할 수 있습니다.
+ * 해제는 자신이 건 임대일 때만 삭제하도록 스크립트로 비교 후 삭제합니다.
+ *
+ * <p>Redis에 접근할 수 없다면 임대를 얻은 것으로 간주합니다. 임대는 중복 수행을 줄이기 위한 것이며 정확성을 보장하지 않습니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RedisLease {
+
+	private static final String KEY_PREFIX = "lease:";
+
+	private static final RedisScript<Long> RELEASE_SCRIPT = new DefaultRedisScript<>(
+		"if redis.call('get', KEYS[1]) == ARGV[1] then return redis.call('del', KEYS[1]) else return 0 end",
+		Long.class);
+
+	private final StringRedisTemplate redisTemplate;
+
+	/**
+	 * 임대를 얻습니다.
+	 * @param key 임대의 키
+	 * @param ttl 임대의 유효 시간
+	 * @return 임대를 얻었다면 해제에 사용할 토큰, 다른 곳에서 이미 임대 중이라면 empty
+	 */
+	public Optional<String> tryAcquire(String key, Duration ttl) {
+		String token = UUID.randomUUID().toString();
+		try {
+			Boolean acquired = redisTemplate.opsForValue().setIfAbsent(KEY_PREFIX + key, token, ttl);
+			return Boolean.TRUE.equals(acquired) ? Optional.of(token) : Optional.empty();
+		} catch (DataAccessException e) {
+			log.warn("lease acquire failed, proceeding without lease. key : {}", key, e);
+			return Optional.of(token);
+		}
+	}
+
+	/**
+	 * 임대를 해제합니다. 이미 만료되어 다른 곳에서 다시 얻은 임대는 해제하지 않습니다.
+	 * @param key 임대의 키
+	 * @param token 임대를 얻을 때 받은 토큰
+	 */
+	public void release(String key, String token) {
+		try {
+			redisTemplate.execute(RELEASE_SCRIPT, Collections.singletonList(KEY_PREFIX + key), token);
+		} catch (DataAccessException e) {
+			log.warn("lease release failed. key : {}", key, e);
+		}
+	}
+}
@@ -0,0 +1,32 @@
+package goorm.eagle7.stelligence.common.cache;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 만료 전에 미리 갱신할 수 있도록 값을 만드는 데 걸린 시간과 만료 시각을 함께 저장하는 캐시 항목입니다.
+ * 갱신 여부는 EarlyRefresh가 판단합니다.
+ *
+ * <p>만료 시각은 캐시의 TTL과 같은 기준으로 값을 저장한 서버가 기록하므로, 다른 서버도 Redis에 TTL을 묻지 않고 판단할 수 있습니다.
+ *
+ * @param <V> 캐시된 값의 타입
+ */
+@Getter
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+@AllArgsConstructor(staticName = "of")
+public class RefreshableEntry<V> {
+
+	private V value;
+
+	/**
+	 * 값을 만드는 데 걸린 시간(ms)입니다.
+	 */
+	private long computeMillis;
+
+	/**
+	 * 캐시에서 만료되는 시각(epoch ms)입니다.
+	 */
+	private long expiresAtMillis;
+}
@@ -0,0 +1,67 @@
+package goorm.eagle7.stelligence.common.cache;
+
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.data.redis.serializer.SerializationException;
+
+/**
+ * Redis 캐시에 저장되거나 Redis 캐시에서 읽은 값의 직렬화된 크기를 캐시를 사용하는 쪽에 전달합니다.
+ *
+ * <p>RedisCache는 값을 조회하거나 저장하는 스레드에서 직렬화하므로, {@link #measuring(RedisSerializer)}로 감싼 직렬화기는
+ * 마지막으로 변환한 바이트 수를 스레드마다 기록합니다. TwoLevelCache는 L2를 조회하거나 L2에 저장한 직후 {@link #take()}로 크기를 가져갑니다.
+ */
+public final class SerializedSize {
+
+	private static final ThreadLocal<long[]> LAST = ThreadLocal.withInitial(() -> new long[] {-1});
+
+	private SerializedSize() {
+	}
+
+	/**
+	 * 직렬화, 역직렬화한 바이트 수를 기록하도록 직렬화기를 감쌉니다.
+	 * @param delegate 실제 변환을 수행할 직렬화기
+	 * @return 크기를 기록하는 직렬화기
+	 */
+	public static <T> RedisSerializer<T> measuring(RedisSerializer<T> delegate) {
+		return new RedisSerializer<>() {
+			@Override
+			public byte[] serialize(T value) throws SerializationException {
+				byte[] bytes = delegate.serialize(value);
+				record(bytes);
+				return bytes;
+			}
+
+			@Override
+			public T deserialize(byte[] bytes) throws SerializationException {
+				record(bytes);
+				return delegate.deserialize(bytes);
+			}
+
+			@Override
+			public boolean canSerialize(Class<?> type) {
+				return delegate.canSerialize(type);
+			}
+
+			@Override
+			public Class<?> getTargetType() {
+				return delegate.getTargetType();
+			}
+		};
+	}
+
+	/**
+	 * 현재 스레드에서 마지막으로 변환한 바이트 수를 반환하고 지웁니다.
+	 * @return 바이트 수, 기록이 없다면 -1
+	 */
+	public static long take() {
+		long[] last = LAST.get();
+		long size = last[0];
+		last[0] = -1;
+		return size;
+	}
+
+	private static void record(byte[] bytes) {
+		if (bytes != null) {
+			LAST.get()[0] = bytes.length;
+		}
+	}
+}
@@ -0,0 +1,88 @@
+package goorm.eagle7.stelligence.common.cache;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 같은 키에 대한 동시 호출을 하나로 합칩니다.
+ *
+ * <p>키마다 처음 호출한 스레드만 loader를 수행하고, 수행 중에 들어온 호출은 그 결과를 기다려 같은 값을 반환합니다.
+ * loader가 예외를 던지면 기다리던 호출도 같은 예외를 받습니다. 수행이 끝나면 키는 제거되므로 결과를 보관하지 않습니다.
+ *
+ * <p>기다리는 시간이 waitTimeout을 넘으면 기다리던 호출은 직접 loader를 수행합니다.
+ * 수행 중인 스레드가 멈추더라도 다른 호출까지 멈추지 않게 하기 위함입니다.
+ *
+ * @param <K> 키의 타입
+ * @param <V> 결과의 타입
+ */
+@Slf4j
+public class SingleFlight<K, V> {
+
+	private final ConcurrentHashMap<K, CompletableFuture<V>> calls = new ConcurrentHashMap<>();
+	private final Duration waitTimeout;
+
+	public SingleFlight(Duration waitTimeout) {
+		this.waitTimeout = waitTimeout;
+	}
+
+	/**
+	 * 같은 키로 수행 중인 호출이 있다면 그 결과를 기다리고, 없다면 loader를 수행합니다.
+	 * @param key 합칠 호출의 키
+	 * @param loader 결과를 만드는 함수
+	 * @return loader의 결과
+	 */
+	public V execute(K key, Supplier<V> loader) {
+		CompletableFuture<V> call = new CompletableFuture<>();
+		CompletableFuture<V> inFlight = calls.putIfAbsent(key, call);
+
+		if (inFlight != null) {
+			return await(key, inFlight, loader);
+		}
+
+		try {
+			V value = loader.get();
+			call.complete(value);
+			return value;
+		} catch (RuntimeException | Error e) {
+			call.completeExceptionally(e);
+			throw e;
+		} finally {
+			calls.remove(key, call);
+		}
+	}
+
+	/**
+	 * 수행 중인 호출의 수를 반환합니다.
+	 */
+	public int inFlight() {
+		return calls.size();
+	}
+
+	private V await(K key, CompletableFuture<V> inFlight, Supplier<V> loader) {
+		try {
+			return inFlight.get(waitTimeout.toMillis(), TimeUnit.MILLISECONDS);
+		} catch (TimeoutException e) {
+			log.warn("single flight wait timed out, loading directly. key : {}", key);
+			return loader.get();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new IllegalStateException("결과를 기다리는 중 중단되었습니다. key : " + key, e);
+		} catch (ExecutionException e) {
+			Throwable cause = e.getCause();
+			if (cause instanceof RuntimeException runtimeException) {
+				throw runtimeException;
+			}
+			if (cause instanceof Error error) {
+				throw error;
+			}
+			throw new IllegalStateException(cause);
+		}
+	}
+}
@@ -0,0 +1,115 @@
+package goorm.eagle7.stelligence.common.cache;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.ToLongFunction;
+
+/**
+ * 가장 자주 기록된 k개의 키와 그 빈도를 고정된 메모리로 추정합니다.
+ *
+ * <p>빈도는 CountMinSketch로 추정하고, 추정 빈도가 상위 k개 안에 드는 키만 후보로 유지합니다.
+ * 이미 후보인 키와 후보의 최소 빈도 이하인 키는 잠금 없이 기록하며, 새로운 키가 후보에 들어갈 때만 잠금을 사용합니다.
+ * {@link #halve()}로 모든 빈도를 절반으로 줄여 최근의 기록이 더 큰 비중을 갖도록 할 수 있습니다.
+ *
+ * @param <K> 키의 타입
+ */
+public class TopKCounter<K> {
+
+	private static final int SKETCH_DEPTH = 4;
+
+	private final CountMinSketch sketch;
+	private final ToLongFunction<K> hasher;
+	private final int k;
+
+	/**
+	 * 후보 키와 추정 빈도
+	 */
+	private final Map<K, Long> candidates = new ConcurrentHashMap<>();
+
+	/**
+	 * 후보가 가득 찼을 때 후보의 최소 빈도, 이 값 이하의 기록은 후보를 변경하지 않습니다.
+	 */
+	private volatile long threshold;
+
+	/**
+	 * @param k 유지할 후보의 수
+	 * @param sketchWidth CountMinSketch의 행마다의 카운터 수
+	 * @param hasher 키를 CountMinSketch의 키로 변환하는 함수
+	 */
+	public TopKCounter(int k, int sketchWidth, ToLongFunction<K> hasher) {
+		this.k = k;
+		this.hasher = hasher;
+		this.sketch = new CountMinSketch(sketchWidth, SKETCH_DEPTH);
+	}
+
+	/**
+	 * 키의 빈도를 1 증가시킵니다.
+	 * @param key 키
+	 */
+	public void record(K key) {
+		long estimate = sketch.increment(hasher.applyAsLong(key));
+
+		//이미 후보라면 빈도만 갱신합니다.
+		if (candidates.computeIfPresent(key, (candidate, count) -> Math.max(count, estimate)) != null) {
+			return;
+		}
+		if (estimate > threshold) {
+			offer(key, estimate);
+		}
+	}
+
+	/**
+	 * 추정 빈도가 높은 순서로 후보를 반환합니다.
+	 * @param limit 반환할 최대 개수
+	 * @return 키와 추정 빈도
+	 */
+	public List<Count<K>> top(int limit) {
+		return candidates.entrySet()
+			.stream()
+			.map(entry -> new Count<>(entry.getKey(), entry.getValue()))
+			.sorted(Comparator.comparingLong(Count<K>::count).reversed())
+			.limit(limit)
+			.toList();
+	}
+
+	/**
+	 * 모든 빈도를 절반으로 줄입니다.
+	 */
+	public synchronized void halve() {
+		sketch.halve();
+		candidates.replaceAll((key, count) -> count >>> 1);
+		threshold = candidates.size() < k ? 0 : minCandidate();
+	}
+
+	/**
+	 * 후보에 추가하고, 후보가 k개를 넘으면 빈도가 가장 낮은 후보를 제거합니다.
+	 */
+	private synchronized void offer(K key, long estimate) {
+		candidates.merge(key, estimate, Math::max);
+		if (candidates.size() > k) {
+			candidates.entrySet()
+				.stream()
+				.min(Map.Entry.comparingByValue())
+				.map(Map.Entry::getKey)
+				.ifPresent(candidates::remove);
+		}
+		if (candidates.size() >= k) {
+			threshold = minCandidate();
+		}
+	}
+
+	private long minCandidate() {
+		return candidates.values()
+			.stream()
+			.min(Comparator.naturalOrder())
+			.orElse(0L);
+	}
+
+	/**
+	 * 키와 추정 빈도
+	 */
+	public record Count<K>(K key, long count) {
+	}
+}
@@ -0,0 +1,181 @@
+package goorm.eagle7.stelligence.common.cache;
+
+import java.util.concurrent.Callable;
+import java.util.function.BiConsumer;
+
+import org.springframework.cache.Cache;
+import org.springframework.cache.support.SimpleValueWrapper;
+
+/**
+ * 애플리케이션 메모리의 로컬 캐시(L1)를 Redis 캐시(L2) 앞에 둔 캐시입니다.
+ *
+ * <p>조회는 L1을 먼저 확인하고, L1에 없다면 L2에서 조회한 값을 L1에 저장합니다.
+ * L1에서 찾은 값은 Redis 왕복과 역직렬화 없이 반환되므로, 반환된 객체를 변경해서는 안 됩니다.
+ *
+ * <p>저장, 삭제, 비우기는 L2에 먼저 반영한 뒤 L1에 반영하고, 다른 서버의 L1도 무효화되도록 무효화 메시지를 보냅니다.
+ * 무효화 메시지는 유실될 수 있으므로 L1의 값은 짧은 TTL을 가집니다.
+ *
+ * <p>L1의 키는 Redis 캐시와 같이 키의 문자열 표현을 사용합니다.
+ *
+ * <p>조회 결과(L1, L2, 없음), 저장, 삭제, 로딩 시간과 L2에서 읽거나 L2에 저장한 값의 크기를 CacheStats에 기록합니다.
+ */
+public class TwoLevelCache implements Cache {
+
+	private final String name;
+	private final com.github.benmanes.caffeine.cache.Cache<String, Object> local;
+	private final Cache remote;
+	private final BiConsumer<String, String> invalidationPublisher;
+	private final CacheStats stats;
+
+	/**
+	 * @param invalidationPublisher (캐시 이름, 키)를 받아 다른 서버로 무효화 메시지를 보냅니다. 키가 null이라면 전체를 무효화합니다.
+	 * @param stats 조회, 저장 등을 기록할 CacheStats
+	 */
+	public TwoLevelCache(String name, com.github.benmanes.caffeine.cache.Cache<String, Object> local, Cache remote,
+		BiConsumer<String, String> invalidationPublisher, CacheStats stats) {
+		this.name = name;
+		this.local = local;
+		this.remote = remote;
+		this.invalidationPublisher = invalidationPublisher;
+		this.stats = stats;
+	}
+
+	@Override
+	public String getName() {
+		return name;
+	}
+
+	@Override
+	public Object getNativeCache() {
+		return local;
+	}
+
+	@Override
+	public ValueWrapper get(Object key) {
+		String localKey = toLocalKey(key);
+		Object value = local.getIfPresent(localKey);
+		if (value != null) {
+			stats.localHit(localKey);
+			return new SimpleValueWrapper(value);
+		}
+
+		SerializedSize.take();
+		ValueWrapper wrapper = remote.get(key);
+		if (wrapper != null && wrapper.get() != null) {
+			stats.remoteHit(localKey);
+			stats.size(localKey, SerializedSize.take());
+			local.put(localKey, wrapper.get());
+		} else {
+			stats.miss(localKey);
+		}
+		return wrapper;
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public <T> T get(Object key, Class<T> type) {
+		ValueWrapper wrapper = get(key);
+		Object value = wrapper == null ? null : wrapper.get();
+		if (value != null && type != null && !type.isInstance(value)) {
+			throw new IllegalStateException(
+				"Cached value is not of required type [" + type.getName() + "]: " + value);
+		}
+		return (T)value;
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public <T> T get(Object key, Callable<T> valueLoader) {
+		String localKey = toLocalKey(key);
+		Object value = local.getIfPresent(localKey);
+		if (value != null) {
+			stats.localHit(localKey);
+			return (T)value;
+		}
+
+		boolean[] loaded = {false};
+		long[] loadNanos = {0};
+		SerializedSize.take();
+		T result = remote.get(key, () -> {
+			loaded[0] = true;
+			long startedAt = System.nanoTime();
+			try {
+				return valueLoader.call();
+			} finally {
+				loadNanos[0] = System.nanoTime() - startedAt;
+			}
+		});
+
+		if (loaded[0]) {
+			stats.miss(localKey);
+			stats.load(localKey, loadNanos[0]);
+			stats.put(localKey);
+		} else {
+			stats.remoteHit(localKey);
+		}
+		//L2에서 읽었다면 역직렬화한 크기, 새로 만들었다면 저장하며 직렬화한 크기입니다.
+		stats.size(localKey, SerializedSize.take());
+
+		if (result != null) {
+			local.put(localKey, result);
+		}
+		return result;
+	}
+
+	@Override
+	public void put(Object key, Object value) {
+		SerializedSize.take();
+		remote.put(key, value);
+		String localKey = toLocalKey(key);
+		stats.put(localKey);
+		stats.size(localKey, SerializedSize.take());
+		if (value != null) {
+			local.put(localKey, value);
+		} else {
+			local.invalidate(localKey);
+		}
+		invalidationPublisher.accept(name, localKey);
+	}
+
+	@Override
+	public void evict(Object key) {
+		remote.evict(key);
+		String localKey = toLocalKey(key);
+		local.invalidate(localKey);
+		stats.evict();
+		invalidationPublisher.accept(name, localKey);
+	}
+
+	@Override
+	public void clear() {
+		remote.clear();
+		local.invalidateAll();
+		stats.clear();
+		invalidationPublisher.accept(name, null);
+	}
+
+	/**
+	 * 다른 서버에서 변경된 키를 L1에서만 삭제합니다.
+	 */
+	void evictLocal(String localKey) {
+		local.invalidate(localKey);
+	}
+
+	/**
+	 * 다른 서버에서 비워진 캐시를 L1에서만 비웁니다.
+	 */
+	void clearLocal() {
+		local.invalidateAll();
+	}
+
+	/**
+	 * L1에 저장된 값의 수를 반환합니다.
+	 */
+	long localSize() {
+		return local.estimatedSize();
+	}
+
+	private String toLocalKey(Object key) {
+		return String.valueOf(key);
+	}
+}
@@ -0,0 +1,150 @@
+package goorm.eagle7.stelligence.common.cache;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.transaction.AbstractTransactionSupportingCacheManager;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 로컬 캐시(L1)와 Redis 캐시(L2)로 구성된 TwoLevelCache를 관리합니다.
+ *
+ * <p>L1은 캐시마다 localMaximumSize개의 값을 가지며, 가득 차면 Caffeine의 W-TinyLFU 정책에 따라 자주 조회되지 않는 값부터 제거됩니다.
+ * L1의 값은 localTtl이 지나면 만료되며, 이는 무효화 메시지가 유실되었을 때 오래된 값이 유지되는 시간의 상한이 됩니다.
+ *
+ * <p><b>INVALIDATION</b> 캐시의 저장, 삭제, 비우기는 INVALIDATION_CHANNEL로 발행되며,
+ * 이 채널을 구독하는 다른 서버들은 해당 키 또는 캐시 전체를 L1에서 삭제합니다. L2는 모든 서버가 공유하므로 변경하지 않습니다.
+ * Redis의 pub/sub은 전달을 보장하지 않으므로, 발행에 실패하더라도 캐시의 동작은 계속됩니다.
+ *
+ * <p><b>METRICS</b> 캐시마다 조회 결과, 저장, 삭제, L1의 제거, 로딩 시간, 값의 크기를 CacheMetrics에 기록합니다.
+ * CacheMetrics를 전달하지 않으면 어디에도 내보내지 않는 SimpleMeterRegistry에 기록합니다.
+ *
+ * <p>트랜잭션을 인식하도록 설정하면 저장, 삭제, 비우기는 트랜잭션이 커밋된 뒤에 수행되므로,
+ * 다른 서버는 커밋된 내용으로 다시 캐시를 채우게 됩니다.
+ */
+@Slf4j
+public class TwoLevelCacheManager extends AbstractTransactionSupportingCacheManager implements MessageListener {
+
+	public static final String INVALIDATION_CHANNEL = "cache:invalidation";
+
+	private final CacheManager remoteCacheManager;
+	private final StringRedisTemplate redisTemplate;
+	private final long localMaximumSize;
+	private final Duration localTtl;
+	private final CacheMetrics cacheMetrics;
+
+	private final ObjectMapper objectMapper = new ObjectMapper();
+	private final String nodeId = UUID.randomUUID().toString();
+	private final Map<String, TwoLevelCache> twoLevelCaches = new ConcurrentHashMap<>();
+
+	public TwoLevelCacheManager(CacheManager remoteCacheManager, StringRedisTemplate redisTemplate,
+		long localMaximumSize, Duration localTtl) {
+		this(remoteCacheManager, redisTemplate, localMaximumSize, localTtl, new CacheMetrics(new SimpleMeterRegistry()));
+	}
+
+	/**
+	 * @param cacheMetrics 캐시마다의 조회, 저장, 로딩 시간 등을 기록할 CacheMetrics
+	 */
+	public TwoLevelCacheManager(CacheManager remoteCacheManager, StringRedisTemplate redisTemplate,
+		long localMaximumSize, Duration localTtl, CacheMetrics cacheMetrics) {
+		this.remoteCacheManager = remoteCacheManager;
+		this.redisTemplate = redisTemplate;
+		this.localMaximumSize = localMaximumSize;
+		this.localTtl = localTtl;
+		this.cacheMetrics = cacheMetrics;
+	}
+
+	@Override
+	protected Collection<? extends Cache> loadCaches() {
+		return Collections.emptyList();
+	}
+
+	@Override
+	protected Cache getMissingCache(String name) {
+		Cache remote = remoteCacheManager.getCache(name);
+		if (remote == null) {
+			return null;
+		}
+
+		return twoLevelCaches.computeIfAbsent(name, cacheName -> createCache(cacheName, remote));
+	}
+
+	private TwoLevelCache createCache(String cacheName, Cache remote) {
+		CacheStats stats = cacheMetrics.stats(cacheName);
+		TwoLevelCache cache = new TwoLevelCache(
+			cacheName,
+			Caffeine.newBuilder()
+				.maximumSize(localMaximumSize)
+				.expireAfterWrite(localTtl)
+				.evictionListener((String key, Object value, RemovalCause cause) -> stats.localEviction(cause))
+				.build(),
+			remote,
+			this::publish,
+			stats
+		);
+		Gauge.builder("cache.twolevel.local.size", cache, TwoLevelCache::localSize)
+			.tag("cache", cacheName)
+			.register(cacheMetrics.getMeterRegistry());
+		return cache;
+	}
+
+	/**
+	 * 다른 서버에서 발행한 무효화 메시지를 받아 L1에 반영합니다.
+	 */
+	@Override
+	public void onMessage(Message message, byte[] pattern) {
+		CacheInvalidation invalidation;
+		try {
+			invalidation = objectMapper.readValue(message.getBody(), CacheInvalidation.class);
+		} catch (IOException e) {
+			log.warn("invalid cache invalidation message : {}", new String(message.getBody(), StandardCharsets.UTF_8), e);
+			return;
+		}
+
+		//자신이 발행한 메시지는 이미 반영되어 있습니다.
+		if (nodeId.equals(invalidation.origin())) {
+			return;
+		}
+
+		//한 번도 사용하지 않은 캐시라면 L1에 값이 없습니다.
+		TwoLevelCache cache = twoLevelCaches.get(invalidation.cacheName());
+		if (cache == null) {
+			return;
+		}
+
+		if (invalidation.key() == null) {
+			cache.clearLocal();
+		} else {
+			cache.evictLocal(invalidation.key());
+		}
+		log.debug("local cache invalidated. cache : {}, key : {}", invalidation.cacheName(), invalidation.key());
+	}
+
+	private void publish(String cacheName, String key) {
+		try {
+			redisTemplate.convertAndSend(INVALIDATION_CHANNEL,
+				objectMapper.writeValueAsString(new CacheInvalidation(nodeId, cacheName, key)));
+		} catch (IOException | DataAccessException e) {
+			log.warn("cache invalidation publish failed. cache : {}, key : {}", cacheName, key, e);
+		}
+	}
+}
@@ -0,0 +1,25 @@
+package goorm.eagle7.stelligence.common.compression;
+
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+
+/**
+ * 큰 텍스트 컬럼을 압축하여 저장하기 위한 컨버터입니다.
+ * 압축 형식은 {@link TextCompressor}를 참고하세요.
+ *
+ * <p>압축 도입 이전에 저장된 값은 압축되지 않은 상태로 읽히며, 다시 저장될 때 압축됩니다.
+ * 압축된 컬럼은 DB에서 LIKE와 같은 문자열 연산의 대상이 될 수 없습니다.
+ */
+@Converter
+public class CompressedTextConverter implements AttributeConverter<String, String> {
+
+	@Override
+	public String convertToDatabaseColumn(String attribute) {
+		return TextCompressor.compress(attribute);
+	}
+
+	@Override
+	public String convertToEntityAttribute(String dbData) {
+		return TextCompressor.decompress(dbData);
+	}
+}
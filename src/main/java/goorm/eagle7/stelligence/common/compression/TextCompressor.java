@@ -0,0 +1,121 @@
+package goorm.eagle7.stelligence.common.compression;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Base64;
+
+import net.jpountz.lz4.LZ4Compressor;
+import net.jpountz.lz4.LZ4Factory;
+import net.jpountz.lz4.LZ4FastDecompressor;
+
+/**
+ * 큰 텍스트 컬럼을 LZ4로 압축하고 해제하는 유틸리티입니다.
+ *
+ * <p>저장되는 값은 항상 형식을 나타내는 표시로 시작합니다.
+ * <pre>
+ *     압축된 값 : FORMAT_HEADER + Base64( 원본 바이트 길이(4byte) + LZ4 블록 )
+ *     압축하지 않은 값 : RAW_MARKER + 원본 텍스트
+ * </pre>
+ * 압축하지 않은 값에도 표시를 붙이므로, 원본 텍스트가 FORMAT_HEADER로 시작하더라도 압축된 값으로 오인되지 않습니다.
+ *
+ * <p>두 표시 중 어느 것으로도 시작하지 않는 값은 표시 도입 이전에 저장된, 압축되지 않은 값으로 간주합니다.
+ * 이러한 값은 {@link TextRecompressionScheduler}가 표시를 붙인 형식으로 다시 저장합니다.
+ *
+ * <p>컬럼의 타입을 바꾸지 않기 위해 압축 결과를 Base64로 인코딩합니다.
+ * Base64로 인해 크기가 4/3배 증가하므로, 압축 결과가 원본보다 작은 경우에만 압축된 값을 사용합니다.
+ */
+public final class TextCompressor {
+
+	/**
+	 * 압축된 값의 헤더입니다. 마지막 문자는 형식의 버전을 나타냅니다.
+	 */
+	static final String FORMAT_HEADER = "\u0001LZ4\u0001";
+
+	/**
+	 * 압축하지 않은 값의 표시입니다.
+	 */
+	static final char RAW_MARKER = '\u0002';
+
+	/**
+	 * 이 길이보다 짧은 텍스트는 압축하지 않습니다.
+	 */
+	static final int COMPRESSION_THRESHOLD = 512;
+
+	private static final int LENGTH_PREFIX_BYTES = Integer.BYTES;
+
+	private static final LZ4Compressor COMPRESSOR = LZ4Factory.fastestInstance().fastCompressor();
+	private static final LZ4FastDecompressor DECOMPRESSOR = LZ4Factory.fastestInstance().fastDecompressor();
+
+	private TextCompressor() {
+	}
+
+	/**
+	 * 텍스트를 저장할 형식으로 변환합니다.
+	 * 임계값보다 짧거나 압축의 효과가 없는 경우 압축하지 않은 값의 표시만 붙입니다.
+	 * @param text 압축할 텍스트
+	 * @return 압축된 값 또는 표시가 붙은 원본 텍스트
+	 */
+	public static String compress(String text) {
+		if (text == null) {
+			return null;
+		}
+
+		String raw = RAW_MARKER + text;
+		if (text.length() < COMPRESSION_THRESHOLD) {
+			return raw;
+		}
+
+		byte[] source = text.getBytes(StandardCharsets.UTF_8);
+		byte[] target = new byte[LENGTH_PREFIX_BYTES + COMPRESSOR.maxCompressedLength(source.length)];
+		ByteBuffer.wrap(target).putInt(source.length);
+		int compressedLength = COMPRESSOR.compress(source, 0, source.length, target, LENGTH_PREFIX_BYTES,
+			target.length - LENGTH_PREFIX_BYTES);
+
+		String compressed = FORMAT_HEADER + Base64.getEncoder()
+			.encodeToString(Arrays.copyOf(target, LENGTH_PREFIX_BYTES + compressedLength));
+
+		return compressed.length() < raw.length() ? compressed : raw;
+	}
+
+	/**
+	 * 저장된 값을 원본 텍스트로 복원합니다. 표시가 없는 값은 표시 도입 이전의 값으로 간주하여 그대로 반환합니다.
+	 * @param stored 저장된 값
+	 * @return 원본 텍스트
+	 */
+	public static String decompress(String stored) {
+		if (stored == null || stored.isEmpty()) {
+			return stored;
+		}
+		if (stored.charAt(0) == RAW_MARKER) {
+			return stored.substring(1);
+		}
+		if (!isCompressed(stored)) {
+			return stored;
+		}
+
+		byte[] payload = Base64.getDecoder().decode(stored.substring(FORMAT_HEADER.length()));
+		int originalLength = ByteBuffer.wrap(payload).getInt();
+		byte[] restored = new byte[originalLength];
+		DECOMPRESSOR.decompress(payload, LENGTH_PREFIX_BYTES, restored, 0, originalLength);
+		return new String(restored, StandardCharsets.UTF_8);
+	}
+
+	/**
+	 * 압축된 값인지 확인합니다.
+	 * @param stored 저장된 값
+	 * @return 압축 형식의 헤더로 시작한다면 true
+	 */
+	public static boolean isCompressed(String stored) {
+		return stored != null && stored.startsWith(FORMAT_HEADER);
+	}
+
+	/**
+	 * 형식의 표시가 붙은 값인지 확인합니다.
+	 * @param stored 저장된 값
+	 * @return 압축된 값이거나 압축하지 않은 값의 표시로 시작한다면 true, 표시 도입 이전의 값이라면 false
+	 */
+	public static boolean isMarked(String stored) {
+		return isCompressed(stored) || (stored != null && !stored.isEmpty() && stored.charAt(0) == RAW_MARKER);
+	}
+}
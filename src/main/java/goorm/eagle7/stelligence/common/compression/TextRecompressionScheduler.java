@@ -0,0 +1,100 @@
+package goorm.eagle7.stelligence.common.compression;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 압축 도입 이전에 저장된 텍스트 컬럼을 백그라운드에서 조금씩 압축합니다.
+ *
+ * <p>매 주기마다 테이블별로 기본키 순서에 따라 chunk 하나를 읽고, 형식의 표시가 없는 값을 압축하거나 표시를 붙여 갱신합니다.
+ * 한 번의 작업이 짧게 끝나도록 하여 서비스 트래픽과 경합하지 않게 합니다. 마지막 chunk까지 처리하면 더 이상 수행하지 않습니다.
+ * 압축 이후에 저장되는 값은 {@link CompressedTextConverter}에 의해 압축되므로 다시 확인할 필요가 없습니다.
+ *
+ * <p>진행 위치는 메모리에만 저장되므로, 애플리케이션이 재시작되면 처음부터 다시 확인합니다.
+ * 이미 표시가 붙은 값은 건너뛰므로 결과에는 영향이 없습니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TextRecompressionScheduler {
+
+	private static final int CHUNK_SIZE = 500;
+
+	private final JdbcTemplate jdbcTemplate;
+
+	private final List<Target> targets = new ArrayList<>(List.of(
+		new Target("section_body", "content_hash", "content"),
+		new Target("amendment", "amendment_id", "new_section_content")
+	));
+
+	@Scheduled(fixedDelayString = "${compression.recompress.interval-ms:60000}")
+	public void recompress() {
+		if (targets.isEmpty()) {
+			return;
+		}
+
+		targets.removeIf(this::recompressNextChunk);
+	}
+
+	/**
+	 * 다음 chunk를 압축합니다.
+	 * @param target 압축할 테이블과 컬럼
+	 * @return 테이블의 마지막 chunk까지 처리했다면 true
+	 */
+	private boolean recompressNextChunk(Target target) {
+		String selectSql = "SELECT " + target.keyColumn + ", " + target.textColumn
+			+ " FROM " + target.table
+			+ (target.lastKey == null ? "" : " WHERE " + target.keyColumn + " > ?")
+			+ " ORDER BY " + target.keyColumn + " LIMIT " + CHUNK_SIZE;
+		Object[] args = target.lastKey == null ? new Object[0] : new Object[] {target.lastKey};
+
+		List<Object[]> updates = new ArrayList<>();
+		int[] rowCount = {0};
+		jdbcTemplate.query(selectSql, rs -> {
+			rowCount[0]++;
+			Object key = rs.getObject(1);
+			String text = rs.getString(2);
+			target.lastKey = key;
+
+			if (text != null && !TextCompressor.isMarked(text)) {
+				updates.add(new Object[] {TextCompressor.compress(text), key, text});
+			}
+		}, args);
+
+		if (!updates.isEmpty()) {
+			//읽은 이후 값이 변경되었다면 덮어쓰지 않습니다.
+			jdbcTemplate.batchUpdate("UPDATE " + target.table + " SET " + target.textColumn + " = ?"
+				+ " WHERE " + target.keyColumn + " = ? AND " + target.textColumn + " = ?", updates);
+			log.debug("{} rows compressed. table : {}", updates.size(), target.table);
+		}
+
+		boolean finished = rowCount[0] < CHUNK_SIZE;
+		if (finished) {
+			log.info("텍스트 컬럼의 압축이 완료되었습니다. table : {}", target.table);
+		}
+		return finished;
+	}
+
+	/**
+	 * 압축 대상 테이블과 컬럼, 그리고 진행 위치입니다.
+	 */
+	private static final class Target {
+		private final String table;
+		private final String keyColumn;
+		private final String textColumn;
+		private Object lastKey;
+
+		private Target(String table, String keyColumn, String textColumn) {
+			this.table = table;
+			this.keyColumn = keyColumn;
+			this.textColumn = textColumn;
+		}
+	}
+}
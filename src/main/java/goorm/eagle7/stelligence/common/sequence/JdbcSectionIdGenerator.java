@@ -27,6 +27,11 @@ class JdbcSectionIdGenerator implements SectionIdGenerator {
 	 */
 	private static final String UPDATE_SECTION_ID_SEQ = "UPDATE sequence_table SET sequence_value = sequence_value + 1 WHERE sequence_name = 'section'";
 
+	/**
+	 * sequence_table의 sequence_name이 section인 row의 sequence_value를 주어진 값만큼 증가시킵니다.
+	 */
+	private static final String UPDATE_SECTION_ID_SEQ_BY = "UPDATE sequence_table SET sequence_value = sequence_value + ? WHERE sequence_name = 'section'";
+
 	/**
 	 * Document가 다음으로 생성할 SectionId를 가져옵니다.
 	 * 동시성 문제를 해결하기 위해, for update를 사용합니다.
@@ -45,4 +50,23 @@ class JdbcSectionIdGenerator implements SectionIdGenerator {
 		return sectionId;
 	}
 
+	/**
+	 * 연속된 count개의 SectionId를 한 번의 row lock으로 할당합니다.
+	 *
+	 * @param count 할당할 ID의 개수
+	 * @return 할당된 ID 중 첫 번째 값
+	 */
+	@Override
+	@Transactional(propagation = Propagation.REQUIRES_NEW)
+	public Long getAndIncrementSectionIds(int count) {
+		if (count < 1) {
+			throw new IllegalArgumentException("할당할 ID의 개수는 1 이상이어야 합니다. count : " + count);
+		}
+
+		Long firstSectionId = jdbcTemplate.queryForObject(GET_SECTION_ID_SEQ, Long.class);
+
+		jdbcTemplate.update(UPDATE_SECTION_ID_SEQ_BY, count);
+		return firstSectionId;
+	}
+
 }
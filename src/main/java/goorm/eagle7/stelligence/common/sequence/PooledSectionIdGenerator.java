@@ -0,0 +1,150 @@
+package goorm.eagle7.stelligence.common.sequence;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Component;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * sequence_table에서 SectionId를 블록 단위로 예약해 두고, 예약한 범위 안에서는 잠금 없이 할당합니다. (hi/lo)
+ *
+ * <p>JdbcSectionIdGenerator는 ID를 할당할 때마다 새로운 트랜잭션에서 section 레코드를 for update로 잠급니다.
+ * 문서 생성과 수정요청 반영이 하나의 레코드에서 순서대로 대기하고, 섹션마다 커넥션을 하나씩 더 사용하게 됩니다.
+ * 이 클래스는 JdbcSectionIdGenerator로 blockSize개의 ID를 한 번에 예약하고, 예약한 범위는 AtomicLong으로 나누어 줍니다.
+ * 레코드는 블록을 모두 사용했을 때만 잠기며, 블록을 다시 예약하는 동안에만 다른 스레드가 대기합니다.
+ *
+ * <p><b>BLOCK SIZE</b> 블록의 크기는 요청량에 따라 조절됩니다. 블록을 refillInterval보다 빨리 모두 사용하면 크기를 두 배로,
+ * refillInterval의 8배보다 오래 걸렸다면 절반으로 줄이며, 크기는 [minBlockSize, maxBlockSize] 범위를 벗어나지 않습니다.
+ * maxBlockSize보다 많은 ID를 한 번에 요청하면 블록을 거치지 않고 JdbcSectionIdGenerator에서 바로 할당합니다.
+ *
+ * <p><b>GAP</b> 서버가 종료되면 사용하지 않은 블록의 나머지 ID는 버려지며, 서버마다 서로 다른 블록을 사용하므로
+ * ID는 서버 전체에서 유일하지만 생성 순서와 일치하지 않고 중간에 빈 값이 생길 수 있습니다.
+ *
+ * <p>section.id.pool.enabled가 false라면 등록되지 않으며, 이 경우 JdbcSectionIdGenerator가 직접 사용됩니다.
+ */
+@Slf4j
+@Primary
+@Component
+@ConditionalOnProperty(name = "section.id.pool.enabled", havingValue = "true", matchIfMissing = true)
+class PooledSectionIdGenerator implements SectionIdGenerator {
+
+	private static final int SHRINK_FACTOR = 8;
+
+	private final JdbcSectionIdGenerator sequence;
+	private final int minBlockSize;
+	private final int maxBlockSize;
+	private final long refillIntervalNanos;
+	private final LongSupplier nanoClock;
+
+	/**
+	 * 현재 할당 중인 블록, 다시 예약할 때만 교체됩니다.
+	 */
+	private volatile Block block = new Block(0, 0);
+
+	//아래 필드는 refill에서만 접근하므로 잠금으로 보호됩니다.
+	private int blockSize;
+	private long lastRefillNanos = -1;
+
+	public PooledSectionIdGenerator(
+		JdbcSectionIdGenerator sequence,
+		@Value("${section.id.pool.initial-size:1000}") int initialBlockSize,
+		@Value("${section.id.pool.min-size:100}") int minBlockSize,
+		@Value("${section.id.pool.max-size:10000}") int maxBlockSize,
+		@Value("${section.id.pool.refill-interval-ms:1000}") long refillIntervalMillis
+	) {
+		this(sequence, initialBlockSize, minBlockSize, maxBlockSize, refillIntervalMillis, System::nanoTime);
+	}
+
+	PooledSectionIdGenerator(JdbcSectionIdGenerator sequence, int initialBlockSize, int minBlockSize,
+		int maxBlockSize, long refillIntervalMillis, LongSupplier nanoClock) {
+		if (minBlockSize < 1 || minBlockSize > maxBlockSize) {
+			throw new IllegalArgumentException(
+				"블록의 크기가 올바르지 않습니다. min : " + minBlockSize + ", max : " + maxBlockSize);
+		}
+		this.sequence = sequence;
+		this.minBlockSize = minBlockSize;
+		this.maxBlockSize = maxBlockSize;
+		this.blockSize = Math.max(minBlockSize, Math.min(initialBlockSize, maxBlockSize));
+		this.refillIntervalNanos = TimeUnit.MILLISECONDS.toNanos(refillIntervalMillis);
+		this.nanoClock = nanoClock;
+	}
+
+	@Override
+	public Long getAndIncrementSectionId() {
+		return getAndIncrementSectionIds(1);
+	}
+
+	/**
+	 * 현재 블록에서 연속된 count개의 SectionId를 할당합니다. 블록에 남은 ID가 부족하다면 새로운 블록을 예약합니다.
+	 * 부족했던 블록의 나머지 ID는 사용하지 않습니다.
+	 *
+	 * @param count 할당할 ID의 개수
+	 * @return 할당된 ID 중 첫 번째 값
+	 */
+	@Override
+	public Long getAndIncrementSectionIds(int count) {
+		if (count < 1) {
+			throw new IllegalArgumentException("할당할 ID의 개수는 1 이상이어야 합니다. count : " + count);
+		}
+		if (count > maxBlockSize) {
+			return sequence.getAndIncrementSectionIds(count);
+		}
+
+		while (true) {
+			Block current = block;
+			long first = current.next.getAndAdd(count);
+			if (first + count <= current.end) {
+				return first;
+			}
+			refill(current, count);
+		}
+	}
+
+	/**
+	 * 다른 스레드가 이미 교체하지 않았다면 새로운 블록을 예약합니다.
+	 */
+	private synchronized void refill(Block exhausted, int count) {
+		if (block != exhausted) {
+			return;
+		}
+
+		int size = Math.max(nextBlockSize(), count);
+		long first = sequence.getAndIncrementSectionIds(size);
+		block = new Block(first, first + size);
+		log.debug("section id block reserved. range : [{}, {})", first, first + size);
+	}
+
+	private int nextBlockSize() {
+		long now = nanoClock.getAsLong();
+		if (lastRefillNanos >= 0) {
+			long elapsed = now - lastRefillNanos;
+			if (elapsed < refillIntervalNanos) {
+				blockSize = Math.min(blockSize * 2, maxBlockSize);
+			} else if (elapsed > refillIntervalNanos * SHRINK_FACTOR) {
+				blockSize = Math.max(blockSize / 2, minBlockSize);
+			}
+		}
+		lastRefillNanos = now;
+		return blockSize;
+	}
+
+	/**
+	 * 예약된 ID의 범위 [next, end)
+	 */
+	private static final class Block {
+
+		private final AtomicLong next;
+		private final long end;
+
+		private Block(long first, long end) {
+			this.next = new AtomicLong(first);
+			this.end = end;
+		}
+	}
+}
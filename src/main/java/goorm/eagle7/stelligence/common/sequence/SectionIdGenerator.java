@@ -1,12 +1,20 @@
 package goorm.eagle7.stelligence.common.sequence;
 
-import org.springframework.transaction.annotation.Propagation;
-import org.springframework.transaction.annotation.Transactional;
-
 /**
  * Document가 다음으로 생성할 SectionId를 가져옵니다.
+ *
+ * <p>트랜잭션은 구현이 결정합니다. JdbcSectionIdGenerator는 할당할 때마다 새로운 트랜잭션을 사용하고,
+ * PooledSectionIdGenerator는 예약한 블록 안에서는 트랜잭션 없이 할당합니다.
  */
 public interface SectionIdGenerator {
-	@Transactional(propagation = Propagation.REQUIRES_NEW)
+
 	Long getAndIncrementSectionId();
+
+	/**
+	 * 연속된 count개의 SectionId를 한 번에 할당합니다.
+	 * 많은 섹션을 한 번에 생성하는 경우, 섹션마다 sequence를 조회하지 않도록 사용합니다.
+	 * @param count 할당할 ID의 개수
+	 * @return 할당된 ID 중 첫 번째 값, [반환값, 반환값 + count) 범위의 ID를 사용할 수 있습니다.
+	 */
+	Long getAndIncrementSectionIds(int count);
 }
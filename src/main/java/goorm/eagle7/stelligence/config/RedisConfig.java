@@ -4,37 +4,103 @@ import static org.springframework.data.redis.serializer.RedisSerializationContex
 
 import java.time.Duration;
 
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.annotation.EnableCaching;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.data.redis.cache.RedisCacheConfiguration;
 import org.springframework.data.redis.cache.RedisCacheManager;
 import org.springframework.data.redis.cache.RedisCacheWriter;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+import org.springframework.data.redis.serializer.RedisSerializer;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
 
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+
+import goorm.eagle7.stelligence.common.cache.CacheMetrics;
+import goorm.eagle7.stelligence.common.cache.SerializedSize;
+import goorm.eagle7.stelligence.common.cache.TwoLevelCacheManager;
+import goorm.eagle7.stelligence.domain.document.content.DocumentBodyCache;
+import goorm.eagle7.stelligence.domain.document.content.search.ContentSearchIndexSynchronizer;
+import io.micrometer.core.instrument.MeterRegistry;
+
 /**
  * Redis와 Cache 관련 설정 클래스입니다.
+ *
+ * <p>캐시는 애플리케이션 메모리의 L1과 Redis의 L2로 구성됩니다. (TwoLevelCacheManager 참조)
+ *
+ * <p>L2는 잠금을 사용하지 않는 RedisCacheWriter를 사용합니다. 잠금을 사용하는 RedisCacheWriter는 캐시마다 하나의 잠금 키를 두므로
+ * 서로 다른 키의 저장도 순서대로 수행됩니다. 같은 키를 동시에 만드는 것은 캐시를 사용하는 쪽에서 키마다 방지합니다. (DocumentResponseCache 참조)
+ *
+ * <p>값의 직렬화기는 직렬화된 크기를 기록하도록 감싸며, 캐시마다의 지표는 cache.twolevel.* 이름으로 내보냅니다. (CacheMetrics 참조)
+ *
+ * <p>documentBody 캐시는 이미 직렬화된 응답 본문(CachedBodyEnvelope)을 저장하므로 값을 변환하지 않고 바이트 그대로 저장합니다.
  */
 @Configuration
-// @EnableCaching
+@EnableCaching
 public class RedisConfig {
 
 	private static final int DEFAULT_EXPIRE_SEC = 60 * 5; //캐시 기본 유효 시간 5분
+	private static final int DOCUMENT_DIFF_EXPIRE_SEC = 60 * 60 * 24; //버전 비교 결과는 변경되지 않으므로 1일
+
+	/**
+	 * 캐시마다의 조회, 저장, 로딩 시간, 값의 크기를 기록하며 Prometheus로 내보냅니다.
+	 */
+	@Bean
+	public CacheMetrics cacheMetrics(MeterRegistry meterRegistry) {
+		return new CacheMetrics(meterRegistry);
+	}
 
 	@Bean
-	public RedisCacheManager cacheManager(RedisConnectionFactory factory) {
-		return RedisCacheManager.builder(
-				RedisCacheWriter.lockingRedisCacheWriter(factory)) //locking을 통해 캐시의 일관성을 보장
+	public TwoLevelCacheManager cacheManager(
+		RedisConnectionFactory factory,
+		StringRedisTemplate redisTemplate,
+		CacheMetrics cacheMetrics,
+		@Value("${cache.local.maximum-size:1000}") long localMaximumSize, //캐시마다 L1에 유지할 최대 개수
+		@Value("${cache.local.ttl-seconds:60}") long localTtlSeconds, //무효화 메시지가 유실되어도 L1의 값은 이 시간 이후 만료
+		@Value("${document.cache.ttl-seconds:" + DEFAULT_EXPIRE_SEC + "}") long documentTtlSeconds
+	) {
+		RedisCacheManager redisCacheManager = RedisCacheManager.builder(
+				RedisCacheWriter.nonLockingRedisCacheWriter(factory)) //캐시 전체에 거는 잠금 없이 저장, 중복 생성은 키마다의 임대로 방지
 			.cacheDefaults(cacheConfiguration()) // 캐시 기본 설정
-			.transactionAware() //Redis의 동작을 Spring이 관리하는 트랜잭션과 동기화
+			.withCacheConfiguration("document",
+				cacheConfiguration().entryTtl(Duration.ofSeconds(documentTtlSeconds)))
+			.withCacheConfiguration("documentDiff",
+				cacheConfiguration().entryTtl(Duration.ofSeconds(DOCUMENT_DIFF_EXPIRE_SEC)))
+			.withCacheConfiguration(DocumentBodyCache.CACHE_NAME,
+				cacheConfiguration().serializeValuesWith(fromSerializer(SerializedSize.measuring(RedisSerializer.byteArray()))))
 			.build();
+		redisCacheManager.initializeCaches();
+
+		TwoLevelCacheManager cacheManager = new TwoLevelCacheManager(redisCacheManager, redisTemplate,
+			localMaximumSize, Duration.ofSeconds(localTtlSeconds), cacheMetrics);
+		cacheManager.setTransactionAware(true); //L1, L2의 동작을 Spring이 관리하는 트랜잭션과 동기화
+		return cacheManager;
+	}
+
+	/**
+	 * 다른 서버에서 발행한 캐시 무효화 메시지와 검색 색인 갱신 메시지를 구독합니다.
+	 */
+	@Bean
+	public RedisMessageListenerContainer cacheInvalidationListenerContainer(RedisConnectionFactory factory,
+		TwoLevelCacheManager cacheManager, ContentSearchIndexSynchronizer contentSearchIndexSynchronizer) {
+		RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+		container.setConnectionFactory(factory);
+		container.addMessageListener(cacheManager, new ChannelTopic(TwoLevelCacheManager.INVALIDATION_CHANNEL));
+		container.addMessageListener(contentSearchIndexSynchronizer,
+			new ChannelTopic(ContentSearchIndexSynchronizer.REINDEX_CHANNEL));
+		return container;
 	}
 
 	private RedisCacheConfiguration cacheConfiguration() {
 		return RedisCacheConfiguration.defaultCacheConfig()
 			.serializeKeysWith(fromSerializer(new StringRedisSerializer()))
-			.serializeValuesWith(fromSerializer(new GenericJackson2JsonRedisSerializer()))
+			.serializeValuesWith(fromSerializer(SerializedSize.measuring(new GenericJackson2JsonRedisSerializer()
+				.configure(objectMapper -> objectMapper.registerModule(new JavaTimeModule()))))) //LocalDateTime 필드 직렬화, 직렬화된 크기 기록
 			.entryTtl(Duration.ofSeconds(DEFAULT_EXPIRE_SEC)) //DEFAULT_EXPIRE_SEC 만큼 캐시 유지
 			.disableCachingNullValues();
 	}
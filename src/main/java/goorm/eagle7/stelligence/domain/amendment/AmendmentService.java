@@ -6,6 +6,7 @@ import org.springframework.transaction.annotation.Transactional;
 import goorm.eagle7.stelligence.api.exception.BaseException;
 import goorm.eagle7.stelligence.domain.amendment.dto.AmendmentRequest;
 import goorm.eagle7.stelligence.domain.amendment.model.Amendment;
+import goorm.eagle7.stelligence.domain.document.content.parser.SectionSanitizer;
 import goorm.eagle7.stelligence.domain.section.SectionRepository;
 import goorm.eagle7.stelligence.domain.section.model.Section;
 import lombok.RequiredArgsConstructor;
@@ -18,6 +19,7 @@ import lombok.extern.slf4j.Slf4j;
 public class AmendmentService {
 
 	private final SectionRepository sectionRepository;
+	private final SectionSanitizer sectionSanitizer;
 
 	/**
 	 * 타입 구분
@@ -33,6 +35,7 @@ public class AmendmentService {
 
 	/**
 	 * 수정안 생성(새로운 문단 생성)
+	 * 문서 생성과 마찬가지로 제목과 내용은 Sanitize하여 저장합니다.
 	 */
 	private Amendment createAmendment(AmendmentRequest amendmentRequest) {
 		Section section = sectionRepository.findLatestSection(amendmentRequest.getSectionId())
@@ -41,8 +44,8 @@ public class AmendmentService {
 		return Amendment.forCreate(
 			section,
 			amendmentRequest.getNewSectionHeading(),
-			amendmentRequest.getNewSectionTitle(),
-			amendmentRequest.getNewSectionContent(),
+			sectionSanitizer.sanitize(amendmentRequest.getNewSectionTitle()),
+			sectionSanitizer.sanitize(amendmentRequest.getNewSectionContent()),
 			amendmentRequest.getCreatingOrder()
 		);
 	}
@@ -57,8 +60,8 @@ public class AmendmentService {
 		return Amendment.forUpdate(
 			section,
 			amendmentRequest.getNewSectionHeading(),
-			amendmentRequest.getNewSectionTitle(),
-			amendmentRequest.getNewSectionContent()
+			sectionSanitizer.sanitize(amendmentRequest.getNewSectionTitle()),
+			sectionSanitizer.sanitize(amendmentRequest.getNewSectionContent())
 		);
 	}
 
@@ -1,10 +1,12 @@
 package goorm.eagle7.stelligence.domain.amendment.model;
 
+import goorm.eagle7.stelligence.common.compression.CompressedTextConverter;
 import goorm.eagle7.stelligence.common.entity.BaseTimeEntity;
 import goorm.eagle7.stelligence.domain.contribute.model.Contribute;
 import goorm.eagle7.stelligence.domain.section.model.Heading;
 import goorm.eagle7.stelligence.domain.section.model.Section;
 import jakarta.persistence.Column;
+import jakarta.persistence.Convert;
 import jakarta.persistence.Entity;
 import jakarta.persistence.EnumType;
 import jakarta.persistence.Enumerated;
@@ -49,6 +51,12 @@ public class Amendment extends BaseTimeEntity {
 	private Heading newSectionHeading;
 
 	private String newSectionTitle;
+
+	/**
+	 * 변경될 섹션의 내용입니다. 큰 내용은 압축되어 저장됩니다.
+	 */
+	@Convert(converter = CompressedTextConverter.class)
+	@Column(columnDefinition = "TEXT")
 	private String newSectionContent;
 
 	//create type으로 생성할 때만 발생
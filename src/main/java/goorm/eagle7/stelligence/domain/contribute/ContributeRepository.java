@@ -1,6 +1,7 @@
 package goorm.eagle7.stelligence.domain.contribute;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -30,6 +31,13 @@ public interface ContributeRepository extends JpaRepository<Contribute, Long>, C
 	 */
 	boolean existsByDocumentAndStatus(Document document, ContributeStatus status);
 
+	/**
+	 * status를 통해 Contribute가 존재하는지 확인한다.
+	 * @param status Contribute 상태
+	 * @return 존재 여부
+	 */
+	boolean existsByStatus(ContributeStatus status);
+
 	/**
 	 * 현재 투표중인 수정요청에 대해 특정 제목으로 변경하고자 하는 요청이 존재하는지 확인한다.
 	 * @param title 검증할 문서 제목
@@ -44,4 +52,20 @@ public interface ContributeRepository extends JpaRepository<Contribute, Long>, C
 		+ " OR d.status = goorm.eagle7.stelligence.domain.debate.model.DebateStatus.OPEN"
 		+ " )")
 	boolean existsDuplicateRequestedDocumentTitle(String title);
+
+	/**
+	 * 현재 투표중이거나 토론중인 수정요청이 변경하고자 하는 제목 중, 주어진 제목에 포함되는 제목들을 조회한다.
+	 * 여러 제목을 한 번에 검증할 때 사용한다.
+	 * @param titles 검증할 문서 제목들
+	 * @return 변경이 요청된 제목 목록
+	 */
+	@Query("SELECT DISTINCT c.afterDocumentTitle"
+		+ " FROM Contribute c"
+		+ " left join Debate d on d.contribute = c"
+		+ " WHERE c.afterDocumentTitle in :titles"
+		+ " AND ("
+		+ " c.status = goorm.eagle7.stelligence.domain.contribute.model.ContributeStatus.VOTING"
+		+ " OR d.status = goorm.eagle7.stelligence.domain.debate.model.DebateStatus.OPEN"
+		+ " )")
+	List<String> findDuplicateRequestedDocumentTitles(Collection<String> titles);
 }
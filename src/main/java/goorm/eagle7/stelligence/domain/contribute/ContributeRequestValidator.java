@@ -16,11 +16,10 @@ import goorm.eagle7.stelligence.api.exception.BaseException;
 import goorm.eagle7.stelligence.domain.amendment.dto.AmendmentRequest;
 import goorm.eagle7.stelligence.domain.amendment.model.AmendmentType;
 import goorm.eagle7.stelligence.domain.contribute.dto.ContributeRequest;
-import goorm.eagle7.stelligence.domain.contribute.model.ContributeStatus;
-import goorm.eagle7.stelligence.domain.debate.model.DebateStatus;
-import goorm.eagle7.stelligence.domain.debate.repository.DebateRepository;
 import goorm.eagle7.stelligence.domain.document.content.DocumentContentRepository;
+import goorm.eagle7.stelligence.domain.document.content.dto.DocumentStatus;
 import goorm.eagle7.stelligence.domain.document.content.model.Document;
+import goorm.eagle7.stelligence.domain.document.status.DocumentStateService;
 import goorm.eagle7.stelligence.domain.section.SectionRepository;
 import lombok.RequiredArgsConstructor;
 
@@ -34,7 +33,7 @@ public class ContributeRequestValidator {
 	private final ContributeRepository contributeRepository;
 	private final DocumentContentRepository documentContentRepository;
 	private final SectionRepository sectionRepository;
-	private final DebateRepository debateRepository;
+	private final DocumentStateService documentStateService;
 
 	/**
 	 * 수정요청의 유효성을 검증합니다.
@@ -63,19 +62,21 @@ public class ContributeRequestValidator {
 		Document document = documentContentRepository.findById(request.getDocumentId())
 			.orElseThrow(() -> new BaseException("문서가 존재하지 않습니다. documentId=" + request.getDocumentId()));
 
+		//문서의 상태는 document_state에서 기본키로 한 번에 조회합니다.
+		DocumentStatus documentStatus = documentStateService.getState(request.getDocumentId()).getStatus();
+
 		//해당 document에 대한 수정요청이 이미 존재하는가 (투표중인가)
-		if (contributeRepository.existsByDocumentAndStatus(document, ContributeStatus.VOTING)) {
+		if (documentStatus == DocumentStatus.VOTING) {
 			throw new BaseException("이미 해당 문서에 대한 수정요청이 존재합니다. documentId=" + request.getDocumentId());
 		}
 
 		//해당 document에 대한 열린 토론이 존재하는가?
-		if (debateRepository.existsByContributeDocumentIdAndStatus(request.getDocumentId(), DebateStatus.OPEN)) {
+		if (documentStatus == DocumentStatus.DEBATING) {
 			throw new BaseException("해당 문서에 대한 토론이 진행중입니다. documentId=" + request.getDocumentId());
 		}
 
 		//수정하고자 하는 section들이 document에 존재하는가
-		List<Long> sectionIds = sectionRepository.findSectionIdByVersion(document,
-			document.getLatestRevision());
+		List<Long> sectionIds = sectionRepository.findLatestSectionIdByDocumentId(document.getId());
 
 		request.getAmendments().stream().map(AmendmentRequest::getSectionId).forEach(
 			sectionId -> {
@@ -19,6 +19,7 @@ import goorm.eagle7.stelligence.domain.debate.model.Debate;
 import goorm.eagle7.stelligence.domain.debate.repository.DebateRepository;
 import goorm.eagle7.stelligence.domain.document.content.DocumentContentRepository;
 import goorm.eagle7.stelligence.domain.document.content.model.Document;
+import goorm.eagle7.stelligence.domain.document.status.DocumentStateService;
 import goorm.eagle7.stelligence.domain.member.MemberRepository;
 import goorm.eagle7.stelligence.domain.member.model.Member;
 import goorm.eagle7.stelligence.domain.vote.VoteRepository;
@@ -36,6 +37,7 @@ public class ContributeService {
 	private final ContributeRequestValidator contributeRequestValidator;
 	private final VoteRepository voteRepository;
 	private final DebateRepository debateRepository;
+	private final DocumentStateService documentStateService;
 
 	/**
 	 * Contribute 생성
@@ -84,6 +86,7 @@ public class ContributeService {
 		}
 
 		contributeRepository.save(contribute);  // Contribute 저장. 연관된 Amendment도 함께 저장.
+		documentStateService.votingStarted(contribute);  // 문서를 투표중 상태로 변경
 		return ContributeResponse.of(contribute);
 	}
 
@@ -109,6 +112,7 @@ public class ContributeService {
 			throw new BaseException("수정 요청을 삭제할 권한이 없습니다.");
 		}
 
+		documentStateService.votingFinished(contribute);
 		contributeRepository.delete(contribute);
 	}
 
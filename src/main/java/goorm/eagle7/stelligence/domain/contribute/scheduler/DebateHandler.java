@@ -7,6 +7,7 @@ import goorm.eagle7.stelligence.domain.contribute.ContributeRepository;
 import goorm.eagle7.stelligence.domain.contribute.model.Contribute;
 import goorm.eagle7.stelligence.domain.debate.repository.DebateRepository;
 import goorm.eagle7.stelligence.domain.debate.model.Debate;
+import goorm.eagle7.stelligence.domain.document.status.DocumentStateService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
@@ -20,6 +21,7 @@ public class DebateHandler implements ContributeSchedulingActionHandler {
 
 	private final ContributeRepository contributeRepository;
 	private final DebateRepository debateRepository;
+	private final DocumentStateService documentStateService;
 
 	/**
 	 * 수정요청을 토론으로 전환합니다.
@@ -33,5 +35,6 @@ public class DebateHandler implements ContributeSchedulingActionHandler {
 		Contribute contribute = contributeRepository.findById(contributeId).orElseThrow();
 		Debate debate = Debate.openFrom(contribute);
 		debateRepository.save(debate);
+		documentStateService.debateOpened(debate);
 	}
 }
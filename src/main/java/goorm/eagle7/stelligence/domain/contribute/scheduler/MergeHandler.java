@@ -3,8 +3,6 @@ package goorm.eagle7.stelligence.domain.contribute.scheduler;
 import java.util.Comparator;
 import java.util.Objects;
 
-import org.springframework.cache.Cache;
-import org.springframework.cache.CacheManager;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -14,8 +12,17 @@ import goorm.eagle7.stelligence.domain.contribute.ContributeRepository;
 import goorm.eagle7.stelligence.domain.contribute.model.Contribute;
 import goorm.eagle7.stelligence.domain.contribute.scheduler.template.AmendmentMergeTemplateMapper;
 import goorm.eagle7.stelligence.domain.document.DocumentService;
-import goorm.eagle7.stelligence.domain.document.content.DocumentContentService;
+import goorm.eagle7.stelligence.domain.document.content.DocumentCacheEvictor;
+import goorm.eagle7.stelligence.domain.document.content.DocumentResponseCache;
+import goorm.eagle7.stelligence.domain.document.content.RenderedRevisionService;
 import goorm.eagle7.stelligence.domain.document.content.model.Document;
+import goorm.eagle7.stelligence.domain.document.content.search.ContentSearchIndex;
+import goorm.eagle7.stelligence.domain.document.contributor.DocumentContributorService;
+import goorm.eagle7.stelligence.domain.document.status.DocumentStateService;
+import goorm.eagle7.stelligence.domain.document.warmup.DocumentCacheWarmer;
+import goorm.eagle7.stelligence.domain.section.RevisionManifestService;
+import goorm.eagle7.stelligence.domain.section.SectionBatch;
+import goorm.eagle7.stelligence.domain.section.SectionBatchWriter;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
@@ -29,8 +36,15 @@ public class MergeHandler implements ContributeSchedulingActionHandler {
 
 	private final AmendmentMergeTemplateMapper amendmentMergeTemplateMapper;
 	private final ContributeRepository contributeRepository;
-	private final CacheManager cacheManager;
+	private final DocumentCacheEvictor documentCacheEvictor;
 	private final DocumentService documentService;
+	private final RevisionManifestService revisionManifestService;
+	private final RenderedRevisionService renderedRevisionService;
+	private final ContentSearchIndex contentSearchIndex;
+	private final DocumentContributorService documentContributorService;
+	private final DocumentStateService documentStateService;
+	private final DocumentCacheWarmer documentCacheWarmer;
+	private final SectionBatchWriter sectionBatchWriter;
 
 	/**
 	 * Amendment의 정렬은 Merge 과정에서 중요합니다. 정렬이 제대로 되지 않으면
@@ -46,7 +60,7 @@ public class MergeHandler implements ContributeSchedulingActionHandler {
 	private static final Comparator<Amendment> AMENDMENT_COMPARATOR = Comparator.comparing(
 			(Amendment a) -> !a.getType().equals(AmendmentType.CREATE)) // CREATE 타입이 나머지 타입보다 정렬에서 우선순위
 		.thenComparing(a -> a.getType().equals(AmendmentType.CREATE) ? a.getTargetSection().getOrder() :
-			Integer.MAX_VALUE) // Status가 CREATE인 경우 targetSection의 order 기준으로 정렬
+			Long.MAX_VALUE) // Status가 CREATE인 경우 targetSection의 order 기준으로 정렬
 		.thenComparing(Amendment::getCreatingOrder); // targetSection의 order가 같은 경우 경우 creatingOrder 기준으로 정렬
 
 	/**
@@ -54,9 +68,9 @@ public class MergeHandler implements ContributeSchedulingActionHandler {
 	 *
 	 * <p><b>CACHE EVICTION</b> 이 메서드가 수행되면 해당 문서 내용의 캐시가 삭제됩니다.
 	 * 기존에는 @CacheEvict 애노테이션을 사용했으나, 현재는 파라미터인 contributeId만으로 삭제할 캐시의
-	 * 고유 ID를 알 수 없어서 CacheManager를 통해 직접 삭제하도록 변경하였습니다.
+	 * 고유 ID를 알 수 없어서 DocumentCacheEvictor를 통해 직접 삭제하도록 변경하였습니다.
 	 *
-	 * @see DocumentContentService#getDocument(Long) 문서의 캐시가 생성되는 메서드
+	 * @see DocumentResponseCache#get(Long) 문서의 캐시가 생성되는 메서드
 	 * @param contributeId 반영할 Contribute의 ID
 	 */
 	@Override
@@ -72,14 +86,18 @@ public class MergeHandler implements ContributeSchedulingActionHandler {
 		Document document = contribute.getDocument();
 
 		log.trace("contribute를 순회하며 정렬 후 Merge를 수행합니다.");
+		SectionBatch batch = new SectionBatch(sectionBatchWriter);
 		contribute.getAmendments()
 			.stream()
 			.sorted(AMENDMENT_COMPARATOR) //정렬
 			// 각각의 amendment에 대하여 Merge 로직을 가지고 있는 template를 찾아서 실행합니다.
 			.forEach(amendment -> amendmentMergeTemplateMapper.getTemplateForType(amendment.getType())
-				.handle(document, amendment)
+				.handle(document, amendment, batch)
 			);
 
+		//새로운 버전의 섹션들을 한 번에 저장합니다.
+		batch.flush();
+
 		//Document의 제목을 변경합니다.
 		if (!contribute.getAfterDocumentTitle().equals(contribute.getBeforeDocumentTitle())) {
 			documentService.changeDocumentTitle(document.getId(), contribute.getAfterDocumentTitle());
@@ -99,25 +117,28 @@ public class MergeHandler implements ContributeSchedulingActionHandler {
 		//문서의 현재 revision을 증가시킵니다.
 		document.incrementLatestRevision();
 
+		//새로운 버전의 매니페스트를 기록합니다.
+		revisionManifestService.recordLatestRevision(document);
+
+		//새로운 버전의 렌더링된 내용을 기록합니다.
+		renderedRevisionService.recordLatestRevision(document);
+
+		//커밋되면 새로운 버전의 본문을 검색 색인에 반영합니다.
+		contentSearchIndex.reindexOnCommit(document.getId());
+
 		//Contribute의 상태를 MERGED로 변경합니다.
 		contribute.setStatusMerged();
 
+		//수정요청의 작성자를 문서의 기여자로 기록합니다.
+		documentContributorService.recordContribution(contribute);
+
+		//문서의 투표가 끝났음을 기록합니다.
+		documentStateService.votingFinished(contribute);
+
 		//cache를 삭제합니다.
-		evictCache(document.getId());
-	}
+		documentCacheEvictor.evict(document.getId());
 
-	/**
-	 * 해당 문서의 캐시를 삭제합니다.
-	 * @param documentId 캐시를 삭제할 문서의 ID
-	 */
-	private void evictCache(Long documentId) {
-		Cache cache = cacheManager.getCache("document");
-		if (cache != null) {
-			cache.evict(documentId);
-			log.debug("document cache evicted. documentId : {}", documentId);
-		} else {
-			log.debug("document cache not found. documentId : {}", documentId);
-		}
+		//커밋되면 다음 조회를 기다리지 않고 cache를 다시 만듭니다.
+		documentCacheWarmer.warmOnCommit(document.getId());
 	}
 }
-
@@ -5,6 +5,7 @@ import org.springframework.transaction.annotation.Transactional;
 
 import goorm.eagle7.stelligence.domain.contribute.ContributeRepository;
 import goorm.eagle7.stelligence.domain.contribute.model.Contribute;
+import goorm.eagle7.stelligence.domain.document.status.DocumentStateService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
@@ -17,6 +18,7 @@ import lombok.extern.slf4j.Slf4j;
 public class RejectHandler implements ContributeSchedulingActionHandler {
 
 	private final ContributeRepository contributeRepository;
+	private final DocumentStateService documentStateService;
 
 	@Override
 	@Transactional
@@ -24,5 +26,6 @@ public class RejectHandler implements ContributeSchedulingActionHandler {
 		log.debug("Contribute {} is rejected.", contributeId);
 		Contribute contribute = contributeRepository.findById(contributeId).orElseThrow();
 		contribute.setStatusRejected();
+		documentStateService.votingFinished(contribute);
 	}
 }
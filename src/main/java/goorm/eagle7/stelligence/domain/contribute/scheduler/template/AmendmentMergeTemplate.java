@@ -2,6 +2,7 @@ package goorm.eagle7.stelligence.domain.contribute.scheduler.template;
 
 import goorm.eagle7.stelligence.domain.amendment.model.Amendment;
 import goorm.eagle7.stelligence.domain.document.content.model.Document;
+import goorm.eagle7.stelligence.domain.section.SectionBatch;
 import goorm.eagle7.stelligence.domain.section.SectionRepository;
 import goorm.eagle7.stelligence.domain.section.model.Section;
 import lombok.RequiredArgsConstructor;
@@ -11,8 +12,11 @@ import lombok.extern.slf4j.Slf4j;
  * 서로 다른 타입에 대하여 다르게 동작하는 병합과정을 분리해내고 공통적인 부분을 추출해낸 추상클래스입니다.
  *
  * <p>Template Method Pattern을 사용하여, 각 타입에 맞는 섹션의 생성은 createSection에서 수행하고
- * sectionRepository.save 메서드나 member.contributes 증가시키는 로직과 같이
- * 공통적으로 수행되어야 하는 코드는 이곳에서 수행됩니다.
+ * 섹션을 저장 대상에 추가하는 것과 같이 공통적으로 수행되어야 하는 코드는 이곳에서 수행됩니다.
+ *
+ * <p>생성된 섹션은 바로 저장하지 않고 SectionBatch에 추가합니다. Merge가 끝나면 MergeHandler가 새로운 버전의 섹션들을
+ * 본문, latest_section과 함께 한 번의 batch로 저장합니다. (SectionBatchWriter 참조)
+ * 기존 섹션의 새로운 revision은 latest_section이 새로운 revision을 가리키도록 하고, 삭제된 섹션은 latest_section에서 제거합니다.
  */
 @Slf4j
 @RequiredArgsConstructor
@@ -22,13 +26,34 @@ public abstract class AmendmentMergeTemplate {
 
 	/**
 	 * Amendment Type에 따라 서로 다른 방식의 Section을 생성합니다.
-	 * 이렇게 생성된 Section은 SectionRepository를 통해 저장됩니다.
+	 * 이렇게 생성된 Section은 batch에 추가되어 Merge가 끝날 때 저장됩니다.
 	 *
 	 * @param document 섹션이 생성될 Document
 	 * @param amendment 섹션을 생성하기 위한 정보를 담고 있는 Amendment
+	 * @param batch 이번 Merge에서 생성되어 아직 저장되지 않은 섹션들
 	 * @return 새로 생성된 섹션으로 DB에 저장되지 않은 상태입니다.
 	 */
-	abstract Section createSection(Document document, Amendment amendment);
+	abstract Section createSection(Document document, Amendment amendment, SectionBatch batch);
+
+	/**
+	 * 생성 중인 버전에서 섹션의 순서를 반환합니다.
+	 * 이번 Merge에서 순서가 다시 부여되었다면 batch에 있는 새로운 revision의 순서를, 그렇지 않다면 기존 섹션의 순서를 따릅니다.
+	 * @param section 기존 버전의 섹션
+	 * @param batch 이번 Merge에서 생성되어 아직 저장되지 않은 섹션들
+	 * @return 생성 중인 버전에서의 순서
+	 */
+	long orderOf(Section section, SectionBatch batch) {
+		return batch.find(section.getId())
+			.map(Section::getOrder)
+			.orElse(section.getOrder());
+	}
+
+	/**
+	 * 생성된 섹션을 저장 대상에 추가합니다. 기본적으로 기존 섹션의 새로운 revision으로 추가합니다.
+	 */
+	void stage(SectionBatch batch, Section section) {
+		batch.revised(section);
+	}
 
 	/**
 	 * Amendment Type에 따라 서로 다른 방식의 추가 작업을 수행합니다.
@@ -36,14 +61,20 @@ public abstract class AmendmentMergeTemplate {
 	 */
 	abstract void afterMerged(Section section);
 
-	public final void handle(Document document, Amendment amendment) {
+	/**
+	 * Amendment를 반영한 섹션을 생성하여 batch에 추가합니다. 섹션은 batch가 flush될 때 저장됩니다.
+	 * @param document 섹션이 생성될 Document
+	 * @param amendment 반영할 Amendment
+	 * @param batch 새로운 버전의 섹션들을 모으는 SectionBatch
+	 */
+	public final void handle(Document document, Amendment amendment, SectionBatch batch) {
 		//템플릿에 따라 Section을 생성한다.
 		log.trace("템플릿에 따라 Section을 생성합니다.");
-		Section section = createSection(document, amendment);
+		Section section = createSection(document, amendment, batch);
 
-		//템플릿에 상관없이 공통적으로 섹션을 저장한다.
-		log.trace("생성한 섹션을 저장합니다.");
-		sectionRepository.save(section);
+		//템플릿에 상관없이 공통적으로 섹션을 저장 대상에 추가한다.
+		log.trace("생성한 섹션을 저장 대상에 추가합니다.");
+		stage(batch, section);
 
 		//템플릿에 따라 추가적인 작업을 수행한다.
 		log.trace("템플릿에 따라 추가적인 작업을 수행합니다.");
@@ -1,12 +1,19 @@
 package goorm.eagle7.stelligence.domain.contribute.scheduler.template;
 
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
 import org.springframework.stereotype.Component;
 
 import goorm.eagle7.stelligence.common.sequence.SectionIdGenerator;
 import goorm.eagle7.stelligence.domain.amendment.model.Amendment;
 import goorm.eagle7.stelligence.domain.document.content.model.Document;
+import goorm.eagle7.stelligence.domain.section.SectionBatch;
 import goorm.eagle7.stelligence.domain.section.SectionRepository;
 import goorm.eagle7.stelligence.domain.section.model.Section;
+import goorm.eagle7.stelligence.domain.section.model.SectionOrder;
 import lombok.extern.slf4j.Slf4j;
 
 /**
@@ -34,13 +41,15 @@ public class CreateAmendmentMergeTemplate extends AmendmentMergeTemplate {
 
 	/**
 	 * 수정안의 정보를 바탕으로 새로운 섹션을 생성합니다.
+	 * 순서는 이번 Merge에서 먼저 생성되어 아직 저장되지 않은 섹션들을 고려하여 부여합니다.
 	 *
 	 * @param document 섹션이 생성될 Document
 	 * @param amendment 섹션을 생성하기 위한 정보를 담고 있는 Amendment
+	 * @param batch 이번 Merge에서 생성된 섹션들
 	 * @return 새로 생성된 섹션으로 DB에 저장되지 않은 상태입니다.
 	 */
 	@Override
-	Section createSection(Document document, Amendment amendment) {
+	Section createSection(Document document, Amendment amendment, SectionBatch batch) {
 		log.trace("새로운 섹션을 생성합니다.");
 		return Section.createSection(
 			document,
@@ -49,22 +58,147 @@ public class CreateAmendmentMergeTemplate extends AmendmentMergeTemplate {
 			amendment.getNewSectionHeading(),
 			amendment.getNewSectionTitle(),
 			amendment.getNewSectionContent(),
-			amendment.getTargetSection().getOrder() + amendment.getCreatingOrder()
-			//새로운 섹션의 순서는 기존 섹션의 순서 + creatingOrder입니다.
+			allocateOrder(document, amendment.getTargetSection(), batch)
+			//새로운 섹션은 대상 섹션과 대상 섹션 뒤에 먼저 생성된 섹션들의 뒤에 위치합니다.
 		);
 	}
 
 	/**
-	 * 새로운 섹션의 생성에 따라 섹션의 순서를 업데이트합니다.
+	 * 대상 섹션 뒤에 삽입될 새로운 섹션의 순서를 구합니다.
+	 *
+	 * <p>Amendment는 같은 대상 섹션에 대해 creatingOrder 순서대로 병합되므로, 새로운 섹션은
+	 * 대상 섹션 또는 이번 Merge에서 대상 섹션 뒤에 먼저 생성된 섹션의 바로 뒤에 위치해야 합니다.
+	 * 따라서 기존 버전에서 대상 섹션의 다음 섹션을 상한으로, 생성 중인 버전에서 그 상한 이전의 마지막 섹션을 하한으로 하여
+	 * 두 순서의 중간 값을 새로운 순서로 사용합니다. 이후 섹션들의 순서는 변경되지 않습니다.
+	 *
+	 * <p>생성 중인 버전의 섹션은 Merge가 끝날 때 저장되므로 DB에서 조회되지 않습니다. 따라서 batch에 있는 섹션의 순서도 하한에 반영합니다.
+	 * 두 순서 사이에 간격이 남아있지 않거나 이번 Merge에서 이미 순서를 다시 부여했다면, 생성 중인 버전을 메모리에서 구성하여 순서를 구합니다.
+	 *
+	 * @param document 섹션이 생성될 Document
+	 * @param targetSection 새로운 섹션이 뒤에 삽입될 섹션
+	 * @param batch 이번 Merge에서 생성된 섹션들
+	 * @return 새로운 섹션의 순서
+	 */
+	private long allocateOrder(Document document, Section targetSection, SectionBatch batch) {
+		if (batch.isReordered()) {
+			return allocateOrderInVersion(document, targetSection, batch);
+		}
+
+		Long latestRevision = document.getLatestRevision();
+		Long upper = sectionRepository.findNextOrder(document, latestRevision, targetSection.getOrder())
+			.orElse(null);
+		long to = upper == null ? Long.MAX_VALUE : upper;
+		long lower = sectionRepository.findLastOrderBetween(document, latestRevision + 1, targetSection.getOrder(), to)
+			.orElse(targetSection.getOrder());
+		for (Section pending : batch.pending()) {
+			if (pending.getOrder() >= targetSection.getOrder() && pending.getOrder() < to) {
+				lower = Math.max(lower, pending.getOrder());
+			}
+		}
+
+		if (SectionOrder.hasRoomBetween(lower, upper)) {
+			return SectionOrder.between(lower, upper);
+		}
+
+		log.debug("섹션 사이의 간격이 부족하여 순서를 다시 부여합니다. documentId={}", document.getId());
+		rebalance(document, batch);
+		return allocateOrderInVersion(document, targetSection, batch);
+	}
+
+	/**
+	 * 생성 중인 버전을 메모리에서 구성하여 새로운 섹션의 순서를 구합니다.
+	 * 순서가 다시 부여된 이후에는 이전 버전의 섹션과 새로운 revision의 섹션이 서로 다른 순서를 가지므로 DB의 순서만으로는 구할 수 없습니다.
+	 * 상한은 생성 중인 버전에서 대상 섹션 다음의 기존 섹션, 하한은 그 상한 이전의 마지막 섹션입니다.
+	 */
+	private long allocateOrderInVersion(Document document, Section targetSection, SectionBatch batch) {
+		List<Section> version = findVersionInProgress(document, batch);
+		long targetOrder = orderOf(targetSection, batch);
+
+		Long upper = version.stream()
+			.filter(section -> !batch.isCreated(section.getId()))
+			.map(Section::getOrder)
+			.filter(order -> order > targetOrder)
+			.min(Comparator.naturalOrder())
+			.orElse(null);
+		long to = upper == null ? Long.MAX_VALUE : upper;
+		long lower = version.stream()
+			.map(Section::getOrder)
+			.filter(order -> order >= targetOrder && order < to)
+			.max(Comparator.naturalOrder())
+			.orElse(targetOrder);
+
+		if (SectionOrder.hasRoomBetween(lower, upper)) {
+			return SectionOrder.between(lower, upper);
+		}
+
+		log.debug("섹션 사이의 간격이 부족하여 순서를 다시 부여합니다. documentId={}", document.getId());
+		rebalance(document, batch);
+		return allocateOrderInVersion(document, targetSection, batch);
+	}
+
+	/**
+	 * 생성 중인 버전을 구성하는 섹션들의 순서를 GAP 간격으로 다시 부여합니다.
+	 *
+	 * <p>이전 버전을 구성하는 섹션 행의 순서를 변경하면 이전 버전의 순서도 바뀌므로, 저장된 섹션의 행은 변경하지 않습니다.
+	 * 아직 저장되지 않은 새로운 revision의 섹션은 순서를 그대로 변경하고, 순서가 바뀌는 기존 섹션은
+	 * 같은 내용의 새로운 revision을 생성하여 batch에 추가합니다.
+	 *
+	 * @param document 순서를 다시 부여할 Document
+	 * @param batch 이번 Merge에서 생성된 섹션들
+	 */
+	private void rebalance(Document document, SectionBatch batch) {
+		Long revision = document.getLatestRevision() + 1;
+		List<Section> version = findVersionInProgress(document, batch);
+		for (int position = 0; position < version.size(); position++) {
+			Section section = version.get(position);
+			long order = SectionOrder.of(position + 1);
+
+			if (section.getRevision().equals(revision)) {
+				section.changeOrder(order);
+			} else if (section.getOrder() != order) {
+				batch.revised(section.reorderedRevision(revision, order));
+			}
+		}
+		batch.markReordered();
+	}
+
+	/**
+	 * 생성 중인 버전을 구성하는 섹션들을 순서대로 반환합니다.
+	 * 기존 버전의 섹션 중 이번 Merge에서 새로운 revision이 생긴 섹션은 새로운 revision으로 대체합니다.
+	 * 이전 버전에서 이미 삭제된 섹션은 생성 중인 버전에 포함되지 않습니다.
+	 */
+	private List<Section> findVersionInProgress(Document document, SectionBatch batch) {
+		Map<Long, Section> version = new HashMap<>();
+		for (Section section : sectionRepository.findByVersionWithoutBody(document, document.getLatestRevision())) {
+			if (!section.isDeleted()) {
+				version.put(section.getId(), section);
+			}
+		}
+		for (Section section : batch.pending()) {
+			version.put(section.getId(), section);
+		}
+
+		return version.values()
+			.stream()
+			.sorted(Comparator.comparingLong(Section::getOrder).thenComparing(Section::getId))
+			.toList();
+	}
+
+	/**
+	 * 새로운 ID를 가진 섹션이므로 latest_section에 추가되도록 합니다.
+	 */
+	@Override
+	void stage(SectionBatch batch, Section section) {
+		batch.created(section);
+	}
+
+	/**
+	 * 새로운 섹션의 순서는 앞 뒤 섹션 사이의 값으로 부여되므로 다른 섹션들의 순서를 변경하지 않습니다.
 	 * @param section 새롭게 생성된 섹션
 	 */
 	@Override
 	void afterMerged(Section section) {
-		log.trace("새로운 섹션의 생성에 따라 섹션의 순서를 업데이트합니다.");
-		Document document = section.getDocument();
-		sectionRepository.findByVersionWhereOrderGreaterEqualThan(document, document.getLatestRevision(),
-				section.getOrder())
-			.forEach(Section::incrementOrder);
+		//do nothing
 	}
 
 }
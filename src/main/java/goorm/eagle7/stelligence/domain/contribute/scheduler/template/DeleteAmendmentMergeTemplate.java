@@ -4,6 +4,7 @@ import org.springframework.stereotype.Component;
 
 import goorm.eagle7.stelligence.domain.amendment.model.Amendment;
 import goorm.eagle7.stelligence.domain.document.content.model.Document;
+import goorm.eagle7.stelligence.domain.section.SectionBatch;
 import goorm.eagle7.stelligence.domain.section.SectionRepository;
 import goorm.eagle7.stelligence.domain.section.model.Section;
 
@@ -25,10 +26,11 @@ public class DeleteAmendmentMergeTemplate extends AmendmentMergeTemplate {
 	 *
 	 * @param document 섹션이 생성될 Document
 	 * @param amendment 섹션을 생성하기 위한 정보를 담고 있는 Amendment
+	 * @param batch 이번 Merge에서 생성되어 아직 저장되지 않은 섹션들
 	 * @return 새로 생성된 섹션으로 DB에 저장되지 않은 상태입니다.
 	 */
 	@Override
-	Section createSection(Document document, Amendment amendment) {
+	Section createSection(Document document, Amendment amendment, SectionBatch batch) {
 		return Section.createSection(
 			document,
 			amendment.getTargetSection().getId(),
@@ -36,7 +38,7 @@ public class DeleteAmendmentMergeTemplate extends AmendmentMergeTemplate {
 			null,
 			null,
 			null,
-			amendment.getTargetSection().getOrder()
+			orderOf(amendment.getTargetSection(), batch)
 		);
 	}
 
@@ -108,8 +108,18 @@ public class Debate extends BaseTimeEntity {
 
 	// 토론이 끝난 후 수정요청 대기중인지를 확인
 	public boolean isPendingForContribute() {
+		return isPendingForContribute(this.status, this.endAt);
+	}
+
+	/**
+	 * 엔티티를 조회하지 않고 토론의 상태와 종료 시간만으로 수정요청 대기중인지를 확인합니다.
+	 * @param status 토론의 상태
+	 * @param endAt 토론의 종료 시간
+	 * @return 토론이 끝난 후 수정요청 대기중이라면 true
+	 */
+	public static boolean isPendingForContribute(DebateStatus status, LocalDateTime endAt) {
 		// 토론이 끝난 후 DEBATE_PENDING_DURATION_MINUTE 분 동안 수정요청 대기상태
-		LocalDateTime pendingLimitTime = this.endAt.plusMinutes(DEBATE_PENDING_DURATION_MINUTE);
-		return this.status.equals(DebateStatus.CLOSED) && pendingLimitTime.isAfter(LocalDateTime.now());
+		LocalDateTime pendingLimitTime = endAt.plusMinutes(DEBATE_PENDING_DURATION_MINUTE);
+		return DebateStatus.CLOSED.equals(status) && pendingLimitTime.isAfter(LocalDateTime.now());
 	}
 }
@@ -8,6 +8,7 @@ import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
 import goorm.eagle7.stelligence.domain.debate.repository.DebateRepository;
+import goorm.eagle7.stelligence.domain.document.status.DocumentStateService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
@@ -20,6 +21,7 @@ import lombok.extern.slf4j.Slf4j;
 public class DebateScheduler {
 
 	private final DebateRepository debateRepository;
+	private final DocumentStateService documentStateService;
 
 	/**
 	 * 열려있는 토론 중, 종료 예상시간이 지난 토론을 식별하고,
@@ -33,8 +35,20 @@ public class DebateScheduler {
 		if (!targetDebateIdList.isEmpty()) {
 			log.info("[DebateScheduler] 종료 대상 토론을 모두 종료합니다. 대상 토론 ID: {}", targetDebateIdList);
 			debateRepository.closeAllById(targetDebateIdList);
+			documentStateService.debatesClosed(targetDebateIdList);
 		} else {
 			log.info("[DebateScheduler] 종료 대상 토론이 없습니다.");
 		}
 	}
+
+	/**
+	 * 토론이 종료된 후 수정대기 시간이 지난 문서들을 편집가능 상태로 전환합니다.
+	 * 조회 시점에도 대기 시간을 다시 판단하므로, 이 작업이 늦어지더라도 응답의 문서 상태는 올바릅니다.
+	 */
+	@Scheduled(fixedRateString = "${contribute.scheduler.scheduling-interval-ms:600000}")
+	@Transactional
+	public void expirePendingDocuments() {
+		int expired = documentStateService.expirePending(LocalDateTime.now());
+		log.info("[DebateScheduler] 수정대기 시간이 지난 문서를 편집가능 상태로 전환했습니다. 대상 문서 수: {}", expired);
+	}
 }
@@ -0,0 +1,43 @@
+package goorm.eagle7.stelligence.domain.document;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import goorm.eagle7.stelligence.domain.document.content.DocumentBodyCache;
+import goorm.eagle7.stelligence.domain.document.warmup.DocumentAccessStatistics;
+import io.swagger.v3.oas.annotations.Operation;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 최신 버전 문서의 조회 응답을 직렬화된 바이트 캐시로부터 그대로 씁니다.
+ * document.cache.format이 bytes인 경우에만 등록됩니다.
+ *
+ * <p>revision 파라미터가 없는 요청만 처리하며, 응답 형식은 DocumentController#getDocument와 같습니다.
+ * 버전이 지정된 요청은 DocumentController가 처리합니다.
+ */
+@RestController
+@RequestMapping("/api/documents")
+@ConditionalOnProperty(name = "document.cache.format", havingValue = "bytes")
+@RequiredArgsConstructor
+public class DocumentBodyController {
+
+	private final DocumentBodyCache documentBodyCache;
+	private final DocumentAccessStatistics documentAccessStatistics;
+
+	@Operation(hidden = true)
+	@GetMapping(value = "/{documentId}", params = "!revision")
+	public void getLatestDocument(@PathVariable Long documentId, HttpServletResponse response) throws IOException {
+		documentAccessStatistics.record(documentId);
+		response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+		response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+		documentBodyCache.write(documentId, response.getOutputStream());
+	}
+}
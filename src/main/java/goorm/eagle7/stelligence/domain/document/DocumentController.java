@@ -1,7 +1,11 @@
 package goorm.eagle7.stelligence.domain.document;
 
 import java.util.List;
+import java.util.concurrent.TimeUnit;
 
+import org.springframework.http.CacheControl;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
@@ -9,11 +13,14 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
 import goorm.eagle7.stelligence.api.ResponseTemplate;
 import goorm.eagle7.stelligence.common.auth.memberinfo.Auth;
 import goorm.eagle7.stelligence.common.auth.memberinfo.MemberInfo;
 import goorm.eagle7.stelligence.domain.document.content.dto.DocumentResponse;
+import goorm.eagle7.stelligence.domain.document.content.model.RenderedRevision;
+import goorm.eagle7.stelligence.domain.document.diff.dto.DocumentDiffResponse;
 import goorm.eagle7.stelligence.domain.document.dto.DocumentCreateRequest;
 import goorm.eagle7.stelligence.domain.document.graph.dto.DocumentGraphResponse;
 import goorm.eagle7.stelligence.domain.document.graph.dto.DocumentNodeResponse;
@@ -28,6 +35,8 @@ import lombok.extern.slf4j.Slf4j;
  * 문서 관련 API를 제공하는 컨트롤러입니다.
  * * 문서 생성
  * * 문서 버전 별 조회
+ * * 문서 버전 별 렌더링 내용 조회
+ * * 문서 버전 비교
  */
 @Tag(name = "Document API", description = "문서를 생성하고 조회하는 API를 제공합니다")
 @Slf4j
@@ -69,6 +78,65 @@ public class DocumentController {
 		return ResponseTemplate.ok(documentService.getDocumentContent(documentId, revision));
 	}
 
+	/**
+	 * 문서의 특정 버전의 렌더링된 내용을 ETag와 함께 반환합니다.
+	 *
+	 * <p>ETag는 (documentId, revision)으로부터 만들어지며, 버전의 내용은 변경되지 않으므로 강한 ETag를 사용합니다.
+	 * 버전이 지정된 요청은 요청 정보만으로 ETag를 계산할 수 있으므로, If-None-Match가 일치하면 DB를 조회하지 않고 304를 반환합니다.
+	 * 버전이 지정되지 않은 요청은 최신 버전 번호만 조회한 뒤 ETag를 비교합니다.
+	 *
+	 * <p>문서 조회 API의 응답은 투표, 토론 상태와 같이 버전과 무관하게 변경되는 정보를 포함하므로 ETag를 적용하지 않았습니다.
+	 */
+	@Operation(summary = "문서 렌더링 내용 조회", description = "문서의 섹션들을 하나로 합친 HTML을 ETag와 함께 조회합니다")
+	@ApiResponse(
+		responseCode = "200",
+		description = "문서 렌더링 내용 조회 성공",
+		useReturnTypeSchema = true
+	)
+	@GetMapping(value = "/{documentId}/content", produces = MediaType.TEXT_HTML_VALUE)
+	public ResponseEntity<String> getDocumentRenderedContent(
+		@Parameter(description = "조회할 문서의 ID", example = "1")
+		@PathVariable Long documentId,
+		@Parameter(description = "문서의 특정 버전을 가져올 수 있습니다. 전달되지 않는 경우 기본값으로 최신본을 반환합니다", example = "1")
+		@RequestParam(required = false) Long revision,
+		WebRequest webRequest
+	) {
+		Long targetRevision = revision == null ? documentService.getLatestRevision(documentId) : revision;
+
+		String eTag = RenderedRevision.eTagOf(documentId, targetRevision);
+		if (webRequest.checkNotModified(eTag)) {
+			return null;
+		}
+
+		//특정 버전의 내용은 변경되지 않으므로 오래 캐시할 수 있지만, 최신본은 매번 검증해야 합니다.
+		CacheControl cacheControl = revision == null
+			? CacheControl.noCache()
+			: CacheControl.maxAge(365, TimeUnit.DAYS).cachePublic().immutable();
+
+		return ResponseEntity.ok()
+			.eTag(eTag)
+			.cacheControl(cacheControl)
+			.body(documentService.getRenderedContent(documentId, targetRevision));
+	}
+
+	@Operation(summary = "문서 버전 비교", description = "문서의 두 버전 사이에서 추가, 삭제, 변경된 섹션을 조회합니다")
+	@ApiResponse(
+		responseCode = "200",
+		description = "문서 버전 비교 성공",
+		useReturnTypeSchema = true
+	)
+	@GetMapping("/{documentId}/diff")
+	public ResponseTemplate<DocumentDiffResponse> getDocumentDiff(
+		@Parameter(description = "비교할 문서의 ID", example = "1")
+		@PathVariable Long documentId,
+		@Parameter(description = "비교의 기준이 되는 버전", example = "1")
+		@RequestParam Long from,
+		@Parameter(description = "비교할 버전", example = "2")
+		@RequestParam Long to
+	) {
+		return ResponseTemplate.ok(documentService.getDocumentDiff(documentId, from, to));
+	}
+
 	@Operation(summary = "문서 그래프 조회", description = "문서 그래프를 조회합니다.")
 	@ApiResponse(
 		responseCode = "200",
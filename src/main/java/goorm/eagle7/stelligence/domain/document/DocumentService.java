@@ -2,19 +2,27 @@ package goorm.eagle7.stelligence.domain.document;
 
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import goorm.eagle7.stelligence.api.exception.BaseException;
 import goorm.eagle7.stelligence.domain.document.content.DocumentContentService;
+import goorm.eagle7.stelligence.domain.document.content.DocumentResponseCache;
 import goorm.eagle7.stelligence.domain.document.content.dto.DocumentResponse;
+import goorm.eagle7.stelligence.domain.document.content.dto.DocumentStatus;
 import goorm.eagle7.stelligence.domain.document.content.dto.SectionResponse;
 import goorm.eagle7.stelligence.domain.document.content.model.Document;
+import goorm.eagle7.stelligence.domain.document.diff.DocumentDiffService;
+import goorm.eagle7.stelligence.domain.document.diff.dto.DocumentDiffResponse;
 import goorm.eagle7.stelligence.domain.document.dto.DocumentCreateRequest;
 import goorm.eagle7.stelligence.domain.document.graph.DocumentGraphService;
 import goorm.eagle7.stelligence.domain.document.graph.dto.DocumentGraphResponse;
 import goorm.eagle7.stelligence.domain.document.graph.dto.DocumentNodeResponse;
+import goorm.eagle7.stelligence.domain.document.status.DocumentStateService;
+import goorm.eagle7.stelligence.domain.document.warmup.DocumentAccessStatistics;
 import goorm.eagle7.stelligence.domain.member.MemberRepository;
 import goorm.eagle7.stelligence.domain.member.model.Member;
 import lombok.RequiredArgsConstructor;
@@ -31,9 +39,13 @@ import lombok.extern.slf4j.Slf4j;
 public class DocumentService {
 
 	private final DocumentContentService documentContentService;
+	private final DocumentResponseCache documentResponseCache;
 	private final DocumentGraphService documentGraphService;
+	private final DocumentDiffService documentDiffService;
 	private final MemberRepository memberRepository;
 	private final DocumentRequestValidator documentRequestValidator;
+	private final DocumentStateService documentStateService;
+	private final DocumentAccessStatistics documentAccessStatistics;
 
 	/**
 	 * Document를 생성합니다.
@@ -80,30 +92,66 @@ public class DocumentService {
 	/**
 	 * Document를 조회합니다.
 	 * @param documentId : 조회할 Document의 ID
+	 * 최신 버전은 캐시를 통해 조회합니다.
+	 * 캐시를 놓친 요청이 다른 요청의 결과를 기다리는 동안 DB 커넥션을 점유하지 않도록 트랜잭션을 시작하지 않습니다.
+	 * 조회 빈도는 캐시 워밍의 대상을 정하기 위해 기록합니다.
 	 * @param revision : null이면 최신 버전을 조회합니다.
 	 * @return DocumentResponse
 	 */
+	@Transactional(propagation = Propagation.NOT_SUPPORTED)
 	public DocumentResponse getDocumentContent(Long documentId, Long revision) {
+		documentAccessStatistics.record(documentId);
 		if (revision == null) {
-			return documentContentService.getDocument(documentId);
+			return documentResponseCache.get(documentId);
 		} else {
 			return documentContentService.getDocument(documentId, revision);
 		}
 	}
 
+	/**
+	 * 문서의 최신 버전을 조회합니다.
+	 * @param documentId : 조회할 Document의 ID
+	 * @return 최신 버전
+	 */
+	public Long getLatestRevision(Long documentId) {
+		return documentContentService.getLatestRevision(documentId);
+	}
+
+	/**
+	 * 문서의 특정 버전의 렌더링된 내용을 조회합니다.
+	 * @param documentId : 조회할 Document의 ID
+	 * @param revision : 조회할 버전
+	 * @return 섹션들의 내용을 하나로 합친 문자열
+	 */
+	public String getRenderedContent(Long documentId, Long revision) {
+		return documentContentService.getRenderedContent(documentId, revision);
+	}
+
+	/**
+	 * 문서의 두 버전을 섹션 단위로 비교합니다.
+	 * @param documentId : 비교할 Document의 ID
+	 * @param from : 비교의 기준이 되는 버전
+	 * @param to : 비교할 버전
+	 * @return DocumentDiffResponse
+	 */
+	public DocumentDiffResponse getDocumentDiff(Long documentId, Long from, Long to) {
+		return documentDiffService.getDiff(documentId, from, to);
+	}
+
 	/**
 	 * 문서 그래프를 조회합니다.
 	 * documentId가 null 이라면 최상위 문서를 기준으로 조회합니다.
 	 * 조회 대상 문서로부터 일정 깊이의 하위 문서까지 함께 조회합니다.
+	 * 각 노드에는 문서의 현재 상태가 채워집니다.
 	 * @param documentId: 조회 대상이 되는 문서의 id입니다.
 	 * @param depth: 함께 조회할 문서의 깊이입니다.
 	 * @return DocumentGraphResponse
 	 */
 	public DocumentGraphResponse getDocumentGraph(Long documentId, int depth) {
 		if (documentId == null) {
-			return documentGraphService.findFromRootNodesWithDepth(depth);
+			return withStatuses(documentGraphService.findFromRootNodesWithDepth(depth));
 		} else {
-			return documentGraphService.findGraphWithDepth(documentId, depth);
+			return withStatuses(documentGraphService.findGraphWithDepth(documentId, depth));
 		}
 	}
 
@@ -112,7 +160,7 @@ public class DocumentService {
 	 * @return DocumentGraphResponse
 	 */
 	public DocumentGraphResponse getAllDocumentGraph() {
-		return documentGraphService.findAllGraph();
+		return withStatuses(documentGraphService.findAllGraph());
 	}
 
 	/**
@@ -122,7 +170,23 @@ public class DocumentService {
 	 * @return List&lt;DocumentNodeResponse&gt;
 	 */
 	public List<DocumentNodeResponse> getDocumentNodeByTitle(String title, int limit) {
-		return documentGraphService.findNodeByTitle(title, limit);
+		List<DocumentNodeResponse> nodes = documentGraphService.findNodeByTitle(title, limit);
+		Map<Long, DocumentStatus> statuses = documentStateService.getStatuses(
+			nodes.stream().map(DocumentNodeResponse::getDocumentId).toList());
+		return nodes.stream()
+			.map(node -> node.withStatus(statuses.getOrDefault(node.getDocumentId(), DocumentStatus.EDITABLE)))
+			.toList();
+	}
+
+	/**
+	 * 그래프의 노드마다 문서의 현재 상태를 채웁니다.
+	 * 그래프는 캐시되고 문서 상태는 캐시와 무관하게 바뀌므로, 캐시된 그래프를 변경하지 않고 캐시 바깥에서 새로운 응답을 만듭니다.
+	 * 문서 상태는 document_state에서 기본키로 한 번에 조회합니다.
+	 */
+	private DocumentGraphResponse withStatuses(DocumentGraphResponse graph) {
+		Map<Long, DocumentStatus> statuses = documentStateService.getStatuses(
+			graph.getDocumentNodes().stream().map(DocumentNodeResponse::getDocumentId).toList());
+		return graph.withStatuses(statuses);
 	}
 
 	/**
@@ -0,0 +1,24 @@
+package goorm.eagle7.stelligence.domain.document.bulk;
+
+import java.util.List;
+
+import goorm.eagle7.stelligence.domain.document.content.dto.SectionRequest;
+
+/**
+ * 검증과 파싱이 끝나 저장할 준비가 된 문서입니다.
+ * @param title 문서 제목
+ * @param parentDocumentId 이미 저장된 상위 문서의 ID, 없다면 null
+ * @param parentIndex 같은 배치에서 먼저 저장될 상위 문서의 위치, 없다면 -1
+ * @param sections 파싱된 섹션들
+ */
+record BulkDocument(
+	String title,
+	Long parentDocumentId,
+	int parentIndex,
+	List<SectionRequest> sections
+) {
+
+	boolean hasParentInBatch() {
+		return parentIndex >= 0;
+	}
+}
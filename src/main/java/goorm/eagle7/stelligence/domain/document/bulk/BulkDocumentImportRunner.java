@@ -0,0 +1,62 @@
+package goorm.eagle7.stelligence.domain.document.bulk;
+
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.zip.GZIPInputStream;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import goorm.eagle7.stelligence.domain.document.bulk.dto.BulkImportResult;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * document.import.path가 지정된 경우, 애플리케이션이 시작될 때 해당 파일의 문서들을 가져옵니다.
+ *
+ * <p>파일은 NDJSON 형식이며, 확장자가 .gz라면 gzip으로 압축된 것으로 간주합니다.
+ * <pre>
+ * java -jar stelligence.jar --document.import.path=/data/documents.ndjson.gz --document.import.author-id=1
+ * </pre>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "document.import.path")
+class BulkDocumentImportRunner implements ApplicationRunner {
+
+	private final BulkDocumentImporter bulkDocumentImporter;
+
+	@Value("${document.import.path}")
+	private Path path;
+
+	@Value("${document.import.author-id:#{null}}")
+	private Long authorId;
+
+	@Value("${document.import.parallelism:#{T(java.lang.Runtime).getRuntime().availableProcessors()}}")
+	private int parallelism;
+
+	@Override
+	public void run(ApplicationArguments args) throws IOException {
+		log.info("문서 가져오기 시작 : {}, 작성자 ID : {}, 병렬 처리 : {}", path, authorId, parallelism);
+
+		try (InputStream inputStream = open(path)) {
+			BulkImportResult result = bulkDocumentImporter.importDocuments(inputStream, authorId, parallelism);
+			result.getErrors().forEach(error -> log.warn("가져오지 못한 문서 - {}", error));
+		}
+	}
+
+	private InputStream open(Path path) throws IOException {
+		InputStream inputStream = new BufferedInputStream(Files.newInputStream(path));
+		if (path.getFileName().toString().endsWith(".gz")) {
+			return new GZIPInputStream(inputStream);
+		}
+		return inputStream;
+	}
+}
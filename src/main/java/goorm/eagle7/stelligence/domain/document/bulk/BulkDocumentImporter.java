@@ -0,0 +1,305 @@
+package goorm.eagle7.stelligence.domain.document.bulk;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Collectors;
+
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Service;
+import org.springframework.util.StringUtils;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+
+import goorm.eagle7.stelligence.api.exception.BaseException;
+import goorm.eagle7.stelligence.domain.contribute.ContributeRepository;
+import goorm.eagle7.stelligence.domain.document.bulk.dto.BulkDocumentLine;
+import goorm.eagle7.stelligence.domain.document.bulk.dto.BulkImportResult;
+import goorm.eagle7.stelligence.domain.document.content.DocumentContentRepository;
+import goorm.eagle7.stelligence.domain.document.content.dto.DocumentTitle;
+import goorm.eagle7.stelligence.domain.document.content.dto.SectionRequest;
+import goorm.eagle7.stelligence.domain.document.content.parser.DocumentParser;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * NDJSON 형식의 문서 파일을 읽어 대량으로 저장합니다.
+ *
+ * <p>파일은 BATCH_SIZE 줄씩 읽어 처리하므로, 파일의 크기와 관계없이 한 배치만큼의 문서만 메모리에 올라갑니다.
+ * 배치마다 다음 순서로 처리합니다.
+ * <ol>
+ *     <li>각 줄의 JSON 변환과 본문 파싱을 여러 스레드에서 병렬로 수행합니다.</li>
+ *     <li>배치의 제목과 상위 문서 제목을 한 번의 쿼리로 조회하여 중복 여부와 상위 문서를 확인합니다.</li>
+ *     <li>BulkDocumentWriter를 통해 배치 전체를 하나의 트랜잭션으로 저장합니다.</li>
+ * </ol>
+ *
+ * <p>이전 배치는 이미 커밋되어 있으므로, 파일에서 먼저 등장한 문서도 DB 조회만으로 중복과 상위 문서를 확인할 수 있습니다.
+ * 상위 문서는 하위 문서보다 먼저 등장해야 합니다.
+ *
+ * <p>유효하지 않은 줄은 건너뛰며, 배치의 저장이 실패하면 해당 배치의 문서들은 모두 실패로 기록됩니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class BulkDocumentImporter {
+
+	static final int BATCH_SIZE = 500;
+
+	private static final ObjectReader LINE_READER = new ObjectMapper()
+		.configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false)
+		.readerFor(BulkDocumentLine.class);
+
+	private final BulkDocumentWriter bulkDocumentWriter;
+	private final DocumentParser documentParser;
+	private final DocumentContentRepository documentContentRepository;
+	private final ContributeRepository contributeRepository;
+	private final CacheManager cacheManager;
+
+	/**
+	 * 문서들을 가져옵니다.
+	 * @param inputStream NDJSON 형식의 입력, 호출한 쪽에서 닫아야 합니다.
+	 * @param authorId 가져온 문서의 작성자 ID, 없다면 null
+	 * @param parallelism 파싱에 사용할 스레드 수
+	 * @return 가져오기 결과
+	 */
+	public BulkImportResult importDocuments(InputStream inputStream, Long authorId, int parallelism) {
+		if (parallelism < 1) {
+			throw new IllegalArgumentException("parallelism must be positive : " + parallelism);
+		}
+
+		long startedAt = System.currentTimeMillis();
+		ImportProgress progress = new ImportProgress();
+
+		ExecutorService executor = Executors.newFixedThreadPool(parallelism);
+		try (BufferedReader reader = new BufferedReader(new InputStreamReader(inputStream, StandardCharsets.UTF_8))) {
+			List<RawLine> batch;
+			long lineNumber = 0;
+			do {
+				batch = new ArrayList<>(BATCH_SIZE);
+				String line;
+				while (batch.size() < BATCH_SIZE && (line = reader.readLine()) != null) {
+					lineNumber++;
+					if (StringUtils.hasText(line)) {
+						batch.add(new RawLine(lineNumber, line));
+					}
+				}
+
+				if (!batch.isEmpty()) {
+					importBatch(batch, authorId, executor, progress);
+					progress.measureHeap();
+					log.info("문서 가져오기 진행 중 : {}줄 처리, {}개 저장", progress.readDocuments, progress.importedDocuments);
+				}
+			} while (batch.size() == BATCH_SIZE);
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		} finally {
+			executor.shutdownNow();
+		}
+
+		//문서 그래프가 변경되었으므로 캐시를 비웁니다.
+		Cache rootGraph = cacheManager.getCache("RootGraph");
+		if (rootGraph != null) {
+			rootGraph.clear();
+		}
+
+		BulkImportResult result = BulkImportResult.of(progress.readDocuments, progress.importedDocuments,
+			progress.importedSections, progress.failedDocuments, progress.errors,
+			System.currentTimeMillis() - startedAt, progress.peakUsedHeapBytes);
+		log.info("문서 가져오기 완료 : {}", result);
+		return result;
+	}
+
+	private void importBatch(List<RawLine> batch, Long authorId, ExecutorService executor,
+		ImportProgress progress) {
+		progress.readDocuments += batch.size();
+
+		List<ParsedLine> parsedLines = parseInParallel(batch, executor);
+
+		List<ParsedLine> validLines = new ArrayList<>(parsedLines.size());
+		for (ParsedLine parsedLine : parsedLines) {
+			if (parsedLine.error() != null) {
+				progress.fail(parsedLine.lineNumber(), parsedLine.error());
+			} else {
+				validLines.add(parsedLine);
+			}
+		}
+
+		List<ParsedLine> acceptedLines = new ArrayList<>(validLines.size());
+		List<BulkDocument> documents = resolve(validLines, acceptedLines, progress);
+		if (documents.isEmpty()) {
+			return;
+		}
+
+		try {
+			bulkDocumentWriter.write(documents, authorId);
+		} catch (RuntimeException e) {
+			log.warn("문서 배치 저장 실패 : {}번째 줄부터 {}개", acceptedLines.get(0).lineNumber(), documents.size(), e);
+			acceptedLines.forEach(line -> progress.fail(line.lineNumber(), "저장에 실패했습니다. " + e.getMessage()));
+			return;
+		}
+
+		progress.importedDocuments += documents.size();
+		progress.importedSections += documents.stream().mapToInt(document -> document.sections().size()).sum();
+	}
+
+	private List<ParsedLine> parseInParallel(List<RawLine> batch, ExecutorService executor) {
+		List<Callable<ParsedLine>> tasks = batch.stream()
+			.<Callable<ParsedLine>>map(rawLine -> () -> parse(rawLine))
+			.toList();
+
+		try {
+			List<ParsedLine> parsedLines = new ArrayList<>(batch.size());
+			for (Future<ParsedLine> future : executor.invokeAll(tasks)) {
+				parsedLines.add(future.get());
+			}
+			return parsedLines;
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new IllegalStateException("문서 가져오기가 중단되었습니다.", e);
+		} catch (ExecutionException e) {
+			throw new IllegalStateException("문서 파싱 중 오류가 발생했습니다.", e.getCause());
+		}
+	}
+
+	/**
+	 * 한 줄을 문서로 변환합니다. 실패한 경우 예외를 던지지 않고 사유를 담아 반환합니다.
+	 */
+	private ParsedLine parse(RawLine rawLine) {
+		try {
+			BulkDocumentLine line = LINE_READER.readValue(rawLine.line());
+
+			if (!StringUtils.hasText(line.getTitle())) {
+				return ParsedLine.failed(rawLine.lineNumber(), "문서의 제목이 비어있습니다.");
+			}
+			if (!StringUtils.hasText(line.getContent())) {
+				return ParsedLine.failed(rawLine.lineNumber(), "문서의 내용이 비어있습니다.");
+			}
+
+			List<SectionRequest> sections = documentParser.parse(line.getContent());
+			return new ParsedLine(rawLine.lineNumber(), line.getTitle(), line.getParentTitle(), sections, null);
+		} catch (JsonProcessingException e) {
+			return ParsedLine.failed(rawLine.lineNumber(), "올바른 JSON 형식이 아닙니다.");
+		} catch (BaseException e) {
+			return ParsedLine.failed(rawLine.lineNumber(), e.getMessage());
+		}
+	}
+
+	/**
+	 * 제목의 중복 여부를 확인하고 상위 문서를 찾아 저장할 문서 목록을 만듭니다.
+	 * @param lines 파싱된 줄들
+	 * @param acceptedLines 저장할 문서에 해당하는 줄들이 순서대로 담깁니다.
+	 * @return 저장할 문서들
+	 */
+	private List<BulkDocument> resolve(List<ParsedLine> lines, List<ParsedLine> acceptedLines,
+		ImportProgress progress) {
+		if (lines.isEmpty()) {
+			return new ArrayList<>();
+		}
+
+		Set<String> titles = lines.stream().map(ParsedLine::title).collect(Collectors.toSet());
+		Set<String> lookupTitles = new HashSet<>(titles);
+		lines.stream()
+			.map(ParsedLine::parentTitle)
+			.filter(StringUtils::hasText)
+			.forEach(lookupTitles::add);
+
+		Map<String, Long> existingDocumentIds = documentContentRepository.findDocumentTitlesByTitleIn(lookupTitles)
+			.stream()
+			.collect(Collectors.toMap(DocumentTitle::title, DocumentTitle::documentId, (a, b) -> a));
+		Set<String> requestedTitles = new HashSet<>(contributeRepository.findDuplicateRequestedDocumentTitles(titles));
+
+		List<BulkDocument> documents = new ArrayList<>(lines.size());
+		Map<String, Integer> indexInBatch = new HashMap<>();
+		for (ParsedLine line : lines) {
+			if (existingDocumentIds.containsKey(line.title())) {
+				progress.fail(line.lineNumber(), "이미 존재하는 제목입니다.");
+				continue;
+			}
+			if (requestedTitles.contains(line.title())) {
+				progress.fail(line.lineNumber(), "이미 해당 제목으로 변경중인 수정요청이 존재합니다.");
+				continue;
+			}
+			if (indexInBatch.containsKey(line.title())) {
+				progress.fail(line.lineNumber(), "같은 제목의 문서가 이미 포함되어 있습니다.");
+				continue;
+			}
+
+			Long parentDocumentId = null;
+			int parentIndex = -1;
+			if (StringUtils.hasText(line.parentTitle())) {
+				if (indexInBatch.containsKey(line.parentTitle())) {
+					parentIndex = indexInBatch.get(line.parentTitle());
+				} else if (existingDocumentIds.containsKey(line.parentTitle())) {
+					parentDocumentId = existingDocumentIds.get(line.parentTitle());
+				} else {
+					progress.fail(line.lineNumber(), "상위 문서가 존재하지 않습니다.");
+					continue;
+				}
+			}
+
+			indexInBatch.put(line.title(), documents.size());
+			documents.add(new BulkDocument(line.title(), parentDocumentId, parentIndex, line.sections()));
+			acceptedLines.add(line);
+		}
+		return documents;
+	}
+
+	private record RawLine(long lineNumber, String line) {
+	}
+
+	private record ParsedLine(
+		long lineNumber,
+		String title,
+		String parentTitle,
+		List<SectionRequest> sections,
+		String error
+	) {
+
+		static ParsedLine failed(long lineNumber, String error) {
+			return new ParsedLine(lineNumber, null, null, null, error);
+		}
+	}
+
+	/**
+	 * 가져오기의 진행 상황입니다. 가져오기를 호출한 스레드에서만 갱신합니다.
+	 */
+	private static class ImportProgress {
+
+		private long readDocuments;
+		private long importedDocuments;
+		private long importedSections;
+		private long failedDocuments;
+		private final List<String> errors = new ArrayList<>();
+		private long peakUsedHeapBytes;
+
+		void fail(long lineNumber, String reason) {
+			failedDocuments++;
+			if (errors.size() < BulkImportResult.MAX_ERRORS) {
+				errors.add(lineNumber + "번째 줄 : " + reason);
+			}
+		}
+
+		void measureHeap() {
+			Runtime runtime = Runtime.getRuntime();
+			peakUsedHeapBytes = Math.max(peakUsedHeapBytes, runtime.totalMemory() - runtime.freeMemory());
+		}
+	}
+}
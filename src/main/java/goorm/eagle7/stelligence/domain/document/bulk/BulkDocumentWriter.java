@@ -0,0 +1,334 @@
+package goorm.eagle7.stelligence.domain.document.bulk;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import goorm.eagle7.stelligence.common.compression.TextCompressor;
+import goorm.eagle7.stelligence.common.sequence.SectionIdGenerator;
+import goorm.eagle7.stelligence.domain.document.content.dto.SectionRequest;
+import goorm.eagle7.stelligence.domain.document.content.dto.SectionResponse;
+import goorm.eagle7.stelligence.domain.document.content.parser.SectionResponseConcatenator;
+import goorm.eagle7.stelligence.domain.document.content.search.ContentSearchIndex;
+import goorm.eagle7.stelligence.domain.document.graph.DocumentNodeBulkWriter;
+import goorm.eagle7.stelligence.domain.section.SectionBodyInserter;
+import goorm.eagle7.stelligence.domain.section.model.SectionBody;
+import goorm.eagle7.stelligence.domain.section.model.SectionId;
+import goorm.eagle7.stelligence.domain.section.model.SectionKeysConverter;
+import goorm.eagle7.stelligence.domain.section.model.SectionOrder;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 검증이 끝난 문서들을 JDBC batch insert로 한 번에 저장합니다.
+ *
+ * <p>DocumentContentService.createDocument와 같은 행(document, section_body, section, latest_section,
+ * revision_manifest, rendered_revision)을 만들지만, 엔티티를 영속성 컨텍스트에 올리지 않고 테이블마다 하나의 batch로 저장합니다.
+ * 섹션 ID는 배치 전체에 필요한 만큼 한 번에 할당받습니다.
+ *
+ * <p>문서 노드는 RDB에 저장한 뒤 UNWIND로 생성합니다. Neo4jClient는 RDB의 트랜잭션에 참여하지 않으므로 노드는 즉시 커밋됩니다.
+ * 노드 생성에 실패하면 예외로 인해 RDB의 변경사항이 롤백되며, RDB의 트랜잭션이 롤백되면 이미 생성된 노드를 삭제합니다.
+ * 삭제에도 실패한 경우 남은 노드의 문서 ID를 로그로 남깁니다.
+ */
+@Slf4j
+@Repository
+public class BulkDocumentWriter {
+
+	private static final String INSERT_DOCUMENT = "INSERT INTO document"
+		+ " (title, latest_revision, author_id, parent_document_id, created_at, updated_at)"
+		+ " VALUES (?, 1, ?, ?, ?, ?)";
+
+	private static final String UPDATE_PARENT_DOCUMENT = "UPDATE document SET parent_document_id = ?"
+		+ " WHERE document_id = ?";
+
+	private static final String INSERT_SECTION = "INSERT INTO section"
+		+ " (section_id, revision, document_id, heading, title, content_hash, orders, created_at, updated_at)"
+		+ " VALUES (?, 1, ?, ?, ?, ?, ?, ?, ?)";
+
+	private static final String INSERT_LATEST_SECTION = "INSERT INTO latest_section (section_id, document_id, revision)"
+		+ " VALUES (?, ?, 1)";
+
+	private static final String INSERT_REVISION_MANIFEST = "INSERT INTO revision_manifest"
+		+ " (document_id, revision, section_keys) VALUES (?, 1, ?)";
+
+	private static final String INSERT_RENDERED_REVISION = "INSERT INTO rendered_revision"
+		+ " (document_id, revision, content) VALUES (?, 1, ?)";
+
+	private static final String INCREMENT_CONTRIBUTES = "UPDATE member SET contributes = contributes + ?"
+		+ " WHERE member_id = ?";
+
+	private static final SectionKeysConverter SECTION_KEYS_CONVERTER = new SectionKeysConverter();
+
+	private final JdbcTemplate jdbcTemplate;
+	private final SectionIdGenerator sectionIdGenerator;
+	private final DocumentNodeBulkWriter documentNodeBulkWriter;
+	private final ContentSearchIndex contentSearchIndex;
+	private final SectionBodyInserter sectionBodyInserter;
+
+	public BulkDocumentWriter(JdbcTemplate jdbcTemplate, SectionIdGenerator sectionIdGenerator,
+		DocumentNodeBulkWriter documentNodeBulkWriter, ContentSearchIndex contentSearchIndex) {
+		this.jdbcTemplate = jdbcTemplate;
+		this.sectionIdGenerator = sectionIdGenerator;
+		this.documentNodeBulkWriter = documentNodeBulkWriter;
+		this.contentSearchIndex = contentSearchIndex;
+		this.sectionBodyInserter = new SectionBodyInserter(jdbcTemplate);
+	}
+
+	/**
+	 * 문서들을 최초 버전으로 저장합니다.
+	 * @param documents 저장할 문서들, 상위 문서가 같은 배치에 있다면 상위 문서가 먼저 위치해야 합니다.
+	 * @param authorId 문서의 작성자 ID, 없다면 null
+	 * @return 저장된 문서의 ID, documents와 같은 순서입니다.
+	 */
+	@Transactional
+	public List<Long> write(List<BulkDocument> documents, Long authorId) {
+		if (documents.isEmpty()) {
+			return Collections.emptyList();
+		}
+
+		Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+
+		List<Long> documentIds = insertDocuments(documents, authorId, now);
+		updateParentsInBatch(documents, documentIds);
+
+		List<BulkSection> sections = assignSectionIds(documents, documentIds);
+		insertSectionBodies(sections);
+		insertSections(sections, now);
+		insertRevisionManifestsAndRenders(documents, documentIds, sections);
+
+		if (authorId != null) {
+			jdbcTemplate.update(INCREMENT_CONTRIBUTES, documents.size(), authorId);
+		}
+
+		createDocumentNodes(documents, documentIds);
+
+		return documentIds;
+	}
+
+	/**
+	 * 문서를 저장하고 생성된 ID를 순서대로 반환합니다.
+	 * 같은 배치의 상위 문서는 아직 ID가 없으므로 parent_document_id를 비워두고 저장합니다.
+	 */
+	private List<Long> insertDocuments(List<BulkDocument> documents, Long authorId, Timestamp now) {
+		KeyHolder keyHolder = new GeneratedKeyHolder();
+		jdbcTemplate.batchUpdate(
+			connection -> connection.prepareStatement(INSERT_DOCUMENT, Statement.RETURN_GENERATED_KEYS),
+			new BatchPreparedStatementSetter() {
+				@Override
+				public void setValues(PreparedStatement ps, int i) throws SQLException {
+					BulkDocument document = documents.get(i);
+					ps.setString(1, document.title());
+					setNullableLong(ps, 2, authorId);
+					setNullableLong(ps, 3, document.parentDocumentId());
+					ps.setTimestamp(4, now);
+					ps.setTimestamp(5, now);
+				}
+
+				@Override
+				public int getBatchSize() {
+					return documents.size();
+				}
+			},
+			keyHolder);
+
+		List<Map<String, Object>> keys = keyHolder.getKeyList();
+		if (keys.size() != documents.size()) {
+			throw new IllegalStateException(
+				"생성된 문서 ID의 수가 저장한 문서의 수와 다릅니다. 문서 : " + documents.size() + ", ID : " + keys.size());
+		}
+
+		List<Long> documentIds = new ArrayList<>(keys.size());
+		for (Map<String, Object> key : keys) {
+			documentIds.add(((Number)key.values().iterator().next()).longValue());
+		}
+		return documentIds;
+	}
+
+	private void updateParentsInBatch(List<BulkDocument> documents, List<Long> documentIds) {
+		List<Object[]> updates = new ArrayList<>();
+		for (int i = 0; i < documents.size(); i++) {
+			if (documents.get(i).hasParentInBatch()) {
+				updates.add(new Object[] {documentIds.get(documents.get(i).parentIndex()), documentIds.get(i)});
+			}
+		}
+		if (!updates.isEmpty()) {
+			jdbcTemplate.batchUpdate(UPDATE_PARENT_DOCUMENT, updates);
+		}
+	}
+
+	/**
+	 * 배치의 모든 섹션에 필요한 ID를 한 번에 할당받아 순서대로 부여합니다.
+	 */
+	private List<BulkSection> assignSectionIds(List<BulkDocument> documents, List<Long> documentIds) {
+		int sectionCount = documents.stream().mapToInt(document -> document.sections().size()).sum();
+		if (sectionCount == 0) {
+			return Collections.emptyList();
+		}
+
+		long nextSectionId = sectionIdGenerator.getAndIncrementSectionIds(sectionCount);
+
+		List<BulkSection> sections = new ArrayList<>(sectionCount);
+		for (int i = 0; i < documents.size(); i++) {
+			List<SectionRequest> requests = documents.get(i).sections();
+			for (int order = 0; order < requests.size(); order++) {
+				sections.add(new BulkSection(nextSectionId++, documentIds.get(i), i, SectionOrder.of(order + 1),
+					requests.get(order)));
+			}
+		}
+		return sections;
+	}
+
+	/**
+	 * 섹션들의 본문을 저장합니다. 같은 내용의 본문은 한 번만 저장되며, 이미 저장된 본문은 무시됩니다.
+	 */
+	private void insertSectionBodies(List<BulkSection> sections) {
+		Map<String, String> contentsByHash = new HashMap<>();
+		for (BulkSection section : sections) {
+			contentsByHash.putIfAbsent(section.contentHash(), section.request().getContent());
+		}
+		sectionBodyInserter.insertAll(contentsByHash);
+	}
+
+	private void insertSections(List<BulkSection> sections, Timestamp now) {
+		if (sections.isEmpty()) {
+			return;
+		}
+
+		jdbcTemplate.batchUpdate(INSERT_SECTION, sections, sections.size(), (ps, section) -> {
+			ps.setLong(1, section.sectionId());
+			ps.setLong(2, section.documentId());
+			ps.setString(3, section.request().getHeading().name());
+			ps.setString(4, section.request().getTitle());
+			ps.setString(5, section.contentHash());
+			ps.setLong(6, section.order());
+			ps.setTimestamp(7, now);
+			ps.setTimestamp(8, now);
+		});
+
+		jdbcTemplate.batchUpdate(INSERT_LATEST_SECTION, sections, sections.size(), (ps, section) -> {
+			ps.setLong(1, section.sectionId());
+			ps.setLong(2, section.documentId());
+		});
+	}
+
+	/**
+	 * 최초 버전의 매니페스트와 렌더링된 내용을 저장하고, 커밋되면 본문 검색 색인에 반영합니다.
+	 */
+	private void insertRevisionManifestsAndRenders(List<BulkDocument> documents, List<Long> documentIds,
+		List<BulkSection> sections) {
+		List<List<BulkSection>> sectionsByDocument = new ArrayList<>(documents.size());
+		for (int i = 0; i < documents.size(); i++) {
+			sectionsByDocument.add(new ArrayList<>());
+		}
+		sections.forEach(section -> sectionsByDocument.get(section.documentIndex()).add(section));
+
+		List<Object[]> manifests = new ArrayList<>(documents.size());
+		List<Object[]> renders = new ArrayList<>(documents.size());
+		for (int i = 0; i < documents.size(); i++) {
+			Long documentId = documentIds.get(i);
+			List<BulkSection> documentSections = sectionsByDocument.get(i);
+
+			List<SectionId> sectionKeys = documentSections.stream()
+				.map(section -> SectionId.of(section.sectionId(), 1L))
+				.toList();
+			manifests.add(new Object[] {documentId, SECTION_KEYS_CONVERTER.convertToDatabaseColumn(sectionKeys)});
+
+			String rendered = SectionResponseConcatenator.concat(documentSections.stream()
+				.map(section -> SectionResponse.of(section.sectionId(), 1L, section.request().getHeading(),
+					section.request().getTitle(), section.request().getContent()))
+				.toList());
+			renders.add(new Object[] {documentId, TextCompressor.compress(rendered)});
+
+			contentSearchIndex.indexOnCommit(documentId, documentSections.stream()
+				.map(section -> section.request().getContent())
+				.toList());
+		}
+
+		jdbcTemplate.batchUpdate(INSERT_REVISION_MANIFEST, manifests);
+		jdbcTemplate.batchUpdate(INSERT_RENDERED_REVISION, renders);
+	}
+
+	private void createDocumentNodes(List<BulkDocument> documents, List<Long> documentIds) {
+		List<Map<String, Object>> nodes = new ArrayList<>(documents.size());
+		List<Map<String, Object>> links = new ArrayList<>();
+		for (int i = 0; i < documents.size(); i++) {
+			BulkDocument document = documents.get(i);
+			nodes.add(Map.of("documentId", documentIds.get(i), "title", document.title()));
+
+			Long parentDocumentId = document.hasParentInBatch()
+				? documentIds.get(document.parentIndex())
+				: document.parentDocumentId();
+			if (parentDocumentId != null) {
+				links.add(Map.of("parentDocumentId", parentDocumentId, "childDocumentId", documentIds.get(i)));
+			}
+		}
+
+		//노드 생성 도중 실패하더라도 이미 생성된 노드가 정리되도록 생성하기 전에 등록합니다.
+		deleteNodesOnRollback(documentIds);
+		documentNodeBulkWriter.createNodesWithLinks(nodes, links);
+	}
+
+	/**
+	 * RDB의 트랜잭션이 롤백되면 문서 노드를 삭제합니다.
+	 */
+	private void deleteNodesOnRollback(List<Long> documentIds) {
+		if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+			return;
+		}
+
+		TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+			@Override
+			public void afterCompletion(int status) {
+				if (status != STATUS_ROLLED_BACK) {
+					return;
+				}
+				try {
+					documentNodeBulkWriter.deleteNodes(documentIds);
+					log.debug("document nodes deleted after rollback. documents : {}", documentIds.size());
+				} catch (RuntimeException e) {
+					log.error("롤백된 문서의 노드를 삭제하지 못했습니다. documentIds : {}", documentIds, e);
+				}
+			}
+		});
+	}
+
+	private static void setNullableLong(PreparedStatement ps, int index, Long value) throws SQLException {
+		if (value == null) {
+			ps.setNull(index, Types.BIGINT);
+		} else {
+			ps.setLong(index, value);
+		}
+	}
+
+	/**
+	 * ID가 부여된 섹션입니다.
+	 */
+	private record BulkSection(
+		long sectionId,
+		long documentId,
+		int documentIndex,
+		long order,
+		SectionRequest request
+	) {
+
+		String contentHash() {
+			return SectionBody.hash(request.getContent());
+		}
+	}
+}
@@ -0,0 +1,25 @@
+package goorm.eagle7.stelligence.domain.document.bulk.dto;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 대량으로 가져올 문서 하나입니다. NDJSON 파일의 한 줄에 해당합니다.
+ *
+ * <pre>
+ * {"title": "마리모", "parentTitle": "조류", "content": "&lt;h1&gt;마리모&lt;/h1&gt;&lt;p&gt;마리모는 조류의 일종이다.&lt;/p&gt;"}
+ * </pre>
+ *
+ * 상위 문서는 제목으로 지정하며, 이미 존재하는 문서이거나 파일에서 먼저 등장한 문서여야 합니다.
+ */
+@Getter
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+@AllArgsConstructor(staticName = "of")
+public class BulkDocumentLine {
+
+	private String title;
+	private String parentTitle;
+	private String content;
+}
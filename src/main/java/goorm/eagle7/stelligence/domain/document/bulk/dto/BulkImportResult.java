@@ -0,0 +1,54 @@
+package goorm.eagle7.stelligence.domain.document.bulk.dto;
+
+import java.util.List;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+
+/**
+ * 대량 가져오기의 결과입니다.
+ */
+@Getter
+@ToString
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public class BulkImportResult {
+
+	public static final int MAX_ERRORS = 100;
+
+	/**
+	 * 읽은 문서(줄)의 수입니다. 빈 줄은 포함되지 않습니다.
+	 */
+	private long readDocuments;
+	private long importedDocuments;
+	private long importedSections;
+	private long failedDocuments;
+
+	/**
+	 * 실패한 문서의 줄 번호와 사유입니다. 최대 MAX_ERRORS개까지만 기록됩니다.
+	 */
+	private List<String> errors;
+
+	private long elapsedMillis;
+	private double documentsPerSecond;
+
+	/**
+	 * 가져오는 동안 배치마다 측정한 힙 사용량 중 최댓값입니다.
+	 */
+	private long peakUsedHeapBytes;
+
+	public static BulkImportResult of(long readDocuments, long importedDocuments, long importedSections,
+		long failedDocuments, List<String> errors, long elapsedMillis, long peakUsedHeapBytes) {
+		BulkImportResult result = new BulkImportResult();
+		result.readDocuments = readDocuments;
+		result.importedDocuments = importedDocuments;
+		result.importedSections = importedSections;
+		result.failedDocuments = failedDocuments;
+		result.errors = errors;
+		result.elapsedMillis = elapsedMillis;
+		result.documentsPerSecond = elapsedMillis == 0 ? importedDocuments : importedDocuments * 1000.0 / elapsedMillis;
+		result.peakUsedHeapBytes = peakUsedHeapBytes;
+		return result;
+	}
+}
@@ -0,0 +1,176 @@
+package goorm.eagle7.stelligence.domain.document.content;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import goorm.eagle7.stelligence.api.ResponseTemplate;
+import goorm.eagle7.stelligence.common.cache.CachedBodyEnvelope;
+import goorm.eagle7.stelligence.common.cache.SingleFlight;
+import goorm.eagle7.stelligence.domain.document.content.dto.DocumentResponse;
+import goorm.eagle7.stelligence.domain.document.status.DocumentStateService;
+import goorm.eagle7.stelligence.domain.document.status.model.DocumentState;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 최신 버전 문서의 응답을 이미 직렬화된 JSON 바이트로 캐시합니다.
+ * document.cache.format이 bytes인 경우에만 사용됩니다.
+ *
+ * <p>DocumentResponseCache는 캐시된 DocumentResponse를 꺼낼 때마다 객체로 역직렬화하고, 이를 다시 응답 JSON으로 직렬화합니다.
+ * 이 클래스는 응답 본문을 CachedBodyEnvelope 형식으로 documentBody 캐시에 저장하고,
+ * 캐시 적중 시에는 객체를 만들지 않고 저장된 바이트를 그대로 응답에 씁니다.
+ *
+ * <p>문서의 상태(투표중, 토론중 등)는 캐시가 삭제되지 않고도 달라지므로 캐시에 포함하지 않습니다.
+ * 캐시에는 문서 상태를 제외하고 닫는 괄호를 뺀 DocumentResponse의 JSON이 저장되며,
+ * 응답을 쓸 때 document_state에서 조회한 문서 상태를 이어 붙여 JSON을 완성합니다.
+ * ResponseTemplate의 results 앞부분과 닫는 괄호는 직렬화 결과를 잘라내지 않고 직접 만듭니다.
+ * 문서 상태는 @JsonPropertyOrder에 의해 DocumentResponse의 마지막 필드이므로,
+ * 완성된 JSON은 DocumentResponse를 직렬화한 결과와 같습니다.
+ *
+ * <p>캐시를 놓친 경우 DocumentResponseCache와 같이 한 서버 안에서는 문서 ID마다 하나의 요청만 문서를 만듭니다.
+ * 문서를 만드는 동안 Merge가 커밋되었다면 저장한 항목을 다시 삭제하는 것도 DocumentResponseCache와 같습니다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "document.cache.format", havingValue = "bytes")
+public class DocumentBodyCache {
+
+	public static final String CACHE_NAME = "documentBody";
+
+	private final DocumentReadService documentReadService;
+	private final DocumentStateService documentStateService;
+	private final CacheManager cacheManager;
+	private final ObjectMapper bodyMapper;
+	private final SingleFlight<Long, byte[]> singleFlight;
+	private final int compressionThreshold;
+
+	/**
+	 * ResponseTemplate.ok(...)의 results 값 이전까지의 JSON입니다.
+	 */
+	private final byte[] responsePrefix;
+
+	public DocumentBodyCache(
+		DocumentReadService documentReadService,
+		DocumentStateService documentStateService,
+		CacheManager cacheManager,
+		ObjectMapper objectMapper,
+		@Value("${document.cache.bytes.compression-threshold:1024}") int compressionThreshold,
+		@Value("${document.cache.wait-timeout-ms:5000}") long waitTimeoutMillis
+	) {
+		this.documentReadService = documentReadService;
+		this.documentStateService = documentStateService;
+		this.cacheManager = cacheManager;
+		this.bodyMapper = objectMapper.copy().addMixIn(DocumentResponse.class, WithoutStatus.class);
+		this.compressionThreshold = compressionThreshold;
+		this.singleFlight = new SingleFlight<>(Duration.ofMillis(waitTimeoutMillis));
+		this.responsePrefix = responsePrefix(objectMapper);
+	}
+
+	/**
+	 * 최신 버전 문서의 조회 응답(ResponseTemplate)을 출력 스트림에 씁니다.
+	 * @param documentId 조회할 Document의 ID
+	 * @param out 응답 본문을 쓸 출력 스트림
+	 */
+	public void write(Long documentId, OutputStream out) throws IOException {
+		byte[] envelope = getCached(documentId);
+		if (envelope == null) {
+			envelope = singleFlight.execute(documentId, () -> load(documentId));
+		}
+
+		DocumentState state = documentStateService.getState(documentId);
+
+		out.write(responsePrefix);
+		CachedBodyEnvelope.writeTo(envelope, out);
+		out.write(statusSuffix(state, LocalDateTime.now()));
+	}
+
+	/**
+	 * 캐시를 놓친 요청 중 하나의 요청만 수행합니다.
+	 */
+	private byte[] load(Long documentId) {
+		//앞선 요청이 이미 캐시를 채웠을 수 있습니다.
+		byte[] cached = getCached(documentId);
+		if (cached != null) {
+			return cached;
+		}
+
+		log.debug("document body cache miss, rebuilding. documentId : {}", documentId);
+		DocumentResponse documentResponse = documentReadService.getLatestDocument(documentId);
+
+		byte[] envelope = CachedBodyEnvelope.encode(openBody(documentResponse), compressionThreshold);
+
+		Cache cache = cacheManager.getCache(CACHE_NAME);
+		if (cache != null) {
+			cache.put(documentId, envelope);
+
+			if (documentReadService.isOutdated(documentId, documentResponse.getLatestRevision())) {
+				cache.evict(documentId);
+				log.debug("document body cache outdated while rebuilding, evicted. documentId : {}", documentId);
+			}
+		}
+		return envelope;
+	}
+
+	/**
+	 * 문서 상태를 제외한 DocumentResponse의 JSON을 닫는 괄호 없이 만듭니다.
+	 */
+	private byte[] openBody(DocumentResponse documentResponse) {
+		try {
+			byte[] json = bodyMapper.writeValueAsBytes(documentResponse);
+			return Arrays.copyOf(json, json.length - 1);
+		} catch (JsonProcessingException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+
+	/**
+	 * 문서 상태 필드와 DocumentResponse, ResponseTemplate의 닫는 괄호를 만듭니다.
+	 * 문서 상태의 판단 기준은 DocumentResponse와 같습니다.
+	 */
+	static byte[] statusSuffix(DocumentState state, LocalDateTime now) {
+		return (",\"documentStatus\":\"" + state.getStatus(now).name() + "\""
+			+ ",\"contributeId\":" + state.getActiveContributeId(now)
+			+ ",\"debateId\":" + state.getActiveDebateId(now)
+			+ "}}").getBytes(StandardCharsets.UTF_8);
+	}
+
+	/**
+	 * ResponseTemplate의 @JsonPropertyOrder와 같은 순서로 results 이전의 필드를 만듭니다.
+	 */
+	private static byte[] responsePrefix(ObjectMapper objectMapper) {
+		ResponseTemplate<Object> template = ResponseTemplate.ok();
+		try {
+			return ("{\"success\":" + template.isSuccess()
+				+ ",\"message\":" + objectMapper.writeValueAsString(template.getMessage())
+				+ ",\"results\":").getBytes(StandardCharsets.UTF_8);
+		} catch (JsonProcessingException e) {
+			throw new IllegalStateException(e);
+		}
+	}
+
+	private byte[] getCached(Long documentId) {
+		Cache cache = cacheManager.getCache(CACHE_NAME);
+		return cache == null ? null : cache.get(documentId, byte[].class);
+	}
+
+	/**
+	 * 캐시에 저장할 JSON에서 문서 상태 필드를 제외합니다.
+	 */
+	@JsonIgnoreProperties({"documentStatus", "contributeId", "debateId"})
+	private abstract static class WithoutStatus {
+	}
+}
@@ -0,0 +1,53 @@
+package goorm.eagle7.stelligence.domain.document.content;
+
+import java.util.Collection;
+import java.util.List;
+
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 최신 버전 문서 조회 응답의 캐시를 삭제합니다.
+ *
+ * <p>문서 조회 응답은 설정에 따라 document 캐시(DocumentResponseCache) 또는
+ * 직렬화된 응답 본문의 documentBody 캐시(DocumentBodyCache)에 저장되므로 두 캐시를 함께 삭제합니다.
+ * CacheManager는 트랜잭션을 인식하므로, 트랜잭션 안에서 호출하면 캐시는 커밋된 이후에 삭제됩니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class DocumentCacheEvictor {
+
+	private static final List<String> CACHE_NAMES = List.of(DocumentResponseCache.CACHE_NAME,
+		DocumentBodyCache.CACHE_NAME);
+
+	private final CacheManager cacheManager;
+
+	/**
+	 * 해당 문서의 캐시를 삭제합니다.
+	 * @param documentId 캐시를 삭제할 문서의 ID
+	 */
+	public void evict(Long documentId) {
+		evictAll(List.of(documentId));
+	}
+
+	/**
+	 * 문서들의 캐시를 삭제합니다.
+	 * @param documentIds 캐시를 삭제할 문서의 ID 목록
+	 */
+	public void evictAll(Collection<Long> documentIds) {
+		for (String cacheName : CACHE_NAMES) {
+			Cache cache = cacheManager.getCache(cacheName);
+			if (cache == null) {
+				log.debug("{} cache not found. documentIds : {}", cacheName, documentIds);
+				continue;
+			}
+			documentIds.forEach(cache::evict);
+			log.debug("{} cache evicted. documentIds : {}", cacheName, documentIds);
+		}
+	}
+}
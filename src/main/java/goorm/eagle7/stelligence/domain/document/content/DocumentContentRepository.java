@@ -1,15 +1,21 @@
 package goorm.eagle7.stelligence.domain.document.content;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 
+import goorm.eagle7.stelligence.domain.document.content.dto.DocumentTitle;
+import goorm.eagle7.stelligence.domain.document.content.dto.LatestSectionContent;
 import goorm.eagle7.stelligence.domain.document.content.model.Document;
-import goorm.eagle7.stelligence.domain.member.model.Member;
 import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
 
 public interface DocumentContentRepository extends JpaRepository<Document, Long> {
 
@@ -25,34 +31,39 @@ public interface DocumentContentRepository extends JpaRepository<Document, Long>
 	Optional<Document> findForUpdate(Long documentId);
 
 	/**
-	 * 특정 문자열을 포함하는 Document의 ID를 조회합니다. 최신 버전의 섹션만 조사의 대상이 됩니다.
-	 * @param keyword 검색할 문자열
-	 * @return 검색된 Document의 ID 목록
+	 * Document의 최신 버전을 조회합니다.
+	 * @param documentId 조회할 Document의 ID
+	 * @return 최신 버전
 	 */
-	@Query("select distinct d.id "
-		+ "from Document d "
-		+ "join Section s on s.document = d "
-		+ "where s.revision = ("
-		+ "   select max(s2.revision) "
-		+ "   from Section s2 "
-		+ "   where s2.id = s.id "
-		+ "   and s2.revision <= d.latestRevision"
-		+ ") "
-		+ "and s.content like %:keyword%")
-	List<Long> findDocumentIdWhichContainsKeywordInLatestVersion(String keyword);
+	@Query("select d.latestRevision from Document d where d.id = :documentId")
+	Optional<Long> findLatestRevisionById(Long documentId);
+
+	/**
+	 * 모든 문서의 최신 버전 섹션 본문을 문서 ID 순서대로 스트리밍합니다.
+	 * 최신 버전의 섹션은 latest_section을 통해 찾습니다.
+	 * @return 최신 버전 섹션 본문의 스트림
+	 */
+	@QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+	@Query("select new goorm.eagle7.stelligence.domain.document.content.dto.LatestSectionContent("
+		+ "ls.documentId, b.content) "
+		+ "from LatestSection ls "
+		+ "join Section s on s.id = ls.sectionId and s.revision = ls.revision "
+		+ "join s.body b "
+		+ "order by ls.documentId")
+	Stream<LatestSectionContent> streamLatestSectionContents();
 
 	/**
-	 * 특정 Document에 기여한 사용자들을 조회합니다.
+	 * 특정 문서의 최신 버전 섹션 본문을 조회합니다.
 	 * @param documentId 조회할 Document의 ID
-	 * @return 기여한 사용자 목록
+	 * @return 최신 버전 섹션 본문 목록
 	 */
-	@Query("select distinct m from Contribute c "
-		+ "join c.member m "
-		+ "join c.document d "
-		+ "where d.id = :documentId "
-		+ "and c.status = goorm.eagle7.stelligence.domain.contribute.model.ContributeStatus.MERGED "
-		+ "order by m.nickname")
-	List<Member> findContributorsByDocumentId(Long documentId);
+	@Query("select new goorm.eagle7.stelligence.domain.document.content.dto.LatestSectionContent("
+		+ "ls.documentId, b.content) "
+		+ "from LatestSection ls "
+		+ "join Section s on s.id = ls.sectionId and s.revision = ls.revision "
+		+ "join s.body b "
+		+ "where ls.documentId = :documentId")
+	List<LatestSectionContent> findLatestSectionContentsByDocumentId(Long documentId);
 
 	/**
 	 * 특정 제목을 가진 Document를 조회합니다.
@@ -68,4 +79,14 @@ public interface DocumentContentRepository extends JpaRepository<Document, Long>
 	 * @return 존재 여부
 	 */
 	boolean existsByTitle(String title);
+
+	/**
+	 * 주어진 제목들 중 존재하는 제목을 가진 Document의 ID와 제목을 조회합니다.
+	 * @param titles 조회할 Document의 제목들
+	 * @return 존재하는 Document의 ID와 제목 목록
+	 */
+	@Query("select new goorm.eagle7.stelligence.domain.document.content.dto.DocumentTitle(d.id, d.title) "
+		+ "from Document d "
+		+ "where d.title in :titles")
+	List<DocumentTitle> findDocumentTitlesByTitleIn(Collection<String> titles);
 }
@@ -1,26 +1,31 @@
 package goorm.eagle7.stelligence.domain.document.content;
 
+import java.util.ArrayList;
 import java.util.List;
 
-import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import goorm.eagle7.stelligence.api.exception.BaseException;
 import goorm.eagle7.stelligence.common.sequence.SectionIdGenerator;
-import goorm.eagle7.stelligence.domain.contribute.ContributeRepository;
-import goorm.eagle7.stelligence.domain.contribute.model.Contribute;
-import goorm.eagle7.stelligence.domain.debate.model.Debate;
-import goorm.eagle7.stelligence.domain.debate.repository.DebateRepository;
 import goorm.eagle7.stelligence.domain.document.content.dto.DocumentResponse;
+import goorm.eagle7.stelligence.domain.document.content.dto.RevisionContent;
 import goorm.eagle7.stelligence.domain.document.content.dto.SectionRequest;
 import goorm.eagle7.stelligence.domain.document.content.dto.SectionResponse;
 import goorm.eagle7.stelligence.domain.document.content.model.Document;
 import goorm.eagle7.stelligence.domain.document.content.parser.DocumentParser;
+import goorm.eagle7.stelligence.domain.document.content.parser.SectionResponseConcatenator;
+import goorm.eagle7.stelligence.domain.document.content.search.ContentSearchIndex;
+import goorm.eagle7.stelligence.domain.document.contributor.DocumentContributorService;
+import goorm.eagle7.stelligence.domain.document.status.DocumentStateService;
 import goorm.eagle7.stelligence.domain.member.dto.MemberSimpleResponse;
 import goorm.eagle7.stelligence.domain.member.model.Member;
+import goorm.eagle7.stelligence.domain.section.RevisionManifestService;
+import goorm.eagle7.stelligence.domain.section.SectionBatch;
+import goorm.eagle7.stelligence.domain.section.SectionBatchWriter;
 import goorm.eagle7.stelligence.domain.section.SectionRepository;
 import goorm.eagle7.stelligence.domain.section.model.Section;
+import goorm.eagle7.stelligence.domain.section.model.SectionOrder;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
@@ -37,10 +42,15 @@ public class DocumentContentService {
 
 	private final DocumentContentRepository documentRepository;
 	private final SectionRepository sectionRepository;
+	private final SectionBatchWriter sectionBatchWriter;
+	private final RevisionManifestService revisionManifestService;
+	private final RenderedRevisionService renderedRevisionService;
+	private final RevisionContentCache revisionContentCache;
+	private final ContentSearchIndex contentSearchIndex;
 	private final SectionIdGenerator sectionIdGenerator;
 	private final DocumentParser documentParser;
-	private final ContributeRepository contributeRepository;
-	private final DebateRepository debateRepository;
+	private final DocumentContributorService documentContributorService;
+	private final DocumentStateService documentStateService;
 
 	/**
 	 * Document를 생성합니다.
@@ -62,26 +72,46 @@ public class DocumentContentService {
 		Document document = Document.createDocument(title, author, parentDocument);
 		documentRepository.save(document);
 
+		//문서의 상태를 편집가능 상태로 기록합니다.
+		documentStateService.documentCreated(document.getId());
+
 		List<SectionRequest> sectionRequests = documentParser.parse(rawContent);
 
-		//section 생성
+		//section 생성, 섹션의 ID는 한 번에 할당받고 섹션들은 batch로 한 번에 저장합니다.
+		List<Section> sections = new ArrayList<>(sectionRequests.size());
+		SectionBatch batch = new SectionBatch(sectionBatchWriter);
+		long firstSectionId = sectionRequests.isEmpty() ? 0L :
+			sectionIdGenerator.getAndIncrementSectionIds(sectionRequests.size());
 		for (int order = 0; order < sectionRequests.size(); order++) {
-			Section section = Section.createSection(document, sectionIdGenerator.getAndIncrementSectionId(), 1L,
+			Section section = Section.createSection(document, firstSectionId + order, 1L,
 				sectionRequests.get(order).getHeading(), sectionRequests.get(order).getTitle(),
-				sectionRequests.get(order).getContent(), order + 1);
+				sectionRequests.get(order).getContent(), SectionOrder.of(order + 1));
 
-			sectionRepository.save(section);
+			batch.created(section);
+			sections.add(section);
 		}
+		batch.flush();
+
+		//최초 버전의 매니페스트를 기록합니다.
+		revisionManifestService.record(document.getId(), 1L, sections);
+
+		//최초 버전의 렌더링된 내용을 기록합니다.
+		renderedRevisionService.record(document.getId(), 1L, sections.stream().map(SectionResponse::of).toList());
+
+		//커밋되면 본문 검색 색인에 반영합니다.
+		contentSearchIndex.indexOnCommit(document.getId(), sections.stream().map(Section::getContent).toList());
 
 		return document;
 	}
 
 	/**
-	 * 최신 Document를 조회합니다.
+	 * 최신 Document를 엔티티로 조회하여 만듭니다.
+	 * 캐시를 사용하지 않으므로, 최신 버전의 조회는 DocumentResponseCache를 통해야 합니다.
+	 * 캐시는 이 메서드 대신 프로젝션으로 조회하는 DocumentReadService#getLatestDocument(Long)로 채워집니다.
 	 * @param documentId 조회할 Document의 ID
 	 * @return 최신 Document의 Response Object
+	 * @see DocumentResponseCache#get(Long) 문서의 캐시가 생성되는 메서드
 	 */
-	@Cacheable(value = "document", key = "#documentId", cacheManager = "cacheManager")
 	public DocumentResponse getDocument(Long documentId) {
 		Document document = documentRepository.findById(documentId)
 			.orElseThrow(() -> new BaseException("문서가 존재하지 않습니다. 문서 ID : " + documentId));
@@ -107,33 +137,112 @@ public class DocumentContentService {
 			throw new BaseException("존재하지 않는 버전입니다. 버전 : " + revision);
 		}
 
-		//해당 버전의 섹션들을 조회합니다.
-		List<SectionResponse> sections = sectionRepository.findByVersion(document, revision)
+		//해당 버전의 섹션들과 렌더링된 내용을 조회합니다. 과거 버전은 변경되지 않으므로 캐시를 통해 조회합니다.
+		RevisionContent revisionContent = revision >= 1 && revision < document.getLatestRevision()
+			? revisionContentCache.get(documentId, revision, () -> loadRevisionContent(document, revision))
+			: loadRevisionContent(document, revision);
+
+		//해당 문서의 기여자들을 조회합니다.
+		List<MemberSimpleResponse> contributors = documentContributorService.getContributors(documentId);
+
+		return DocumentResponse.of(document, revision, revisionContent.sections(), revisionContent.content(),
+			contributors, documentStateService.getState(documentId));
+	}
+
+	/**
+	 * 특정 버전의 섹션들과 렌더링된 내용을 조회합니다.
+	 */
+	private RevisionContent loadRevisionContent(Document document, Long revision) {
+		List<SectionResponse> sections = findSectionsOfRevision(document, revision)
 			.stream()
-			.sorted()
 			.map(SectionResponse::of)
 			.toList();
 
-		//해당 문서의 기여자들을 조회합니다.
-		List<MemberSimpleResponse> contributors = documentRepository.findContributorsByDocumentId(documentId)
+		//렌더링된 내용이 기록되어 있다면 섹션을 다시 합치지 않습니다.
+		String content = renderedRevisionService.findContent(document.getId(), revision)
+			.orElseGet(() -> SectionResponseConcatenator.concat(sections));
+
+		return new RevisionContent(sections, content);
+	}
+
+	/**
+	 * 캐시된 DocumentResponse의 문서 상태를 현재 상태로 바꾸어 반환합니다.
+	 * 문서 상태는 수정요청의 투표와 토론의 진행에 따라 캐시가 삭제되지 않고도 달라지므로, 캐시에서 꺼낸 응답마다 다시 계산합니다.
+	 * 문서 상태는 document_state에서 단일 기본키 조회로 가져옵니다.
+	 * @param cached 캐시된 DocumentResponse
+	 * @return 문서 상태가 갱신된 DocumentResponse
+	 */
+	public DocumentResponse refreshStatus(DocumentResponse cached) {
+		return cached.withStatus(documentStateService.getState(cached.getDocumentId()));
+	}
+
+	/**
+	 * 문서의 최신 버전을 조회합니다.
+	 * @param documentId 조회할 Document의 ID
+	 * @return 최신 버전
+	 */
+	public Long getLatestRevision(Long documentId) {
+		return documentRepository.findLatestRevisionById(documentId)
+			.orElseThrow(() -> new BaseException("문서가 존재하지 않습니다. 문서 ID : " + documentId));
+	}
+
+	/**
+	 * 특정 버전의 렌더링된 내용을 조회합니다.
+	 * 캐시된 과거 버전이라면 DB를 조회하지 않습니다.
+	 * 기록된 내용이 있다면 문서와 섹션을 조회하지 않습니다.
+	 * 렌더링된 내용이 기록되기 이전에 생성된 버전이라면 섹션들을 조회하여 합칩니다.
+	 * @param documentId 조회할 Document의 ID
+	 * @param revision 조회할 버전
+	 * @return 렌더링된 내용
+	 */
+	public String getRenderedContent(Long documentId, Long revision) {
+		return revisionContentCache.getIfPresent(documentId, revision)
+			.map(RevisionContent::content)
+			.or(() -> renderedRevisionService.findContent(documentId, revision))
+			.orElseGet(() -> renderContent(documentId, revision));
+	}
+
+	private String renderContent(Long documentId, Long revision) {
+		Document document = documentRepository.findById(documentId)
+			.orElseThrow(() -> new BaseException("문서가 존재하지 않습니다. 문서 ID : " + documentId));
+
+		if (revision > document.getLatestRevision()) {
+			throw new BaseException("존재하지 않는 버전입니다. 버전 : " + revision);
+		}
+
+		return SectionResponseConcatenator.concat(findSectionsOfRevision(document, revision)
 			.stream()
-			.map(MemberSimpleResponse::from)
-			.toList();
+			.map(SectionResponse::of)
+			.toList());
+	}
 
-		Contribute latestContribute = contributeRepository.findLatestContributeByDocumentId(document.getId()).orElse(null);
-		Debate latestDebate = debateRepository.findLatestDebateByDocumentId(document.getId()).orElse(null);
+	/**
+	 * 특정 버전을 구성하는 섹션들을 순서대로 조회합니다.
+	 *
+	 * <p>최신 버전이라면 latest_section을 통해 조회하고, 과거 버전이라면 매니페스트를 통해 기본키로 조회합니다.
+	 * 매니페스트가 아직 생성되지 않은 버전이라면 revision 서브쿼리를 통해 조회합니다.
+	 * @param document 조회할 Document
+	 * @param revision 조회할 버전
+	 * @return 순서대로 정렬된 섹션 목록
+	 */
+	private List<Section> findSectionsOfRevision(Document document, Long revision) {
+		if (revision.equals(document.getLatestRevision())) {
+			return sectionRepository.findLatestByDocumentId(document.getId()).stream().sorted().toList();
+		}
 
-		return DocumentResponse.of(document, revision, sections, contributors, latestContribute, latestDebate);
+		return revisionManifestService.findSections(document.getId(), revision)
+			.orElseGet(() -> sectionRepository.findByVersion(document, revision).stream().sorted().toList());
 	}
 
 	/**
 	 * 특정 문자열을 포함하는 Document의 ID를 조회합니다. 최신 버전의 섹션만 조사의 대상이 됩니다.
+	 * DB를 조회하지 않고 애플리케이션 메모리의 본문 검색 색인을 사용합니다.
 	 * @param keyword 검색할 키워드
-	 * @return 키워드를 포함하고 있는 Document의 ID 목록
+	 * @return 키워드를 포함하고 있는 Document의 ID 목록, 키워드가 많이 등장하는 순서로 정렬됩니다.
 	 */
 	public List<Long> findDocumentWhichContainsKeyword(String keyword) {
 		log.trace("DocumentService.findDocumentWhichContainsKeyword called");
-		return documentRepository.findDocumentIdWhichContainsKeywordInLatestVersion(keyword);
+		return contentSearchIndex.search(keyword);
 	}
 
 	/**
@@ -0,0 +1,53 @@
+package goorm.eagle7.stelligence.domain.document.content;
+
+import java.util.List;
+
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.Repository;
+
+import goorm.eagle7.stelligence.domain.document.content.dto.DocumentHeaderRow;
+import goorm.eagle7.stelligence.domain.document.content.dto.SectionRow;
+import goorm.eagle7.stelligence.domain.document.content.model.Document;
+
+/**
+ * 최신 버전 문서의 조회 응답을 만들기 위한 조회 전용 Repository입니다.
+ * 엔티티를 조회하지 않고 응답에 필요한 값만 프로젝션으로 조회합니다.
+ */
+public interface DocumentReadRepository extends Repository<Document, Long> {
+
+	/**
+	 * 문서, 상위 문서, 작성자, 문서의 상태, 기여자를 한 번에 조회합니다.
+	 *
+	 * <p>문서의 상태는 document_state에서 기본키로 조인합니다.
+	 * 기여자는 document_contributor에서 조회하며, 닉네임 순서로 한 명마다 하나의 행이 조회됩니다.
+	 * @param documentId 조회할 Document의 ID
+	 * @return 기여자마다 하나의 행, 문서가 존재하지 않는다면 빈 목록
+	 */
+	@Query("select new goorm.eagle7.stelligence.domain.document.content.dto.DocumentHeaderRow("
+		+ "d.id, d.title, p.id, p.title, d.latestRevision, d.updatedAt, "
+		+ "a.id, a.nickname, a.imageUrl, "
+		+ "ds.status, ds.contributeId, ds.debateId, ds.pendingUntil, "
+		+ "dc.memberId, dc.nickname, dc.imageUrl) "
+		+ "from Document d "
+		+ "left join d.parentDocument p "
+		+ "left join d.author a "
+		+ "left join DocumentState ds on ds.documentId = d.id "
+		+ "left join DocumentContributor dc on dc.documentId = d.id "
+		+ "where d.id = :documentId "
+		+ "order by dc.nickname")
+	List<DocumentHeaderRow> findHeaderRowsByDocumentId(Long documentId);
+
+	/**
+	 * 최신 버전을 구성하는 섹션을 본문과 함께 순서대로 조회합니다.
+	 * @param documentId 조회할 Document의 ID
+	 * @return 순서대로 정렬된 최신 버전 섹션
+	 */
+	@Query("select new goorm.eagle7.stelligence.domain.document.content.dto.SectionRow("
+		+ "s.id, s.revision, s.heading, s.title, b.content) "
+		+ "from LatestSection ls "
+		+ "join Section s on s.id = ls.sectionId and s.revision = ls.revision "
+		+ "join s.body b "
+		+ "where ls.documentId = :documentId "
+		+ "order by s.order, s.id")
+	List<SectionRow> findLatestSectionRowsByDocumentId(Long documentId);
+}
@@ -0,0 +1,89 @@
+package goorm.eagle7.stelligence.domain.document.content;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import goorm.eagle7.stelligence.api.exception.BaseException;
+import goorm.eagle7.stelligence.domain.document.content.dto.DocumentHeaderRow;
+import goorm.eagle7.stelligence.domain.document.content.dto.DocumentResponse;
+import goorm.eagle7.stelligence.domain.document.content.dto.SectionResponse;
+import goorm.eagle7.stelligence.domain.member.dto.MemberSimpleResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 최신 버전 문서의 조회 응답을 만드는 조회 전용 서비스입니다.
+ *
+ * <p>문서의 정보와 상태, 기여자를 하나의 쿼리로, 최신 버전의 섹션을 하나의 쿼리로 조회하여
+ * 두 번의 쿼리로 DocumentResponse를 만듭니다. 엔티티를 영속성 컨텍스트에 올리지 않으므로
+ * 지연 로딩으로 인한 추가 쿼리가 발생하지 않습니다.
+ *
+ * <p>본문은 rendered_revision을 조회하지 않고 조회한 섹션을 이어 붙여 만듭니다.
+ * 과거 버전의 조회는 DocumentContentService를 사용합니다.
+ */
+@Slf4j
+@Service
+@Transactional(readOnly = true)
+@RequiredArgsConstructor
+public class DocumentReadService {
+
+	private final DocumentReadRepository documentReadRepository;
+	private final DocumentContentRepository documentContentRepository;
+
+	/**
+	 * 최신 버전의 문서를 조회합니다.
+	 * @param documentId 조회할 Document의 ID
+	 * @return 최신 Document의 Response Object
+	 * @throws BaseException 문서가 존재하지 않는 경우
+	 */
+	public DocumentResponse getLatestDocument(Long documentId) {
+		log.trace("DocumentReadService.getLatestDocument called");
+
+		List<DocumentHeaderRow> headerRows = documentReadRepository.findHeaderRowsByDocumentId(documentId);
+		if (headerRows.isEmpty()) {
+			throw new BaseException("문서가 존재하지 않습니다. 문서 ID : " + documentId);
+		}
+
+		List<SectionResponse> sections = documentReadRepository.findLatestSectionRowsByDocumentId(documentId)
+			.stream()
+			.map(row -> SectionResponse.of(row.sectionId(), row.revision(), row.heading(), row.title(),
+				row.content()))
+			.toList();
+
+		return DocumentResponse.of(headerRows.get(0), sections, contributors(headerRows));
+	}
+
+	/**
+	 * 조회한 문서의 버전보다 새로운 버전이 생겼는지 확인합니다.
+	 * 캐시에 저장한 문서가 저장되기 전에 Merge된 문서인지 확인하는 데 사용합니다.
+	 * @param documentId 문서 ID
+	 * @param revision 조회한 문서의 버전
+	 * @return 최신 버전이 조회한 버전과 다르거나 문서가 삭제되었다면 true
+	 */
+	public boolean isOutdated(Long documentId, Long revision) {
+		return documentContentRepository.findLatestRevisionById(documentId)
+			.map(latestRevision -> !latestRevision.equals(revision))
+			.orElse(true);
+	}
+
+	/**
+	 * 헤더 행에서 기여자를 조회된 순서대로 추출합니다. 기여자가 없는 문서는 기여자가 null인 행 하나만 조회됩니다.
+	 */
+	private List<MemberSimpleResponse> contributors(List<DocumentHeaderRow> headerRows) {
+		Set<Long> contributorIds = new HashSet<>();
+		List<MemberSimpleResponse> contributors = new ArrayList<>();
+
+		for (DocumentHeaderRow row : headerRows) {
+			if (row.contributorId() != null && contributorIds.add(row.contributorId())) {
+				contributors.add(
+					MemberSimpleResponse.of(row.contributorId(), row.contributorNickname(), row.contributorImageUrl()));
+			}
+		}
+		return contributors;
+	}
+}
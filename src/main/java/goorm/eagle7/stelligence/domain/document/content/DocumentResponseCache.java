@@ -0,0 +1,288 @@
+package goorm.eagle7.stelligence.domain.document.content;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+
+import goorm.eagle7.stelligence.common.cache.EarlyRefresh;
+import goorm.eagle7.stelligence.common.cache.RedisLease;
+import goorm.eagle7.stelligence.common.cache.RefreshableEntry;
+import goorm.eagle7.stelligence.common.cache.SingleFlight;
+import goorm.eagle7.stelligence.domain.document.content.dto.DocumentResponse;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 최신 버전 문서의 응답을 document 캐시를 통해 조회합니다.
+ *
+ * <p><b>SINGLE FLIGHT</b> 캐시가 Merge로 삭제되거나 TTL로 만료된 직후에는 같은 문서에 대한 요청이 한꺼번에 캐시를 놓칩니다.
+ * 이때 모든 요청이 문서를 다시 만들지 않도록, 한 서버 안에서는 문서 ID마다 하나의 요청만 문서를 만들고 나머지는 그 결과를 기다립니다.
+ *
+ * <p><b>LEASE</b> document.cache.lease.enabled가 true(기본값)라면 여러 서버 사이에서도 Redis의 짧은 임대를 얻은 서버만 문서를 만듭니다.
+ * 임대를 얻지 못한 서버는 캐시가 채워질 때까지 캐시를 확인하며 기다리고, 임대가 풀렸는데도 캐시가 비어있다면 직접 임대를 얻어 만듭니다.
+ * 임대는 문서마다 걸리므로 서로 다른 문서의 캐시 저장은 경합하지 않습니다. (RedisCacheWriter는 잠금을 사용하지 않습니다.)
+ *
+ * <p><b>EARLY REFRESH</b> 캐시에는 문서를 만드는 데 걸린 시간과 만료 시각을 함께 저장합니다(RefreshableEntry).
+ * 캐시 적중 시 EarlyRefresh가 갱신을 결정하면 캐시된 응답을 그대로 반환하고, 백그라운드에서 문서를 다시 만들어 캐시를 교체합니다.
+ * 요청이 많은 문서는 만료되기 전에 갱신되므로 만료 직후의 동시 요청이 캐시를 놓치지 않습니다.
+ * 서버 안에서는 문서마다 하나의 갱신만 수행하며, 임대를 사용한다면 임대를 얻지 못한 서버는 갱신하지 않습니다.
+ *
+ * <p>문서의 상태(투표중, 토론중 등)는 캐시가 삭제되지 않고도 달라지므로 캐시에서 꺼낸 응답은 문서 상태만 다시 계산하여 반환합니다.
+ *
+ * <p>캐시를 놓친 경우 DocumentReadService로 두 번의 쿼리만으로 문서를 만듭니다.
+ *
+ * <p><b>MERGE</b> 문서를 만드는 동안 Merge가 커밋되면, Merge가 캐시를 삭제한 뒤에 Merge 이전의 문서가 저장될 수 있습니다.
+ * Merge의 캐시 삭제는 커밋 이후에 수행되므로, 캐시에 저장한 뒤 문서의 최신 버전을 다시 확인하여 만든 문서의 버전과 다르다면 저장한 항목을 삭제합니다.
+ * 확인 이후에 커밋된 Merge는 저장 이후에 캐시를 삭제하므로 오래된 문서가 캐시에 남지 않습니다.
+ * 캐시를 놓친 경우와 백그라운드 갱신 모두 같은 방식으로 저장합니다.
+ *
+ * <p>이 클래스는 트랜잭션을 사용하지 않습니다. 결과를 기다리는 요청이 DB 커넥션을 점유하지 않도록 하기 위함입니다.
+ */
+@Slf4j
+@Component
+public class DocumentResponseCache {
+
+	static final String CACHE_NAME = "document";
+	private static final long POLL_INTERVAL_MILLIS = 20;
+	private static final int REFRESH_THREADS = 2;
+	private static final int REFRESH_QUEUE_SIZE = 256;
+
+	private final DocumentContentService documentContentService;
+	private final DocumentReadService documentReadService;
+	private final CacheManager cacheManager;
+	private final RedisLease redisLease;
+	private final SingleFlight<Long, DocumentResponse> singleFlight;
+	private final EarlyRefresh earlyRefresh;
+	private final ThreadPoolExecutor refreshExecutor;
+
+	/**
+	 * 이 서버에서 백그라운드 갱신 중인 문서 ID
+	 */
+	private final Set<Long> refreshing = ConcurrentHashMap.newKeySet();
+
+	private final boolean leaseEnabled;
+	private final Duration leaseTtl;
+	private final Duration waitTimeout;
+	private final Duration ttl;
+
+	public DocumentResponseCache(
+		DocumentContentService documentContentService,
+		DocumentReadService documentReadService,
+		CacheManager cacheManager,
+		RedisLease redisLease,
+		@Value("${document.cache.lease.enabled:true}") boolean leaseEnabled,
+		@Value("${document.cache.lease.ttl-ms:3000}") long leaseTtlMillis,
+		@Value("${document.cache.wait-timeout-ms:5000}") long waitTimeoutMillis,
+		@Value("${document.cache.ttl-seconds:300}") long ttlSeconds, //RedisConfig의 document 캐시 TTL과 같아야 합니다.
+		@Value("${document.cache.early-refresh.beta:1.0}") double earlyRefreshBeta
+	) {
+		this.documentContentService = documentContentService;
+		this.documentReadService = documentReadService;
+		this.cacheManager = cacheManager;
+		this.redisLease = redisLease;
+		this.leaseEnabled = leaseEnabled;
+		this.leaseTtl = Duration.ofMillis(leaseTtlMillis);
+		this.waitTimeout = Duration.ofMillis(waitTimeoutMillis);
+		this.ttl = Duration.ofSeconds(ttlSeconds);
+		this.singleFlight = new SingleFlight<>(waitTimeout);
+		this.earlyRefresh = new EarlyRefresh(earlyRefreshBeta);
+		this.refreshExecutor = createRefreshExecutor();
+	}
+
+	/**
+	 * 최신 버전의 문서를 조회합니다.
+	 * @param documentId 조회할 Document의 ID
+	 * @return 최신 Document의 Response Object
+	 */
+	public DocumentResponse get(Long documentId) {
+		RefreshableEntry<DocumentResponse> entry = getEntry(documentId);
+		if (entry != null) {
+			if (earlyRefresh.shouldRefresh(entry, System.currentTimeMillis())) {
+				refreshInBackground(documentId);
+			}
+			return documentContentService.refreshStatus(entry.getValue());
+		}
+
+		return singleFlight.execute(documentId, () -> load(documentId));
+	}
+
+	/**
+	 * 캐시에 없다면 최신 버전의 문서를 만들어 캐시에 저장합니다. 캐시 워밍에 사용합니다.
+	 * @param documentId 캐시할 Document의 ID
+	 */
+	public void warm(Long documentId) {
+		if (getEntry(documentId) == null) {
+			singleFlight.execute(documentId, () -> load(documentId));
+		}
+	}
+
+	/**
+	 * 캐시를 놓친 요청 중 하나의 요청만 수행합니다.
+	 */
+	private DocumentResponse load(Long documentId) {
+		//앞선 요청이 이미 캐시를 채웠을 수 있습니다.
+		DocumentResponse cached = getCached(documentId);
+		if (cached != null) {
+			return documentContentService.refreshStatus(cached);
+		}
+
+		if (!leaseEnabled) {
+			return rebuild(documentId);
+		}
+
+		String leaseKey = leaseKey(documentId);
+		long deadline = System.nanoTime() + waitTimeout.toNanos();
+
+		while (true) {
+			Optional<String> token = redisLease.tryAcquire(leaseKey, leaseTtl);
+			if (token.isPresent()) {
+				try {
+					//임대를 얻기 전에 다른 서버가 캐시를 채웠을 수 있습니다.
+					cached = getCached(documentId);
+					return cached != null ? documentContentService.refreshStatus(cached) : rebuild(documentId);
+				} finally {
+					redisLease.release(leaseKey, token.get());
+				}
+			}
+
+			//다른 서버가 문서를 만드는 중입니다.
+			if (!sleep() || System.nanoTime() > deadline) {
+				log.warn("document cache lease wait timed out, loading directly. documentId : {}", documentId);
+				return rebuild(documentId);
+			}
+
+			cached = getCached(documentId);
+			if (cached != null) {
+				return documentContentService.refreshStatus(cached);
+			}
+		}
+	}
+
+	/**
+	 * 이 서버에서 같은 문서를 갱신 중이 아니라면 백그라운드에서 문서를 다시 만듭니다.
+	 * 갱신 작업이 밀려 있다면 갱신하지 않습니다. 캐시가 만료되면 다음 요청이 캐시를 놓쳐 다시 만들게 됩니다.
+	 */
+	private void refreshInBackground(Long documentId) {
+		if (!refreshing.add(documentId)) {
+			return;
+		}
+
+		try {
+			refreshExecutor.execute(() -> {
+				try {
+					refresh(documentId);
+				} catch (RuntimeException e) {
+					log.warn("document cache early refresh failed. documentId : {}", documentId, e);
+				} finally {
+					refreshing.remove(documentId);
+				}
+			});
+		} catch (RejectedExecutionException e) {
+			refreshing.remove(documentId);
+			log.debug("document cache early refresh skipped. documentId : {}", documentId);
+		}
+	}
+
+	private void refresh(Long documentId) {
+		if (!leaseEnabled) {
+			rebuild(documentId);
+			return;
+		}
+
+		//임대를 얻지 못했다면 다른 서버가 문서를 만드는 중입니다.
+		String leaseKey = leaseKey(documentId);
+		Optional<String> token = redisLease.tryAcquire(leaseKey, leaseTtl);
+		if (token.isEmpty()) {
+			return;
+		}
+		try {
+			rebuild(documentId);
+		} finally {
+			redisLease.release(leaseKey, token.get());
+		}
+	}
+
+	private DocumentResponse rebuild(Long documentId) {
+		log.debug("document cache rebuilding. documentId : {}", documentId);
+		long start = System.nanoTime();
+		DocumentResponse documentResponse = documentReadService.getLatestDocument(documentId);
+		long computeMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+		Cache cache = cacheManager.getCache(CACHE_NAME);
+		if (cache != null) {
+			cache.put(documentId, RefreshableEntry.of(documentResponse, Math.max(1, computeMillis),
+				System.currentTimeMillis() + ttl.toMillis()));
+
+			//문서를 만드는 동안 Merge가 커밋되었다면 Merge의 캐시 삭제보다 늦게 저장되었을 수 있습니다.
+			if (documentReadService.isOutdated(documentId, documentResponse.getLatestRevision())) {
+				cache.evict(documentId);
+				log.debug("document cache outdated while rebuilding, evicted. documentId : {}", documentId);
+			}
+		}
+		return documentResponse;
+	}
+
+	private DocumentResponse getCached(Long documentId) {
+		RefreshableEntry<DocumentResponse> entry = getEntry(documentId);
+		return entry == null ? null : entry.getValue();
+	}
+
+	/**
+	 * 캐시된 항목을 조회합니다. 이전 형식(DocumentResponse)으로 저장된 값은 캐시를 놓친 것으로 간주합니다.
+	 */
+	@SuppressWarnings("unchecked")
+	private RefreshableEntry<DocumentResponse> getEntry(Long documentId) {
+		Cache cache = cacheManager.getCache(CACHE_NAME);
+		Cache.ValueWrapper wrapper = cache == null ? null : cache.get(documentId);
+		if (wrapper != null && wrapper.get() instanceof RefreshableEntry<?> entry
+			&& entry.getValue() instanceof DocumentResponse) {
+			return (RefreshableEntry<DocumentResponse>)entry;
+		}
+		return null;
+	}
+
+	private static String leaseKey(Long documentId) {
+		return CACHE_NAME + ":" + documentId;
+	}
+
+	@PreDestroy
+	void shutdown() {
+		refreshExecutor.shutdownNow();
+	}
+
+	private static ThreadPoolExecutor createRefreshExecutor() {
+		AtomicInteger threadNumber = new AtomicInteger();
+		return new ThreadPoolExecutor(REFRESH_THREADS, REFRESH_THREADS, 60L, TimeUnit.SECONDS,
+			new ArrayBlockingQueue<>(REFRESH_QUEUE_SIZE),
+			runnable -> {
+				Thread thread = new Thread(runnable, "document-cache-refresh-" + threadNumber.incrementAndGet());
+				thread.setDaemon(true);
+				return thread;
+			},
+			new ThreadPoolExecutor.AbortPolicy());
+	}
+
+	/**
+	 * @return 중단되지 않고 기다렸다면 true
+	 */
+	private boolean sleep() {
+		try {
+			Thread.sleep(POLL_INTERVAL_MILLIS);
+			return true;
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			return false;
+		}
+	}
+}
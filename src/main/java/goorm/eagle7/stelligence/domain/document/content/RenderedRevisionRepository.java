@@ -0,0 +1,22 @@
+package goorm.eagle7.stelligence.domain.document.content;
+
+import java.util.Optional;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+
+import goorm.eagle7.stelligence.domain.document.content.model.RenderedRevision;
+
+public interface RenderedRevisionRepository extends JpaRepository<RenderedRevision, Long> {
+
+	/**
+	 * 문서의 특정 버전의 렌더링된 내용을 조회합니다.
+	 * @param documentId 문서 ID
+	 * @param revision 버전
+	 * @return 렌더링된 내용, 기록되지 않은 버전이라면 빈 Optional
+	 */
+	@Query("select r.content from RenderedRevision r "
+		+ "where r.documentId = :documentId "
+		+ "and r.revision = :revision")
+	Optional<String> findContent(Long documentId, Long revision);
+}
@@ -0,0 +1,69 @@
+package goorm.eagle7.stelligence.domain.document.content;
+
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import goorm.eagle7.stelligence.domain.document.content.dto.SectionResponse;
+import goorm.eagle7.stelligence.domain.document.content.model.Document;
+import goorm.eagle7.stelligence.domain.document.content.model.RenderedRevision;
+import goorm.eagle7.stelligence.domain.document.content.parser.SectionResponseConcatenator;
+import goorm.eagle7.stelligence.domain.section.SectionRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 문서의 버전별로 렌더링된 내용을 기록하고 조회합니다.
+ *
+ * @see RenderedRevision
+ */
+@Slf4j
+@Service
+@Transactional(readOnly = true)
+@RequiredArgsConstructor
+public class RenderedRevisionService {
+
+	private final RenderedRevisionRepository renderedRevisionRepository;
+	private final SectionRepository sectionRepository;
+
+	/**
+	 * 특정 버전을 구성하는 섹션들을 합쳐 렌더링된 내용으로 기록합니다.
+	 * 문서 생성 시와 같이 해당 버전의 섹션을 모두 알고 있는 경우 사용합니다.
+	 * @param documentId 문서 ID
+	 * @param revision 버전
+	 * @param sections 순서대로 정렬된 해당 버전의 섹션들
+	 */
+	@Transactional
+	public void record(Long documentId, Long revision, List<SectionResponse> sections) {
+		renderedRevisionRepository.save(
+			RenderedRevision.of(documentId, revision, SectionResponseConcatenator.concat(sections)));
+	}
+
+	/**
+	 * 문서의 현재 최신 버전의 렌더링된 내용을 기록합니다.
+	 * Merge가 끝나고 latestRevision이 증가한 이후에 호출되어야 합니다.
+	 * @param document 렌더링된 내용을 기록할 문서
+	 */
+	@Transactional
+	public void recordLatestRevision(Document document) {
+		List<SectionResponse> sections = sectionRepository.findLatestByDocumentId(document.getId())
+			.stream()
+			.sorted()
+			.map(SectionResponse::of)
+			.toList();
+
+		record(document.getId(), document.getLatestRevision(), sections);
+	}
+
+	/**
+	 * 문서의 특정 버전의 렌더링된 내용을 조회합니다.
+	 * @param documentId 문서 ID
+	 * @param revision 버전
+	 * @return 렌더링된 내용, 기록되지 않은 버전이라면 빈 Optional
+	 */
+	public Optional<String> findContent(Long documentId, Long revision) {
+		return renderedRevisionRepository.findContent(documentId, revision);
+	}
+}
@@ -0,0 +1,82 @@
+package goorm.eagle7.stelligence.domain.document.content;
+
+import java.util.Optional;
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import goorm.eagle7.stelligence.domain.document.content.dto.RevisionContent;
+import goorm.eagle7.stelligence.domain.document.content.dto.SectionResponse;
+
+/**
+ * 과거 버전의 섹션들과 렌더링된 내용을 (documentId, revision)을 키로 애플리케이션 메모리에 캐시합니다.
+ *
+ * <p>최신 버전보다 이전의 버전은 더 이상 변경되지 않으므로 TTL이나 무효화 없이 보관합니다.
+ * 대신 저장된 문자열의 길이의 합이 maxChars를 넘으면 Caffeine의 W-TinyLFU 정책에 따라 자주 조회되지 않는 버전부터 제거합니다.
+ *
+ * <p>문서의 상태, 기여자와 같이 변경되는 정보는 캐시하지 않으며, 조회할 때마다 별도로 조회하여 합칩니다.
+ */
+@Component
+public class RevisionContentCache {
+
+	private final Cache<RevisionKey, RevisionContent> cache;
+
+	public RevisionContentCache(@Value("${document.revision-cache.max-chars:33554432}") long maxChars) {
+		this.cache = Caffeine.newBuilder()
+			.maximumWeight(maxChars)
+			.weigher((RevisionKey key, RevisionContent value) -> weigh(value))
+			.executor(Runnable::run)
+			.build();
+	}
+
+	/**
+	 * 캐시된 버전의 내용을 조회하고, 없다면 loader로 불러와 저장합니다.
+	 * 같은 버전을 동시에 조회하면 loader는 한 번만 수행됩니다.
+	 * @param documentId 조회할 Document의 ID
+	 * @param revision 조회할 버전, 최신 버전보다 이전의 버전이어야 합니다.
+	 * @param loader 버전의 내용을 불러오는 함수
+	 * @return 버전의 내용
+	 */
+	public RevisionContent get(Long documentId, Long revision, Supplier<RevisionContent> loader) {
+		return cache.get(new RevisionKey(documentId, revision), key -> loader.get());
+	}
+
+	/**
+	 * 캐시된 버전의 내용을 조회합니다. 캐시되어 있지 않더라도 불러오지 않습니다.
+	 * @param documentId 조회할 Document의 ID
+	 * @param revision 조회할 버전
+	 * @return 캐시된 버전의 내용
+	 */
+	public Optional<RevisionContent> getIfPresent(Long documentId, Long revision) {
+		return Optional.ofNullable(cache.getIfPresent(new RevisionKey(documentId, revision)));
+	}
+
+	/**
+	 * 캐시된 버전의 수를 반환합니다.
+	 */
+	long size() {
+		return cache.estimatedSize();
+	}
+
+	/**
+	 * 캐시된 버전이 차지하는 문자열의 길이입니다. 내용이 없는 버전도 1 이상의 무게를 가집니다.
+	 */
+	private static int weigh(RevisionContent revisionContent) {
+		long chars = revisionContent.content() == null ? 0 : revisionContent.content().length();
+		for (SectionResponse section : revisionContent.sections()) {
+			chars += length(section.getTitle()) + length(section.getContent());
+		}
+		return (int)Math.min(Integer.MAX_VALUE, Math.max(1, chars));
+	}
+
+	private static int length(String text) {
+		return text == null ? 0 : text.length();
+	}
+
+	private record RevisionKey(Long documentId, Long revision) {
+	}
+}
@@ -0,0 +1,31 @@
+package goorm.eagle7.stelligence.domain.document.content.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * 문서 조회 응답을 만들기 위한 문서의 정보입니다.
+ * 문서, 상위 문서, 작성자, 문서의 상태를 엔티티로 조회하지 않고 한 번에 조회합니다.
+ * 문서의 상태가 기록되지 않았다면 상태의 값은 null입니다.
+ *
+ * <p>기여자 한 명마다 하나의 행이 조회되며, 기여자를 제외한 값은 모든 행에서 같습니다.
+ * 기여자가 없다면 기여자의 값이 null인 하나의 행이 조회됩니다.
+ */
+public record DocumentHeaderRow(
+	Long documentId,
+	String title,
+	Long parentDocumentId,
+	String parentDocumentTitle,
+	Long latestRevision,
+	LocalDateTime updatedAt,
+	Long authorId,
+	String authorNickname,
+	String authorImageUrl,
+	DocumentStatus status,
+	Long contributeId,
+	Long debateId,
+	LocalDateTime pendingUntil,
+	Long contributorId,
+	String contributorNickname,
+	String contributorImageUrl
+) {
+}
@@ -3,10 +3,13 @@ package goorm.eagle7.stelligence.domain.document.content.dto;
 import java.time.LocalDateTime;
 import java.util.List;
 
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+
 import goorm.eagle7.stelligence.domain.contribute.model.Contribute;
 import goorm.eagle7.stelligence.domain.debate.model.Debate;
 import goorm.eagle7.stelligence.domain.document.content.model.Document;
 import goorm.eagle7.stelligence.domain.document.content.parser.SectionResponseConcatenator;
+import goorm.eagle7.stelligence.domain.document.status.model.DocumentState;
 import goorm.eagle7.stelligence.domain.member.dto.MemberSimpleResponse;
 import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
@@ -16,8 +19,14 @@ import lombok.NoArgsConstructor;
 /**
  * Document 응답 DTO 입니다.
  * Document의 정보와 Section의 정보를 담습니다.
+ *
+ * <p>문서 상태 필드(documentStatus, contributeId, debateId)는 항상 마지막에 직렬화됩니다.
+ * DocumentBodyCache는 문서 상태를 제외한 JSON을 캐시하고 응답할 때 문서 상태를 뒤에 이어 붙이므로, 순서를 바꾸지 않아야 합니다.
  */
 @Getter
+@JsonPropertyOrder({"documentId", "title", "parentDocumentId", "parentDocumentTitle", "latestRevision",
+	"currentRevision", "lastModifiedAt", "sections", "content", "originalAuthor", "contributors",
+	"documentStatus", "contributeId", "debateId"})
 @NoArgsConstructor(access = AccessLevel.PRIVATE)
 @AllArgsConstructor(access = AccessLevel.PRIVATE)
 public class DocumentResponse {
@@ -40,8 +49,7 @@ public class DocumentResponse {
 	 * Document의 모든 섹션의 내용을 하나의 문자열로 합친 내용입니다.
 	 * 사용자가 글 조회시 프론트엔드에서 섹션의 내용을 하나의 문자열로 합쳐서 보여주기 편리하게 만듦니다.
 	 *
-	 * sections에서 파생되는 정보기 때문에 캐싱의 대상으로 삼지 않습니다.
-	 * 매번 요청시 새로 계산해서 반환합니다.
+	 * 버전의 내용은 변경되지 않으므로 버전마다 한 번만 합쳐서 저장해둔 내용을 사용합니다. (RenderedRevision 참조)
 	 */
 	private String content;
 
@@ -70,6 +78,26 @@ public class DocumentResponse {
 		List<MemberSimpleResponse> contributors,
 		Contribute latestContribute,
 		Debate latestDebate
+	) {
+		return of(document, currentRevision, sections, SectionResponseConcatenator.concat(sections), contributors,
+			latestContribute, latestDebate);
+	}
+
+	/**
+	 * 미리 렌더링된 내용으로 DocumentResponse를 생성합니다.
+	 * @param document : 조회한 Document
+	 * @param sections : 특정 버전에 해당하는 섹션들
+	 * @param content : 특정 버전의 섹션들을 합친 내용
+	 * @return 생성된 DocumentResponse
+	 */
+	public static DocumentResponse of(
+		Document document,
+		Long currentRevision,
+		List<SectionResponse> sections,
+		String content,
+		List<MemberSimpleResponse> contributors,
+		Contribute latestContribute,
+		Debate latestDebate
 	) {
 		DocumentStatusInfo documentStatusInfo = DocumentStatusInfo.of(latestContribute, latestDebate);
 
@@ -82,7 +110,7 @@ public class DocumentResponse {
 			currentRevision,
 			document.getUpdatedAt(),
 			sections,
-			SectionResponseConcatenator.concat(sections),
+			content,
 			MemberSimpleResponse.from(document.getAuthor()),
 			contributors,
 			documentStatusInfo.getDocumentStatus(),
@@ -92,6 +120,106 @@ public class DocumentResponse {
 		);
 	}
 
+	/**
+	 * 기록된 문서 상태로 DocumentResponse를 생성합니다.
+	 * @param document : 조회한 Document
+	 * @param sections : 특정 버전에 해당하는 섹션들
+	 * @param content : 특정 버전의 섹션들을 합친 내용
+	 * @param documentState : 문서의 현재 상태, null이라면 편집가능 상태로 간주합니다.
+	 * @return 생성된 DocumentResponse
+	 */
+	public static DocumentResponse of(
+		Document document,
+		Long currentRevision,
+		List<SectionResponse> sections,
+		String content,
+		List<MemberSimpleResponse> contributors,
+		DocumentState documentState
+	) {
+		DocumentStatusInfo documentStatusInfo = DocumentStatusInfo.of(documentState);
+
+		return new DocumentResponse(
+			document.getId(),
+			document.getTitle(),
+			document.getParentDocument() == null ? null : document.getParentDocument().getId(),
+			document.getParentDocument() == null ? null : document.getParentDocument().getTitle(),
+			document.getLatestRevision(),
+			currentRevision,
+			document.getUpdatedAt(),
+			sections,
+			content,
+			MemberSimpleResponse.from(document.getAuthor()),
+			contributors,
+			documentStatusInfo.getDocumentStatus(),
+			documentStatusInfo.getContributeId(),
+			documentStatusInfo.getDebateId()
+		);
+	}
+
+	/**
+	 * 엔티티를 조회하지 않고 프로젝션으로 조회한 값으로 최신 버전의 DocumentResponse를 생성합니다.
+	 * @param header : 문서의 정보, 기여자를 제외한 값은 모든 행에서 같으므로 첫 번째 행을 사용합니다.
+	 * @param sections : 최신 버전의 섹션들
+	 * @param contributors : 기여자들
+	 * @return 생성된 DocumentResponse
+	 */
+	public static DocumentResponse of(
+		DocumentHeaderRow header,
+		List<SectionResponse> sections,
+		List<MemberSimpleResponse> contributors
+	) {
+		DocumentStatusInfo documentStatusInfo = DocumentStatusInfo.of(header.status(), header.contributeId(),
+			header.debateId(), header.pendingUntil());
+
+		return new DocumentResponse(
+			header.documentId(),
+			header.title(),
+			header.parentDocumentId(),
+			header.parentDocumentTitle(),
+			header.latestRevision(),
+			header.latestRevision(),
+			header.updatedAt(),
+			sections,
+			SectionResponseConcatenator.concat(sections),
+			header.authorId() == null ? null
+				: MemberSimpleResponse.of(header.authorId(), header.authorNickname(), header.authorImageUrl()),
+			contributors,
+			documentStatusInfo.getDocumentStatus(),
+			documentStatusInfo.getContributeId(),
+			documentStatusInfo.getDebateId()
+		);
+	}
+
+	/**
+	 * 문서 상태만 기록된 문서 상태로 바꾼 DocumentResponse를 생성합니다.
+	 * 캐시된 응답의 문서 상태는 수정요청과 토론의 진행에 따라 달라질 수 있으므로, 캐시에서 꺼낸 뒤 현재 상태로 바꾸어 반환합니다.
+	 * @param documentState : 문서의 현재 상태
+	 * @return 문서 상태를 제외한 값이 같은 DocumentResponse
+	 */
+	public DocumentResponse withStatus(DocumentState documentState) {
+		return withStatus(DocumentStatusInfo.of(documentState));
+	}
+
+	private DocumentResponse withStatus(DocumentStatusInfo documentStatusInfo) {
+
+		return new DocumentResponse(
+			documentId,
+			title,
+			parentDocumentId,
+			parentDocumentTitle,
+			latestRevision,
+			currentRevision,
+			lastModifiedAt,
+			sections,
+			content,
+			originalAuthor,
+			contributors,
+			documentStatusInfo.getDocumentStatus(),
+			documentStatusInfo.getContributeId(),
+			documentStatusInfo.getDebateId()
+		);
+	}
+
 	/**
 	 * DocumentStatus와 관련된 정보를 처리하는 내부 정적 클래스입니다.
 	 */
@@ -113,6 +241,32 @@ public class DocumentResponse {
 				return new DocumentStatusInfo(DocumentStatus.EDITABLE, null, null);
 			}
 		}
+
+		/**
+		 * 기록된 문서 상태로 문서 상태를 계산합니다. 수정대기 시간이 지났다면 편집가능 상태입니다.
+		 */
+		public static DocumentStatusInfo of(DocumentState documentState) {
+			if (documentState == null) {
+				return new DocumentStatusInfo(DocumentStatus.EDITABLE, null, null);
+			}
+			return of(documentState.getStatus(), documentState.getContributeId(), documentState.getDebateId(),
+				documentState.getPendingUntil());
+		}
+
+		/**
+		 * 엔티티 대신 조회된 문서 상태의 값으로 문서 상태를 계산합니다. 판단 기준은 DocumentState와 같습니다.
+		 */
+		public static DocumentStatusInfo of(DocumentStatus status, Long contributeId, Long debateId,
+			LocalDateTime pendingUntil) {
+			DocumentStatus current = DocumentState.statusAt(status, debateId, pendingUntil, LocalDateTime.now());
+			if (current == DocumentStatus.VOTING) {
+				return new DocumentStatusInfo(DocumentStatus.VOTING, contributeId, null);
+			} else if (current == DocumentStatus.DEBATING || current == DocumentStatus.PENDING) {
+				return new DocumentStatusInfo(current, null, debateId);
+			} else {
+				return new DocumentStatusInfo(DocumentStatus.EDITABLE, null, null);
+			}
+		}
 	}
 
 }
\ No newline at end of file
@@ -0,0 +1,12 @@
+package goorm.eagle7.stelligence.domain.document.content.dto;
+
+/**
+ * 문서의 ID와 제목입니다.
+ * @param documentId 문서 ID
+ * @param title 문서 제목
+ */
+public record DocumentTitle(
+	Long documentId,
+	String title
+) {
+}
@@ -0,0 +1,12 @@
+package goorm.eagle7.stelligence.domain.document.content.dto;
+
+/**
+ * 최신 버전 섹션의 본문과 해당 섹션이 속한 문서의 ID입니다.
+ * @param documentId 문서 ID
+ * @param content 섹션의 본문
+ */
+public record LatestSectionContent(
+	Long documentId,
+	String content
+) {
+}
@@ -0,0 +1,23 @@
+package goorm.eagle7.stelligence.domain.document.content.dto;
+
+import java.util.List;
+
+import goorm.eagle7.stelligence.domain.section.model.SectionId;
+
+/**
+ * 특정 버전을 구성하는 섹션들과 렌더링된 내용입니다.
+ * 버전의 내용은 변경되지 않으므로 문서의 상태나 기여자와 같이 변경되는 정보는 담지 않습니다.
+ * @param sections 순서대로 정렬된 섹션들
+ * @param content 섹션들을 합친 내용
+ */
+public record RevisionContent(List<SectionResponse> sections, String content) {
+
+	/**
+	 * 버전을 구성하는 섹션의 키(sectionId, revision)를 순서대로 반환합니다.
+	 */
+	public List<SectionId> sectionKeys() {
+		return sections.stream()
+			.map(section -> SectionId.of(section.getSectionId(), section.getRevision()))
+			.toList();
+	}
+}
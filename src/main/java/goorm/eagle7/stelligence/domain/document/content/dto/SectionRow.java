@@ -0,0 +1,20 @@
+package goorm.eagle7.stelligence.domain.document.content.dto;
+
+import goorm.eagle7.stelligence.domain.section.model.Heading;
+
+/**
+ * 섹션 엔티티를 영속성 컨텍스트에 올리지 않고 조회한 섹션의 내용입니다.
+ * @param sectionId 섹션 ID
+ * @param revision 섹션의 버전
+ * @param heading 섹션의 제목 수준
+ * @param title 섹션의 제목
+ * @param content 섹션의 본문
+ */
+public record SectionRow(
+	Long sectionId,
+	Long revision,
+	Heading heading,
+	String title,
+	String content
+) {
+}
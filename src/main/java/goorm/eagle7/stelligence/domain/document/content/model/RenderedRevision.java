@@ -0,0 +1,69 @@
+package goorm.eagle7.stelligence.domain.document.content.model;
+
+import static jakarta.persistence.GenerationType.*;
+import static lombok.AccessLevel.*;
+
+import goorm.eagle7.stelligence.common.compression.CompressedTextConverter;
+import jakarta.persistence.Column;
+import jakarta.persistence.Convert;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * RenderedRevision
+ * 문서의 특정 버전의 모든 섹션을 하나의 문자열로 합친 내용을 저장합니다.
+ *
+ * <p>문서의 버전은 한 번 생성되면 변경되지 않으므로, 합쳐진 내용을 버전마다 한 번만 만들어 저장합니다.
+ * 문서가 생성되거나 Merge가 수행될 때 기록됩니다.
+ * 같은 이유로 (documentId, revision)으로부터 만들어지는 ETag는 내용이 바뀌지 않는 한 유효합니다.
+ *
+ * <p>합쳐진 내용은 섹션 하나보다 훨씬 커질 수 있으므로 64KB로 제한되는 TEXT 대신 MEDIUMTEXT(16MB)에 저장합니다.
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = PROTECTED)
+@Table(name = "rendered_revision",
+	uniqueConstraints = @UniqueConstraint(name = "uk_rendered_revision_document_revision",
+		columnNames = {"document_id", "revision"}))
+public class RenderedRevision {
+
+	@Id
+	@GeneratedValue(strategy = IDENTITY)
+	@Column(name = "rendered_revision_id")
+	private Long id;
+
+	@Column(name = "document_id", nullable = false)
+	private Long documentId;
+
+	@Column(nullable = false)
+	private Long revision;
+
+	@Convert(converter = CompressedTextConverter.class)
+	@Column(columnDefinition = "MEDIUMTEXT", nullable = false)
+	private String content;
+
+	//===생성===//
+	public static RenderedRevision of(Long documentId, Long revision, String content) {
+		RenderedRevision renderedRevision = new RenderedRevision();
+		renderedRevision.documentId = documentId;
+		renderedRevision.revision = revision;
+		renderedRevision.content = content;
+		return renderedRevision;
+	}
+
+	/**
+	 * 문서의 특정 버전에 대한 ETag를 반환합니다.
+	 * 버전의 내용은 변경되지 않으므로 강한 ETag를 사용합니다.
+	 * @param documentId 문서 ID
+	 * @param revision 버전
+	 * @return 따옴표로 감싸진 ETag 값
+	 */
+	public static String eTagOf(Long documentId, Long revision) {
+		return "\"" + documentId + "-" + revision + "\"";
+	}
+}
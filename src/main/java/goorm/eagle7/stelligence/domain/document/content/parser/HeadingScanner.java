@@ -0,0 +1,146 @@
+package goorm.eagle7.stelligence.domain.document.content.parser;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import goorm.eagle7.stelligence.domain.document.content.dto.SectionRequest;
+import goorm.eagle7.stelligence.domain.section.model.Heading;
+
+/**
+ * Sanitize된 HTML을 앞에서부터 한 번 읽으며 heading 태그를 기준으로 섹션을 나눕니다.
+ *
+ * <p>다음 정규식과 같은 결과를 만듭니다.
+ * <pre>
+ * (&lt;h([1-6])&gt;(.*?)&lt;/h\2&gt;)(.*?)(?=&lt;h[1-6]&gt;|$)  (DOTALL)
+ * </pre>
+ * <ul>
+ *     <li>섹션은 &lt;hN&gt;으로 시작하며, 처음 등장하는 &lt;/hN&gt;까지가 제목입니다. 닫는 태그가 없는 heading은 무시합니다.</li>
+ *     <li>본문은 제목 다음부터 다음 &lt;h1&gt;~&lt;h6&gt; 이전까지이며, 앞뒤 공백을 제거합니다.</li>
+ *     <li>첫 heading 이전의 내용은 어떤 섹션에도 포함되지 않습니다.</li>
+ * </ul>
+ *
+ * <p>정규식은 본문의 모든 위치에서 lookahead를 시도하고 그룹마다 문자열을 만들지만,
+ * 이 클래스는 위치만 계산한 뒤 제목과 본문만 잘라냅니다. 수준별로 닫는 태그의 위치를 기억하므로
+ * 닫히지 않은 heading이 많더라도 입력의 길이에 비례하는 시간에 끝납니다.
+ */
+final class HeadingScanner {
+
+	private static final String[] CLOSING_TAGS = {null, "</h1>", "</h2>", "</h3>", "</h4>", "</h5>", "</h6>"};
+	private static final Heading[] HEADINGS = {null, Heading.H1, Heading.H2, Heading.H3, Heading.H4, Heading.H5,
+		Heading.H6};
+
+	private static final int OPENING_TAG_LENGTH = "<h1>".length();
+	private static final int CLOSING_TAG_LENGTH = "</h1>".length();
+
+	/**
+	 * 아직 찾아보지 않은 닫는 태그의 위치입니다.
+	 */
+	private static final int UNKNOWN = -2;
+
+	private HeadingScanner() {
+		throw new IllegalStateException("Utility class");
+	}
+
+	/**
+	 * HTML을 섹션으로 나눕니다.
+	 * @param html Sanitize된 HTML
+	 * @return 등장 순서대로 정렬된 섹션
+	 */
+	static List<SectionRequest> scan(String html) {
+		List<SectionRequest> sections = new ArrayList<>();
+		int length = html.length();
+
+		//정규식의 $는 입력의 끝 또는 입력의 마지막 줄바꿈 바로 앞에서 먼저 일치합니다.
+		int inputEnd = length - trailingLineTerminatorLength(html);
+
+		//수준별로 마지막으로 찾은 닫는 태그의 위치, 찾지 못했다면 -1
+		int[] closingTagPositions = new int[CLOSING_TAGS.length];
+		Arrays.fill(closingTagPositions, UNKNOWN);
+
+		int position = nextOpeningTag(html, 0);
+		while (position >= 0) {
+			int level = html.charAt(position + 2) - '0';
+			int titleStart = position + OPENING_TAG_LENGTH;
+			int titleEnd = closingTag(html, level, titleStart, closingTagPositions);
+
+			if (titleEnd < 0) {
+				//닫히지 않은 heading은 건너뜁니다.
+				position = nextOpeningTag(html, position + 1);
+				continue;
+			}
+
+			int contentStart = titleEnd + CLOSING_TAG_LENGTH;
+			int next = nextOpeningTag(html, contentStart);
+			int contentEnd = next < 0 ? Math.max(contentStart, inputEnd) : next;
+
+			sections.add(new SectionRequest(HEADINGS[level], html.substring(titleStart, titleEnd),
+				trimmed(html, contentStart, contentEnd)));
+
+			position = next;
+		}
+
+		return sections;
+	}
+
+	/**
+	 * from 이후에 처음 등장하는 &lt;h1&gt;~&lt;h6&gt;의 위치를 찾습니다.
+	 * @return 태그의 시작 위치, 없다면 -1
+	 */
+	private static int nextOpeningTag(String html, int from) {
+		int last = html.length() - OPENING_TAG_LENGTH;
+		int i = html.indexOf('<', from);
+		while (i >= 0 && i <= last) {
+			char level = html.charAt(i + 2);
+			if (html.charAt(i + 1) == 'h' && level >= '1' && level <= '6' && html.charAt(i + 3) == '>') {
+				return i;
+			}
+			i = html.indexOf('<', i + 1);
+		}
+		return -1;
+	}
+
+	/**
+	 * from 이후에 처음 등장하는 해당 수준의 닫는 태그의 위치를 찾습니다.
+	 * 이전에 찾은 위치가 from 이후라면 다시 찾지 않으며, 이전에 찾지 못했다면 이후에도 없으므로 찾지 않습니다.
+	 * @return 태그의 시작 위치, 없다면 -1
+	 */
+	private static int closingTag(String html, int level, int from, int[] closingTagPositions) {
+		int cached = closingTagPositions[level];
+		if (cached == -1 || cached >= from) {
+			return cached;
+		}
+
+		int found = html.indexOf(CLOSING_TAGS[level], from);
+		closingTagPositions[level] = found;
+		return found;
+	}
+
+	/**
+	 * String.trim()과 같은 기준으로 앞뒤 공백을 제외하고 잘라냅니다.
+	 */
+	private static String trimmed(String html, int start, int end) {
+		while (start < end && html.charAt(start) <= ' ') {
+			start++;
+		}
+		while (end > start && html.charAt(end - 1) <= ' ') {
+			end--;
+		}
+		return html.substring(start, end);
+	}
+
+	/**
+	 * 입력이 줄바꿈 문자로 끝난다면 그 길이를 반환합니다.
+	 */
+	private static int trailingLineTerminatorLength(String html) {
+		if (html.isEmpty()) {
+			return 0;
+		}
+
+		char last = html.charAt(html.length() - 1);
+		if (last == '\n') {
+			return html.length() > 1 && html.charAt(html.length() - 2) == '\r' ? 2 : 1;
+		}
+		return last == '\r' || last == '\u0085' || last == '\u2028' || last == '\u2029' ? 1 : 0;
+	}
+}
@@ -0,0 +1,182 @@
+package goorm.eagle7.stelligence.domain.document.content.parser;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * Sanitize 이전의 HTML을 heading 시작 태그 앞에서 조각으로 나눕니다.
+ *
+ * <p>문자열에서 &lt;h1&gt;을 찾는 대신 HTML을 토큰 단위로 읽으므로, 실제로 heading 요소를 여는 태그에서만 나눕니다.
+ * <ul>
+ *     <li>주석(&lt;!-- --&gt;), DOCTYPE 등의 선언, 처리 명령(&lt;? &gt;)은 통째로 건너뜁니다.</li>
+ *     <li>태그의 속성값은 따옴표를 고려하여 건너뛰므로, 속성값 안의 &lt;h2&gt;는 경계가 되지 않습니다.</li>
+ *     <li>script, style 등 내용을 문자로 취급하는 요소는 닫는 태그까지 건너뜁니다.</li>
+ * </ul>
+ * &lt;H1&gt;, &lt;h1 class="..."&gt;처럼 Sanitize 이후 &lt;h1&gt;이 되는 태그도 경계로 봅니다.
+ *
+ * <p>조각은 Sanitize의 단위일 뿐이며, 섹션은 Sanitize된 결과를 이어 붙인 뒤 HeadingScanner로 나눕니다.
+ * 따라서 닫히지 않은 주석이나 따옴표처럼 판단하기 어려운 경우에는 나누지 않는 쪽을 택합니다.
+ * 덜 나누더라도 Sanitize할 조각이 커질 뿐 결과는 같습니다.
+ */
+final class HeadingSplitter {
+
+	/**
+	 * 내용을 태그가 아닌 문자로 취급하는 요소입니다.
+	 * Sanitizer가 이 중 일부를 일반 요소로 취급하더라도 나누지 않을 뿐이므로, 넓게 잡습니다.
+	 */
+	private static final Set<String> RAW_TEXT_ELEMENTS = Set.of(
+		"script", "style", "textarea", "title", "xmp", "iframe", "noembed", "noframes", "noscript", "listing");
+
+	private HeadingSplitter() {
+		throw new IllegalStateException("Utility class");
+	}
+
+	/**
+	 * HTML을 heading 시작 태그 앞에서 나눕니다. 나눈 조각들을 이어 붙이면 원래의 HTML이 됩니다.
+	 * @param html Sanitize 이전의 HTML
+	 * @return 나누어진 조각, 첫 조각은 heading으로 시작하지 않을 수 있습니다.
+	 */
+	static List<String> split(String html) {
+		List<String> fragments = new ArrayList<>();
+		int length = html.length();
+		int start = 0;
+
+		int i = html.indexOf('<');
+		while (i >= 0 && i < length - 1) {
+			char next = html.charAt(i + 1);
+			int end;
+			if (html.startsWith("<!--", i)) {
+				end = skipPast(html, "-->", i + 4);
+			} else if (next == '!' || next == '?') {
+				end = skipPast(html, ">", i + 2);
+			} else if (next == '/') {
+				//이름이 없는 닫는 태그는 '>'까지 주석으로 취급됩니다.
+				boolean named = i + 2 < length && isAsciiLetter(html.charAt(i + 2));
+				end = named ? skipTag(html, i + 2) : skipPast(html, ">", i + 2);
+			} else if (isAsciiLetter(next)) {
+				int nameEnd = tagNameEnd(html, i + 1);
+				String name = html.substring(i + 1, nameEnd).toLowerCase(Locale.ROOT);
+				end = skipTag(html, nameEnd);
+
+				if (isHeading(name) && i > start) {
+					fragments.add(html.substring(start, i));
+					start = i;
+				}
+				if (name.equals("plaintext")) {
+					break;
+				}
+				if (RAW_TEXT_ELEMENTS.contains(name) && end < length) {
+					end = skipRawText(html, name, end);
+				}
+			} else {
+				//태그를 시작하지 않는 '<'는 문자입니다.
+				end = i + 1;
+			}
+
+			if (end >= length) {
+				break;
+			}
+			i = html.indexOf('<', end);
+		}
+
+		fragments.add(html.substring(start));
+		return fragments;
+	}
+
+	/**
+	 * 태그 이름의 다음 위치를 반환합니다.
+	 */
+	private static int tagNameEnd(String html, int from) {
+		int i = from;
+		while (i < html.length() && !isTagNameTerminator(html.charAt(i))) {
+			i++;
+		}
+		return i;
+	}
+
+	/**
+	 * 속성들을 건너뛰어 태그를 닫는 '&gt;'의 다음 위치를 반환합니다.
+	 * 속성값 밖에 있는 '&gt;'만 태그를 닫습니다. 태그가 닫히지 않았다면 입력의 길이를 반환합니다.
+	 */
+	private static int skipTag(String html, int from) {
+		int length = html.length();
+		int i = from;
+		while (i < length) {
+			char c = html.charAt(i);
+			if (c == '>') {
+				return i + 1;
+			}
+			if (c == '=') {
+				i = skipAttributeValue(html, i + 1);
+			} else {
+				i++;
+			}
+		}
+		return length;
+	}
+
+	/**
+	 * '=' 다음의 속성값을 건너뛴 위치를 반환합니다.
+	 * 따옴표로 감싼 값은 같은 따옴표까지, 감싸지 않은 값은 공백이나 '&gt;' 이전까지입니다.
+	 */
+	private static int skipAttributeValue(String html, int from) {
+		int length = html.length();
+		int i = from;
+		while (i < length && Character.isWhitespace(html.charAt(i))) {
+			i++;
+		}
+		if (i >= length) {
+			return length;
+		}
+
+		char quote = html.charAt(i);
+		if (quote == '"' || quote == '\'') {
+			int closing = html.indexOf(quote, i + 1);
+			return closing < 0 ? length : closing + 1;
+		}
+
+		while (i < length && !Character.isWhitespace(html.charAt(i)) && html.charAt(i) != '>') {
+			i++;
+		}
+		return i;
+	}
+
+	/**
+	 * 요소의 닫는 태그를 대소문자에 관계없이 찾아 그 위치를 반환합니다. 닫는 태그가 없다면 입력의 길이를 반환합니다.
+	 */
+	private static int skipRawText(String html, String name, int from) {
+		int length = html.length();
+		int i = html.indexOf("</", from);
+		while (i >= 0) {
+			int nameEnd = i + 2 + name.length();
+			if (html.regionMatches(true, i + 2, name, 0, name.length())
+				&& (nameEnd >= length || isTagNameTerminator(html.charAt(nameEnd)))) {
+				return i;
+			}
+			i = html.indexOf("</", i + 2);
+		}
+		return length;
+	}
+
+	/**
+	 * terminator 다음 위치를 반환합니다. 없다면 입력의 길이를 반환합니다.
+	 */
+	private static int skipPast(String html, String terminator, int from) {
+		int found = html.indexOf(terminator, from);
+		return found < 0 ? html.length() : found + terminator.length();
+	}
+
+	private static boolean isHeading(String name) {
+		return name.length() == 2 && name.charAt(0) == 'h' && name.charAt(1) >= '1' && name.charAt(1) <= '6';
+	}
+
+	private static boolean isTagNameTerminator(char c) {
+		return Character.isWhitespace(c) || c == '/' || c == '>';
+	}
+
+	private static boolean isAsciiLetter(char c) {
+		return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z');
+	}
+}
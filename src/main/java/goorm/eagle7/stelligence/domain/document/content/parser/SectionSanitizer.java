@@ -0,0 +1,197 @@
+package goorm.eagle7.stelligence.domain.document.content.parser;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.owasp.html.PolicyFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import goorm.eagle7.stelligence.domain.section.model.SectionBody;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * HTML 조각을 Sanitize하고 결과를 캐시합니다.
+ *
+ * <p>결과는 원본의 SHA-256 해시를 키로 LRU 캐시에 저장합니다. 수정요청에서 변경되지 않은 섹션이나
+ * 같은 틀의 본문은 다시 Sanitize하지 않습니다. 캐시는 저장된 결과의 전체 문자 수로 크기를 제한합니다.
+ *
+ * <p>조각이 많은 큰 문서는 크기가 제한된 스레드 풀에서 조각들을 병렬로 Sanitize합니다.
+ * 풀의 대기열이 가득 차면 호출한 스레드에서 직접 수행하므로, 요청이 몰리더라도 스레드와 대기 작업이 늘어나지 않습니다.
+ *
+ * <p><b>METRICS</b>
+ * <ul>
+ *     <li>html.sanitize : 캐시에 없어 실제로 Sanitize한 시간</li>
+ *     <li>html.sanitize.cache{result=hit|miss} : 캐시 조회 횟수</li>
+ *     <li>html.sanitize.cache.hit.ratio : 시작 이후의 캐시 적중률</li>
+ *     <li>html.sanitize.cache.size : 캐시된 결과의 전체 문자 수</li>
+ * </ul>
+ */
+@Slf4j
+@Component
+public class SectionSanitizer {
+
+	/**
+	 * 전체 길이가 이보다 짧은 문서는 병렬로 처리하지 않습니다.
+	 */
+	static final int PARALLEL_THRESHOLD_CHARS = 64 * 1024;
+
+	private final PolicyFactory policyFactory;
+	private final SanitizedCache cache;
+	private final ThreadPoolExecutor executor;
+
+	private final Timer sanitizeTimer;
+	private final Counter hitCounter;
+	private final Counter missCounter;
+
+	public SectionSanitizer(PolicyFactory policyFactory, MeterRegistry meterRegistry,
+		@Value("${html.sanitize.cache.max-chars:16777216}") long maxCachedChars,
+		@Value("${html.sanitize.pool-size:#{T(java.lang.Runtime).getRuntime().availableProcessors()}}") int poolSize) {
+		this.policyFactory = policyFactory;
+		this.cache = new SanitizedCache(maxCachedChars);
+		this.executor = createExecutor(poolSize);
+
+		this.sanitizeTimer = Timer.builder("html.sanitize")
+			.description("캐시에 없어 실제로 Sanitize한 시간")
+			.register(meterRegistry);
+		this.hitCounter = Counter.builder("html.sanitize.cache").tag("result", "hit").register(meterRegistry);
+		this.missCounter = Counter.builder("html.sanitize.cache").tag("result", "miss").register(meterRegistry);
+		Gauge.builder("html.sanitize.cache.hit.ratio", this, SectionSanitizer::hitRatio).register(meterRegistry);
+		Gauge.builder("html.sanitize.cache.size", cache, SanitizedCache::weight).register(meterRegistry);
+	}
+
+	/**
+	 * HTML 조각 하나를 Sanitize합니다.
+	 * @param html Sanitize할 HTML, null이라면 null을 반환합니다.
+	 * @return Sanitize된 HTML
+	 */
+	public String sanitize(String html) {
+		if (html == null || html.isEmpty()) {
+			return html;
+		}
+
+		String key = SectionBody.hash(html);
+		String cached = cache.get(key);
+		if (cached != null) {
+			hitCounter.increment();
+			return cached;
+		}
+
+		missCounter.increment();
+		String sanitized = sanitizeTimer.record(() -> policyFactory.sanitize(html));
+		cache.put(key, sanitized);
+		return sanitized;
+	}
+
+	/**
+	 * 여러 HTML 조각을 Sanitize합니다. 전체 길이가 충분히 길다면 병렬로 처리합니다.
+	 * @param fragments Sanitize할 HTML 조각들
+	 * @return 같은 순서로 정렬된 Sanitize 결과
+	 */
+	public List<String> sanitizeAll(List<String> fragments) {
+		long totalLength = fragments.stream().mapToLong(String::length).sum();
+		if (fragments.size() < 2 || totalLength < PARALLEL_THRESHOLD_CHARS) {
+			return fragments.stream().map(this::sanitize).toList();
+		}
+
+		List<Future<String>> futures = new ArrayList<>(fragments.size());
+		for (String fragment : fragments) {
+			futures.add(executor.submit(() -> sanitize(fragment)));
+		}
+
+		List<String> results = new ArrayList<>(fragments.size());
+		try {
+			for (Future<String> future : futures) {
+				results.add(future.get());
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			futures.forEach(future -> future.cancel(true));
+			throw new IllegalStateException("HTML Sanitize가 중단되었습니다.", e);
+		} catch (ExecutionException e) {
+			futures.forEach(future -> future.cancel(true));
+			throw new IllegalStateException("HTML Sanitize 중 오류가 발생했습니다.", e.getCause());
+		}
+		return results;
+	}
+
+	@PreDestroy
+	void shutdown() {
+		executor.shutdownNow();
+	}
+
+	private double hitRatio() {
+		double hits = hitCounter.count();
+		double total = hits + missCounter.count();
+		return total == 0 ? 0 : hits / total;
+	}
+
+	private static ThreadPoolExecutor createExecutor(int poolSize) {
+		AtomicInteger threadNumber = new AtomicInteger();
+		return new ThreadPoolExecutor(poolSize, poolSize, 60L, TimeUnit.SECONDS,
+			new ArrayBlockingQueue<>(poolSize * 16),
+			runnable -> {
+				Thread thread = new Thread(runnable, "html-sanitize-" + threadNumber.incrementAndGet());
+				thread.setDaemon(true);
+				return thread;
+			},
+			new ThreadPoolExecutor.CallerRunsPolicy());
+	}
+
+	/**
+	 * 저장된 값의 전체 문자 수로 크기를 제한하는 LRU 캐시입니다.
+	 */
+	static class SanitizedCache {
+
+		private final long maxWeight;
+		private final LinkedHashMap<String, String> entries = new LinkedHashMap<>(256, 0.75f, true);
+		private long weight;
+
+		SanitizedCache(long maxWeight) {
+			this.maxWeight = maxWeight;
+		}
+
+		synchronized String get(String key) {
+			return entries.get(key);
+		}
+
+		synchronized void put(String key, String value) {
+			//캐시 전체보다 큰 값은 저장하지 않습니다.
+			if (value.length() > maxWeight) {
+				return;
+			}
+
+			String previous = entries.put(key, value);
+			weight += value.length() - (previous == null ? 0 : previous.length());
+
+			Iterator<Map.Entry<String, String>> iterator = entries.entrySet().iterator();
+			while (weight > maxWeight && iterator.hasNext()) {
+				Map.Entry<String, String> eldest = iterator.next();
+				weight -= eldest.getValue().length();
+				iterator.remove();
+			}
+		}
+
+		synchronized long weight() {
+			return weight;
+		}
+
+		synchronized int size() {
+			return entries.size();
+		}
+	}
+}
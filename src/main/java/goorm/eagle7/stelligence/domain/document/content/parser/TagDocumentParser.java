@@ -1,31 +1,27 @@
 package goorm.eagle7.stelligence.domain.document.content.parser;
 
-import java.util.ArrayList;
 import java.util.List;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
 
-import org.owasp.html.PolicyFactory;
 import org.springframework.stereotype.Component;
 
 import goorm.eagle7.stelligence.domain.document.content.dto.SectionRequest;
-import goorm.eagle7.stelligence.domain.section.model.Heading;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
 /**
  * HTML 태그로 들어온 문서를 파싱하여 SectionRequest로 변환하는 클래스입니다.
+ *
+ * <p>문서를 heading 단위의 조각으로 나누어 조각별로 Sanitize합니다.
+ * Sanitize 결과는 조각의 내용을 기준으로 캐시되므로, 일부 섹션만 변경된 문서는 변경된 섹션만 다시 Sanitize합니다.
+ * 조각은 HTML을 토큰 단위로 읽어 실제 heading 태그에서만 나누므로, 주석이나 속성값, script 안에 적힌 heading은
+ * 조각의 경계가 되지 않습니다. (HeadingSplitter 참조) 섹션은 Sanitize된 결과를 이어 붙인 뒤 나눕니다.
  */
 @Slf4j
 @Component
 @RequiredArgsConstructor
 public class TagDocumentParser implements DocumentParser {
 
-	private final PolicyFactory policyFactory;
-
-	// Heading 태그를 기반으로 문서를 파싱하기 위한 정규식
-	private static final Pattern HEADING_TAG_PATTERN = Pattern.compile(
-		"(<h([1-6])>(.*?)</h\\2>)(.*?)(?=<h[1-6]>|$)", Pattern.DOTALL);
+	private final SectionSanitizer sectionSanitizer;
 
 	/**
 	 * HTML 태그로 들어온 문서를 파싱하여 SectionRequest로 변환합니다.
@@ -34,20 +30,11 @@ public class TagDocumentParser implements DocumentParser {
 	 */
 	@Override
 	public List<SectionRequest> parse(String rawContent) {
-		// 악성 스크립트를 방지하기 위해 HTML를 필터링합니다.
-		String sanitizedContent = policyFactory.sanitize(rawContent);
-
-		List<SectionRequest> sectionRequests = new ArrayList<>();
-		Matcher matcher = HEADING_TAG_PATTERN.matcher(sanitizedContent);
-
-		while (matcher.find()) {
-			Heading heading = Heading.valueOf("H" + matcher.group(2)); // h 태그의 숫자를 Heading enum의 이름으로 사용합니다.
-			String title = matcher.group(3); // 타이틀은 h 태그 사이의 내용입니다.
-			String content = matcher.group(4).trim(); // 콘텐츠는 다음 h 태그 전까지입니다.
-
-			sectionRequests.add(new SectionRequest(heading, title, content));
-		}
+		// 악성 스크립트를 방지하기 위해 HTML를 섹션 단위로 필터링합니다.
+		List<String> sanitizedFragments = sectionSanitizer.sanitizeAll(HeadingSplitter.split(rawContent));
+		String sanitizedContent = String.join("", sanitizedFragments);
 
-		return sectionRequests;
+		// Heading 태그를 기준으로 섹션을 나눕니다.
+		return HeadingScanner.scan(sanitizedContent);
 	}
 }
@@ -0,0 +1,8 @@
+package goorm.eagle7.stelligence.domain.document.content.search;
+
+/**
+ * 커밋된 문서의 본문이 현재 서버의 검색 색인에 반영되었음을 나타냅니다.
+ * @param documentId 색인된 문서의 ID
+ */
+public record ContentIndexedEvent(Long documentId) {
+}
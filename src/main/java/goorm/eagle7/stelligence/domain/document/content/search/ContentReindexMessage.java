@@ -0,0 +1,9 @@
+package goorm.eagle7.stelligence.domain.document.content.search;
+
+/**
+ * 다른 서버의 검색 색인에 문서를 다시 색인하도록 Redis 채널로 전달하는 메시지입니다.
+ * @param origin 메시지를 보낸 서버의 ID, 자신이 보낸 메시지는 무시합니다.
+ * @param documentId 다시 색인할 문서의 ID
+ */
+record ContentReindexMessage(String origin, Long documentId) {
+}
@@ -0,0 +1,190 @@
+package goorm.eagle7.stelligence.domain.document.content.search;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import goorm.eagle7.stelligence.domain.document.content.DocumentContentRepository;
+import goorm.eagle7.stelligence.domain.document.content.dto.LatestSectionContent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 최신 버전 섹션 본문에 대한 검색 색인을 관리합니다.
+ *
+ * <p>색인은 애플리케이션 메모리에만 존재하므로 애플리케이션이 시작될 때 DB로부터 다시 생성됩니다.
+ * 이후 문서가 생성되거나 수정요청이 반영되면 해당 문서만 다시 색인합니다.
+ * 색인은 트랜잭션이 커밋된 이후에 반영되므로, 롤백된 변경사항은 검색되지 않습니다.
+ *
+ * <p>색인을 다시 생성하는 동안 반영된 변경사항은 기존 색인에 반영하는 동시에 기록해두고,
+ * 새로운 색인으로 교체하기 직전에 새로운 색인에도 반영합니다.
+ * 따라서 다시 생성하기 위해 읽은 본문보다 나중에 커밋된 변경사항이 교체로 인해 사라지지 않습니다.
+ *
+ * <p><b>SYNCHRONIZATION</b> 색인은 서버마다 따로 존재하므로, 커밋 이후 색인에 반영하면서 ContentIndexedEvent를 발행합니다.
+ * ContentSearchIndexSynchronizer는 이를 Redis 채널로 다른 서버에 전달하고, 메시지를 받은 서버는 {@link #reindex(Long)}로
+ * 커밋된 본문을 다시 읽어 반영합니다. Redis의 pub/sub은 전달을 보장하지 않으므로, 유실된 변경사항은 다음 재생성 때 반영됩니다.
+ *
+ * @see NGramIndex
+ */
+@Slf4j
+@Service
+@Transactional(readOnly = true)
+@RequiredArgsConstructor
+public class ContentSearchIndex {
+
+	private final DocumentContentRepository documentContentRepository;
+	private final ApplicationEventPublisher eventPublisher;
+
+	private volatile NGramIndex index = new NGramIndex();
+
+	/**
+	 * 색인의 교체와 변경사항의 반영이 서로 엇갈리지 않도록 보호합니다.
+	 */
+	private final Object updateLock = new Object();
+
+	/**
+	 * 색인을 다시 생성하는 동안 반영된 문서별 본문입니다. 다시 생성하고 있지 않다면 null입니다.
+	 * updateLock으로 보호됩니다.
+	 */
+	private Map<Long, List<String>> updatesDuringRebuild;
+
+	/**
+	 * 특정 문자열을 포함하는 Document의 ID를 조회합니다. 최신 버전의 섹션만 조사의 대상이 됩니다.
+	 * 대소문자는 구분하지 않습니다.
+	 * @param keyword 검색할 문자열
+	 * @return 문자열이 많이 등장하는 순서로 정렬된 Document의 ID 목록
+	 */
+	public List<Long> search(String keyword) {
+		return index.search(keyword);
+	}
+
+	/**
+	 * 모든 문서의 최신 버전 섹션 본문을 스트리밍하여 색인을 새로 생성합니다.
+	 * 생성이 끝나면 기존의 색인을 대체하므로, 생성 중에도 기존 색인으로 검색할 수 있습니다.
+	 * 생성 중에 반영된 변경사항은 교체 직전에 새로운 색인에 다시 반영합니다.
+	 * 동시에 여러 번 호출되면 순서대로 수행합니다.
+	 * @return 색인된 문서의 수
+	 */
+	public synchronized int rebuild() {
+		NGramIndex newIndex = new NGramIndex();
+		synchronized (updateLock) {
+			updatesDuringRebuild = new LinkedHashMap<>();
+		}
+
+		try {
+			readAll(newIndex);
+		} catch (RuntimeException e) {
+			synchronized (updateLock) {
+				updatesDuringRebuild = null;
+			}
+			throw e;
+		}
+
+		//읽는 동안 반영된 변경사항이 읽은 본문보다 최신이므로 덮어쓴 뒤 교체합니다.
+		synchronized (updateLock) {
+			updatesDuringRebuild.forEach(newIndex::index);
+			index = newIndex;
+			updatesDuringRebuild = null;
+		}
+		return newIndex.size();
+	}
+
+	private void readAll(NGramIndex newIndex) {
+		try (Stream<LatestSectionContent> contents = documentContentRepository.streamLatestSectionContents()) {
+			Iterator<LatestSectionContent> iterator = contents.iterator();
+			Long currentDocumentId = null;
+			List<String> currentContents = new ArrayList<>();
+
+			//본문은 문서 ID 순서로 정렬되어 있으므로 문서가 바뀔 때마다 색인합니다.
+			while (iterator.hasNext()) {
+				LatestSectionContent content = iterator.next();
+				if (currentDocumentId != null && !currentDocumentId.equals(content.documentId())) {
+					newIndex.index(currentDocumentId, currentContents);
+					currentContents = new ArrayList<>();
+				}
+				currentDocumentId = content.documentId();
+				currentContents.add(content.content());
+			}
+			if (currentDocumentId != null) {
+				newIndex.index(currentDocumentId, currentContents);
+			}
+		}
+	}
+
+	/**
+	 * 문서의 최신 버전 섹션 본문을 조회하여, 현재 트랜잭션이 커밋되면 색인에 반영합니다.
+	 * 본문은 현재 트랜잭션 안에서 조회하므로 아직 커밋되지 않은 변경사항도 포함됩니다.
+	 * @param documentId 다시 색인할 문서의 ID
+	 */
+	public void reindexOnCommit(Long documentId) {
+		indexOnCommit(documentId, findLatestContents(documentId));
+	}
+
+	/**
+	 * 문서의 최신 버전 섹션 본문을 조회하여 즉시 색인에 반영합니다.
+	 * 다른 서버에서 커밋된 변경사항을 반영할 때 사용하며, 이벤트를 발행하지 않습니다.
+	 * @param documentId 다시 색인할 문서의 ID
+	 */
+	public void reindex(Long documentId) {
+		apply(documentId, findLatestContents(documentId));
+		log.debug("document content reindexed by other server. documentId : {}", documentId);
+	}
+
+	/**
+	 * 현재 트랜잭션이 커밋되면 문서의 본문을 색인에 반영합니다.
+	 * 트랜잭션이 없다면 즉시 반영합니다.
+	 * @param documentId 색인할 문서의 ID
+	 * @param contents 문서의 최신 버전 섹션 본문들
+	 */
+	public void indexOnCommit(Long documentId, List<String> contents) {
+		if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+			applyAndPublish(documentId, contents);
+			return;
+		}
+
+		TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+			@Override
+			public void afterCommit() {
+				applyAndPublish(documentId, contents);
+				log.debug("document content indexed. documentId : {}", documentId);
+			}
+		});
+	}
+
+	private List<String> findLatestContents(Long documentId) {
+		return documentContentRepository.findLatestSectionContentsByDocumentId(documentId)
+			.stream()
+			.map(LatestSectionContent::content)
+			.toList();
+	}
+
+	/**
+	 * 현재 서버의 색인에 반영하고, 다른 서버에도 반영되도록 이벤트를 발행합니다.
+	 */
+	private void applyAndPublish(Long documentId, List<String> contents) {
+		apply(documentId, contents);
+		eventPublisher.publishEvent(new ContentIndexedEvent(documentId));
+	}
+
+	/**
+	 * 현재 색인에 문서의 본문을 반영합니다.
+	 * 색인을 다시 생성하는 중이라면 교체 직전에 새로운 색인에도 반영할 수 있도록 기록합니다.
+	 */
+	private void apply(Long documentId, List<String> contents) {
+		synchronized (updateLock) {
+			index.index(documentId, contents);
+			if (updatesDuringRebuild != null) {
+				updatesDuringRebuild.put(documentId, contents);
+			}
+		}
+	}
+}
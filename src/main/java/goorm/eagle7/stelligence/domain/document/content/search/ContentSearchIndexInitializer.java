@@ -0,0 +1,27 @@
+package goorm.eagle7.stelligence.domain.document.content.search;
+
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.stereotype.Component;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 애플리케이션이 시작될 때 DB로부터 본문 검색 색인을 생성합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+class ContentSearchIndexInitializer implements ApplicationRunner {
+
+	private final ContentSearchIndex contentSearchIndex;
+
+	@Override
+	public void run(ApplicationArguments args) {
+		long start = System.currentTimeMillis();
+		int indexed = contentSearchIndex.rebuild();
+		log.info("본문 검색 색인 생성 완료. 색인된 문서 : {}, 소요 시간 : {}ms", indexed,
+			System.currentTimeMillis() - start);
+	}
+}
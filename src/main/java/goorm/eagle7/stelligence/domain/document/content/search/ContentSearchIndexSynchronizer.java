@@ -0,0 +1,79 @@
+package goorm.eagle7.stelligence.domain.document.content.search;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 서버마다 따로 존재하는 본문 검색 색인을 Redis pub/sub으로 동기화합니다.
+ *
+ * <p>현재 서버의 색인에 커밋된 문서가 반영되면 REINDEX_CHANNEL로 문서 ID를 발행하고,
+ * 이 채널을 구독하는 다른 서버들은 DB에서 커밋된 본문을 다시 읽어 색인에 반영합니다.
+ * 본문 대신 문서 ID만 전달하므로 메시지의 크기는 본문의 크기와 관계없습니다.
+ * 발행에 실패하더라도 현재 서버의 색인과 트랜잭션에는 영향이 없습니다.
+ *
+ * @see goorm.eagle7.stelligence.common.cache.TwoLevelCacheManager 같은 방식으로 로컬 캐시를 무효화합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ContentSearchIndexSynchronizer implements MessageListener {
+
+	public static final String REINDEX_CHANNEL = "search:reindex";
+
+	private final ContentSearchIndex contentSearchIndex;
+	private final StringRedisTemplate redisTemplate;
+
+	private final ObjectMapper objectMapper = new ObjectMapper();
+	private final String nodeId = UUID.randomUUID().toString();
+
+	/**
+	 * 현재 서버의 색인에 반영된 문서를 다른 서버에 알립니다.
+	 */
+	@EventListener
+	public void publish(ContentIndexedEvent event) {
+		try {
+			redisTemplate.convertAndSend(REINDEX_CHANNEL,
+				objectMapper.writeValueAsString(new ContentReindexMessage(nodeId, event.documentId())));
+		} catch (IOException | DataAccessException e) {
+			log.warn("content reindex publish failed. documentId : {}", event.documentId(), e);
+		}
+	}
+
+	/**
+	 * 다른 서버에서 발행한 메시지를 받아 문서를 다시 색인합니다.
+	 */
+	@Override
+	public void onMessage(Message message, byte[] pattern) {
+		ContentReindexMessage reindex;
+		try {
+			reindex = objectMapper.readValue(message.getBody(), ContentReindexMessage.class);
+		} catch (IOException e) {
+			log.warn("invalid content reindex message : {}", new String(message.getBody(), StandardCharsets.UTF_8), e);
+			return;
+		}
+
+		//자신이 발행한 메시지는 이미 반영되어 있습니다.
+		if (nodeId.equals(reindex.origin())) {
+			return;
+		}
+
+		try {
+			contentSearchIndex.reindex(reindex.documentId());
+		} catch (DataAccessException e) {
+			log.warn("content reindex failed. documentId : {}", reindex.documentId(), e);
+		}
+	}
+}
@@ -0,0 +1,618 @@
+package goorm.eagle7.stelligence.domain.document.content.search;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 문서 본문에 대한 문자 2-gram 역색인입니다.
+ *
+ * <p>본문을 소문자로 바꾼 뒤 연속된 두 문자를 하나의 gram으로 하여, gram마다 해당 gram이 등장하는 문서와 위치를 기록합니다.
+ * 형태소 분석 없이 문자 단위로 색인하므로 한글과 같이 띄어쓰기만으로 단어를 나눌 수 없는 본문도 부분 문자열로 검색할 수 있습니다.
+ * 검색어를 구성하는 gram들이 연속된 위치에 등장하는 문서만을 찾으므로, 결과는 대소문자를 구분하지 않는 부분 문자열 검색과 같습니다.
+ * 섹션의 마지막 문자는 SECTION_END와 gram을 이루므로 섹션의 경계를 넘어서 검색어가 일치하지는 않습니다.
+ *
+ * <p>포스팅은 gram마다 하나의 byte 배열에 (내부 문서 번호의 차이, 등장 횟수, 위치의 차이들)을 가변 길이 정수로 이어서 저장합니다.
+ * 내부 문서 번호는 색인될 때마다 증가하는 값으로 부여되므로 포스팅은 항상 내부 문서 번호 순서로 정렬되어 있고, 뒤에 덧붙이기만 하면 됩니다.
+ * 문서가 다시 색인되거나 삭제되면 이전 번호는 삭제된 것으로 표시만 하고, 삭제된 번호가 살아있는 번호보다 많아지면 포스팅을 다시 작성합니다.
+ *
+ * <p>gram별 포스팅과 문서 ID별 내부 문서 번호는 키를 박싱하지 않도록 기본형 배열 기반의 open addressing 해시 테이블에 저장합니다.
+ *
+ * <p>색인과 검색은 ReadWriteLock으로 보호되며, 여러 스레드에서 동시에 검색할 수 있습니다.
+ */
+public class NGramIndex {
+
+	/**
+	 * 섹션의 끝을 나타내는 문자입니다.
+	 */
+	private static final char SECTION_END = '\0';
+
+	/**
+	 * 삭제된 내부 문서 번호가 이 값 이상이고, 살아있는 번호보다 많아지면 포스팅을 다시 작성합니다.
+	 */
+	static final int COMPACT_THRESHOLD = 1024;
+
+	private PostingTable postings = new PostingTable(1024);
+	private final OrdinalTable ordinalByDocumentId = new OrdinalTable();
+	private long[] documentIds = new long[64];
+	private final BitSet deleted = new BitSet();
+	private int nextOrdinal;
+	private int deletedCount;
+
+	private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+	/**
+	 * 문서의 본문을 색인합니다. 이미 색인된 문서라면 이전 본문을 대체합니다.
+	 * @param documentId 문서 ID
+	 * @param contents 문서를 구성하는 섹션들의 본문, 비어있다면 문서를 색인에서 제외합니다.
+	 */
+	public void index(Long documentId, List<String> contents) {
+		//색인할 gram은 락을 잡기 전에 계산합니다.
+		long[] grams = extractGrams(contents);
+
+		lock.writeLock().lock();
+		try {
+			markDeleted(documentId);
+			if (!contents.isEmpty()) {
+				appendPostings(allocateOrdinal(documentId), grams);
+			}
+			if (deletedCount >= COMPACT_THRESHOLD && deletedCount > nextOrdinal - deletedCount) {
+				compact();
+			}
+		} finally {
+			lock.writeLock().unlock();
+		}
+	}
+
+	/**
+	 * 문서를 색인에서 제외합니다.
+	 * @param documentId 문서 ID
+	 */
+	public void remove(Long documentId) {
+		index(documentId, List.of());
+	}
+
+	/**
+	 * 검색어를 포함하는 문서를 찾습니다. 대소문자는 구분하지 않습니다.
+	 * @param keyword 검색어, 비어있다면 색인된 모든 문서를 반환합니다.
+	 * @return 검색어가 많이 등장하는 순서로 정렬된 문서 ID 목록, 등장 횟수가 같다면 문서 ID 순서로 정렬됩니다.
+	 */
+	public List<Long> search(String keyword) {
+		String text = keyword.toLowerCase(Locale.ROOT);
+
+		lock.readLock().lock();
+		try {
+			//내부 문서 번호별 등장 횟수
+			int[] scores = new int[nextOrdinal];
+
+			if (text.isEmpty()) {
+				Arrays.fill(scores, 1);
+			} else if (text.length() == 1) {
+				scoreCharacter(text.charAt(0), scores);
+			} else {
+				scorePhrase(text, scores);
+			}
+			return rank(scores);
+		} finally {
+			lock.readLock().unlock();
+		}
+	}
+
+	/**
+	 * 색인된 문서의 수를 반환합니다.
+	 */
+	public int size() {
+		lock.readLock().lock();
+		try {
+			return nextOrdinal - deletedCount;
+		} finally {
+			lock.readLock().unlock();
+		}
+	}
+
+	/**
+	 * 본문의 gram과 위치를 (gram &lt;&lt; 32 | 위치)로 묶어, gram과 위치 순서로 정렬하여 반환합니다.
+	 */
+	private static long[] extractGrams(List<String> contents) {
+		//소문자로 바꾸면 길이가 늘어날 수 있으므로(U+0130 등) 바꾼 뒤의 길이로 배열을 만듭니다.
+		List<String> texts = new ArrayList<>(contents.size());
+		int length = 0;
+		for (String content : contents) {
+			String text = content.toLowerCase(Locale.ROOT);
+			texts.add(text);
+			length += text.length();
+		}
+
+		long[] grams = new long[length];
+		int position = 0;
+		for (String text : texts) {
+			for (int i = 0; i < text.length(); i++) {
+				char next = i + 1 < text.length() ? text.charAt(i + 1) : SECTION_END;
+				grams[position] = ((long)gram(text.charAt(i), next) << 32) | position;
+				position++;
+			}
+		}
+
+		//gram 값의 부호와 관계없이 같은 gram은 연속되고, 같은 gram 안에서는 위치 순서로 정렬됩니다.
+		Arrays.sort(grams, 0, position);
+		return position == grams.length ? grams : Arrays.copyOf(grams, position);
+	}
+
+	private static int gram(char first, char second) {
+		return (first << 16) | second;
+	}
+
+	private int allocateOrdinal(Long documentId) {
+		if (nextOrdinal == documentIds.length) {
+			documentIds = Arrays.copyOf(documentIds, documentIds.length * 2);
+		}
+		int ordinal = nextOrdinal++;
+		documentIds[ordinal] = documentId;
+		ordinalByDocumentId.put(documentId, ordinal);
+		return ordinal;
+	}
+
+	private void markDeleted(Long documentId) {
+		int ordinal = ordinalByDocumentId.remove(documentId);
+		if (ordinal != OrdinalTable.ABSENT) {
+			deleted.set(ordinal);
+			deletedCount++;
+		}
+	}
+
+	private void appendPostings(int ordinal, long[] grams) {
+		int[] positions = new int[16];
+		int start = 0;
+		while (start < grams.length) {
+			int gram = (int)(grams[start] >>> 32);
+			int end = start;
+			while (end < grams.length && (int)(grams[end] >>> 32) == gram) {
+				if (end - start == positions.length) {
+					positions = Arrays.copyOf(positions, positions.length * 2);
+				}
+				positions[end - start] = (int)grams[end];
+				end++;
+			}
+			postings.getOrCreate(gram).add(ordinal, positions, end - start);
+			start = end;
+		}
+	}
+
+	/**
+	 * 삭제된 내부 문서 번호를 제외하고 번호를 다시 부여하여 포스팅을 다시 작성합니다.
+	 * 번호의 순서는 유지되므로 포스팅의 정렬도 유지됩니다.
+	 */
+	void compact() {
+		lock.writeLock().lock();
+		try {
+			int[] remap = new int[nextOrdinal];
+			long[] compactedIds = new long[Math.max(64, nextOrdinal - deletedCount)];
+			int live = 0;
+			for (int ordinal = 0; ordinal < nextOrdinal; ordinal++) {
+				if (deleted.get(ordinal)) {
+					remap[ordinal] = -1;
+				} else {
+					remap[ordinal] = live;
+					compactedIds[live] = documentIds[ordinal];
+					ordinalByDocumentId.put(documentIds[ordinal], live);
+					live++;
+				}
+			}
+
+			PostingTable compactedPostings = new PostingTable(postings.size());
+			for (int slot = 0; slot < postings.capacity(); slot++) {
+				PostingList list = postings.valueAt(slot);
+				if (list == null) {
+					continue;
+				}
+				PostingList compacted = list.compact(remap);
+				if (compacted.documentCount > 0) {
+					compactedPostings.put(postings.keyAt(slot), compacted);
+				}
+			}
+
+			postings = compactedPostings;
+			documentIds = compactedIds;
+			nextOrdinal = live;
+			deleted.clear();
+			deletedCount = 0;
+		} finally {
+			lock.writeLock().unlock();
+		}
+	}
+
+	/**
+	 * 한 글자 검색어는 해당 문자로 시작하는 모든 gram의 등장 횟수를 더합니다.
+	 * 모든 문자는 정확히 하나의 gram의 첫 문자이므로 문자의 등장 횟수와 같습니다.
+	 */
+	private void scoreCharacter(char character, int[] scores) {
+		for (int slot = 0; slot < postings.capacity(); slot++) {
+			PostingList list = postings.valueAt(slot);
+			if (list == null || (char)(postings.keyAt(slot) >>> 16) != character) {
+				continue;
+			}
+			PostingCursor cursor = list.cursor();
+			while (cursor.next()) {
+				if (!deleted.get(cursor.ordinal)) {
+					scores[cursor.ordinal] += cursor.frequency;
+				}
+			}
+		}
+	}
+
+	/**
+	 * 검색어를 구성하는 gram들의 포스팅을 내부 문서 번호 순서로 교차하고,
+	 * 교차된 문서에서 gram들이 연속된 위치에 등장하는 횟수를 셉니다.
+	 */
+	private void scorePhrase(String text, int[] scores) {
+		PostingCursor[] cursors = new PostingCursor[text.length() - 1];
+		for (int i = 0; i < cursors.length; i++) {
+			PostingList list = postings.get(gram(text.charAt(i), text.charAt(i + 1)));
+			if (list == null) {
+				return;
+			}
+			cursors[i] = list.cursor();
+			if (!cursors[i].next()) {
+				return;
+			}
+		}
+
+		while (true) {
+			int target = 0;
+			for (PostingCursor cursor : cursors) {
+				target = Math.max(target, cursor.ordinal);
+			}
+
+			boolean aligned = true;
+			for (PostingCursor cursor : cursors) {
+				while (cursor.ordinal < target) {
+					if (!cursor.next()) {
+						return;
+					}
+				}
+				aligned &= cursor.ordinal == target;
+			}
+			if (!aligned) {
+				continue;
+			}
+
+			if (!deleted.get(target)) {
+				scores[target] = countPhrase(cursors);
+			}
+			if (!cursors[0].next()) {
+				return;
+			}
+		}
+	}
+
+	private static int countPhrase(PostingCursor[] cursors) {
+		int[] firstPositions = cursors[0].positions();
+		int count = 0;
+		for (int i = 0; i < cursors[0].frequency; i++) {
+			int start = firstPositions[i];
+			boolean matched = true;
+			for (int offset = 1; offset < cursors.length && matched; offset++) {
+				matched = Arrays.binarySearch(cursors[offset].positions(), 0, cursors[offset].frequency,
+					start + offset) >= 0;
+			}
+			if (matched) {
+				count++;
+			}
+		}
+		return count;
+	}
+
+	private List<Long> rank(int[] scores) {
+		List<Integer> ordinals = new ArrayList<>();
+		for (int ordinal = 0; ordinal < scores.length; ordinal++) {
+			if (scores[ordinal] > 0 && !deleted.get(ordinal)) {
+				ordinals.add(ordinal);
+			}
+		}
+
+		ordinals.sort((a, b) -> scores[a] != scores[b]
+			? Integer.compare(scores[b], scores[a])
+			: Long.compare(documentIds[a], documentIds[b]));
+
+		return ordinals.stream().map(ordinal -> documentIds[ordinal]).toList();
+	}
+
+	/**
+	 * 하나의 gram에 대한 포스팅입니다. 가변 길이 정수로 압축되어 byte 배열에 저장됩니다.
+	 */
+	private static final class PostingList {
+
+		private byte[] buffer = new byte[16];
+		private int length;
+		private int lastOrdinal;
+		private int documentCount;
+
+		void add(int ordinal, int[] positions, int frequency) {
+			writeVarInt(ordinal - lastOrdinal);
+			writeVarInt(frequency);
+			int lastPosition = 0;
+			for (int i = 0; i < frequency; i++) {
+				writeVarInt(positions[i] - lastPosition);
+				lastPosition = positions[i];
+			}
+			lastOrdinal = ordinal;
+			documentCount++;
+		}
+
+		PostingList compact(int[] remap) {
+			PostingList compacted = new PostingList();
+			PostingCursor cursor = cursor();
+			while (cursor.next()) {
+				if (remap[cursor.ordinal] >= 0) {
+					compacted.add(remap[cursor.ordinal], cursor.positions(), cursor.frequency);
+				}
+			}
+			return compacted;
+		}
+
+		PostingCursor cursor() {
+			return new PostingCursor(this);
+		}
+
+		private void writeVarInt(int value) {
+			if (length + 5 > buffer.length) {
+				buffer = Arrays.copyOf(buffer, Math.max(buffer.length * 2, length + 5));
+			}
+			while ((value & ~0x7F) != 0) {
+				buffer[length++] = (byte)((value & 0x7F) | 0x80);
+				value >>>= 7;
+			}
+			buffer[length++] = (byte)value;
+		}
+	}
+
+	/**
+	 * 포스팅을 내부 문서 번호 순서로 읽습니다. 위치는 요청되었을 때만 해독합니다.
+	 */
+	private static final class PostingCursor {
+
+		private final PostingList list;
+		private int offset;
+		private int ordinal;
+		private int frequency;
+
+		private int positionsOffset;
+		private boolean positionsRead = true;
+		private int[] positions = new int[16];
+
+		PostingCursor(PostingList list) {
+			this.list = list;
+		}
+
+		boolean next() {
+			if (!positionsRead) {
+				//읽지 않은 위치들을 건너뜁니다.
+				for (int i = 0; i < frequency; i++) {
+					readVarInt();
+				}
+			}
+			if (offset >= list.length) {
+				return false;
+			}
+			ordinal += readVarInt();
+			frequency = readVarInt();
+			positionsOffset = offset;
+			positionsRead = false;
+			return true;
+		}
+
+		int[] positions() {
+			if (!positionsRead) {
+				if (positions.length < frequency) {
+					positions = new int[Math.max(frequency, positions.length * 2)];
+				}
+				offset = positionsOffset;
+				int position = 0;
+				for (int i = 0; i < frequency; i++) {
+					position += readVarInt();
+					positions[i] = position;
+				}
+				positionsRead = true;
+			}
+			return positions;
+		}
+
+		private int readVarInt() {
+			int value = 0;
+			int shift = 0;
+			byte current;
+			do {
+				current = list.buffer[offset++];
+				value |= (current & 0x7F) << shift;
+				shift += 7;
+			} while ((current & 0x80) != 0);
+			return value;
+		}
+	}
+
+	/**
+	 * gram을 키로 포스팅을 저장하는 선형 탐사 해시 테이블입니다. 포스팅은 삭제되지 않고, 재작성할 때 새로운 테이블로 옮겨집니다.
+	 */
+	private static final class PostingTable {
+
+		private int[] keys;
+		private PostingList[] values;
+		private int size;
+
+		PostingTable(int expectedSize) {
+			int capacity = Integer.highestOneBit(Math.max(16, expectedSize * 2 - 1)) << 1;
+			keys = new int[capacity];
+			values = new PostingList[capacity];
+		}
+
+		PostingList get(int gram) {
+			int mask = keys.length - 1;
+			for (int slot = hash(gram) & mask; values[slot] != null; slot = (slot + 1) & mask) {
+				if (keys[slot] == gram) {
+					return values[slot];
+				}
+			}
+			return null;
+		}
+
+		PostingList getOrCreate(int gram) {
+			PostingList list = get(gram);
+			if (list == null) {
+				list = new PostingList();
+				put(gram, list);
+			}
+			return list;
+		}
+
+		void put(int gram, PostingList list) {
+			if ((size + 1) * 4 > keys.length * 3) {
+				resize();
+			}
+			int mask = keys.length - 1;
+			int slot = hash(gram) & mask;
+			while (values[slot] != null && keys[slot] != gram) {
+				slot = (slot + 1) & mask;
+			}
+			if (values[slot] == null) {
+				size++;
+			}
+			keys[slot] = gram;
+			values[slot] = list;
+		}
+
+		int size() {
+			return size;
+		}
+
+		int capacity() {
+			return keys.length;
+		}
+
+		int keyAt(int slot) {
+			return keys[slot];
+		}
+
+		/**
+		 * 해당 위치의 포스팅을 반환합니다. 비어있는 위치라면 null입니다.
+		 */
+		PostingList valueAt(int slot) {
+			return values[slot];
+		}
+
+		private void resize() {
+			int[] oldKeys = keys;
+			PostingList[] oldValues = values;
+			keys = new int[oldKeys.length * 2];
+			values = new PostingList[oldKeys.length * 2];
+			size = 0;
+			for (int slot = 0; slot < oldKeys.length; slot++) {
+				if (oldValues[slot] != null) {
+					put(oldKeys[slot], oldValues[slot]);
+				}
+			}
+		}
+
+		private static int hash(int gram) {
+			int h = gram * 0x9E3779B9;
+			return h ^ (h >>> 16);
+		}
+	}
+
+	/**
+	 * 문서 ID를 키로 내부 문서 번호를 저장하는 선형 탐사 해시 테이블입니다.
+	 * 삭제할 때는 뒤따르는 항목들을 앞으로 당겨 탐사 경로가 끊기지 않도록 합니다.
+	 */
+	private static final class OrdinalTable {
+
+		/**
+		 * 키가 없음을 나타내며, 비어있는 위치의 값이기도 합니다.
+		 */
+		static final int ABSENT = -1;
+
+		private long[] keys = new long[64];
+		private int[] values = filled(64);
+		private int size;
+
+		void put(long documentId, int ordinal) {
+			if ((size + 1) * 4 > keys.length * 3) {
+				resize();
+			}
+			int mask = keys.length - 1;
+			int slot = hash(documentId) & mask;
+			while (values[slot] != ABSENT && keys[slot] != documentId) {
+				slot = (slot + 1) & mask;
+			}
+			if (values[slot] == ABSENT) {
+				size++;
+			}
+			keys[slot] = documentId;
+			values[slot] = ordinal;
+		}
+
+		/**
+		 * 키를 삭제하고 저장되어 있던 내부 문서 번호를 반환합니다.
+		 * @return 내부 문서 번호, 키가 없었다면 ABSENT
+		 */
+		int remove(long documentId) {
+			int mask = keys.length - 1;
+			for (int slot = hash(documentId) & mask; values[slot] != ABSENT; slot = (slot + 1) & mask) {
+				if (keys[slot] == documentId) {
+					int removed = values[slot];
+					shiftBack(slot);
+					size--;
+					return removed;
+				}
+			}
+			return ABSENT;
+		}
+
+		/**
+		 * 비워진 위치 뒤의 항목 중, 원래 위치에서 비워진 위치를 거쳐 탐사되는 항목을 비워진 위치로 옮깁니다.
+		 */
+		private void shiftBack(int hole) {
+			int mask = keys.length - 1;
+			int slot = hole;
+			while (true) {
+				slot = (slot + 1) & mask;
+				if (values[slot] == ABSENT) {
+					break;
+				}
+				int home = hash(keys[slot]) & mask;
+				if (((slot - home) & mask) >= ((slot - hole) & mask)) {
+					keys[hole] = keys[slot];
+					values[hole] = values[slot];
+					hole = slot;
+				}
+			}
+			values[hole] = ABSENT;
+		}
+
+		private void resize() {
+			long[] oldKeys = keys;
+			int[] oldValues = values;
+			keys = new long[oldKeys.length * 2];
+			values = filled(oldKeys.length * 2);
+			size = 0;
+			for (int slot = 0; slot < oldKeys.length; slot++) {
+				if (oldValues[slot] != ABSENT) {
+					put(oldKeys[slot], oldValues[slot]);
+				}
+			}
+		}
+
+		private static int[] filled(int capacity) {
+			int[] values = new int[capacity];
+			Arrays.fill(values, ABSENT);
+			return values;
+		}
+
+		private static int hash(long documentId) {
+			long h = documentId * 0x9E3779B97F4A7C15L;
+			return (int)(h ^ (h >>> 32));
+		}
+	}
+}
@@ -0,0 +1,38 @@
+package goorm.eagle7.stelligence.domain.document.contributor;
+
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import goorm.eagle7.stelligence.domain.contribute.ContributeRepository;
+import goorm.eagle7.stelligence.domain.contribute.model.ContributeStatus;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * document_contributor 테이블은 Merge 시점에 갱신됩니다.
+ * 따라서 테이블이 도입되기 이전에 Merge된 수정요청의 작성자들은 document_contributor에 존재하지 않습니다.
+ * 이 클래스는 document_contributor가 비어있고 Merge된 수정요청이 존재하는 경우에 한하여 기존 수정요청들로부터 기여자를 채웁니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+class DocumentContributorInitializer implements ApplicationRunner {
+
+	private final DocumentContributorRepository documentContributorRepository;
+	private final ContributeRepository contributeRepository;
+
+	@Override
+	@Transactional
+	public void run(ApplicationArguments args) {
+		if (documentContributorRepository.count() > 0
+			|| !contributeRepository.existsByStatus(ContributeStatus.MERGED)) {
+			return;
+		}
+
+		log.info("document_contributor가 비어있습니다. contribute 테이블로부터 document_contributor를 생성합니다.");
+		int inserted = documentContributorRepository.backfillFromContribute();
+		log.info("document_contributor 생성 완료. 생성된 행 : {}", inserted);
+	}
+}
@@ -0,0 +1,62 @@
+package goorm.eagle7.stelligence.domain.document.contributor;
+
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+
+import goorm.eagle7.stelligence.domain.document.contributor.custom.CustomDocumentContributorRepository;
+import goorm.eagle7.stelligence.domain.document.contributor.model.DocumentContributor;
+
+public interface DocumentContributorRepository extends JpaRepository<DocumentContributor, Long>,
+	CustomDocumentContributorRepository {
+
+	Optional<DocumentContributor> findByDocumentIdAndMemberId(Long documentId, Long memberId);
+
+	/**
+	 * 특정 Document의 기여자를 기여 횟수와 함께 닉네임 순서대로 조회합니다.
+	 * @param documentId 조회할 Document의 ID
+	 * @return 기여자 목록
+	 */
+	List<DocumentContributor> findByDocumentIdOrderByNicknameAsc(Long documentId);
+
+	/**
+	 * 회원이 기여한 문서들의 ID를 조회합니다.
+	 * @param memberId 회원 ID
+	 * @return 문서 ID 목록
+	 */
+	@Query("select dc.documentId from DocumentContributor dc where dc.memberId = :memberId")
+	List<Long> findDocumentIdsByMemberId(Long memberId);
+
+	/**
+	 * 회원이 기여한 모든 문서의 기여자 정보를 회원의 현재 프로필로 갱신합니다.
+	 * @param memberId 회원 ID
+	 * @param nickname 변경된 닉네임
+	 * @param imageUrl 변경된 프로필 사진
+	 * @return 갱신된 행의 개수
+	 */
+	@Modifying
+	@Query("update DocumentContributor dc set dc.nickname = :nickname, dc.imageUrl = :imageUrl "
+		+ "where dc.memberId = :memberId")
+	int updateProfileByMemberId(Long memberId, String nickname, String imageUrl);
+
+	/**
+	 * MERGED 상태의 수정요청으로부터 document_contributor 테이블을 다시 채웁니다.
+	 * 수정요청이 반영된 시간은 기록되어 있지 않으므로 수정요청의 마지막 수정 시간을 사용합니다.
+	 * 기존 데이터에 대한 마이그레이션 용도로만 사용합니다.
+	 * @return 삽입된 행의 개수
+	 */
+	@Modifying
+	@Query(nativeQuery = true,
+		value = "INSERT INTO document_contributor (document_id, member_id, nickname, image_url, "
+			+ "contributions, first_contributed_at, last_contributed_at) "
+			+ "SELECT c.document_id, c.member_id, m.nickname, m.image_url, "
+			+ "COUNT(*), MIN(c.updated_at), MAX(c.updated_at) "
+			+ "FROM contribute c "
+			+ "JOIN member m ON m.member_id = c.member_id "
+			+ "WHERE c.status = 'MERGED' "
+			+ "GROUP BY c.document_id, c.member_id, m.nickname, m.image_url")
+	int backfillFromContribute();
+}
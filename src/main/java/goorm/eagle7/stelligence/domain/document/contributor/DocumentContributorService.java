@@ -0,0 +1,78 @@
+package goorm.eagle7.stelligence.domain.document.contributor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import goorm.eagle7.stelligence.domain.contribute.model.Contribute;
+import goorm.eagle7.stelligence.domain.document.content.DocumentCacheEvictor;
+import goorm.eagle7.stelligence.domain.member.dto.MemberSimpleResponse;
+import goorm.eagle7.stelligence.domain.member.model.Member;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 문서의 기여자 목록(document_contributor)을 관리합니다.
+ *
+ * <p>기여자 목록은 수정요청이 Merge될 때 갱신되며, 회원의 닉네임이 변경되거나 회원이 탈퇴하면 저장된 프로필과 해당 문서들의 캐시가 함께 갱신됩니다.
+ * 갱신은 호출한 쪽의 트랜잭션 안에서 수행됩니다.
+ */
+@Slf4j
+@Service
+@Transactional(readOnly = true)
+@RequiredArgsConstructor
+public class DocumentContributorService {
+
+	private final DocumentContributorRepository documentContributorRepository;
+	private final DocumentCacheEvictor documentCacheEvictor;
+
+	/**
+	 * 특정 Document에 기여한 사용자들을 닉네임 순서대로 조회합니다.
+	 * @param documentId 조회할 Document의 ID
+	 * @return 기여한 사용자 목록
+	 */
+	public List<MemberSimpleResponse> getContributors(Long documentId) {
+		return documentContributorRepository.findByDocumentIdOrderByNicknameAsc(documentId)
+			.stream()
+			.map(contributor -> MemberSimpleResponse.of(contributor.getMemberId(), contributor.getNickname(),
+				contributor.getImageUrl()))
+			.toList();
+	}
+
+	/**
+	 * Merge된 수정요청의 작성자를 문서의 기여자로 기록합니다.
+	 * 이미 기여한 회원이라면 기여 횟수와 마지막 기여 시간만 갱신합니다.
+	 * 같은 문서에 같은 회원의 수정요청이 동시에 Merge되더라도 기여는 한 행에 누적됩니다.
+	 * @param contribute Merge된 수정요청
+	 */
+	@Transactional
+	public void recordContribution(Contribute contribute) {
+		Long documentId = contribute.getDocument().getId();
+		Member member = contribute.getMember();
+
+		documentContributorRepository.upsertContribution(documentId, member.getId(), member.getNickname(),
+			member.getImageUrl(), LocalDateTime.now());
+
+		log.debug("document contributor recorded. documentId : {}, memberId : {}", documentId, member.getId());
+	}
+
+	/**
+	 * 회원이 기여한 문서들의 기여자 정보를 회원의 현재 닉네임과 프로필 사진으로 갱신합니다.
+	 * 닉네임 변경, 회원 탈퇴 이후에 호출되어야 합니다.
+	 *
+	 * <p><b>CACHE EVICTION</b> 문서 조회 응답에는 기여자의 프로필이 포함되므로, 회원이 기여한 문서들의 캐시를 삭제합니다.
+	 * 캐시는 트랜잭션이 커밋된 이후에 삭제되므로, 삭제 이후에 만들어지는 캐시는 변경된 프로필을 읽습니다.
+	 * @param member 프로필이 변경된 회원
+	 */
+	@Transactional
+	public void updateProfile(Member member) {
+		List<Long> documentIds = documentContributorRepository.findDocumentIdsByMemberId(member.getId());
+		int updated = documentContributorRepository.updateProfileByMemberId(member.getId(), member.getNickname(),
+			member.getImageUrl());
+		log.debug("document contributor profile updated. memberId : {}, rows : {}", member.getId(), updated);
+
+		documentCacheEvictor.evictAll(documentIds);
+	}
+}
@@ -0,0 +1,20 @@
+package goorm.eagle7.stelligence.domain.document.contributor.custom;
+
+import java.time.LocalDateTime;
+
+public interface CustomDocumentContributorRepository {
+
+	/**
+	 * 회원의 기여를 기록합니다.
+	 *
+	 * <p>이미 기여한 회원이라면 기여 횟수를 하나 늘리고 마지막 기여 시간을 갱신하며, 그렇지 않다면 새로운 기여자로 저장합니다.
+	 * 같은 문서와 회원에 대해 여러 트랜잭션이 동시에 기록하더라도 기여는 누락되지 않습니다.
+	 * @param documentId 문서 ID
+	 * @param memberId 회원 ID
+	 * @param nickname 회원의 닉네임, 새로운 기여자로 저장되는 경우에만 사용됩니다.
+	 * @param imageUrl 회원의 프로필 사진, 새로운 기여자로 저장되는 경우에만 사용됩니다.
+	 * @param contributedAt 기여가 반영된 시간
+	 */
+	void upsertContribution(Long documentId, Long memberId, String nickname, String imageUrl,
+		LocalDateTime contributedAt);
+}
@@ -0,0 +1,54 @@
+package goorm.eagle7.stelligence.domain.document.contributor.custom;
+
+import java.time.LocalDateTime;
+
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+public class CustomDocumentContributorRepositoryImpl implements CustomDocumentContributorRepository {
+
+	private static final String ADD_CONTRIBUTION = "UPDATE document_contributor "
+		+ "SET contributions = contributions + 1, last_contributed_at = ? "
+		+ "WHERE document_id = ? AND member_id = ?";
+
+	private static final String INSERT_CONTRIBUTOR = "INSERT INTO document_contributor (document_id, member_id, "
+		+ "nickname, image_url, contributions, first_contributed_at, last_contributed_at) "
+		+ "VALUES (?, ?, ?, ?, 1, ?, ?)";
+
+	private final JdbcTemplate jdbcTemplate;
+
+	public CustomDocumentContributorRepositoryImpl(JdbcTemplate jdbcTemplate) {
+		this.jdbcTemplate = jdbcTemplate;
+	}
+
+	/**
+	 * 기여 횟수는 UPDATE 문 안에서 늘리므로, 기존 행을 읽은 뒤 다시 쓰는 사이에 다른 트랜잭션의 기여가 덮어써지지 않습니다.
+	 *
+	 * <p>갱신된 행이 없어 INSERT하기 전에 다른 트랜잭션이 같은 (document_id, member_id)의 행을 저장할 수 있습니다.
+	 * INSERT는 영속성 컨텍스트를 거치지 않으므로 유니크 제약에 걸리면 해당 문장만 실패하며,
+	 * 이 경우 먼저 저장된 행의 기여 횟수를 다시 늘립니다.
+	 */
+	@Override
+	public void upsertContribution(Long documentId, Long memberId, String nickname, String imageUrl,
+		LocalDateTime contributedAt) {
+		if (addContribution(documentId, memberId, contributedAt)) {
+			return;
+		}
+
+		try {
+			jdbcTemplate.update(INSERT_CONTRIBUTOR, documentId, memberId, nickname, imageUrl, contributedAt,
+				contributedAt);
+		} catch (DuplicateKeyException e) {
+			log.debug("document contributor already inserted by another transaction. documentId : {}, memberId : {}",
+				documentId, memberId);
+			addContribution(documentId, memberId, contributedAt);
+		}
+	}
+
+	private boolean addContribution(Long documentId, Long memberId, LocalDateTime contributedAt) {
+		return jdbcTemplate.update(ADD_CONTRIBUTION, contributedAt, documentId, memberId) > 0;
+	}
+}
@@ -0,0 +1,91 @@
+package goorm.eagle7.stelligence.domain.document.contributor.model;
+
+import static jakarta.persistence.GenerationType.*;
+import static lombok.AccessLevel.*;
+
+import java.time.LocalDateTime;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * DocumentContributor
+ * 문서에 기여한 회원과 기여 횟수, 처음과 마지막 기여 시간을 저장하는 읽기 전용 모델입니다.
+ *
+ * <p>기존에는 문서를 조회할 때마다 MERGED 상태의 수정요청 전체에서 distinct로 기여자를 찾았기 때문에
+ * 조회 비용이 기여자 수가 아닌 수정 이력의 크기에 비례하여 증가했습니다.
+ * 이 테이블은 Merge가 수행될 때 같은 트랜잭션 안에서 갱신되며(DocumentContributorRepository.upsertContribution), (document_id, nickname) 인덱스로 정렬된 기여자 목록을 바로 읽을 수 있게 합니다.
+ *
+ * <p>정렬과 조회를 위해 회원의 닉네임과 프로필 사진을 함께 저장하므로, 닉네임 변경과 회원 탈퇴 시에도 갱신되어야 합니다.
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = PROTECTED)
+@Table(name = "document_contributor",
+	uniqueConstraints = @UniqueConstraint(name = "uk_document_contributor_document_member",
+		columnNames = {"document_id", "member_id"}),
+	indexes = {
+		@Index(name = "idx_document_contributor_document_nickname", columnList = "document_id, nickname"),
+		@Index(name = "idx_document_contributor_member_id", columnList = "member_id")
+	})
+public class DocumentContributor {
+
+	@Id
+	@GeneratedValue(strategy = IDENTITY)
+	@Column(name = "document_contributor_id")
+	private Long id;
+
+	@Column(name = "document_id", nullable = false)
+	private Long documentId;
+
+	@Column(name = "member_id", nullable = false)
+	private Long memberId;
+
+	private String nickname;
+
+	@Column(name = "image_url")
+	private String imageUrl;
+
+	/**
+	 * 해당 회원의 수정요청이 이 문서에 반영된 횟수입니다.
+	 */
+	@Column(nullable = false)
+	private int contributions;
+
+	@Column(name = "first_contributed_at", nullable = false)
+	private LocalDateTime firstContributedAt;
+
+	@Column(name = "last_contributed_at", nullable = false)
+	private LocalDateTime lastContributedAt;
+
+	//===생성===//
+
+	/**
+	 * 회원의 첫 번째 기여를 기록합니다.
+	 * @param documentId 문서 ID
+	 * @param memberId 회원 ID
+	 * @param nickname 회원의 닉네임
+	 * @param imageUrl 회원의 프로필 사진
+	 * @param contributedAt 기여가 반영된 시간
+	 * @return 생성된 기여자
+	 */
+	public static DocumentContributor of(Long documentId, Long memberId, String nickname, String imageUrl,
+		LocalDateTime contributedAt) {
+		DocumentContributor documentContributor = new DocumentContributor();
+		documentContributor.documentId = documentId;
+		documentContributor.memberId = memberId;
+		documentContributor.nickname = nickname;
+		documentContributor.imageUrl = imageUrl;
+		documentContributor.contributions = 1;
+		documentContributor.firstContributedAt = contributedAt;
+		documentContributor.lastContributedAt = contributedAt;
+		return documentContributor;
+	}
+}
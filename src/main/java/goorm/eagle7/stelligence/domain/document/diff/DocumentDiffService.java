@@ -0,0 +1,174 @@
+package goorm.eagle7.stelligence.domain.document.diff;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import goorm.eagle7.stelligence.api.exception.BaseException;
+import goorm.eagle7.stelligence.domain.document.content.DocumentContentRepository;
+import goorm.eagle7.stelligence.domain.document.content.RevisionContentCache;
+import goorm.eagle7.stelligence.domain.document.content.dto.RevisionContent;
+import goorm.eagle7.stelligence.domain.document.content.dto.SectionResponse;
+import goorm.eagle7.stelligence.domain.document.content.model.Document;
+import goorm.eagle7.stelligence.domain.document.diff.dto.DocumentDiffResponse;
+import goorm.eagle7.stelligence.domain.document.diff.dto.SectionDiffResponse;
+import goorm.eagle7.stelligence.domain.section.RevisionManifestService;
+import goorm.eagle7.stelligence.domain.section.SectionRepository;
+import goorm.eagle7.stelligence.domain.section.model.SectionId;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 문서의 두 버전을 섹션 단위로 비교합니다.
+ *
+ * <p>두 버전을 구성하는 섹션의 키(sectionId, revision)를 먼저 비교하여, 키가 같은 섹션은 내용을 비교하지 않고 건너뜁니다.
+ * 추가, 삭제, 변경된 섹션만 본문과 함께 조회하며, 변경된 섹션의 본문은 단어 단위로 비교합니다.
+ * 과거 버전 조회로 캐시된 버전(RevisionContentCache 참조)은 DB를 조회하지 않고 캐시된 섹션을 사용합니다.
+ *
+ * <p><b>CACHE</b> 버전의 내용은 변경되지 않으므로 비교 결과도 변경되지 않습니다.
+ * 따라서 비교 결과는 (documentId, from, to)를 키로 documentDiff 캐시에 저장하며, 별도로 삭제하지 않습니다.
+ */
+@Slf4j
+@Service
+@Transactional(readOnly = true)
+@RequiredArgsConstructor
+public class DocumentDiffService {
+
+	static final String CACHE_NAME = "documentDiff";
+
+	private final DocumentContentRepository documentContentRepository;
+	private final SectionRepository sectionRepository;
+	private final RevisionManifestService revisionManifestService;
+	private final RevisionContentCache revisionContentCache;
+	private final CacheManager cacheManager;
+
+	/**
+	 * 문서의 두 버전을 비교합니다.
+	 * @param documentId 비교할 문서의 ID
+	 * @param from 비교의 기준이 되는 버전
+	 * @param to 비교할 버전
+	 * @return 변경된 섹션들의 비교 결과
+	 */
+	public DocumentDiffResponse getDiff(Long documentId, Long from, Long to) {
+		Cache cache = cacheManager.getCache(CACHE_NAME);
+		String cacheKey = documentId + ":" + from + ":" + to;
+
+		if (cache != null) {
+			DocumentDiffResponse cached = cache.get(cacheKey, DocumentDiffResponse.class);
+			if (cached != null) {
+				return cached;
+			}
+		}
+
+		DocumentDiffResponse diff = computeDiff(documentId, from, to);
+
+		if (cache != null) {
+			cache.put(cacheKey, diff);
+		}
+		return diff;
+	}
+
+	private DocumentDiffResponse computeDiff(Long documentId, Long from, Long to) {
+		log.trace("DocumentDiffService.computeDiff called");
+
+		Document document = documentContentRepository.findById(documentId)
+			.orElseThrow(() -> new BaseException("문서가 존재하지 않습니다. 문서 ID : " + documentId));
+
+		validateRevision(document, from);
+		validateRevision(document, to);
+
+		//캐시된 과거 버전은 매니페스트와 섹션을 조회하지 않습니다.
+		Optional<RevisionContent> cachedFrom = revisionContentCache.getIfPresent(documentId, from);
+		Optional<RevisionContent> cachedTo = revisionContentCache.getIfPresent(documentId, to);
+
+		List<SectionId> fromKeys = cachedFrom.map(RevisionContent::sectionKeys)
+			.orElseGet(() -> revisionManifestService.findSectionKeys(document, from));
+		List<SectionId> toKeys = cachedTo.map(RevisionContent::sectionKeys)
+			.orElseGet(() -> revisionManifestService.findSectionKeys(document, to));
+
+		//섹션 ID별 키
+		Map<Long, SectionId> fromKeyById = fromKeys.stream()
+			.collect(Collectors.toMap(SectionId::getId, key -> key, (a, b) -> a, LinkedHashMap::new));
+		Set<Long> toIds = toKeys.stream().map(SectionId::getId).collect(Collectors.toSet());
+
+		Map<SectionId, SectionResponse> sections = new HashMap<>();
+		cachedFrom.ifPresent(content -> putAll(sections, content));
+		cachedTo.ifPresent(content -> putAll(sections, content));
+
+		//키가 달라진 섹션 중 캐시되지 않은 섹션만 본문과 함께 조회합니다.
+		List<SectionId> keysToLoad = new ArrayList<>();
+		for (SectionId toKey : toKeys) {
+			SectionId fromKey = fromKeyById.get(toKey.getId());
+			if (fromKey == null) {
+				keysToLoad.add(toKey);
+			} else if (!fromKey.equals(toKey)) {
+				keysToLoad.add(fromKey);
+				keysToLoad.add(toKey);
+			}
+		}
+		fromKeys.stream().filter(key -> !toIds.contains(key.getId())).forEach(keysToLoad::add);
+		keysToLoad.removeIf(sections::containsKey);
+
+		if (!keysToLoad.isEmpty()) {
+			sectionRepository.findAllByKeysInOrder(keysToLoad)
+				.forEach(section -> sections.put(SectionId.of(section.getId(), section.getRevision()),
+					SectionResponse.of(section)));
+		}
+
+		List<SectionDiffResponse> results = new ArrayList<>();
+
+		//추가, 변경된 섹션은 to 버전의 순서대로
+		for (SectionId toKey : toKeys) {
+			SectionId fromKey = fromKeyById.get(toKey.getId());
+			if (fromKey == null) {
+				results.add(added(sections.get(toKey)));
+			} else if (!fromKey.equals(toKey)) {
+				results.add(changed(sections.get(fromKey), sections.get(toKey)));
+			}
+		}
+
+		//삭제된 섹션은 from 버전의 순서대로
+		fromKeys.stream()
+			.filter(key -> !toIds.contains(key.getId()))
+			.forEach(key -> results.add(removed(sections.get(key))));
+
+		return DocumentDiffResponse.of(documentId, from, to, results);
+	}
+
+	private void validateRevision(Document document, Long revision) {
+		if (revision < 1 || revision > document.getLatestRevision()) {
+			throw new BaseException("존재하지 않는 버전입니다. 버전 : " + revision);
+		}
+	}
+
+	private void putAll(Map<SectionId, SectionResponse> sections, RevisionContent revisionContent) {
+		revisionContent.sections()
+			.forEach(section -> sections.put(SectionId.of(section.getSectionId(), section.getRevision()), section));
+	}
+
+	private SectionDiffResponse added(SectionResponse section) {
+		return SectionDiffResponse.added(section.getSectionId(), section.getRevision(), section.getHeading(),
+			section.getTitle(), section.getContent());
+	}
+
+	private SectionDiffResponse removed(SectionResponse section) {
+		return SectionDiffResponse.removed(section.getSectionId(), section.getRevision(), section.getHeading(),
+			section.getTitle(), section.getContent());
+	}
+
+	private SectionDiffResponse changed(SectionResponse before, SectionResponse after) {
+		return SectionDiffResponse.changed(after.getSectionId(), before.getRevision(), after.getRevision(),
+			before.getHeading(), after.getHeading(), before.getTitle(), after.getTitle(),
+			WordDiff.diff(before.getContent(), after.getContent()));
+	}
+}
@@ -0,0 +1,267 @@
+package goorm.eagle7.stelligence.domain.document.diff;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import goorm.eagle7.stelligence.domain.document.diff.dto.DiffOperation;
+import goorm.eagle7.stelligence.domain.document.diff.dto.DiffSegment;
+
+/**
+ * 두 문자열을 단어 단위로 비교합니다.
+ *
+ * <p>문자열은 공백이 아닌 문자의 연속(단어)과 공백 문자의 연속으로 나누어 비교하므로,
+ * 비교 결과의 조각들을 이어 붙이면 원래의 문자열이 복원됩니다.
+ *
+ * <p>비교는 Myers의 O(ND) 알고리즘을 사용하며, 양쪽에서 탐색하여 만나는 지점(middle snake)을 기준으로
+ * 분할 정복하므로 편집 경로 전체를 저장하지 않고 선형 공간만을 사용합니다.
+ *
+ * <p>두 문자열이 거의 다른 경우 탐색 비용이 커지므로, 편집 거리가 MAX_EDIT_DISTANCE를 넘는 구간은
+ * 공통 부분을 찾지 않고 전체를 삭제 후 삽입한 것으로 처리합니다.
+ */
+public final class WordDiff {
+
+	/**
+	 * 한 구간에서 탐색할 최대 편집 거리입니다.
+	 */
+	static final int MAX_EDIT_DISTANCE = 2000;
+
+	private WordDiff() {
+		throw new IllegalStateException("Utility class");
+	}
+
+	/**
+	 * 두 문자열을 단어 단위로 비교합니다.
+	 * @param before 이전 문자열
+	 * @param after 이후 문자열
+	 * @return 순서대로 정렬된 비교 결과 조각, 연속된 같은 종류의 단어는 하나의 조각으로 합쳐집니다.
+	 */
+	public static List<DiffSegment> diff(String before, String after) {
+		List<String> beforeTokens = tokenize(before);
+		List<String> afterTokens = tokenize(after);
+
+		//토큰을 정수로 바꾸어 비교 비용을 줄입니다.
+		Map<String, Integer> dictionary = new HashMap<>();
+		int[] a = encode(beforeTokens, dictionary);
+		int[] b = encode(afterTokens, dictionary);
+
+		SegmentBuilder builder = new SegmentBuilder(beforeTokens, afterTokens);
+		diff(a, 0, a.length, b, 0, b.length, builder);
+		return builder.build();
+	}
+
+	/**
+	 * 문자열을 단어와 공백으로 나눕니다.
+	 */
+	static List<String> tokenize(String text) {
+		List<String> tokens = new ArrayList<>();
+		if (text == null) {
+			return tokens;
+		}
+
+		int start = 0;
+		for (int i = 1; i <= text.length(); i++) {
+			if (i == text.length()
+				|| Character.isWhitespace(text.charAt(i)) != Character.isWhitespace(text.charAt(i - 1))) {
+				tokens.add(text.substring(start, i));
+				start = i;
+			}
+		}
+		return tokens;
+	}
+
+	private static int[] encode(List<String> tokens, Map<String, Integer> dictionary) {
+		int[] encoded = new int[tokens.size()];
+		for (int i = 0; i < tokens.size(); i++) {
+			encoded[i] = dictionary.computeIfAbsent(tokens.get(i), token -> dictionary.size());
+		}
+		return encoded;
+	}
+
+	/**
+	 * a[aStart, aEnd)와 b[bStart, bEnd)를 비교하여 결과를 순서대로 기록합니다.
+	 */
+	private static void diff(int[] a, int aStart, int aEnd, int[] b, int bStart, int bEnd,
+		SegmentBuilder builder) {
+		//공통 접두사
+		while (aStart < aEnd && bStart < bEnd && a[aStart] == b[bStart]) {
+			builder.equal(aStart);
+			aStart++;
+			bStart++;
+		}
+
+		//공통 접미사는 나머지를 기록한 뒤에 기록합니다.
+		int suffix = 0;
+		while (aStart < aEnd && bStart < bEnd && a[aEnd - 1] == b[bEnd - 1]) {
+			aEnd--;
+			bEnd--;
+			suffix++;
+		}
+
+		if (aStart == aEnd) {
+			builder.insert(bStart, bEnd);
+		} else if (bStart == bEnd) {
+			builder.delete(aStart, aEnd);
+		} else {
+			int[] split = middleSnake(a, aStart, aEnd, b, bStart, bEnd);
+			boolean divisible = split != null
+				&& !(split[0] == aStart && split[1] == bStart)
+				&& !(split[0] == aEnd && split[1] == bEnd);
+
+			if (divisible) {
+				diff(a, aStart, split[0], b, bStart, split[1], builder);
+				diff(a, split[0], aEnd, b, split[1], bEnd, builder);
+			} else {
+				//공통 부분이 없습니다.
+				builder.delete(aStart, aEnd);
+				builder.insert(bStart, bEnd);
+			}
+		}
+
+		for (int i = 0; i < suffix; i++) {
+			builder.equal(aEnd + i);
+		}
+	}
+
+	/**
+	 * 앞과 뒤에서 동시에 최단 편집 경로를 탐색하여 두 경로가 만나는 지점을 찾습니다.
+	 * @return 분할 지점 {a의 위치, b의 위치}, 공통 부분이 없거나 최대 편집 거리 내에서 찾지 못했다면 null
+	 */
+	private static int[] middleSnake(int[] a, int aStart, int aEnd, int[] b, int bStart, int bEnd) {
+		int n = aEnd - aStart;
+		int m = bEnd - bStart;
+		int maxD = Math.min((n + m + 1) / 2, MAX_EDIT_DISTANCE);
+		int offset = maxD + 1;
+		int length = 2 * offset + 1;
+
+		//forward[offset + k]는 k 대각선에서 앞쪽 탐색이 도달한 가장 먼 x, backward는 뒤쪽 탐색의 값입니다.
+		int[] forward = new int[length];
+		int[] backward = new int[length];
+		Arrays.fill(forward, -1);
+		Arrays.fill(backward, -1);
+		forward[offset + 1] = 0;
+		backward[offset + 1] = 0;
+
+		int delta = n - m;
+		//delta가 홀수라면 앞쪽 탐색에서, 짝수라면 뒤쪽 탐색에서 만나는지 확인합니다.
+		boolean checkOnForward = delta % 2 != 0;
+
+		//범위를 벗어난 대각선은 이후 탐색에서 제외합니다.
+		int forwardStart = 0;
+		int forwardEnd = 0;
+		int backwardStart = 0;
+		int backwardEnd = 0;
+
+		for (int d = 0; d < maxD; d++) {
+			for (int k = -d + forwardStart; k <= d - forwardEnd; k += 2) {
+				int index = offset + k;
+				int x = (k == -d || (k != d && forward[index - 1] < forward[index + 1]))
+					? forward[index + 1]
+					: forward[index - 1] + 1;
+				int y = x - k;
+				while (x < n && y < m && a[aStart + x] == b[bStart + y]) {
+					x++;
+					y++;
+				}
+				forward[index] = x;
+
+				if (x > n) {
+					forwardEnd += 2;
+				} else if (y > m) {
+					forwardStart += 2;
+				} else if (checkOnForward) {
+					int reverseIndex = offset + delta - k;
+					if (reverseIndex >= 0 && reverseIndex < length && backward[reverseIndex] != -1
+						&& x >= n - backward[reverseIndex]) {
+						return new int[] {aStart + x, bStart + y};
+					}
+				}
+			}
+
+			for (int k = -d + backwardStart; k <= d - backwardEnd; k += 2) {
+				int index = offset + k;
+				int x = (k == -d || (k != d && backward[index - 1] < backward[index + 1]))
+					? backward[index + 1]
+					: backward[index - 1] + 1;
+				int y = x - k;
+				while (x < n && y < m && a[aEnd - x - 1] == b[bEnd - y - 1]) {
+					x++;
+					y++;
+				}
+				backward[index] = x;
+
+				if (x > n) {
+					backwardEnd += 2;
+				} else if (y > m) {
+					backwardStart += 2;
+				} else if (!checkOnForward) {
+					int forwardIndex = offset + delta - k;
+					if (forwardIndex >= 0 && forwardIndex < length && forward[forwardIndex] != -1) {
+						int forwardX = forward[forwardIndex];
+						int forwardY = forwardX - (delta - k);
+						if (forwardX >= n - x) {
+							return new int[] {aStart + forwardX, bStart + forwardY};
+						}
+					}
+				}
+			}
+		}
+		return null;
+	}
+
+	/**
+	 * 토큰 단위의 비교 결과를 같은 종류끼리 합쳐 조각으로 만듭니다.
+	 */
+	private static class SegmentBuilder {
+
+		private final List<String> beforeTokens;
+		private final List<String> afterTokens;
+		private final List<DiffSegment> segments = new ArrayList<>();
+
+		private DiffOperation currentOperation;
+		private final StringBuilder currentText = new StringBuilder();
+
+		SegmentBuilder(List<String> beforeTokens, List<String> afterTokens) {
+			this.beforeTokens = beforeTokens;
+			this.afterTokens = afterTokens;
+		}
+
+		void equal(int beforeIndex) {
+			append(DiffOperation.EQUAL, beforeTokens.get(beforeIndex));
+		}
+
+		void delete(int beforeStart, int beforeEnd) {
+			for (int i = beforeStart; i < beforeEnd; i++) {
+				append(DiffOperation.DELETE, beforeTokens.get(i));
+			}
+		}
+
+		void insert(int afterStart, int afterEnd) {
+			for (int i = afterStart; i < afterEnd; i++) {
+				append(DiffOperation.INSERT, afterTokens.get(i));
+			}
+		}
+
+		private void append(DiffOperation operation, String token) {
+			if (operation != currentOperation) {
+				flush();
+				currentOperation = operation;
+			}
+			currentText.append(token);
+		}
+
+		private void flush() {
+			if (currentOperation != null && !currentText.isEmpty()) {
+				segments.add(DiffSegment.of(currentOperation, currentText.toString()));
+			}
+			currentText.setLength(0);
+		}
+
+		List<DiffSegment> build() {
+			flush();
+			return segments;
+		}
+	}
+}
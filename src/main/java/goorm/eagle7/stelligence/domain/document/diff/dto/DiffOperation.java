@@ -0,0 +1,8 @@
+package goorm.eagle7.stelligence.domain.document.diff.dto;
+
+/**
+ * 비교 결과 조각의 종류입니다.
+ */
+public enum DiffOperation {
+	EQUAL, INSERT, DELETE
+}
@@ -0,0 +1,28 @@
+package goorm.eagle7.stelligence.domain.document.diff.dto;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+
+/**
+ * 단어 단위 비교 결과의 한 조각입니다.
+ * 연속된 같은 종류의 단어들은 하나의 조각으로 합쳐집니다.
+ */
+@Getter
+@ToString
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public class DiffSegment {
+
+	private DiffOperation operation;
+	private String text;
+
+	private DiffSegment(DiffOperation operation, String text) {
+		this.operation = operation;
+		this.text = text;
+	}
+
+	public static DiffSegment of(DiffOperation operation, String text) {
+		return new DiffSegment(operation, text);
+	}
+}
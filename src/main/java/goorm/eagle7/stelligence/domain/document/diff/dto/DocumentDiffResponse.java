@@ -0,0 +1,41 @@
+package goorm.eagle7.stelligence.domain.document.diff.dto;
+
+import java.util.List;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+
+/**
+ * 문서의 두 버전 사이의 비교 결과입니다.
+ * 변경되지 않은 섹션은 포함하지 않습니다.
+ */
+@Getter
+@ToString
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public class DocumentDiffResponse {
+
+	private Long documentId;
+	private Long fromRevision;
+	private Long toRevision;
+
+	/**
+	 * 변경된 섹션들입니다.
+	 * 추가, 변경된 섹션은 toRevision의 순서대로, 이후 삭제된 섹션은 fromRevision의 순서대로 위치합니다.
+	 */
+	private List<SectionDiffResponse> sections;
+
+	private DocumentDiffResponse(Long documentId, Long fromRevision, Long toRevision,
+		List<SectionDiffResponse> sections) {
+		this.documentId = documentId;
+		this.fromRevision = fromRevision;
+		this.toRevision = toRevision;
+		this.sections = sections;
+	}
+
+	public static DocumentDiffResponse of(Long documentId, Long fromRevision, Long toRevision,
+		List<SectionDiffResponse> sections) {
+		return new DocumentDiffResponse(documentId, fromRevision, toRevision, sections);
+	}
+}
@@ -0,0 +1,8 @@
+package goorm.eagle7.stelligence.domain.document.diff.dto;
+
+/**
+ * 두 버전 사이에서 섹션이 변경된 종류입니다.
+ */
+public enum SectionChangeType {
+	ADDED, REMOVED, CHANGED
+}
@@ -0,0 +1,68 @@
+package goorm.eagle7.stelligence.domain.document.diff.dto;
+
+import java.util.List;
+
+import goorm.eagle7.stelligence.domain.section.model.Heading;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+
+/**
+ * 섹션 하나의 비교 결과입니다.
+ *
+ * <p>추가된 섹션은 본문 전체가 하나의 INSERT 조각으로, 삭제된 섹션은 하나의 DELETE 조각으로 표현됩니다.
+ * 변경된 섹션은 본문을 단어 단위로 비교한 결과를 담습니다.
+ */
+@Getter
+@ToString
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public class SectionDiffResponse {
+
+	private Long sectionId;
+	private SectionChangeType changeType;
+
+	private Long beforeRevision;
+	private Long afterRevision;
+
+	private Heading beforeHeading;
+	private Heading afterHeading;
+
+	private String beforeTitle;
+	private String afterTitle;
+
+	private List<DiffSegment> contentDiff;
+
+	private SectionDiffResponse(Long sectionId, SectionChangeType changeType, Long beforeRevision,
+		Long afterRevision, Heading beforeHeading, Heading afterHeading, String beforeTitle, String afterTitle,
+		List<DiffSegment> contentDiff) {
+		this.sectionId = sectionId;
+		this.changeType = changeType;
+		this.beforeRevision = beforeRevision;
+		this.afterRevision = afterRevision;
+		this.beforeHeading = beforeHeading;
+		this.afterHeading = afterHeading;
+		this.beforeTitle = beforeTitle;
+		this.afterTitle = afterTitle;
+		this.contentDiff = contentDiff;
+	}
+
+	public static SectionDiffResponse added(Long sectionId, Long revision, Heading heading, String title,
+		String content) {
+		return new SectionDiffResponse(sectionId, SectionChangeType.ADDED, null, revision, null, heading, null, title,
+			List.of(DiffSegment.of(DiffOperation.INSERT, content)));
+	}
+
+	public static SectionDiffResponse removed(Long sectionId, Long revision, Heading heading, String title,
+		String content) {
+		return new SectionDiffResponse(sectionId, SectionChangeType.REMOVED, revision, null, heading, null, title, null,
+			List.of(DiffSegment.of(DiffOperation.DELETE, content)));
+	}
+
+	public static SectionDiffResponse changed(Long sectionId, Long beforeRevision, Long afterRevision,
+		Heading beforeHeading, Heading afterHeading, String beforeTitle, String afterTitle,
+		List<DiffSegment> contentDiff) {
+		return new SectionDiffResponse(sectionId, SectionChangeType.CHANGED, beforeRevision, afterRevision,
+			beforeHeading, afterHeading, beforeTitle, afterTitle, contentDiff);
+	}
+}
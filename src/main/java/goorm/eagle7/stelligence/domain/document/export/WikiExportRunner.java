@@ -0,0 +1,74 @@
+package goorm.eagle7.stelligence.domain.document.export;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.zip.GZIPOutputStream;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * document.export.path가 지정된 경우, 애플리케이션이 시작될 때 전체 위키를 해당 파일로 내보냅니다.
+ *
+ * <p>확장자가 .gz라면 gzip으로 압축하여 씁니다. 페이지를 쓸 때마다 마지막 문서 ID를 {path}.checkpoint 파일에 기록하며,
+ * 중단된 경우 document.export.after-document-id에 해당 값을 지정하고 새로운 파일로 이어서 내보낼 수 있습니다.
+ * <pre>
+ * java -jar stelligence.jar --document.export.path=/backup/wiki-20240401.ndjson.gz
+ * java -jar stelligence.jar --document.export.path=/backup/wiki-20240401-2.ndjson.gz --document.export.after-document-id=52300
+ * </pre>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "document.export.path")
+class WikiExportRunner implements ApplicationRunner {
+
+	private final WikiExporter wikiExporter;
+
+	@Value("${document.export.path}")
+	private Path path;
+
+	@Value("${document.export.after-document-id:0}")
+	private long afterDocumentId;
+
+	@Override
+	public void run(ApplicationArguments args) throws IOException {
+		log.info("위키 내보내기 시작 : {}, 체크포인트 : {}", path, afterDocumentId);
+
+		Path checkpointPath = path.resolveSibling(path.getFileName() + ".checkpoint");
+		try (OutputStream outputStream = open(path)) {
+			wikiExporter.export(outputStream, afterDocumentId, lastDocumentId -> writeCheckpoint(checkpointPath,
+				lastDocumentId));
+		}
+	}
+
+	private OutputStream open(Path path) throws IOException {
+		OutputStream outputStream = new BufferedOutputStream(Files.newOutputStream(path,
+			StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE));
+		if (path.getFileName().toString().endsWith(".gz")) {
+			//페이지마다 flush한 내용이 실제로 파일에 쓰이도록 syncFlush를 사용합니다.
+			return new GZIPOutputStream(outputStream, true);
+		}
+		return outputStream;
+	}
+
+	private void writeCheckpoint(Path checkpointPath, long lastDocumentId) {
+		try {
+			Files.writeString(checkpointPath, Long.toString(lastDocumentId), StandardCharsets.UTF_8);
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+}
@@ -0,0 +1,266 @@
+package goorm.eagle7.stelligence.domain.document.export;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.sql.DatabaseMetaData;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.util.function.LongConsumer;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.support.JdbcUtils;
+import org.springframework.jdbc.support.MetaDataAccessException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+
+import goorm.eagle7.stelligence.common.compression.TextCompressor;
+import goorm.eagle7.stelligence.domain.document.export.dto.WikiExportResult;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 모든 문서와 모든 버전의 섹션, 수정요청을 NDJSON 형식으로 내보냅니다.
+ *
+ * <p>엔티티를 영속성 컨텍스트에 올리지 않고, forward-only 커서로 읽은 행을 바로 출력 스트림에 씁니다.
+ * 문서 ID 순서로 PAGE_SIZE개의 문서를 한 페이지로 묶어 처리하므로, 위키의 크기와 관계없이 메모리 사용량이 일정합니다.
+ *
+ * <p>MySQL 드라이버는 useCursorFetch 없이는 fetch size를 무시하고 결과 전체를 메모리에 올립니다.
+ * 따라서 MySQL에서는 fetch size를 Integer.MIN_VALUE로 지정하여 결과를 한 행씩 스트리밍하며, 이 경우 한 행만큼의 메모리만 사용합니다.
+ * 스트리밍 중에는 같은 커넥션으로 다른 쿼리를 실행할 수 없으므로, 각 쿼리의 결과를 모두 읽은 뒤 다음 쿼리를 실행합니다.
+ * 다른 DB에서는 설정된 fetch size만큼의 행을 메모리에 둡니다.
+ *
+ * <p>각 줄은 type 필드로 종류를 구분합니다.
+ * <pre>
+ * {"type":"document","documentId":1,"title":"...","parentDocumentId":null,"authorId":1,"latestRevision":3,...}
+ * {"type":"section","documentId":1,"sectionId":1,"revision":1,"heading":"H1","title":"...","content":"...",...}
+ * {"type":"contribute","documentId":1,"contributeId":1,"memberId":1,"status":"MERGED",...}
+ * </pre>
+ * 한 페이지 안에서 문서, 섹션, 수정요청의 순서로 출력되며, 같은 종류 안에서는 문서 ID 순서입니다.
+ * 삭제된 섹션은 deleted가 true이며 heading, title, content가 없습니다.
+ *
+ * <p>페이지 하나는 하나의 읽기 전용 트랜잭션에서 읽으므로 페이지 안의 데이터는 같은 시점의 스냅샷입니다.
+ * 페이지를 모두 쓰고 나면 출력을 flush한 뒤 마지막 문서 ID를 체크포인트로 알립니다.
+ * 중단된 경우 해당 체크포인트부터 이어서 내보낼 수 있습니다.
+ */
+@Slf4j
+@Service
+public class WikiExporter {
+
+	static final int PAGE_SIZE = 100;
+
+	private static final JsonFactory JSON_FACTORY = new JsonFactory()
+		.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+
+	private static final String SELECT_DOCUMENTS = "SELECT document_id, title, parent_document_id, author_id,"
+		+ " latest_revision, created_at, updated_at"
+		+ " FROM document WHERE document_id > ? ORDER BY document_id LIMIT " + PAGE_SIZE;
+
+	private static final String SELECT_SECTIONS = "SELECT s.document_id, s.section_id, s.revision, s.heading,"
+		+ " s.title, s.orders, s.created_at, b.content"
+		+ " FROM section s LEFT JOIN section_body b ON b.content_hash = s.content_hash"
+		+ " WHERE s.document_id BETWEEN ? AND ?"
+		+ " ORDER BY s.document_id, s.section_id, s.revision";
+
+	private static final String SELECT_CONTRIBUTES = "SELECT document_id, contribute_id, member_id, title,"
+		+ " description, status, before_document_title, after_document_title,"
+		+ " before_parent_document_id, after_parent_document_id, created_at"
+		+ " FROM contribute WHERE document_id BETWEEN ? AND ?"
+		+ " ORDER BY document_id, contribute_id";
+
+	private final JdbcTemplate jdbcTemplate;
+	private final TransactionTemplate transactionTemplate;
+
+	public WikiExporter(DataSource dataSource, PlatformTransactionManager transactionManager,
+		@Value("${document.export.fetch-size:500}") int fetchSize) {
+		this.jdbcTemplate = new JdbcTemplate(dataSource);
+		this.jdbcTemplate.setFetchSize(resolveFetchSize(databaseProductName(dataSource), fetchSize));
+
+		this.transactionTemplate = new TransactionTemplate(transactionManager);
+		this.transactionTemplate.setReadOnly(true);
+	}
+
+	/**
+	 * DB에 맞는 fetch size를 결정합니다.
+	 * @param databaseProductName DB의 이름, 알 수 없다면 null
+	 * @param fetchSize 설정된 fetch size
+	 * @return MySQL이라면 스트리밍을 위한 Integer.MIN_VALUE, 아니라면 설정된 fetch size
+	 */
+	static int resolveFetchSize(String databaseProductName, int fetchSize) {
+		return "MySQL".equals(databaseProductName) ? Integer.MIN_VALUE : fetchSize;
+	}
+
+	private static String databaseProductName(DataSource dataSource) {
+		try {
+			return JdbcUtils.extractDatabaseMetaData(dataSource, DatabaseMetaData::getDatabaseProductName);
+		} catch (MetaDataAccessException e) {
+			log.warn("DB의 종류를 확인하지 못해 설정된 fetch size를 사용합니다.", e);
+			return null;
+		}
+	}
+
+	/**
+	 * 체크포인트 이후의 모든 문서를 내보냅니다.
+	 * @param outputStream 출력 스트림, 호출한 쪽에서 닫아야 합니다.
+	 * @param afterDocumentId 체크포인트, 이 ID보다 큰 문서부터 내보냅니다. 처음부터 내보낸다면 0
+	 * @param checkpointListener 페이지를 모두 쓰고 flush한 뒤 마지막 문서 ID로 호출됩니다.
+	 * @return 내보내기 결과
+	 */
+	public WikiExportResult export(OutputStream outputStream, long afterDocumentId, LongConsumer checkpointListener) {
+		long startedAt = System.currentTimeMillis();
+		ExportProgress progress = new ExportProgress(afterDocumentId);
+
+		try (JsonGenerator generator = JSON_FACTORY.createGenerator(outputStream)) {
+			boolean hasNext = true;
+			while (hasNext) {
+				long pageStart = progress.lastDocumentId;
+				transactionTemplate.executeWithoutResult(status -> exportPage(generator, progress));
+				hasNext = progress.lastDocumentId != pageStart;
+
+				if (hasNext) {
+					generator.flush();
+					checkpointListener.accept(progress.lastDocumentId);
+					log.debug("위키 내보내기 체크포인트 : {}", progress.lastDocumentId);
+				}
+			}
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+
+		WikiExportResult result = WikiExportResult.of(progress.documents, progress.sections, progress.contributes,
+			progress.lastDocumentId, System.currentTimeMillis() - startedAt);
+		log.info("위키 내보내기 완료 : {}", result);
+		return result;
+	}
+
+	/**
+	 * 체크포인트 다음 PAGE_SIZE개의 문서와, 해당 문서들의 섹션과 수정요청을 씁니다.
+	 */
+	private void exportPage(JsonGenerator generator, ExportProgress progress) {
+		long firstDocumentId = progress.lastDocumentId + 1;
+
+		jdbcTemplate.query(SELECT_DOCUMENTS, writing(generator, rs -> {
+			writeDocument(generator, rs);
+			progress.documents++;
+			progress.lastDocumentId = rs.getLong("document_id");
+		}), firstDocumentId - 1);
+
+		if (progress.lastDocumentId < firstDocumentId) {
+			return;
+		}
+
+		jdbcTemplate.query(SELECT_SECTIONS, writing(generator, rs -> {
+			writeSection(generator, rs);
+			progress.sections++;
+		}), firstDocumentId, progress.lastDocumentId);
+
+		jdbcTemplate.query(SELECT_CONTRIBUTES, writing(generator, rs -> {
+			writeContribute(generator, rs);
+			progress.contributes++;
+		}), firstDocumentId, progress.lastDocumentId);
+	}
+
+	private void writeDocument(JsonGenerator generator, ResultSet rs) throws SQLException, IOException {
+		generator.writeStartObject();
+		generator.writeStringField("type", "document");
+		generator.writeNumberField("documentId", rs.getLong("document_id"));
+		generator.writeStringField("title", rs.getString("title"));
+		writeNullableLong(generator, "parentDocumentId", rs, "parent_document_id");
+		writeNullableLong(generator, "authorId", rs, "author_id");
+		generator.writeNumberField("latestRevision", rs.getLong("latest_revision"));
+		writeTimestamp(generator, "createdAt", rs.getTimestamp("created_at"));
+		writeTimestamp(generator, "updatedAt", rs.getTimestamp("updated_at"));
+		generator.writeEndObject();
+	}
+
+	private void writeSection(JsonGenerator generator, ResultSet rs) throws SQLException, IOException {
+		String content = rs.getString("content");
+
+		generator.writeStartObject();
+		generator.writeStringField("type", "section");
+		generator.writeNumberField("documentId", rs.getLong("document_id"));
+		generator.writeNumberField("sectionId", rs.getLong("section_id"));
+		generator.writeNumberField("revision", rs.getLong("revision"));
+		generator.writeBooleanField("deleted", content == null);
+		generator.writeStringField("heading", rs.getString("heading"));
+		generator.writeStringField("title", rs.getString("title"));
+		generator.writeNumberField("order", rs.getLong("orders"));
+		generator.writeStringField("content", TextCompressor.decompress(content));
+		writeTimestamp(generator, "createdAt", rs.getTimestamp("created_at"));
+		generator.writeEndObject();
+	}
+
+	private void writeContribute(JsonGenerator generator, ResultSet rs) throws SQLException, IOException {
+		generator.writeStartObject();
+		generator.writeStringField("type", "contribute");
+		generator.writeNumberField("documentId", rs.getLong("document_id"));
+		generator.writeNumberField("contributeId", rs.getLong("contribute_id"));
+		writeNullableLong(generator, "memberId", rs, "member_id");
+		generator.writeStringField("title", rs.getString("title"));
+		generator.writeStringField("description", rs.getString("description"));
+		generator.writeStringField("status", rs.getString("status"));
+		generator.writeStringField("beforeDocumentTitle", rs.getString("before_document_title"));
+		generator.writeStringField("afterDocumentTitle", rs.getString("after_document_title"));
+		writeNullableLong(generator, "beforeParentDocumentId", rs, "before_parent_document_id");
+		writeNullableLong(generator, "afterParentDocumentId", rs, "after_parent_document_id");
+		writeTimestamp(generator, "createdAt", rs.getTimestamp("created_at"));
+		generator.writeEndObject();
+	}
+
+	private static void writeNullableLong(JsonGenerator generator, String field, ResultSet rs, String column)
+		throws SQLException, IOException {
+		long value = rs.getLong(column);
+		if (rs.wasNull()) {
+			generator.writeNullField(field);
+		} else {
+			generator.writeNumberField(field, value);
+		}
+	}
+
+	private static void writeTimestamp(JsonGenerator generator, String field, Timestamp timestamp)
+		throws IOException {
+		generator.writeStringField(field, timestamp == null ? null : timestamp.toLocalDateTime().toString());
+	}
+
+	/**
+	 * 행을 한 줄로 쓰는 RowCallbackHandler를 만듭니다. 쓰기 중 발생한 IOException은 UncheckedIOException으로 감쌉니다.
+	 */
+	private static RowCallbackHandler writing(JsonGenerator generator, RowWriter rowWriter) {
+		return rs -> {
+			try {
+				rowWriter.write(rs);
+				generator.writeRaw('\n');
+			} catch (IOException e) {
+				throw new UncheckedIOException(e);
+			}
+		};
+	}
+
+	@FunctionalInterface
+	private interface RowWriter {
+		void write(ResultSet rs) throws SQLException, IOException;
+	}
+
+	/**
+	 * 내보내기의 진행 상황입니다.
+	 */
+	private static class ExportProgress {
+
+		private long documents;
+		private long sections;
+		private long contributes;
+		private long lastDocumentId;
+
+		ExportProgress(long afterDocumentId) {
+			this.lastDocumentId = afterDocumentId;
+		}
+	}
+}
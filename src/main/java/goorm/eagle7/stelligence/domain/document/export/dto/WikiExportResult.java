@@ -0,0 +1,38 @@
+package goorm.eagle7.stelligence.domain.document.export.dto;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+
+/**
+ * 전체 위키 내보내기의 결과입니다.
+ */
+@Getter
+@ToString
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public class WikiExportResult {
+
+	private long exportedDocuments;
+	private long exportedSections;
+	private long exportedContributes;
+
+	/**
+	 * 마지막으로 내보낸 문서의 ID입니다. 이어서 내보낼 때 체크포인트로 사용합니다.
+	 * 내보낸 문서가 없다면 시작 체크포인트와 같습니다.
+	 */
+	private long lastDocumentId;
+
+	private long elapsedMillis;
+
+	public static WikiExportResult of(long exportedDocuments, long exportedSections, long exportedContributes,
+		long lastDocumentId, long elapsedMillis) {
+		WikiExportResult result = new WikiExportResult();
+		result.exportedDocuments = exportedDocuments;
+		result.exportedSections = exportedSections;
+		result.exportedContributes = exportedContributes;
+		result.lastDocumentId = lastDocumentId;
+		result.elapsedMillis = elapsedMillis;
+		return result;
+	}
+}
@@ -0,0 +1,70 @@
+package goorm.eagle7.stelligence.domain.document.graph;
+
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.data.neo4j.core.Neo4jClient;
+import org.springframework.stereotype.Repository;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 많은 문서 노드와 링크를 UNWIND를 사용하여 한 번에 생성합니다.
+ * 대량의 문서를 가져오는 경우처럼, 노드마다 DocumentNodeRepository.save를 호출하는 비용이 큰 경우에 사용합니다.
+ *
+ * <p>Neo4jClient는 RDB의 트랜잭션에 참여하지 않으므로 각 쿼리는 실행되는 즉시 커밋됩니다.
+ * RDB의 트랜잭션이 롤백되더라도 생성된 노드는 남으므로, 호출한 쪽에서 {@link #deleteNodes(List)}로 정리해야 합니다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class DocumentNodeBulkWriter {
+
+	/**
+	 * 노드를 생성합니다. 부모가 없는 노드의 그룹은 자신의 제목이므로 우선 제목으로 설정합니다.
+	 */
+	private static final String CREATE_NODES = "unwind $nodes as node"
+		+ " create (:DocumentNode {documentId: node.documentId, title: node.title, group: node.title})";
+
+	/**
+	 * 링크를 순서대로 생성하며, 자식 노드는 부모 노드의 그룹을 물려받습니다.
+	 * 부모 노드의 링크가 먼저 생성되어 있어야 부모의 그룹이 올바르게 전파됩니다.
+	 */
+	private static final String CREATE_LINKS = "unwind $links as link"
+		+ " match (parent:DocumentNode {documentId: link.parentDocumentId})"
+		+ " match (child:DocumentNode {documentId: link.childDocumentId})"
+		+ " create (parent)-[:HAS_CHILD]->(child)"
+		+ " set child.group = parent.group";
+
+	/**
+	 * 노드와 노드에 연결된 링크를 삭제합니다.
+	 */
+	private static final String DELETE_NODES = "unwind $documentIds as documentId"
+		+ " match (node:DocumentNode {documentId: documentId})"
+		+ " detach delete node";
+
+	private final Neo4jClient neo4jClient;
+
+	/**
+	 * 문서 노드들을 생성하고, 상위 문서가 있는 노드는 상위 문서 노드와 링크를 연결합니다.
+	 * @param nodes 생성할 노드들, documentId와 title을 키로 갖습니다.
+	 * @param links 연결할 링크들, parentDocumentId와 childDocumentId를 키로 갖습니다. 상위 문서가 먼저 오도록 정렬되어 있어야 합니다.
+	 */
+	public void createNodesWithLinks(List<Map<String, Object>> nodes, List<Map<String, Object>> links) {
+		if (!nodes.isEmpty()) {
+			neo4jClient.query(CREATE_NODES).bind(nodes).to("nodes").run();
+		}
+		if (!links.isEmpty()) {
+			neo4jClient.query(CREATE_LINKS).bind(links).to("links").run();
+		}
+	}
+
+	/**
+	 * 문서 노드들을 링크와 함께 삭제합니다. 존재하지 않는 노드는 무시합니다.
+	 * @param documentIds 삭제할 노드의 문서 ID
+	 */
+	public void deleteNodes(List<Long> documentIds) {
+		if (!documentIds.isEmpty()) {
+			neo4jClient.query(DELETE_NODES).bind(documentIds).to("documentIds").run();
+		}
+	}
+}
@@ -1,7 +1,9 @@
 package goorm.eagle7.stelligence.domain.document.graph.dto;
 
 import java.util.List;
+import java.util.Map;
 
+import goorm.eagle7.stelligence.domain.document.content.dto.DocumentStatus;
 import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
@@ -15,4 +17,15 @@ public class DocumentGraphResponse {
 	private List<DocumentNodeResponse> documentNodes;
 	private List<HasChildRelationshipResponse> links;
 
+	/**
+	 * 노드마다 문서 상태를 채운 그래프를 생성합니다.
+	 * @param statuses 문서 ID별 현재 상태, 포함되지 않은 문서는 편집가능 상태로 간주합니다.
+	 * @return 노드의 문서 상태를 제외한 값이 같은 그래프
+	 */
+	public DocumentGraphResponse withStatuses(Map<Long, DocumentStatus> statuses) {
+		List<DocumentNodeResponse> nodes = documentNodes.stream()
+			.map(node -> node.withStatus(statuses.getOrDefault(node.getDocumentId(), DocumentStatus.EDITABLE)))
+			.toList();
+		return of(nodes, links);
+	}
 }
@@ -1,5 +1,6 @@
 package goorm.eagle7.stelligence.domain.document.graph.dto;
 
+import goorm.eagle7.stelligence.domain.document.content.dto.DocumentStatus;
 import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
@@ -14,4 +15,23 @@ public class DocumentNodeResponse {
 	private String title;
 	private String group;
 
+	/**
+	 * 문서의 현재 상태입니다. 그래프 DB에는 저장되지 않으며, 조회 후 document_state로부터 채워집니다.
+	 */
+	private DocumentStatus documentStatus;
+
+	/**
+	 * 문서 상태만 바꾼 노드를 생성합니다.
+	 * 그래프 조회 결과는 캐시될 수 있으므로 기존 객체를 변경하지 않습니다.
+	 * @param documentStatus 문서의 현재 상태
+	 * @return 문서 상태를 제외한 값이 같은 노드
+	 */
+	public DocumentNodeResponse withStatus(DocumentStatus documentStatus) {
+		DocumentNodeResponse node = new DocumentNodeResponse();
+		node.documentId = documentId;
+		node.title = title;
+		node.group = group;
+		node.documentStatus = documentStatus;
+		return node;
+	}
 }
@@ -0,0 +1,52 @@
+package goorm.eagle7.stelligence.domain.document.status;
+
+import java.util.List;
+
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import goorm.eagle7.stelligence.domain.contribute.ContributeRepository;
+import goorm.eagle7.stelligence.domain.debate.repository.DebateRepository;
+import goorm.eagle7.stelligence.domain.document.content.DocumentContentRepository;
+import goorm.eagle7.stelligence.domain.document.content.model.Document;
+import goorm.eagle7.stelligence.domain.document.status.model.DocumentState;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * document_state 테이블은 수정요청과 토론의 진행에 따라 갱신됩니다.
+ * 따라서 테이블이 도입되기 이전에 생성된 문서들은 document_state에 존재하지 않습니다.
+ * 이 클래스는 document_state가 비어있고 문서가 존재하는 경우에 한하여 문서마다 가장 최근의 수정요청과 토론으로부터 상태를 채웁니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+class DocumentStateInitializer implements ApplicationRunner {
+
+	private final DocumentStateRepository documentStateRepository;
+	private final DocumentContentRepository documentContentRepository;
+	private final ContributeRepository contributeRepository;
+	private final DebateRepository debateRepository;
+
+	@Override
+	@Transactional
+	public void run(ApplicationArguments args) {
+		if (documentStateRepository.count() > 0 || documentContentRepository.count() == 0) {
+			return;
+		}
+
+		log.info("document_state가 비어있습니다. 수정요청과 토론으로부터 document_state를 생성합니다.");
+		List<DocumentState> states = documentContentRepository.findAll()
+			.stream()
+			.map(Document::getId)
+			.map(documentId -> DocumentState.of(documentId,
+				contributeRepository.findLatestContributeByDocumentId(documentId).orElse(null),
+				debateRepository.findLatestDebateByDocumentId(documentId).orElse(null)))
+			.toList();
+
+		documentStateRepository.saveAll(states);
+		log.info("document_state 생성 완료. 생성된 행 : {}", states.size());
+	}
+}
@@ -0,0 +1,35 @@
+package goorm.eagle7.stelligence.domain.document.status;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+
+import goorm.eagle7.stelligence.domain.document.status.model.DocumentState;
+
+public interface DocumentStateRepository extends JpaRepository<DocumentState, Long> {
+
+	/**
+	 * 특정 토론들을 대상으로 하는 문서 상태를 조회합니다.
+	 * @param debateIds 토론 ID 목록
+	 * @return 문서 상태 목록
+	 */
+	List<DocumentState> findByDebateIdIn(Collection<Long> debateIds);
+
+	/**
+	 * 수정대기 시간이 지난 문서들을 편집가능 상태로 변경합니다.
+	 * DebateScheduler에 의해 호출됩니다.
+	 * @param now 기준 시간
+	 * @return 변경된 문서의 수
+	 */
+	@Modifying
+	@Query("update DocumentState s"
+		+ " set s.status = goorm.eagle7.stelligence.domain.document.content.dto.DocumentStatus.EDITABLE,"
+		+ " s.debateId = null, s.pendingUntil = null"
+		+ " where s.status = goorm.eagle7.stelligence.domain.document.content.dto.DocumentStatus.PENDING"
+		+ " and s.pendingUntil <= :now")
+	int expirePending(LocalDateTime now);
+}
@@ -0,0 +1,141 @@
+package goorm.eagle7.stelligence.domain.document.status;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import goorm.eagle7.stelligence.domain.contribute.model.Contribute;
+import goorm.eagle7.stelligence.domain.debate.model.Debate;
+import goorm.eagle7.stelligence.domain.debate.repository.DebateRepository;
+import goorm.eagle7.stelligence.domain.document.content.dto.DocumentStatus;
+import goorm.eagle7.stelligence.domain.document.status.model.DocumentState;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 문서의 현재 상태(document_state)를 관리합니다.
+ *
+ * <p>상태는 수정요청과 토론의 진행에 따라 다음과 같이 변경되며, 변경은 호출한 쪽의 트랜잭션 안에서 수행됩니다.
+ * <ul>
+ *     <li>문서 생성 : EDITABLE</li>
+ *     <li>수정요청 생성 : VOTING</li>
+ *     <li>수정요청 반영, 반려, 삭제 : EDITABLE 혹은 투표 이전의 PENDING</li>
+ *     <li>토론 개시 : DEBATING</li>
+ *     <li>토론 종료 : PENDING</li>
+ *     <li>수정대기 시간 경과 : EDITABLE</li>
+ * </ul>
+ */
+@Slf4j
+@Service
+@Transactional(readOnly = true)
+@RequiredArgsConstructor
+public class DocumentStateService {
+
+	private final DocumentStateRepository documentStateRepository;
+	private final DebateRepository debateRepository;
+
+	/**
+	 * 문서의 상태를 조회합니다.
+	 * 상태가 기록되지 않은 문서는 편집가능 상태로 간주합니다.
+	 * @param documentId 문서 ID
+	 * @return 문서의 상태
+	 */
+	public DocumentState getState(Long documentId) {
+		return documentStateRepository.findById(documentId).orElseGet(() -> DocumentState.editable(documentId));
+	}
+
+	/**
+	 * 여러 문서의 현재 상태를 한 번에 조회합니다.
+	 * @param documentIds 문서 ID 목록
+	 * @return 문서 ID별 현재 상태, 상태가 기록되지 않은 문서는 포함되지 않습니다.
+	 */
+	public Map<Long, DocumentStatus> getStatuses(Collection<Long> documentIds) {
+		LocalDateTime now = LocalDateTime.now();
+		return documentStateRepository.findAllById(documentIds)
+			.stream()
+			.collect(Collectors.toMap(DocumentState::getDocumentId, state -> state.getStatus(now)));
+	}
+
+	/**
+	 * 새로 생성된 문서의 상태를 기록합니다.
+	 * @param documentId 생성된 문서의 ID
+	 */
+	@Transactional
+	public void documentCreated(Long documentId) {
+		documentStateRepository.save(DocumentState.editable(documentId));
+	}
+
+	/**
+	 * 수정요청의 투표가 시작되었습니다.
+	 * @param contribute 생성된 수정요청
+	 */
+	@Transactional
+	public void votingStarted(Contribute contribute) {
+		DocumentState state = findOrCreate(contribute.getDocument().getId());
+		state.startVoting(contribute.getId());
+		log.debug("document state changed to VOTING. documentId : {}", state.getDocumentId());
+	}
+
+	/**
+	 * 수정요청의 투표가 끝났습니다. 수정요청이 반영, 반려, 삭제된 경우 호출됩니다.
+	 * @param contribute 투표가 끝난 수정요청
+	 */
+	@Transactional
+	public void votingFinished(Contribute contribute) {
+		DocumentState state = findOrCreate(contribute.getDocument().getId());
+		state.finishVoting(LocalDateTime.now());
+		log.debug("document state changed to {}. documentId : {}", state.getStatus(), state.getDocumentId());
+	}
+
+	/**
+	 * 수정요청이 토론으로 전환되었습니다.
+	 * @param debate 개시된 토론
+	 */
+	@Transactional
+	public void debateOpened(Debate debate) {
+		DocumentState state = findOrCreate(debate.getContribute().getDocument().getId());
+		state.startDebate(debate.getId());
+		log.debug("document state changed to DEBATING. documentId : {}", state.getDocumentId());
+	}
+
+	/**
+	 * 토론들이 종료되었습니다. 토론의 종료 시간으로부터 수정대기 시간을 계산합니다.
+	 * @param debateIds 종료된 토론의 ID 목록
+	 */
+	@Transactional
+	public void debatesClosed(List<Long> debateIds) {
+		Map<Long, Debate> debates = debateRepository.findAllById(debateIds)
+			.stream()
+			.collect(Collectors.toMap(Debate::getId, Function.identity()));
+
+		documentStateRepository.findByDebateIdIn(debateIds)
+			.stream()
+			.filter(state -> state.getStatus() == DocumentStatus.DEBATING)
+			.forEach(state -> {
+				LocalDateTime endAt = debates.get(state.getDebateId()).getEndAt();
+				state.closeDebate(DocumentState.pendingUntilOf(endAt));
+				log.debug("document state changed to PENDING. documentId : {}", state.getDocumentId());
+			});
+	}
+
+	/**
+	 * 수정대기 시간이 지난 문서들을 편집가능 상태로 변경합니다.
+	 * @param now 기준 시간
+	 * @return 변경된 문서의 수
+	 */
+	@Transactional
+	public int expirePending(LocalDateTime now) {
+		return documentStateRepository.expirePending(now);
+	}
+
+	private DocumentState findOrCreate(Long documentId) {
+		return documentStateRepository.findById(documentId)
+			.orElseGet(() -> documentStateRepository.save(DocumentState.editable(documentId)));
+	}
+}
@@ -0,0 +1,217 @@
+package goorm.eagle7.stelligence.domain.document.status.model;
+
+import static lombok.AccessLevel.*;
+
+import java.time.LocalDateTime;
+
+import goorm.eagle7.stelligence.domain.contribute.model.Contribute;
+import goorm.eagle7.stelligence.domain.debate.model.Debate;
+import goorm.eagle7.stelligence.domain.document.content.dto.DocumentStatus;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * DocumentState
+ * 문서의 현재 상태(편집가능, 투표중, 토론중, 수정대기중)와 상태의 대상이 되는 수정요청, 토론을 저장하는 읽기 전용 모델입니다.
+ *
+ * <p>기존에는 문서를 조회하거나 수정요청을 검증할 때마다 가장 최근의 수정요청과 토론을 조회하여 상태를 계산했습니다.
+ * 이 테이블은 수정요청의 생성, 삭제, 투표 종료와 토론의 개시, 종료 시점에 같은 트랜잭션 안에서 갱신되며,
+ * 문서 ID를 기본키로 하므로 한 번의 조회로 문서의 상태를 알 수 있게 합니다.
+ *
+ * <p>수정대기중(PENDING) 상태는 시간이 지나면 편집가능 상태가 됩니다. 스케줄러가 주기적으로 상태를 변경하지만,
+ * 스케줄러가 수행되기 전에도 올바른 상태를 반환하도록 조회 시점의 시간으로 다시 판단합니다({@link #getStatus(LocalDateTime)}).
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = PROTECTED)
+@Table(name = "document_state", indexes = @Index(name = "idx_document_state_debate_id", columnList = "debate_id"))
+public class DocumentState {
+
+	@Id
+	@Column(name = "document_id")
+	private Long documentId;
+
+	@Enumerated(EnumType.STRING)
+	@Column(nullable = false)
+	private DocumentStatus status;
+
+	/**
+	 * 투표중인 수정요청의 ID입니다. 투표중이 아니라면 null입니다.
+	 */
+	@Column(name = "contribute_id")
+	private Long contributeId;
+
+	/**
+	 * 진행중이거나 종료 후 수정대기중인 토론의 ID입니다.
+	 * 수정대기중인 토론이 있는 상태에서 새로운 수정요청이 투표중이라면, 투표가 끝난 뒤 수정대기중 상태로 돌아가기 위해 유지됩니다.
+	 */
+	@Column(name = "debate_id")
+	private Long debateId;
+
+	/**
+	 * 토론이 종료된 후 수정대기중 상태가 끝나는 시간입니다.
+	 */
+	@Column(name = "pending_until")
+	private LocalDateTime pendingUntil;
+
+	//===생성===//
+
+	/**
+	 * 새로 생성된 문서의 상태를 생성합니다.
+	 * @param documentId 문서 ID
+	 * @return 편집가능 상태
+	 */
+	public static DocumentState editable(Long documentId) {
+		DocumentState documentState = new DocumentState();
+		documentState.documentId = documentId;
+		documentState.status = DocumentStatus.EDITABLE;
+		return documentState;
+	}
+
+	/**
+	 * 문서의 가장 최근 수정요청과 토론으로부터 상태를 생성합니다.
+	 * 테이블이 도입되기 이전의 문서에 대한 마이그레이션 용도로만 사용합니다.
+	 * @param documentId 문서 ID
+	 * @param latestContribute 문서의 가장 최근 수정요청, 없다면 null
+	 * @param latestDebate 문서의 가장 최근 토론, 없다면 null
+	 * @return 생성된 상태
+	 */
+	public static DocumentState of(Long documentId, Contribute latestContribute, Debate latestDebate) {
+		DocumentState documentState = editable(documentId);
+
+		if (latestDebate != null && latestDebate.isOnDebate()) {
+			documentState.startDebate(latestDebate.getId());
+		} else if (latestDebate != null && latestDebate.isPendingForContribute()) {
+			documentState.debateId = latestDebate.getId();
+			documentState.closeDebate(pendingUntilOf(latestDebate.getEndAt()));
+		}
+
+		if (latestContribute != null && latestContribute.isVoting()) {
+			documentState.startVoting(latestContribute.getId());
+		}
+		return documentState;
+	}
+
+	/**
+	 * 토론의 종료 시간으로부터 수정대기중 상태가 끝나는 시간을 계산합니다.
+	 */
+	public static LocalDateTime pendingUntilOf(LocalDateTime debateEndAt) {
+		return debateEndAt.plusMinutes(Debate.DEBATE_PENDING_DURATION_MINUTE);
+	}
+
+	//===조회===//
+
+	/**
+	 * 특정 시간의 문서 상태를 반환합니다.
+	 * 수정대기중 상태는 대기 시간이 지났다면 편집가능 상태로 판단합니다.
+	 * @param now 기준 시간
+	 * @return 문서 상태
+	 */
+	public DocumentStatus getStatus(LocalDateTime now) {
+		return statusAt(status, debateId, pendingUntil, now);
+	}
+
+	/**
+	 * 엔티티를 조회하지 않고 기록된 값만으로 특정 시간의 문서 상태를 계산합니다.
+	 * @param status 기록된 상태, 기록되지 않았다면 null
+	 * @param debateId 기록된 토론 ID
+	 * @param pendingUntil 기록된 수정대기 종료 시간
+	 * @param now 기준 시간
+	 * @return 문서 상태
+	 */
+	public static DocumentStatus statusAt(DocumentStatus status, Long debateId, LocalDateTime pendingUntil,
+		LocalDateTime now) {
+		if (status == null) {
+			return DocumentStatus.EDITABLE;
+		}
+		if (status == DocumentStatus.PENDING && !isPending(debateId, pendingUntil, now)) {
+			return DocumentStatus.EDITABLE;
+		}
+		return status;
+	}
+
+	/**
+	 * 투표중인 수정요청의 ID를 반환합니다.
+	 * @param now 기준 시간
+	 * @return 투표중이라면 수정요청 ID, 아니라면 null
+	 */
+	public Long getActiveContributeId(LocalDateTime now) {
+		return getStatus(now) == DocumentStatus.VOTING ? contributeId : null;
+	}
+
+	/**
+	 * 진행중이거나 수정대기중인 토론의 ID를 반환합니다.
+	 * @param now 기준 시간
+	 * @return 토론중 혹은 수정대기중이라면 토론 ID, 아니라면 null
+	 */
+	public Long getActiveDebateId(LocalDateTime now) {
+		DocumentStatus current = getStatus(now);
+		return current == DocumentStatus.DEBATING || current == DocumentStatus.PENDING ? debateId : null;
+	}
+
+	private boolean isPending(LocalDateTime now) {
+		return isPending(debateId, pendingUntil, now);
+	}
+
+	private static boolean isPending(Long debateId, LocalDateTime pendingUntil, LocalDateTime now) {
+		return debateId != null && pendingUntil != null && pendingUntil.isAfter(now);
+	}
+
+	//===상태 변경===//
+
+	/**
+	 * 수정요청의 투표가 시작되었습니다.
+	 * @param contributeId 투표중인 수정요청의 ID
+	 */
+	public void startVoting(Long contributeId) {
+		this.status = DocumentStatus.VOTING;
+		this.contributeId = contributeId;
+	}
+
+	/**
+	 * 수정요청의 투표가 끝났습니다. (반영, 반려, 삭제)
+	 * 투표 이전에 수정대기중인 토론이 있었고 대기 시간이 남아있다면 수정대기중 상태로, 아니라면 편집가능 상태로 돌아갑니다.
+	 * @param now 투표가 끝난 시간
+	 */
+	public void finishVoting(LocalDateTime now) {
+		this.contributeId = null;
+		if (isPending(now)) {
+			this.status = DocumentStatus.PENDING;
+		} else {
+			toEditable();
+		}
+	}
+
+	/**
+	 * 수정요청이 토론으로 전환되었습니다.
+	 * @param debateId 개시된 토론의 ID
+	 */
+	public void startDebate(Long debateId) {
+		this.status = DocumentStatus.DEBATING;
+		this.contributeId = null;
+		this.debateId = debateId;
+		this.pendingUntil = null;
+	}
+
+	/**
+	 * 토론이 종료되어 토론 참여자의 수정요청을 기다립니다.
+	 * @param pendingUntil 수정대기중 상태가 끝나는 시간
+	 */
+	public void closeDebate(LocalDateTime pendingUntil) {
+		this.status = DocumentStatus.PENDING;
+		this.pendingUntil = pendingUntil;
+	}
+
+	private void toEditable() {
+		this.status = DocumentStatus.EDITABLE;
+		this.debateId = null;
+		this.pendingUntil = null;
+	}
+}
@@ -0,0 +1,115 @@
+package goorm.eagle7.stelligence.domain.document.warmup;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations.TypedTuple;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import goorm.eagle7.stelligence.common.cache.TopKCounter;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 문서 조회 빈도를 기록하고 가장 많이 조회된 문서들을 유지합니다. 캐시 워밍의 대상을 정하는 데 사용합니다.
+ *
+ * <p>빈도는 TopKCounter로 추정하므로 문서 수와 관계없이 고정된 메모리만 사용하며, 추정 빈도가 상위 topK개 안에 드는 문서만 후보로 유지합니다.
+ *
+ * <p><b>PERSIST</b> 후보는 주기적으로 Redis의 정렬된 집합(warmup:document:top)에 저장되고, 저장할 때마다 모든 빈도를 절반으로 줄여
+ * 최근의 조회가 더 큰 비중을 갖도록 합니다. 서버마다 같은 키에 저장하며 같은 문서는 마지막에 저장한 서버의 빈도를 따릅니다.
+ * 서버가 재시작되면 메모리의 빈도는 사라지므로, 시작 시의 워밍은 저장된 후보를 사용합니다. (DocumentCacheWarmer 참조)
+ */
+@Slf4j
+@Component
+public class DocumentAccessStatistics {
+
+	static final String KEY = "warmup:document:top";
+	private static final Duration PERSIST_TTL = Duration.ofDays(7);
+
+	private final StringRedisTemplate redisTemplate;
+	private final TopKCounter<Long> counter;
+	private final int topK;
+
+	public DocumentAccessStatistics(
+		StringRedisTemplate redisTemplate,
+		@Value("${document.warmup.top-k:200}") int topK,
+		@Value("${document.warmup.sketch-width:8192}") int sketchWidth
+	) {
+		this.redisTemplate = redisTemplate;
+		this.topK = topK;
+		this.counter = new TopKCounter<>(topK, sketchWidth, Long::longValue);
+	}
+
+	/**
+	 * 문서의 조회를 기록합니다.
+	 * @param documentId 조회된 문서의 ID
+	 */
+	public void record(Long documentId) {
+		counter.record(documentId);
+	}
+
+	/**
+	 * 추정 빈도가 높은 순서로 후보 문서의 ID를 반환합니다.
+	 * @param limit 반환할 최대 개수
+	 * @return 문서 ID 목록
+	 */
+	public List<Long> top(int limit) {
+		return counter.top(limit)
+			.stream()
+			.map(TopKCounter.Count::key)
+			.toList();
+	}
+
+	/**
+	 * 후보를 Redis에 저장한 뒤 모든 빈도를 절반으로 줄입니다.
+	 */
+	@Scheduled(fixedDelayString = "${document.warmup.persist-interval-ms:600000}",
+		initialDelayString = "${document.warmup.persist-interval-ms:600000}")
+	public void persist() {
+		Set<TypedTuple<String>> tuples = counter.top(topK)
+			.stream()
+			.map(count -> TypedTuple.of(String.valueOf(count.key()), (double)count.count()))
+			.collect(Collectors.toSet());
+
+		if (!tuples.isEmpty()) {
+			try {
+				redisTemplate.opsForZSet().add(KEY, tuples);
+				//다른 서버가 저장한 후보까지 합쳐 상위 topK개만 남깁니다.
+				redisTemplate.opsForZSet().removeRange(KEY, 0, -(topK + 1L));
+				redisTemplate.expire(KEY, PERSIST_TTL);
+				log.debug("document access statistics persisted. candidates : {}", tuples.size());
+			} catch (DataAccessException e) {
+				log.warn("document access statistics persist failed.", e);
+			}
+		}
+
+		counter.halve();
+	}
+
+	/**
+	 * 저장된 후보 문서의 ID를 빈도가 높은 순서로 조회합니다.
+	 * @param limit 조회할 최대 개수
+	 * @return 문서 ID 목록, Redis에 접근할 수 없다면 빈 목록
+	 */
+	public List<Long> loadPersisted(int limit) {
+		if (limit <= 0) {
+			return Collections.emptyList();
+		}
+		try {
+			Set<String> members = redisTemplate.opsForZSet().reverseRange(KEY, 0, limit - 1L);
+			if (members == null) {
+				return Collections.emptyList();
+			}
+			return members.stream().map(Long::valueOf).toList();
+		} catch (DataAccessException e) {
+			log.warn("document access statistics load failed.", e);
+			return Collections.emptyList();
+		}
+	}
+}
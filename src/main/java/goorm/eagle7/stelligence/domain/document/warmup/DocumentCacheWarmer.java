@@ -0,0 +1,189 @@
+package goorm.eagle7.stelligence.domain.document.warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import goorm.eagle7.stelligence.domain.document.content.DocumentResponseCache;
+import goorm.eagle7.stelligence.domain.document.graph.DocumentGraphService;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * document, RootGraph 캐시를 요청이 들어오기 전에 미리 채웁니다.
+ *
+ * <p><b>STARTUP</b> 배포 직후에는 캐시가 비어 있어 처음 몇 분간의 요청이 모두 MySQL과 Neo4j로 향합니다.
+ * 애플리케이션이 시작되면 DocumentAccessStatistics에 저장된 가장 많이 조회된 문서들과, 자주 조회되는 깊이의 루트 그래프를 캐시에 채웁니다.
+ * 동시에 parallelism개까지만 조회하며, timeout이 지나면 남은 작업은 취소합니다.
+ *
+ * <p>작업 큐의 크기는 QUEUE_SIZE로 제한됩니다. 큐가 가득 차면 새로운 작업은 수행하지 않고 건너뜁니다.
+ *
+ * <p><b>AFTER MERGE</b> 수정요청이 반영되면 MergeHandler가 문서의 캐시를 삭제합니다.
+ * 다음 조회를 기다리지 않고 트랜잭션이 커밋된 뒤 백그라운드에서 문서의 캐시를 다시 만듭니다. ({@link #warmOnCommit(Long)})
+ *
+ * <p>document.warmup.enabled가 false라면 아무것도 하지 않습니다. 워밍에 실패하더라도 캐시를 놓친 요청이 다시 만들게 되므로 실패는 기록만 합니다.
+ */
+@Slf4j
+@Component
+public class DocumentCacheWarmer implements ApplicationRunner {
+
+	static final int QUEUE_SIZE = 256;
+
+	private final DocumentResponseCache documentResponseCache;
+	private final DocumentGraphService documentGraphService;
+	private final DocumentAccessStatistics documentAccessStatistics;
+	private final ThreadPoolExecutor executor;
+
+	private final boolean enabled;
+	private final int documentLimit;
+	private final List<Integer> graphDepths;
+	private final long timeoutMillis;
+
+	public DocumentCacheWarmer(
+		DocumentResponseCache documentResponseCache,
+		DocumentGraphService documentGraphService,
+		DocumentAccessStatistics documentAccessStatistics,
+		@Value("${document.warmup.enabled:true}") boolean enabled,
+		@Value("${document.warmup.documents:100}") int documentLimit,
+		@Value("${document.warmup.graph-depths:0,1,2}") List<Integer> graphDepths,
+		@Value("${document.warmup.parallelism:4}") int parallelism,
+		@Value("${document.warmup.timeout-ms:30000}") long timeoutMillis
+	) {
+		this.documentResponseCache = documentResponseCache;
+		this.documentGraphService = documentGraphService;
+		this.documentAccessStatistics = documentAccessStatistics;
+		this.enabled = enabled;
+		this.documentLimit = documentLimit;
+		this.graphDepths = graphDepths;
+		this.timeoutMillis = timeoutMillis;
+		this.executor = createExecutor(parallelism);
+	}
+
+	@Override
+	public void run(ApplicationArguments args) {
+		if (enabled) {
+			warmUp();
+		}
+	}
+
+	/**
+	 * 가장 많이 조회된 문서들과 루트 그래프를 캐시에 채웁니다.
+	 * @return 캐시를 채운 항목의 수
+	 */
+	public int warmUp() {
+		long startedAt = System.currentTimeMillis();
+
+		List<Callable<Boolean>> tasks = new ArrayList<>();
+		for (Integer depth : graphDepths) {
+			tasks.add(() -> warm("RootGraph depth " + depth,
+				() -> documentGraphService.findFromRootNodesWithDepth(depth)));
+		}
+		for (Long documentId : documentAccessStatistics.loadPersisted(documentLimit)) {
+			tasks.add(() -> warm("document " + documentId, () -> documentResponseCache.warm(documentId)));
+		}
+
+		List<Future<Boolean>> results = new ArrayList<>();
+		for (Callable<Boolean> task : tasks) {
+			try {
+				results.add(executor.submit(task));
+			} catch (RejectedExecutionException e) {
+				log.debug("cache warm up skipped. queue is full.");
+			}
+		}
+
+		int warmed = 0;
+		long deadline = startedAt + timeoutMillis;
+		try {
+			for (Future<Boolean> result : results) {
+				long remaining = Math.max(deadline - System.currentTimeMillis(), 0L);
+				if (Boolean.TRUE.equals(result.get(remaining, TimeUnit.MILLISECONDS))) {
+					warmed++;
+				}
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		} catch (TimeoutException e) {
+			log.warn("cache warm up timed out. timeout : {}ms", timeoutMillis);
+		} catch (Exception e) {
+			log.warn("cache warm up failed.", e);
+		} finally {
+			//시간 안에 끝나지 않은 작업은 취소합니다.
+			results.forEach(result -> result.cancel(true));
+		}
+
+		log.info("캐시 워밍 완료 : {}/{}개, {}ms", warmed, tasks.size(), System.currentTimeMillis() - startedAt);
+		return warmed;
+	}
+
+	/**
+	 * 현재 트랜잭션이 커밋되면 백그라운드에서 문서의 캐시를 다시 만듭니다.
+	 * 트랜잭션이 없다면 즉시 백그라운드에서 만듭니다.
+	 * @param documentId 캐시를 다시 만들 문서의 ID
+	 */
+	public void warmOnCommit(Long documentId) {
+		if (!enabled) {
+			return;
+		}
+
+		if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+			submit(documentId);
+			return;
+		}
+
+		TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+			@Override
+			public void afterCommit() {
+				submit(documentId);
+			}
+		});
+	}
+
+	@PreDestroy
+	void shutdown() {
+		executor.shutdownNow();
+	}
+
+	private void submit(Long documentId) {
+		try {
+			executor.execute(() -> warm("document " + documentId, () -> documentResponseCache.warm(documentId)));
+		} catch (RejectedExecutionException e) {
+			log.debug("document cache warm up skipped. documentId : {}", documentId);
+		}
+	}
+
+	private boolean warm(String target, Runnable task) {
+		try {
+			task.run();
+			return true;
+		} catch (RuntimeException e) {
+			log.debug("cache warm up failed. target : {}", target, e);
+			return false;
+		}
+	}
+
+	private static ThreadPoolExecutor createExecutor(int parallelism) {
+		AtomicInteger threadNumber = new AtomicInteger();
+		return new ThreadPoolExecutor(parallelism, parallelism, 60L, TimeUnit.SECONDS,
+			new ArrayBlockingQueue<>(QUEUE_SIZE),
+			runnable -> {
+				Thread thread = new Thread(runnable, "cache-warmer-" + threadNumber.incrementAndGet());
+				thread.setDaemon(true);
+				return thread;
+			},
+			new ThreadPoolExecutor.AbortPolicy());
+	}
+}
@@ -8,6 +8,7 @@ import org.springframework.transaction.annotation.Transactional;
 
 import goorm.eagle7.stelligence.api.exception.BaseException;
 import goorm.eagle7.stelligence.domain.badge.model.Badge;
+import goorm.eagle7.stelligence.domain.document.contributor.DocumentContributorService;
 import goorm.eagle7.stelligence.domain.member.dto.MemberBadgesListResponse;
 import goorm.eagle7.stelligence.domain.member.dto.MemberBadgesResponse;
 import goorm.eagle7.stelligence.domain.member.dto.MemberDetailResponse;
@@ -26,6 +27,7 @@ public class MemberService {
 
 	private final MemberRepository memberRepository;
 	private final WithdrawnMemberRepository withdrawnMemberRepository;
+	private final DocumentContributorService documentContributorService;
 
 	private static final String NOT_FOUND_MEMBER_EXCEPTION_MESSAGE = "존재하지 않는 회원입니다. MemberId= %s"; // 서식 문자 사용
 
@@ -63,6 +65,9 @@ public class MemberService {
 		String nickname = "탈퇴한 회원NeutronStar" + member.getId();
 		member.withdraw(nickname);
 
+		// 기여한 문서들의 기여자 정보도 탈퇴한 회원으로 변경
+		documentContributorService.updateProfile(member);
+
 	}
 
 	/**
@@ -90,6 +95,9 @@ public class MemberService {
 		// 사용 중이지 않은 닉네임이면 닉네임 변경
 		member.updateNickname(nickname);
 
+		// 기여한 문서들의 기여자 정보도 변경된 닉네임으로 변경
+		documentContributorService.updateProfile(member);
+
 	}
 
 	/**
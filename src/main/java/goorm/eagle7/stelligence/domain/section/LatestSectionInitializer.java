@@ -0,0 +1,35 @@
+package goorm.eagle7.stelligence.domain.section;
+
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * latest_section 테이블은 Merge와 문서 생성 시점에 갱신됩니다.
+ * 따라서 테이블이 도입되기 이전에 생성된 섹션들은 latest_section에 존재하지 않습니다.
+ * 이 클래스는 latest_section이 비어있고 섹션이 존재하는 경우에 한하여 기존 섹션들로부터 latest_section을 채웁니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+class LatestSectionInitializer implements ApplicationRunner {
+
+	private final LatestSectionRepository latestSectionRepository;
+	private final SectionRepository sectionRepository;
+
+	@Override
+	@Transactional
+	public void run(ApplicationArguments args) {
+		if (latestSectionRepository.count() > 0 || sectionRepository.count() == 0) {
+			return;
+		}
+
+		log.info("latest_section이 비어있습니다. section 테이블로부터 latest_section을 생성합니다.");
+		int inserted = latestSectionRepository.backfillFromSection();
+		log.info("latest_section 생성 완료. 생성된 행 : {}", inserted);
+	}
+}
@@ -0,0 +1,29 @@
+package goorm.eagle7.stelligence.domain.section;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+
+import goorm.eagle7.stelligence.domain.section.model.LatestSection;
+
+public interface LatestSectionRepository extends JpaRepository<LatestSection, Long> {
+
+	/**
+	 * Section 테이블로부터 latest_section 테이블을 다시 채웁니다.
+	 * 삭제되지 않은 섹션 중 가장 높은 revision을 갖는 행만을 대상으로 합니다.
+	 * 기존 데이터에 대한 마이그레이션 용도로만 사용합니다.
+	 * @return 삽입된 행의 개수
+	 */
+	@Modifying
+	@Query(nativeQuery = true,
+		value = "INSERT INTO latest_section (section_id, document_id, revision) "
+			+ "SELECT s.section_id, s.document_id, s.revision "
+			+ "FROM section s "
+			+ "WHERE s.content_hash IS NOT NULL "
+			+ "AND s.revision = ( "
+			+ "   SELECT MAX(s2.revision) "
+			+ "   FROM section s2 "
+			+ "   WHERE s2.section_id = s.section_id "
+			+ ")")
+	int backfillFromSection();
+}
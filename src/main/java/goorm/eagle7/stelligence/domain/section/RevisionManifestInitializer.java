@@ -0,0 +1,92 @@
+package goorm.eagle7.stelligence.domain.section;
+
+import java.util.List;
+
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 매니페스트 도입 이전에 생성된 문서들에 대해 매니페스트를 생성합니다.
+ *
+ * <p>문서의 수에 비례하는 시간이 걸리므로 애플리케이션의 시작을 막지 않도록 별도의 스레드에서 수행합니다.
+ * 매니페스트가 없는 버전은 revision 서브쿼리로 조회되므로, 생성이 끝나기 전에도 조회 결과는 같습니다.
+ *
+ * <p>문서 ID 순서로 PAGE_SIZE개씩 조회하며 문서마다 별도의 트랜잭션으로 수행합니다.
+ * 실패한 문서는 건너뛰고 다음 문서를 이어서 수행하며, 중단되더라도 다음 실행 시 매니페스트가 없는 문서부터 이어서 수행됩니다.
+ * section.manifest.backfill.enabled를 false로 지정하면 수행하지 않습니다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "section.manifest.backfill.enabled", havingValue = "true", matchIfMissing = true)
+class RevisionManifestInitializer implements ApplicationRunner {
+
+	static final int PAGE_SIZE = 500;
+
+	private final RevisionManifestRepository revisionManifestRepository;
+	private final RevisionManifestService revisionManifestService;
+	private final Thread worker;
+
+	public RevisionManifestInitializer(RevisionManifestRepository revisionManifestRepository,
+		RevisionManifestService revisionManifestService) {
+		this.revisionManifestRepository = revisionManifestRepository;
+		this.revisionManifestService = revisionManifestService;
+		this.worker = new Thread(this::backfillAll, "manifest-backfill");
+		this.worker.setDaemon(true);
+	}
+
+	@Override
+	public void run(ApplicationArguments args) {
+		worker.start();
+	}
+
+	@PreDestroy
+	void shutdown() {
+		worker.interrupt();
+	}
+
+	/**
+	 * 매니페스트가 없는 모든 문서의 매니페스트를 생성합니다.
+	 */
+	void backfillAll() {
+		long lastDocumentId = 0L;
+		int documents = 0;
+		int created = 0;
+		int failed = 0;
+
+		List<Long> documentIds = nextPage(lastDocumentId);
+		while (!documentIds.isEmpty()) {
+			for (Long documentId : documentIds) {
+				if (Thread.currentThread().isInterrupted()) {
+					log.info("매니페스트 생성이 중단되었습니다. 생성된 매니페스트 : {}, 마지막 문서 ID : {}", created,
+						lastDocumentId);
+					return;
+				}
+
+				try {
+					created += revisionManifestService.backfill(documentId);
+					documents++;
+				} catch (RuntimeException e) {
+					failed++;
+					log.warn("문서의 매니페스트를 생성하지 못했습니다. 다음 실행 시 다시 시도합니다. documentId : {}", documentId, e);
+				}
+				lastDocumentId = documentId;
+			}
+			documentIds = nextPage(lastDocumentId);
+		}
+
+		if (documents > 0 || failed > 0) {
+			log.info("매니페스트 생성 완료. 문서 : {}, 생성된 매니페스트 : {}, 실패한 문서 : {}", documents, created, failed);
+		}
+	}
+
+	private List<Long> nextPage(long afterDocumentId) {
+		return revisionManifestRepository.findDocumentIdsWithoutManifest(afterDocumentId,
+			PageRequest.of(0, PAGE_SIZE));
+	}
+}
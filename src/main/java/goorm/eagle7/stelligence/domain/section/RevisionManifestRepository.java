@@ -0,0 +1,35 @@
+package goorm.eagle7.stelligence.domain.section;
+
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import goorm.eagle7.stelligence.domain.section.model.RevisionManifest;
+
+public interface RevisionManifestRepository extends JpaRepository<RevisionManifest, Long> {
+
+	/**
+	 * 문서의 특정 버전에 대한 매니페스트를 조회합니다.
+	 * @param documentId 문서 ID
+	 * @param revision 버전
+	 * @return 매니페스트
+	 */
+	Optional<RevisionManifest> findByDocumentIdAndRevision(Long documentId, Long revision);
+
+	/**
+	 * 매니페스트가 하나도 없는 문서의 ID를 afterDocumentId 이후부터 순서대로 조회합니다.
+	 * 매니페스트 도입 이전에 생성된 문서들을 찾기 위한 용도입니다.
+	 * @param afterDocumentId 이 ID보다 큰 문서만 조회합니다.
+	 * @param pageable 조회할 문서의 수
+	 * @return 매니페스트가 없는 문서의 ID 목록
+	 */
+	@Query("select d.id from Document d "
+		+ "where d.id > :afterDocumentId "
+		+ "and not exists (select 1 from RevisionManifest m where m.documentId = d.id) "
+		+ "order by d.id")
+	List<Long> findDocumentIdsWithoutManifest(@Param("afterDocumentId") Long afterDocumentId, Pageable pageable);
+}
@@ -0,0 +1,148 @@
+package goorm.eagle7.stelligence.domain.section;
+
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import goorm.eagle7.stelligence.api.exception.BaseException;
+import goorm.eagle7.stelligence.domain.document.content.DocumentContentRepository;
+import goorm.eagle7.stelligence.domain.document.content.model.Document;
+import goorm.eagle7.stelligence.domain.section.dto.SectionHistory;
+import goorm.eagle7.stelligence.domain.section.model.RevisionManifest;
+import goorm.eagle7.stelligence.domain.section.model.Section;
+import goorm.eagle7.stelligence.domain.section.model.SectionId;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 문서 버전별 매니페스트의 기록과 조회를 담당합니다.
+ *
+ * <p>매니페스트는 해당 버전을 구성하는 섹션의 키를 순서대로 가지고 있으므로,
+ * 과거 버전의 조회는 매니페스트 조회 한 번과 섹션의 기본키 조회로 수행됩니다.
+ * 매니페스트가 존재하지 않는 경우 기존의 revision 서브쿼리 방식으로 조회해야합니다.
+ *
+ * @see RevisionManifest
+ */
+@Slf4j
+@Service
+@Transactional(readOnly = true)
+@RequiredArgsConstructor
+public class RevisionManifestService {
+
+	private static final Comparator<SectionHistory> HISTORY_ORDER = Comparator
+		.comparingLong(SectionHistory::order)
+		.thenComparing(SectionHistory::sectionId);
+
+	private final RevisionManifestRepository revisionManifestRepository;
+	private final SectionRepository sectionRepository;
+	private final DocumentContentRepository documentContentRepository;
+
+	/**
+	 * 특정 버전을 구성하는 섹션들로 매니페스트를 기록합니다.
+	 * 문서 생성 시와 같이 해당 버전의 섹션을 모두 알고 있는 경우 사용합니다.
+	 * @param documentId 문서 ID
+	 * @param revision 버전
+	 * @param sections 해당 버전을 구성하는 섹션들
+	 */
+	@Transactional
+	public void record(Long documentId, Long revision, List<Section> sections) {
+		revisionManifestRepository.save(RevisionManifest.of(documentId, revision, sections));
+	}
+
+	/**
+	 * 문서의 현재 최신 버전에 대한 매니페스트를 기록합니다.
+	 * Merge가 끝나고 latestRevision이 증가한 이후에 호출되어야 합니다.
+	 * @param document 매니페스트를 기록할 문서
+	 */
+	@Transactional
+	public void recordLatestRevision(Document document) {
+		//Merge 과정에서 섹션의 본문을 읽지 않도록 키와 순서만을 조회합니다.
+		List<SectionId> sectionKeys = sectionRepository.findLatestSectionHistoryByDocumentId(document.getId())
+			.stream()
+			.map(section -> SectionId.of(section.sectionId(), section.revision()))
+			.toList();
+
+		revisionManifestRepository.save(
+			RevisionManifest.ofKeys(document.getId(), document.getLatestRevision(), sectionKeys));
+	}
+
+	/**
+	 * 매니페스트를 통해 특정 버전을 구성하는 섹션들을 조회합니다.
+	 * @param documentId 문서 ID
+	 * @param revision 버전
+	 * @return 순서대로 정렬된 섹션 목록, 매니페스트가 없다면 빈 Optional
+	 */
+	public Optional<List<Section>> findSections(Long documentId, Long revision) {
+		return revisionManifestRepository.findByDocumentIdAndRevision(documentId, revision)
+			.map(manifest -> sectionRepository.findAllByKeysInOrder(manifest.getSectionKeys()));
+	}
+
+	/**
+	 * 특정 버전을 구성하는 섹션들의 키를 순서대로 조회합니다.
+	 * 매니페스트가 없는 버전이라면 revision 서브쿼리를 통해 키만을 조회합니다. 섹션의 본문은 읽지 않습니다.
+	 * @param document 문서
+	 * @param revision 버전
+	 * @return 순서대로 정렬된 섹션의 키 목록
+	 */
+	public List<SectionId> findSectionKeys(Document document, Long revision) {
+		return revisionManifestRepository.findByDocumentIdAndRevision(document.getId(), revision)
+			.map(RevisionManifest::getSectionKeys)
+			.orElseGet(() -> sectionRepository.findSectionHistoryByVersion(document, revision)
+				.stream()
+				.map(section -> SectionId.of(section.sectionId(), section.revision()))
+				.toList());
+	}
+
+	/**
+	 * 문서의 섹션 이력을 revision 순서대로 스트리밍하며 모든 버전의 매니페스트를 생성합니다.
+	 *
+	 * <p>각 섹션의 현재 상태만을 메모리에 유지하고, 버전이 바뀔 때마다 그 시점의 섹션 키를 매니페스트로 저장합니다.
+	 * 섹션의 변경이 없는 버전(제목이나 상위 문서만 변경된 경우)도 직전 버전과 같은 매니페스트를 갖습니다.
+	 *
+	 * @param documentId 매니페스트를 생성할 문서의 ID
+	 * @return 생성된 매니페스트의 개수
+	 */
+	@Transactional
+	public int backfill(Long documentId) {
+		Document document = documentContentRepository.findById(documentId)
+			.orElseThrow(() -> new BaseException("문서가 존재하지 않습니다. 문서 ID : " + documentId));
+
+		Map<Long, SectionHistory> currentSections = new HashMap<>();
+
+		try (Stream<SectionHistory> history = sectionRepository.streamHistoryByDocumentId(documentId)) {
+			Iterator<SectionHistory> iterator = history.iterator();
+			SectionHistory next = iterator.hasNext() ? iterator.next() : null;
+
+			for (long revision = 1; revision <= document.getLatestRevision(); revision++) {
+				//해당 버전까지의 변경사항을 반영합니다.
+				while (next != null && next.revision() <= revision) {
+					if (next.deleted()) {
+						currentSections.remove(next.sectionId());
+					} else {
+						currentSections.put(next.sectionId(), next);
+					}
+					next = iterator.hasNext() ? iterator.next() : null;
+				}
+
+				List<SectionId> sectionKeys = currentSections.values()
+					.stream()
+					.sorted(HISTORY_ORDER)
+					.map(section -> SectionId.of(section.sectionId(), section.revision()))
+					.toList();
+
+				revisionManifestRepository.save(RevisionManifest.ofKeys(documentId, revision, sectionKeys));
+			}
+		}
+
+		log.debug("revision manifest backfilled. documentId : {}, revisions : {}", documentId,
+			document.getLatestRevision());
+		return document.getLatestRevision().intValue();
+	}
+}
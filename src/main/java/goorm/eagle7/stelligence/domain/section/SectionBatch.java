@@ -0,0 +1,116 @@
+package goorm.eagle7.stelligence.domain.section;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import goorm.eagle7.stelligence.domain.section.model.Section;
+import goorm.eagle7.stelligence.domain.section.model.SectionId;
+
+/**
+ * 하나의 버전에서 새로 생기는 섹션의 행들을 모아 두었다가 SectionBatchWriter로 한 번에 저장합니다.
+ *
+ * <p>모아 둔 섹션은 {@link #flush()} 전까지 DB와 영속성 컨텍스트 어디에도 없으므로, 같은 버전의 섹션을 DB에서 조회해야 한다면
+ * 먼저 flush해야 합니다. 같은 키의 섹션이 다시 추가되면 마지막으로 추가된 섹션이 저장됩니다.
+ *
+ * <p>하나의 트랜잭션 안에서 한 스레드가 사용합니다.
+ */
+public class SectionBatch {
+
+	private final SectionBatchWriter writer;
+	private final Map<SectionId, Section> sections = new LinkedHashMap<>();
+	private final Map<Long, Section> latestById = new HashMap<>();
+	private final Set<Long> createdIds = new HashSet<>();
+
+	/**
+	 * 생성 중인 버전의 순서가 다시 부여되었는지 여부입니다. (CreateAmendmentMergeTemplate 참조)
+	 */
+	private boolean reordered;
+
+	public SectionBatch(SectionBatchWriter writer) {
+		this.writer = writer;
+	}
+
+	/**
+	 * 새로운 ID를 가진 섹션을 추가합니다. latest_section에 새로운 행이 추가됩니다.
+	 * @param section 저장할 섹션
+	 */
+	public void created(Section section) {
+		createdIds.add(section.getId());
+		add(section);
+	}
+
+	/**
+	 * 이미 존재하는 섹션의 새로운 revision을 추가합니다.
+	 * latest_section은 새로운 revision을 가리키도록 변경되며, 삭제된 섹션이라면 latest_section에서 제거됩니다.
+	 * @param section 저장할 섹션
+	 */
+	public void revised(Section section) {
+		add(section);
+	}
+
+	/**
+	 * 아직 저장되지 않은 섹션 중 주어진 ID를 가진 마지막 섹션을 반환합니다.
+	 * @param sectionId 섹션 ID
+	 * @return 섹션, 해당 ID의 섹션이 없다면 빈 Optional
+	 */
+	public Optional<Section> find(Long sectionId) {
+		return Optional.ofNullable(latestById.get(sectionId));
+	}
+
+	/**
+	 * 새로운 ID를 가진 섹션으로 추가되었는지 확인합니다.
+	 * @param sectionId 섹션 ID
+	 * @return created로 추가된 섹션이라면 true
+	 */
+	public boolean isCreated(Long sectionId) {
+		return createdIds.contains(sectionId);
+	}
+
+	/**
+	 * 생성 중인 버전의 순서가 다시 부여되었음을 기록합니다.
+	 * 이후에는 이전 버전의 순서가 아니라 batch에 있는 새로운 revision의 순서를 기준으로 해야 합니다.
+	 */
+	public void markReordered() {
+		this.reordered = true;
+	}
+
+	public boolean isReordered() {
+		return reordered;
+	}
+
+	/**
+	 * 아직 저장되지 않은 섹션들을 추가된 순서대로 반환합니다.
+	 */
+	public List<Section> pending() {
+		return new ArrayList<>(sections.values());
+	}
+
+	public boolean isEmpty() {
+		return sections.isEmpty();
+	}
+
+	/**
+	 * 모아 둔 섹션들을 저장하고 비웁니다. 모아 둔 섹션이 없다면 아무것도 하지 않습니다.
+	 */
+	public void flush() {
+		if (sections.isEmpty()) {
+			return;
+		}
+
+		writer.write(pending(), Set.copyOf(createdIds));
+		sections.clear();
+		latestById.clear();
+		createdIds.clear();
+	}
+
+	private void add(Section section) {
+		sections.put(SectionId.of(section.getId(), section.getRevision()), section);
+		latestById.put(section.getId(), section);
+	}
+}
@@ -0,0 +1,147 @@
+package goorm.eagle7.stelligence.domain.section;
+
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.hibernate.Hibernate;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import goorm.eagle7.stelligence.domain.section.model.Section;
+import goorm.eagle7.stelligence.domain.section.model.SectionBody;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 한 버전의 새로운 섹션 행들을 JDBC batch insert로 저장합니다.
+ *
+ * <p>섹션을 엔티티로 저장하면 섹션마다 본문의 존재 여부를 조회하고, 복합키(@IdClass)를 가진 섹션을 merge하므로
+ * 섹션의 존재 여부도 다시 조회한 뒤 저장합니다. latest_section의 save도 마찬가지입니다. 200개의 섹션을 가진 문서를 생성하면
+ * 수백 번의 왕복이 발생합니다. 이 클래스는 섹션의 수와 관계없이 다음의 문장만을 실행합니다.
+ * <ol>
+ *     <li>section_body : 이미 저장된 본문을 무시하는 batch insert (SectionBodyInserter 참조)</li>
+ *     <li>section : batch insert</li>
+ *     <li>latest_section : 새로운 섹션의 batch insert, 수정된 섹션의 batch update, 삭제된 섹션의 batch delete</li>
+ * </ol>
+ * 데이터소스의 rewriteBatchedStatements 옵션에 의해 MySQL에서는 batch insert가 하나의 다중 행 INSERT로 전송됩니다.
+ *
+ * <p>저장된 행은 영속성 컨텍스트에 올라오지 않습니다. 같은 트랜잭션에서 JPQL로 조회하면 DB의 행을 읽게 되며,
+ * 저장에 사용한 Section 객체는 비영속 상태로 남습니다. (SectionBatch 참조)
+ */
+@Slf4j
+@Repository
+public class SectionBatchWriter {
+
+	private static final String INSERT_SECTION = "INSERT INTO section"
+		+ " (section_id, revision, document_id, heading, title, content_hash, orders, created_at, updated_at)"
+		+ " VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+	private static final String INSERT_LATEST_SECTION = "INSERT INTO latest_section (section_id, document_id, revision)"
+		+ " VALUES (?, ?, ?)";
+
+	private static final String UPDATE_LATEST_SECTION = "UPDATE latest_section SET document_id = ?, revision = ?"
+		+ " WHERE section_id = ?";
+
+	private static final String DELETE_LATEST_SECTION = "DELETE FROM latest_section WHERE section_id = ?";
+
+	private final JdbcTemplate jdbcTemplate;
+	private final SectionBodyInserter sectionBodyInserter;
+
+	public SectionBatchWriter(JdbcTemplate jdbcTemplate) {
+		this.jdbcTemplate = jdbcTemplate;
+		this.sectionBodyInserter = new SectionBodyInserter(jdbcTemplate);
+	}
+
+	/**
+	 * 섹션들을 본문과 함께 저장하고 latest_section을 갱신합니다.
+	 * @param sections 저장할 섹션들, 키가 중복되지 않아야 합니다.
+	 * @param createdIds 이번에 새로 생성된 섹션의 ID, latest_section에 새로운 행으로 추가됩니다.
+	 */
+	public void write(List<Section> sections, Set<Long> createdIds) {
+		if (sections.isEmpty()) {
+			return;
+		}
+
+		Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+
+		insertSectionBodies(sections);
+		jdbcTemplate.batchUpdate(INSERT_SECTION, sections, sections.size(), (ps, section) -> {
+			ps.setLong(1, section.getId());
+			ps.setLong(2, section.getRevision());
+			ps.setLong(3, section.getDocument().getId());
+			ps.setString(4, section.getHeading() == null ? null : section.getHeading().name());
+			ps.setString(5, section.getTitle());
+			if (section.isDeleted()) {
+				ps.setNull(6, Types.VARCHAR);
+			} else {
+				ps.setString(6, section.getBody().getHash());
+			}
+			ps.setLong(7, section.getOrder());
+			ps.setTimestamp(8, now);
+			ps.setTimestamp(9, now);
+		});
+
+		writeLatestSections(sections, createdIds);
+		log.debug("sections written in batch. sections : {}", sections.size());
+	}
+
+	/**
+	 * 섹션들의 본문을 저장합니다. 같은 내용의 본문은 한 번만 저장되며, 이미 저장된 본문은 무시됩니다.
+	 * 초기화되지 않은 프록시는 DB에서 읽어온 본문을 가리키므로 내용을 읽지 않고 건너뜁니다.
+	 */
+	private void insertSectionBodies(List<Section> sections) {
+		Map<String, String> contentsByHash = new HashMap<>();
+		for (Section section : sections) {
+			SectionBody body = section.getBody();
+			if (!section.isDeleted() && Hibernate.isInitialized(body)) {
+				contentsByHash.putIfAbsent(body.getHash(), body.getContent());
+			}
+		}
+		sectionBodyInserter.insertAll(contentsByHash);
+	}
+
+	/**
+	 * 섹션 ID마다 마지막 revision을 기준으로 latest_section을 갱신합니다.
+	 * 이번에 생성된 섹션은 추가하고, 기존 섹션은 새로운 revision을 가리키도록 변경하며, 삭제된 기존 섹션은 제거합니다.
+	 * 생성된 뒤 같은 배치에서 삭제된 섹션은 latest_section에 추가하지 않습니다.
+	 */
+	private void writeLatestSections(List<Section> sections, Set<Long> createdIds) {
+		Map<Long, Section> latest = new LinkedHashMap<>();
+		for (Section section : sections) {
+			latest.merge(section.getId(), section,
+				(previous, current) -> current.getRevision() >= previous.getRevision() ? current : previous);
+		}
+
+		List<Object[]> inserts = new ArrayList<>();
+		List<Object[]> updates = new ArrayList<>();
+		List<Object[]> deletes = new ArrayList<>();
+		for (Section section : latest.values()) {
+			boolean created = createdIds.contains(section.getId());
+			if (section.isDeleted()) {
+				if (!created) {
+					deletes.add(new Object[] {section.getId()});
+				}
+			} else if (created) {
+				inserts.add(new Object[] {section.getId(), section.getDocument().getId(), section.getRevision()});
+			} else {
+				updates.add(new Object[] {section.getDocument().getId(), section.getRevision(), section.getId()});
+			}
+		}
+
+		if (!inserts.isEmpty()) {
+			jdbcTemplate.batchUpdate(INSERT_LATEST_SECTION, inserts);
+		}
+		if (!updates.isEmpty()) {
+			jdbcTemplate.batchUpdate(UPDATE_LATEST_SECTION, updates);
+		}
+		if (!deletes.isEmpty()) {
+			jdbcTemplate.batchUpdate(DELETE_LATEST_SECTION, deletes);
+		}
+	}
+}
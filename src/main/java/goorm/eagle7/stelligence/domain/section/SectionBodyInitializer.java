@@ -0,0 +1,109 @@
+package goorm.eagle7.stelligence.domain.section;
+
+import java.sql.DatabaseMetaData;
+import java.sql.ResultSet;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import goorm.eagle7.stelligence.domain.section.model.SectionBody;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * section_body 도입 이전에 section.content 컬럼에 저장된 본문을 section_body로 옮깁니다.
+ *
+ * <p>본문이 section_body로 옮겨진 이후 Section 엔티티는 content 컬럼을 사용하지 않지만, 기존 테이블에는 컬럼과 본문이 남아있습니다.
+ * content 컬럼이 존재하는 경우에 한하여, content_hash가 없고 content가 있는 섹션의 본문을 해시로 저장하고 content_hash를 채웁니다.
+ * CHUNK_SIZE개의 섹션마다 별도의 트랜잭션으로 수행되므로, 중간에 실패하더라도 다음 실행 시 남은 섹션부터 이어서 수행됩니다.
+ * 옮겨진 이후에도 content 컬럼의 값은 지우지 않습니다.
+ *
+ * <p>latest_section과 매니페스트는 content_hash로 삭제된 섹션을 구분하므로, 다른 초기화보다 먼저 수행됩니다.
+ */
+@Slf4j
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+class SectionBodyInitializer implements ApplicationRunner {
+
+	static final int CHUNK_SIZE = 500;
+
+	private static final String SELECT_SECTIONS_WITHOUT_BODY = "SELECT section_id, revision, content FROM section"
+		+ " WHERE content_hash IS NULL AND content IS NOT NULL LIMIT " + CHUNK_SIZE;
+
+	private static final String UPDATE_CONTENT_HASH = "UPDATE section SET content_hash = ?"
+		+ " WHERE section_id = ? AND revision = ?";
+
+	private final JdbcTemplate jdbcTemplate;
+	private final TransactionTemplate transactionTemplate;
+	private final SectionBodyInserter sectionBodyInserter;
+
+	public SectionBodyInitializer(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager) {
+		this.jdbcTemplate = jdbcTemplate;
+		this.transactionTemplate = new TransactionTemplate(transactionManager);
+		this.sectionBodyInserter = new SectionBodyInserter(jdbcTemplate);
+	}
+
+	@Override
+	public void run(ApplicationArguments args) {
+		if (!hasLegacyContentColumn()) {
+			return;
+		}
+
+		int moved = 0;
+		int chunk;
+		do {
+			chunk = transactionTemplate.execute(status -> moveNextChunk());
+			moved += chunk;
+		} while (chunk == CHUNK_SIZE);
+
+		if (moved > 0) {
+			log.info("section.content의 본문을 section_body로 옮겼습니다. 옮겨진 섹션 : {}", moved);
+		}
+	}
+
+	/**
+	 * 다음 chunk의 본문을 옮깁니다.
+	 * @return 옮겨진 섹션의 수
+	 */
+	int moveNextChunk() {
+		List<Object[]> updates = new ArrayList<>();
+		Map<String, String> bodies = new HashMap<>();
+		jdbcTemplate.query(SELECT_SECTIONS_WITHOUT_BODY, rs -> {
+			String content = rs.getString("content");
+			String hash = SectionBody.hash(content);
+			bodies.putIfAbsent(hash, content);
+			updates.add(new Object[] {hash, rs.getLong("section_id"), rs.getLong("revision")});
+		});
+		if (updates.isEmpty()) {
+			return 0;
+		}
+
+		sectionBodyInserter.insertAll(bodies);
+		jdbcTemplate.batchUpdate(UPDATE_CONTENT_HASH, updates);
+		return updates.size();
+	}
+
+	/**
+	 * section 테이블에 section_body 도입 이전의 content 컬럼이 남아있는지 확인합니다.
+	 */
+	private boolean hasLegacyContentColumn() {
+		return Boolean.TRUE.equals(jdbcTemplate.execute((ConnectionCallback<Boolean>)connection -> {
+			DatabaseMetaData metaData = connection.getMetaData();
+			boolean upperCase = metaData.storesUpperCaseIdentifiers();
+			try (ResultSet columns = metaData.getColumns(connection.getCatalog(), null,
+				upperCase ? "SECTION" : "section", upperCase ? "CONTENT" : "content")) {
+				return columns.next();
+			}
+		}));
+	}
+}
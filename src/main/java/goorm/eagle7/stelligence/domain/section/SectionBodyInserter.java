@@ -0,0 +1,81 @@
+package goorm.eagle7.stelligence.domain.section;
+
+import java.sql.DatabaseMetaData;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.JdbcUtils;
+import org.springframework.jdbc.support.MetaDataAccessException;
+
+import goorm.eagle7.stelligence.common.compression.TextCompressor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * section_body에 본문을 저장하는 유일한 문장을 관리합니다.
+ *
+ * <p>본문은 내용의 해시를 키로 하므로 여러 트랜잭션이 같은 본문을 동시에 저장할 수 있습니다.
+ * 존재 여부를 먼저 조회한 뒤 INSERT하면 두 트랜잭션이 모두 없다고 판단하여, 늦게 저장한 쪽의 트랜잭션 전체가 키 중복으로 롤백됩니다.
+ * 따라서 조회 없이 이미 저장된 본문을 무시하는 문장으로 저장합니다. 같은 해시의 본문은 내용도 같으므로 어느 쪽이 저장하더라도 결과는 같습니다.
+ * <ul>
+ *     <li>MySQL : INSERT ... ON DUPLICATE KEY UPDATE content_hash = content_hash (키 중복 외의 오류는 무시하지 않습니다.)</li>
+ *     <li>H2(테스트) : MERGE INTO ... KEY (content_hash)</li>
+ * </ul>
+ * 여러 본문을 저장하는 트랜잭션들이 서로 다른 순서로 키를 잠가 교착 상태에 빠지지 않도록 해시 순서로 저장합니다.
+ */
+@Slf4j
+public class SectionBodyInserter {
+
+	static final String INSERT_IGNORING_DUPLICATES_MYSQL = "INSERT INTO section_body (content_hash, content)"
+		+ " VALUES (?, ?) ON DUPLICATE KEY UPDATE content_hash = content_hash";
+
+	static final String INSERT_IGNORING_DUPLICATES_H2 = "MERGE INTO section_body (content_hash, content)"
+		+ " KEY (content_hash) VALUES (?, ?)";
+
+	private final JdbcTemplate jdbcTemplate;
+	private final String insertStatement;
+
+	public SectionBodyInserter(JdbcTemplate jdbcTemplate) {
+		this.jdbcTemplate = jdbcTemplate;
+		this.insertStatement = resolveInsertStatement(databaseProductName(jdbcTemplate));
+	}
+
+	/**
+	 * 본문들을 저장합니다. 이미 저장된 본문은 무시합니다.
+	 * @param contentsByHash 해시를 키로 하는 본문 내용
+	 */
+	public void insertAll(Map<String, String> contentsByHash) {
+		if (contentsByHash.isEmpty()) {
+			return;
+		}
+
+		List<Object[]> inserts = new ArrayList<>(contentsByHash.size());
+		new TreeMap<>(contentsByHash).forEach(
+			(hash, content) -> inserts.add(new Object[] {hash, TextCompressor.compress(content)}));
+		jdbcTemplate.batchUpdate(insertStatement, inserts);
+	}
+
+	/**
+	 * DB의 종류에 맞는 저장 문장을 반환합니다.
+	 * @param databaseProductName DatabaseMetaData.getDatabaseProductName의 값, 확인하지 못했다면 null
+	 * @return H2라면 MERGE 문, 아니라면 운영 DB인 MySQL의 문장
+	 */
+	static String resolveInsertStatement(String databaseProductName) {
+		return "H2".equals(databaseProductName) ? INSERT_IGNORING_DUPLICATES_H2 : INSERT_IGNORING_DUPLICATES_MYSQL;
+	}
+
+	private static String databaseProductName(JdbcTemplate jdbcTemplate) {
+		if (jdbcTemplate.getDataSource() == null) {
+			return null;
+		}
+		try {
+			return JdbcUtils.extractDatabaseMetaData(jdbcTemplate.getDataSource(),
+				DatabaseMetaData::getDatabaseProductName);
+		} catch (MetaDataAccessException e) {
+			log.warn("DB의 종류를 확인하지 못해 MySQL의 문장으로 본문을 저장합니다.", e);
+			return null;
+		}
+	}
+}
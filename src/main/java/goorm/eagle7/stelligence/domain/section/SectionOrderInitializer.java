@@ -0,0 +1,108 @@
+package goorm.eagle7.stelligence.domain.section;
+
+import java.sql.DatabaseMetaData;
+import java.sql.ResultSet;
+import java.sql.Types;
+import java.util.Set;
+
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import goorm.eagle7.stelligence.domain.section.model.SectionOrder;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 섹션의 순서는 이전에는 1부터 시작하는 연속된 정수로 부여되었습니다.
+ * 이 클래스는 이전 방식으로 부여된 순서가 남아있는 경우에 한하여 순서에 SectionOrder.GAP을 곱해 간격을 만듭니다.
+ *
+ * <p>새로운 방식의 순서는 항상 GAP 이상이므로 GAP보다 작은 양수 순서는 이전 방식의 순서입니다.
+ * 한 문서에 GAP개 이상의 섹션이 존재하지 않는다고 가정합니다.
+ *
+ * <p>간격을 둔 순서는 INT의 범위를 넘으므로 orders 컬럼은 BIGINT 타입이어야 합니다.
+ * 이전에 INT로 생성된 컬럼은 스키마 자동 갱신(ddl-auto=update)으로 바뀌지 않으므로, 순서를 변환하기 전에 컬럼의 타입을 확인합니다.
+ * MySQL에서는 컬럼을 BIGINT로 변경하고, 그 외의 DB에서는 잘못된 순서가 저장되지 않도록 시작을 중단합니다.
+ */
+@Slf4j
+@Component
+class SectionOrderInitializer implements ApplicationRunner {
+
+	static final String WIDEN_ORDER_COLUMN_MYSQL = "ALTER TABLE section MODIFY orders BIGINT NOT NULL";
+
+	/**
+	 * BIGINT보다 범위가 좁은 정수 타입입니다.
+	 */
+	private static final Set<Integer> NARROW_INTEGER_TYPES = Set.of(Types.TINYINT, Types.SMALLINT, Types.INTEGER);
+
+	private final SectionRepository sectionRepository;
+	private final JdbcTemplate jdbcTemplate;
+	private final TransactionTemplate transactionTemplate;
+
+	public SectionOrderInitializer(SectionRepository sectionRepository, JdbcTemplate jdbcTemplate,
+		PlatformTransactionManager transactionManager) {
+		this.sectionRepository = sectionRepository;
+		this.jdbcTemplate = jdbcTemplate;
+		this.transactionTemplate = new TransactionTemplate(transactionManager);
+	}
+
+	@Override
+	public void run(ApplicationArguments args) {
+		//DDL은 트랜잭션을 커밋하므로 순서를 변환하는 트랜잭션 밖에서 수행합니다.
+		widenOrderColumn();
+
+		transactionTemplate.executeWithoutResult(status -> {
+			if (!sectionRepository.existsOrderLessThanGap(SectionOrder.GAP)) {
+				return;
+			}
+
+			log.info("간격 없이 부여된 섹션의 순서가 존재합니다. 순서에 간격을 부여합니다.");
+			int updated = sectionRepository.spreadOrders(SectionOrder.GAP);
+			log.info("섹션 순서 변환 완료. 변환된 행 : {}", updated);
+		});
+	}
+
+	/**
+	 * orders 컬럼이 BIGINT보다 좁은 정수 타입이라면 BIGINT로 변경합니다.
+	 * @throws IllegalStateException MySQL이 아닌 DB에서 컬럼의 타입이 BIGINT보다 좁은 경우
+	 */
+	void widenOrderColumn() {
+		OrderColumn column = findOrderColumn();
+		if (column == null || !NARROW_INTEGER_TYPES.contains(column.dataType())) {
+			return;
+		}
+
+		if (!"MySQL".equals(column.databaseProductName())) {
+			throw new IllegalStateException("section.orders 컬럼의 타입을 BIGINT로 변경해야 합니다. 현재 타입 : "
+				+ column.typeName() + ", DB : " + column.databaseProductName());
+		}
+
+		log.info("section.orders 컬럼의 타입을 {}에서 BIGINT로 변경합니다.", column.typeName());
+		jdbcTemplate.execute(WIDEN_ORDER_COLUMN_MYSQL);
+	}
+
+	/**
+	 * section.orders 컬럼의 타입을 조회합니다.
+	 * @return 컬럼의 타입, 테이블이나 컬럼이 없다면 null
+	 */
+	private OrderColumn findOrderColumn() {
+		return jdbcTemplate.execute((ConnectionCallback<OrderColumn>)connection -> {
+			DatabaseMetaData metaData = connection.getMetaData();
+			boolean upperCase = metaData.storesUpperCaseIdentifiers();
+			try (ResultSet columns = metaData.getColumns(connection.getCatalog(), null,
+				upperCase ? "SECTION" : "section", upperCase ? "ORDERS" : "orders")) {
+				if (!columns.next()) {
+					return null;
+				}
+				return new OrderColumn(metaData.getDatabaseProductName(), columns.getInt("DATA_TYPE"),
+					columns.getString("TYPE_NAME"));
+			}
+		});
+	}
+
+	private record OrderColumn(String databaseProductName, int dataType, String typeName) {
+	}
+}
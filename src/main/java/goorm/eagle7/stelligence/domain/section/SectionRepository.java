@@ -2,27 +2,35 @@ package goorm.eagle7.stelligence.domain.section;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.transaction.annotation.Transactional;
 
 import goorm.eagle7.stelligence.domain.document.content.model.Document;
+import goorm.eagle7.stelligence.domain.section.custom.CustomSectionRepository;
+import goorm.eagle7.stelligence.domain.section.dto.SectionHistory;
 import goorm.eagle7.stelligence.domain.section.model.Section;
 import goorm.eagle7.stelligence.domain.section.model.SectionId;
+import jakarta.persistence.QueryHint;
 
-public interface SectionRepository extends JpaRepository<Section, SectionId> {
+public interface SectionRepository extends JpaRepository<Section, SectionId>, CustomSectionRepository {
 
 	/**
 	 * Document의 특정 버전의 글을 조회하는 메서드입니다.
+	 * 섹션의 본문을 함께 조회합니다.
 	 * @param document
 	 * @param revision
 	 * @return
 	 */
 	@Query("select s from Section s "
+		+ "join fetch s.body "
 		+ "where s.document = :document "
-		+ "and s.content is not null "
+		+ "and s.body is not null "
 		+ "and s.revision = ( "
 		+ "   select max(s2.revision) "
 		+ "   from Section s2 "
@@ -31,6 +39,63 @@ public interface SectionRepository extends JpaRepository<Section, SectionId> {
 		+ ") ")
 	List<Section> findByVersion(Document document, Long revision);
 
+	/**
+	 * Document의 최신 버전의 글을 조회하는 메서드입니다.
+	 * latest_section을 통해 각 섹션의 최신 revision을 찾으므로 revision 서브쿼리를 수행하지 않습니다.
+	 * 섹션의 본문을 함께 조회합니다.
+	 * @param documentId 문서 ID
+	 * @return 최신 버전의 섹션 목록
+	 */
+	@Query("select s from Section s "
+		+ "join LatestSection ls on ls.sectionId = s.id and ls.revision = s.revision "
+		+ "join fetch s.body "
+		+ "where ls.documentId = :documentId")
+	List<Section> findLatestByDocumentId(Long documentId);
+
+	/**
+	 * Document의 최신 버전을 구성하는 섹션의 키와 순서를 순서대로 조회합니다.
+	 * 섹션 엔티티와 본문을 읽지 않으므로 매니페스트의 기록과 같이 키만 필요한 경우에 사용합니다.
+	 * @param documentId 문서 ID
+	 * @return 순서대로 정렬된 최신 버전 섹션의 키와 순서
+	 */
+	@Query("select new goorm.eagle7.stelligence.domain.section.dto.SectionHistory("
+		+ "s.id, s.revision, s.order, false) "
+		+ "from Section s "
+		+ "join LatestSection ls on ls.sectionId = s.id and ls.revision = s.revision "
+		+ "where ls.documentId = :documentId "
+		+ "order by s.order, s.id")
+	List<SectionHistory> findLatestSectionHistoryByDocumentId(Long documentId);
+
+	/**
+	 * Document의 특정 버전을 구성하는 섹션의 키와 순서를 순서대로 조회합니다.
+	 * 섹션 엔티티와 본문을 읽지 않으며, 매니페스트가 없는 버전의 키를 구할 때 사용합니다.
+	 * @param document 문서
+	 * @param revision 버전
+	 * @return 순서대로 정렬된 해당 버전 섹션의 키와 순서
+	 */
+	@Query("select new goorm.eagle7.stelligence.domain.section.dto.SectionHistory("
+		+ "s.id, s.revision, s.order, false) "
+		+ "from Section s "
+		+ "where s.document = :document "
+		+ "and s.body is not null "
+		+ "and s.revision = ( "
+		+ "   select max(s2.revision) "
+		+ "   from Section s2 "
+		+ "   where s2.id = s.id "
+		+ "   AND s2.revision <= :revision "
+		+ ") "
+		+ "order by s.order, s.id")
+	List<SectionHistory> findSectionHistoryByVersion(Document document, Long revision);
+
+	/**
+	 * Document의 최신 버전의 글에서 ID만을 조회하는 메서드입니다.
+	 * @param documentId 문서 ID
+	 * @return 최신 버전 섹션의 ID 목록
+	 */
+	@Query("select ls.sectionId from LatestSection ls "
+		+ "where ls.documentId = :documentId")
+	List<Long> findLatestSectionIdByDocumentId(Long documentId);
+
 	/**
 	 * Document의 특정 버전의 글에서 ID만을 조회하는 메서드입니다.
 	 * @param document 문서
@@ -39,7 +104,7 @@ public interface SectionRepository extends JpaRepository<Section, SectionId> {
 	 */
 	@Query("select s.id from Section s "
 		+ "where s.document = :document "
-		+ "and s.content is not null "
+		+ "and s.body is not null "
 		+ "and s.revision = ( "
 		+ "   select max(s2.revision) "
 		+ "   from Section s2 "
@@ -49,21 +114,101 @@ public interface SectionRepository extends JpaRepository<Section, SectionId> {
 	List<Long> findSectionIdByVersion(Document document, Long revision);
 
 	/**
-	 * Document의 특정 버전의 글 중 order가 특정 값보다 크거나 같은 글을 조회하는 메서드입니다.
-	 * @param document
-	 * @param revision
-	 * @return
+	 * Document의 특정 버전에서 주어진 순서 바로 다음에 위치한 섹션의 순서를 조회합니다.
+	 * 삭제된 섹션도 조회의 대상이 됩니다.
+	 * @param document 문서
+	 * @param revision 버전
+	 * @param order 기준 순서
+	 * @return 기준 순서보다 큰 순서 중 가장 작은 값, 마지막 섹션이라면 empty
 	 */
-	@Query("select s from Section s "
+	@Query("select min(s.order) from Section s "
+		+ "where s.document = :document "
+		+ "and s.order > :order "
+		+ "and s.revision = ("
+		+ "   select max(s2.revision) "
+		+ "   from Section s2 "
+		+ "   where s2.id = s.id "
+		+ "   AND s2.revision <= :revision "
+		+ ") ")
+	Optional<Long> findNextOrder(Document document, Long revision, long order);
+
+	/**
+	 * Document의 특정 버전에서 순서가 from 이상 to 미만인 섹션 중 마지막 섹션의 순서를 조회합니다.
+	 * 삭제된 섹션도 조회의 대상이 됩니다.
+	 * @param document 문서
+	 * @param revision 버전
+	 * @param from 범위의 시작 (포함)
+	 * @param to 범위의 끝 (미포함)
+	 * @return 범위 내의 가장 큰 순서, 범위 내에 섹션이 없다면 empty
+	 */
+	@Query("select max(s.order) from Section s "
 		+ "where s.document = :document "
-		+ "and s.order >= :order "
+		+ "and s.order >= :from "
+		+ "and s.order < :to "
 		+ "and s.revision = ("
 		+ "   select max(s2.revision) "
 		+ "   from Section s2 "
 		+ "   where s2.id = s.id "
 		+ "   AND s2.revision <= :revision "
 		+ ") ")
-	List<Section> findByVersionWhereOrderGreaterEqualThan(Document document, Long revision, int order);
+	Optional<Long> findLastOrderBetween(Document document, Long revision, long from, long to);
+
+	/**
+	 * Document의 특정 버전을 구성하는 섹션을 순서대로 조회합니다.
+	 * 섹션의 본문은 조회하지 않으며, 삭제된 섹션도 함께 조회합니다.
+	 * 섹션의 순서를 다시 부여할 때 사용합니다.
+	 * @param document 문서
+	 * @param revision 버전
+	 * @return 순서대로 정렬된 섹션 목록
+	 */
+	@Query("select s from Section s "
+		+ "where s.document = :document "
+		+ "and s.revision = ("
+		+ "   select max(s2.revision) "
+		+ "   from Section s2 "
+		+ "   where s2.id = s.id "
+		+ "   AND s2.revision <= :revision "
+		+ ") "
+		+ "order by s.order, s.id")
+	List<Section> findByVersionWithoutBody(Document document, Long revision);
+
+	/**
+	 * 간격 없이 부여된 이전 방식의 순서가 남아있는지 확인합니다.
+	 * @param gap 섹션 사이의 간격
+	 * @return 이전 방식의 순서를 가진 섹션이 존재한다면 true
+	 */
+	@Query("select count(s) > 0 from Section s "
+		+ "where s.order > 0 "
+		+ "and s.order < :gap")
+	boolean existsOrderLessThanGap(long gap);
+
+	/**
+	 * 간격 없이 부여된 이전 방식의 순서에 간격을 곱하여 간격을 가진 순서로 변환합니다.
+	 * 문서 내 섹션 간의 상대적인 순서는 유지됩니다.
+	 * @param gap 섹션 사이의 간격
+	 * @return 변환된 섹션의 개수
+	 */
+	@Modifying(clearAutomatically = true)
+	@Query("update Section s "
+		+ "set s.order = s.order * :gap "
+		+ "where s.order > 0 "
+		+ "and s.order < :gap")
+	int spreadOrders(long gap);
+
+	/**
+	 * Document의 모든 섹션 이력을 revision 순서대로 스트리밍합니다.
+	 * 섹션의 본문은 읽지 않으며, 매니페스트 재구성과 같이 이력 전체를 순회해야하는 작업에서 사용합니다.
+	 * 트랜잭션 안에서 사용해야하며, 사용 후에는 스트림을 닫아야합니다.
+	 * @param documentId 문서 ID
+	 * @return 섹션 이력 스트림
+	 */
+	@QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+	@Query("select new goorm.eagle7.stelligence.domain.section.dto.SectionHistory("
+		+ "s.id, s.revision, s.order, case when s.body is null then true else false end) "
+		+ "from Section s "
+		+ "where s.document.id = :documentId "
+		+ "order by s.revision, s.id")
+	Stream<SectionHistory> streamHistoryByDocumentId(Long documentId);
 
 	/**
 	 * 특정 SectionId에 대해 가장 최근에 개정된 버전을 가져옵니다.
@@ -99,16 +244,15 @@ public interface SectionRepository extends JpaRepository<Section, SectionId> {
 	 * <p>이를 해결하기 위해서는 updateOrders를 수행하는 트랜잭션에서 이 메서드가 호출된 이후 매번
 	 * 사용하고자 하는 엔티티들에 대해 영속성 컨텍스트에 병합하는 과정을 거쳐야 합니다.
 	 *
-	 * <p>이 방법은 번거롭다고 판단하여 @Modifying 대신 변경감지를 통해 순서를 변경하도록 하였습니다. 대신 이 상황에서는
-	 * 수정 대상 버전을 갖는 모든 Section을 메모리에 올려야하므로 메모리 사용량이 증가할 수 있습니다. 따라서 메모리 사용량을 줄이기 위해
-	 * Section의 Content와 같은 필드들은 새로운 테이블로 분리하여 LazyLoading의 대상이 되게 할 수 있을 것입니다.
-	 * 위 방법은 추후 고려해볼 예정이고, 일단은 기존의 엔티티를 사용하면서 변경감지를 통해 값을 수정하게 만들었습니다. 이러한 이유로
-	 * 아래 메서드는 사용하지 않습니다.
+	 * <p>이 방법은 번거롭다고 판단하여 @Modifying 대신 변경감지를 통해 순서를 변경하도록 하였습니다.
+	 * 이후 섹션의 순서를 간격을 두고 부여하도록 변경하여, 섹션이 삽입되더라도 이후 섹션들의 순서를 변경하지 않게 되었습니다.
+	 * 이러한 이유로 아래 메서드는 사용하지 않습니다.
 	 *
 	 * @param documentId 문서 ID
 	 * @param revision 순서를 변경할 문서의 버전
 	 * @param insertOrders 순서를 변경할 기준 순서
 	 * @return 변경된 섹션의 개수
+	 * @see goorm.eagle7.stelligence.domain.section.model.SectionOrder
 	 */
 	@Modifying(clearAutomatically = true, flushAutomatically = true)
 	@Transactional
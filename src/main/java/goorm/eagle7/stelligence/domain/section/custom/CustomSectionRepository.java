@@ -0,0 +1,17 @@
+package goorm.eagle7.stelligence.domain.section.custom;
+
+import java.util.List;
+
+import goorm.eagle7.stelligence.domain.section.model.Section;
+import goorm.eagle7.stelligence.domain.section.model.SectionId;
+
+public interface CustomSectionRepository {
+
+	/**
+	 * 섹션들을 기본키로 한번에 조회합니다.
+	 * 결과는 전달된 키의 순서를 따르며, 존재하지 않는 키는 결과에서 제외됩니다.
+	 * @param sectionKeys 조회할 섹션의 키 목록
+	 * @return 키의 순서대로 정렬된 섹션 목록
+	 */
+	List<Section> findAllByKeysInOrder(List<SectionId> sectionKeys);
+}
@@ -0,0 +1,43 @@
+package goorm.eagle7.stelligence.domain.section.custom;
+
+import java.util.List;
+import java.util.Objects;
+
+import org.hibernate.Session;
+
+import goorm.eagle7.stelligence.domain.section.model.Section;
+import goorm.eagle7.stelligence.domain.section.model.SectionId;
+import jakarta.persistence.EntityManager;
+
+public class CustomSectionRepositoryImpl implements CustomSectionRepository {
+
+	/**
+	 * 한 번의 쿼리로 조회할 키의 최대 개수입니다.
+	 */
+	private static final int MULTI_LOAD_BATCH_SIZE = 100;
+
+	private final EntityManager em;
+
+	public CustomSectionRepositoryImpl(EntityManager em) {
+		this.em = em;
+	}
+
+	/**
+	 * Hibernate의 multiLoad를 사용하여 영속성 컨텍스트에 없는 섹션들만 기본키로 조회합니다.
+	 * multiLoad는 기본적으로 전달된 키의 순서대로 결과를 반환하며 존재하지 않는 키는 null로 반환합니다.
+	 */
+	@Override
+	public List<Section> findAllByKeysInOrder(List<SectionId> sectionKeys) {
+		if (sectionKeys.isEmpty()) {
+			return List.of();
+		}
+
+		return em.unwrap(Session.class)
+			.byMultipleIds(Section.class)
+			.withBatchSize(MULTI_LOAD_BATCH_SIZE)
+			.multiLoad(sectionKeys)
+			.stream()
+			.filter(Objects::nonNull)
+			.toList();
+	}
+}
@@ -0,0 +1,17 @@
+package goorm.eagle7.stelligence.domain.section.dto;
+
+/**
+ * 섹션 이력을 순회하기 위한 최소한의 정보입니다.
+ * 매니페스트를 재구성할 때 섹션의 본문을 읽지 않도록 하기 위해 사용합니다.
+ * @param sectionId 섹션 ID
+ * @param revision 섹션의 버전
+ * @param order 섹션의 순서
+ * @param deleted 삭제된 섹션인지 여부
+ */
+public record SectionHistory(
+	Long sectionId,
+	Long revision,
+	long order,
+	boolean deleted
+) {
+}
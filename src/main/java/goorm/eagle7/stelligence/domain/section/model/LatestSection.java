@@ -0,0 +1,50 @@
+package goorm.eagle7.stelligence.domain.section.model;
+
+import static lombok.AccessLevel.*;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * LatestSection
+ * 각 섹션이 현재(최신 버전) 어떤 revision을 가리키고 있는지를 저장하는 읽기 전용 모델입니다.
+ *
+ * <p>기존에는 최신 버전의 섹션을 조회할 때마다 섹션별로 max(revision) 서브쿼리를 수행했기 때문에
+ * 조회 비용이 문서의 크기가 아닌 전체 수정 이력의 크기에 비례하여 증가했습니다.
+ * 이 테이블은 Merge와 문서 생성 시 같은 트랜잭션 안에서 갱신되며, document_id 인덱스 하나로 최신 섹션의 키를 찾을 수 있게 합니다.
+ *
+ * <p>삭제된 섹션은 이 테이블에 존재하지 않습니다.
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = PROTECTED)
+@Table(name = "latest_section", indexes = @Index(name = "idx_latest_section_document_id", columnList = "document_id"))
+public class LatestSection {
+
+	@Id
+	@Column(name = "section_id")
+	private Long sectionId;
+
+	@Column(name = "document_id", nullable = false)
+	private Long documentId;
+
+	/**
+	 * 해당 섹션의 최신 revision입니다.
+	 */
+	@Column(nullable = false)
+	private Long revision;
+
+	//===생성===//
+	public static LatestSection of(Section section) {
+		LatestSection latestSection = new LatestSection();
+		latestSection.sectionId = section.getId();
+		latestSection.documentId = section.getDocument().getId();
+		latestSection.revision = section.getRevision();
+		return latestSection;
+	}
+}
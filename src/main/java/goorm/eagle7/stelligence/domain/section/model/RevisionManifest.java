@@ -0,0 +1,85 @@
+package goorm.eagle7.stelligence.domain.section.model;
+
+import static jakarta.persistence.GenerationType.*;
+import static lombok.AccessLevel.*;
+
+import java.util.List;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Convert;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * RevisionManifest
+ * 문서의 특정 버전을 구성하는 섹션들의 키를 순서대로 저장합니다.
+ *
+ * <p>과거 버전을 조회할 때마다 문서의 모든 섹션 이력에 대해 max(revision) 서브쿼리를 수행하는 대신,
+ * (document_id, revision) 인덱스로 매니페스트 하나를 읽고 섹션을 기본키로 조회할 수 있도록 합니다.
+ *
+ * <p>매니페스트는 문서가 생성되거나 Merge가 수행될 때 기록되며, 이후 변경되지 않습니다.
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = PROTECTED)
+@Table(name = "revision_manifest",
+	uniqueConstraints = @UniqueConstraint(name = "uk_revision_manifest_document_revision",
+		columnNames = {"document_id", "revision"}))
+public class RevisionManifest {
+
+	@Id
+	@GeneratedValue(strategy = IDENTITY)
+	@Column(name = "revision_manifest_id")
+	private Long id;
+
+	@Column(name = "document_id", nullable = false)
+	private Long documentId;
+
+	@Column(nullable = false)
+	private Long revision;
+
+	/**
+	 * 해당 버전을 구성하는 섹션들의 키입니다. 섹션의 순서대로 저장됩니다.
+	 */
+	@Convert(converter = SectionKeysConverter.class)
+	@Column(name = "section_keys", columnDefinition = "TEXT", nullable = false)
+	private List<SectionId> sectionKeys;
+
+	//===생성===//
+
+	/**
+	 * 특정 버전을 구성하는 섹션들로부터 매니페스트를 생성합니다.
+	 * 삭제된 섹션은 포함되지 않으며, 섹션은 순서대로 정렬되어 저장됩니다.
+	 * @param documentId 문서 ID
+	 * @param revision 버전
+	 * @param sections 해당 버전을 구성하는 섹션들
+	 * @return 생성된 매니페스트
+	 */
+	public static RevisionManifest of(Long documentId, Long revision, List<Section> sections) {
+		return ofKeys(documentId, revision, sections.stream()
+			.filter(section -> !section.isDeleted())
+			.sorted()
+			.map(section -> SectionId.of(section.getId(), section.getRevision()))
+			.toList());
+	}
+
+	/**
+	 * 이미 정렬된 섹션 키 목록으로부터 매니페스트를 생성합니다.
+	 * @param documentId 문서 ID
+	 * @param revision 버전
+	 * @param sectionKeys 순서대로 정렬된 섹션 키 목록
+	 * @return 생성된 매니페스트
+	 */
+	public static RevisionManifest ofKeys(Long documentId, Long revision, List<SectionId> sectionKeys) {
+		RevisionManifest manifest = new RevisionManifest();
+		manifest.documentId = documentId;
+		manifest.revision = revision;
+		manifest.sectionKeys = sectionKeys;
+		return manifest;
+	}
+}
@@ -43,11 +43,23 @@ public class Section extends BaseTimeEntity implements Comparable<Section> {
 
 	private String title;
 
-	@Column(columnDefinition = "TEXT")
-	private String content;
+	/**
+	 * 섹션의 본문입니다. 삭제된 섹션은 본문을 갖지 않습니다.
+	 *
+	 * <p>본문은 내용의 해시를 키로 하여 section_body에 저장되며, 섹션은 해시만을 참조합니다.
+	 * 본문은 지연 로딩되므로 순서 변경이나 ID 검증과 같이 본문이 필요하지 않은 작업에서는 본문을 읽지 않습니다.
+	 * 같은 내용의 본문을 한 번만 저장하기 위해 새로운 섹션은 SectionBatchWriter로 저장해야 합니다.
+	 */
+	@ManyToOne(fetch = LAZY)
+	@JoinColumn(name = "content_hash")
+	private SectionBody body;
 
+	/**
+	 * 문서 내에서 섹션의 순서입니다. 값이 작을수록 앞에 위치합니다.
+	 * 순서는 간격을 두고 부여되며, 자세한 내용은 SectionOrder를 참고하세요.
+	 */
 	@Column(name = "orders")
-	private int order;
+	private long order;
 
 	//===생성===//
 	public static Section createSection(
@@ -57,7 +69,7 @@ public class Section extends BaseTimeEntity implements Comparable<Section> {
 		Heading heading,
 		String title,
 		String content,
-		int order
+		long order
 	) {
 		Section section = new Section();
 		section.document = document;
@@ -65,7 +77,60 @@ public class Section extends BaseTimeEntity implements Comparable<Section> {
 		section.revision = revision;
 		section.heading = heading;
 		section.title = title;
-		section.content = content;
+		section.body = content == null ? null : SectionBody.of(content);
+		section.order = order;
+
+		document.getSections().add(section);
+
+		return section;
+	}
+
+	/**
+	 * 섹션의 본문 내용을 반환합니다.
+	 * @return 본문 내용, 삭제된 섹션이라면 null
+	 */
+	public String getContent() {
+		return this.body == null ? null : this.body.getContent();
+	}
+
+	/**
+	 * 이미 저장되어 있는 같은 내용의 본문을 참조하도록 변경합니다.
+	 * 본문의 해시가 다르다면 변경하지 않습니다.
+	 * @param storedBody 저장되어 있는 본문
+	 */
+	public void referStoredBody(SectionBody storedBody) {
+		if (this.body != null && this.body.getHash().equals(storedBody.getHash())) {
+			this.body = storedBody;
+		}
+	}
+
+	/**
+	 * 섹션의 순서를 변경합니다.
+	 * 섹션 사이의 간격이 부족하여 문서 전체의 순서를 다시 부여하는 경우에만 사용합니다.
+	 * 저장된 섹션의 순서를 변경하면 그 섹션을 포함하는 이전 버전의 순서도 바뀌므로, 아직 저장되지 않은 섹션에만 사용해야 합니다.
+	 * 저장된 섹션의 순서를 바꾸려면 {@link #reorderedRevision(Long, long)}으로 새로운 revision을 생성합니다.
+	 * @param order 새로운 순서
+	 */
+	public void changeOrder(long order) {
+		this.order = order;
+	}
+
+	/**
+	 * 제목과 본문은 같고 순서만 다른 새로운 revision의 섹션을 생성합니다.
+	 * 이전 버전을 구성하는 섹션 행을 변경하지 않고 순서를 다시 부여하기 위해 사용합니다.
+	 * 본문은 같은 객체를 참조하므로 본문을 읽지 않습니다.
+	 * @param revision 새로운 revision
+	 * @param order 새로운 순서
+	 * @return 새로 생성된 섹션으로 DB에 저장되지 않은 상태입니다.
+	 */
+	public Section reorderedRevision(Long revision, long order) {
+		Section section = new Section();
+		section.document = this.document;
+		section.id = this.id;
+		section.revision = revision;
+		section.heading = this.heading;
+		section.title = this.title;
+		section.body = this.body;
 		section.order = order;
 
 		document.getSections().add(section);
@@ -73,13 +138,18 @@ public class Section extends BaseTimeEntity implements Comparable<Section> {
 		return section;
 	}
 
-	public void incrementOrder() {
-		this.order++;
+	/**
+	 * 삭제된 섹션인지 확인합니다.
+	 * 삭제 타입의 수정안이 반영되면 본문이 없는 섹션이 생성됩니다.
+	 * @return 삭제된 섹션이라면 true
+	 */
+	public boolean isDeleted() {
+		return this.body == null;
 	}
 
 	@Override
 	public int compareTo(Section section) {
-		return this.order - section.order;
+		return Long.compare(this.order, section.order);
 	}
 
 }
@@ -0,0 +1,73 @@
+package goorm.eagle7.stelligence.domain.section.model;
+
+import static lombok.AccessLevel.*;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+
+import goorm.eagle7.stelligence.common.compression.CompressedTextConverter;
+import jakarta.persistence.Column;
+import jakarta.persistence.Convert;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * SectionBody
+ * 섹션의 본문을 내용의 해시값으로 저장하는 엔티티입니다.
+ *
+ * <p>섹션은 수정될 때마다 새로운 revision의 행이 생성되므로, 본문을 섹션에 직접 저장하면
+ * 같은 본문이 revision마다 반복해서 저장됩니다. 본문을 내용의 SHA-256 해시를 키로 하는 별도의 테이블에 저장하고
+ * 섹션은 해시만을 참조하도록 하여, 내용이 같은 본문은 문서와 revision에 관계없이 한 번만 저장되도록 합니다.
+ *
+ * <p>내용이 같으면 키가 같으므로 한 번 저장된 본문은 변경되지 않습니다.
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = PROTECTED)
+@Table(name = "section_body")
+public class SectionBody {
+
+	private static final HexFormat HEX_FORMAT = HexFormat.of();
+
+	/**
+	 * 본문 내용의 SHA-256 해시값입니다. (16진수 64자리)
+	 */
+	@Id
+	@Column(name = "content_hash", length = 64)
+	private String hash;
+
+	/**
+	 * 본문 내용입니다. 큰 본문은 압축되어 저장됩니다.
+	 */
+	@Convert(converter = CompressedTextConverter.class)
+	@Column(columnDefinition = "TEXT", nullable = false)
+	private String content;
+
+	//===생성===//
+	public static SectionBody of(String content) {
+		SectionBody sectionBody = new SectionBody();
+		sectionBody.hash = hash(content);
+		sectionBody.content = content;
+		return sectionBody;
+	}
+
+	/**
+	 * 본문 내용의 해시값을 계산합니다.
+	 * @param content 본문 내용
+	 * @return SHA-256 해시값의 16진수 문자열
+	 */
+	public static String hash(String content) {
+		try {
+			MessageDigest digest = MessageDigest.getInstance("SHA-256");
+			return HEX_FORMAT.formatHex(digest.digest(content.getBytes(StandardCharsets.UTF_8)));
+		} catch (NoSuchAlgorithmException e) {
+			//SHA-256은 모든 JVM 구현체에서 지원해야하는 알고리즘입니다.
+			throw new IllegalStateException(e);
+		}
+	}
+}
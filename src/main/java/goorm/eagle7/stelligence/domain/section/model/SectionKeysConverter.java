@@ -0,0 +1,51 @@
+package goorm.eagle7.stelligence.domain.section.model;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+
+/**
+ * 섹션 키 목록을 "sectionId:revision,sectionId:revision" 형태의 문자열로 변환합니다.
+ * 순서가 그대로 보존되며, 빈 목록은 빈 문자열로 저장됩니다.
+ */
+@Converter
+public class SectionKeysConverter implements AttributeConverter<List<SectionId>, String> {
+
+	private static final String KEY_DELIMITER = ",";
+	private static final String ID_REVISION_DELIMITER = ":";
+
+	@Override
+	public String convertToDatabaseColumn(List<SectionId> sectionKeys) {
+		if (sectionKeys == null) {
+			return null;
+		}
+
+		StringBuilder sb = new StringBuilder(sectionKeys.size() * 8);
+		for (SectionId key : sectionKeys) {
+			if (!sb.isEmpty()) {
+				sb.append(KEY_DELIMITER);
+			}
+			sb.append(key.getId()).append(ID_REVISION_DELIMITER).append(key.getRevision());
+		}
+		return sb.toString();
+	}
+
+	@Override
+	public List<SectionId> convertToEntityAttribute(String dbData) {
+		List<SectionId> sectionKeys = new ArrayList<>();
+		if (dbData == null || dbData.isEmpty()) {
+			return sectionKeys;
+		}
+
+		for (String key : dbData.split(KEY_DELIMITER)) {
+			int delimiterIndex = key.indexOf(ID_REVISION_DELIMITER);
+			sectionKeys.add(SectionId.of(
+				Long.parseLong(key, 0, delimiterIndex, 10),
+				Long.parseLong(key, delimiterIndex + 1, key.length(), 10)
+			));
+		}
+		return sectionKeys;
+	}
+}
@@ -0,0 +1,56 @@
+package goorm.eagle7.stelligence.domain.section.model;
+
+import static lombok.AccessLevel.*;
+
+import lombok.NoArgsConstructor;
+
+/**
+ * 섹션의 순서 값을 계산합니다.
+ *
+ * <p>섹션의 순서는 연속된 정수가 아니라 GAP 간격을 두고 부여됩니다.
+ * 섹션이 중간에 삽입되면 앞 뒤 섹션 순서의 중간 값을 사용하므로, 이후의 섹션들의 순서를 변경하지 않습니다.
+ * 중간 값을 더 이상 만들 수 없을 정도로 간격이 좁아지면 문서 전체의 순서를 GAP 간격으로 다시 부여해야 합니다.
+ */
+@NoArgsConstructor(access = PRIVATE)
+public final class SectionOrder {
+
+	/**
+	 * 인접한 섹션 사이의 기본 간격입니다.
+	 * 같은 위치에 연속으로 16번 삽입할 수 있습니다.
+	 */
+	public static final long GAP = 1L << 16;
+
+	/**
+	 * 문서 내에서 position번째(1부터 시작) 섹션의 순서 값을 반환합니다.
+	 * @param position 섹션의 위치
+	 * @return 순서 값
+	 */
+	public static long of(int position) {
+		return position * GAP;
+	}
+
+	/**
+	 * 두 순서 사이에 새로운 순서를 부여할 수 있는지 확인합니다.
+	 * @param lower 앞 섹션의 순서
+	 * @param upper 뒤 섹션의 순서, 마지막 위치라면 null
+	 * @return 새로운 순서를 부여할 수 있다면 true
+	 */
+	public static boolean hasRoomBetween(long lower, Long upper) {
+		return upper == null || upper - lower > 1;
+	}
+
+	/**
+	 * 두 순서 사이의 새로운 순서를 반환합니다.
+	 * 뒤 섹션이 없다면 앞 섹션의 순서에 GAP을 더한 값을 반환합니다.
+	 * @param lower 앞 섹션의 순서
+	 * @param upper 뒤 섹션의 순서, 마지막 위치라면 null
+	 * @return 새로운 순서
+	 * @throws IllegalArgumentException 두 순서 사이에 새로운 순서를 부여할 수 없는 경우
+	 */
+	public static long between(long lower, Long upper) {
+		if (!hasRoomBetween(lower, upper)) {
+			throw new IllegalArgumentException("두 순서 사이에 새로운 순서를 부여할 수 없습니다. lower=" + lower + ", upper=" + upper);
+		}
+		return upper == null ? lower + GAP : lower + (upper - lower) / 2;
+	}
+}
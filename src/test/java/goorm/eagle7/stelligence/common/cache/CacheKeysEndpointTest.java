@@ -0,0 +1,76 @@
+package goorm.eagle7.stelligence.common.cache;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import goorm.eagle7.stelligence.common.cache.CacheKeysEndpoint.CacheKeysDescriptor;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class CacheKeysEndpointTest {
+
+	CacheMetrics cacheMetrics;
+	CacheKeysEndpoint cacheKeysEndpoint;
+
+	@BeforeEach
+	void setUp() {
+		cacheMetrics = new CacheMetrics(new SimpleMeterRegistry());
+		cacheKeysEndpoint = new CacheKeysEndpoint(cacheMetrics);
+	}
+
+	@Test
+	@DisplayName("캐시마다 적중률과 가장 많이 조회된 키, 가장 큰 키를 반환")
+	void caches() {
+		//given
+		CacheStats document = cacheMetrics.stats("document");
+		document.miss("1");
+		document.put("1");
+		document.size("1", 300);
+		document.localHit("1");
+		document.localHit("1");
+		document.remoteHit("2");
+		document.size("2", 5000);
+		cacheMetrics.stats("RootGraph").miss("3");
+
+		//when
+		List<CacheKeysDescriptor> caches = cacheKeysEndpoint.caches();
+
+		//then
+		assertThat(caches).extracting(CacheKeysDescriptor::name).containsExactly("RootGraph", "document");
+
+		CacheKeysDescriptor descriptor = caches.get(1);
+		assertThat(descriptor.localHits()).isEqualTo(2);
+		assertThat(descriptor.remoteHits()).isEqualTo(1);
+		assertThat(descriptor.misses()).isEqualTo(1);
+		assertThat(descriptor.hitRatio()).isEqualTo(0.75);
+		assertThat(descriptor.hottestKeys()).extracting(TopKCounter.Count::key).containsExactly("1", "2");
+		assertThat(descriptor.largestKeys()).containsExactly(new CacheStats.KeySize("2", 5000),
+			new CacheStats.KeySize("1", 300));
+	}
+
+	@Test
+	@DisplayName("가장 큰 키는 마지막으로 기록된 크기를 따름")
+	void largestKeys() {
+		//given
+		CacheStats document = cacheMetrics.stats("document");
+		document.size("1", 5000);
+		document.size("2", 300);
+
+		//when
+		document.size("1", 100);
+
+		//then
+		assertThat(cacheKeysEndpoint.cache("document").largestKeys()).containsExactly(
+			new CacheStats.KeySize("2", 300), new CacheStats.KeySize("1", 100));
+	}
+
+	@Test
+	@DisplayName("사용되지 않은 캐시는 null")
+	void unknownCache() {
+		assertThat(cacheKeysEndpoint.cache("unknown")).isNull();
+	}
+}
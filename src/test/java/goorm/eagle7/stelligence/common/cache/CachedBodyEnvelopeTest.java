@@ -0,0 +1,114 @@
+package goorm.eagle7.stelligence.common.cache;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class CachedBodyEnvelopeTest {
+
+	private static final byte[] BODY = "{\"documentId\":1,\"title\":\"스텔리전스\",\"content\":\"<p>본문</p>\"".repeat(100)
+		.getBytes(StandardCharsets.UTF_8);
+
+	@Test
+	@DisplayName("임계값보다 작은 본문은 압축하지 않음")
+	void belowThreshold() {
+		//when
+		byte[] envelope = CachedBodyEnvelope.encode(BODY, BODY.length + 1);
+
+		//then
+		assertThat(CachedBodyEnvelope.isCompressed(envelope)).isFalse();
+		assertThat(envelope).hasSize(CachedBodyEnvelope.HEADER_BYTES + BODY.length);
+		assertThat(CachedBodyEnvelope.decode(envelope)).isEqualTo(BODY);
+	}
+
+	@Test
+	@DisplayName("임계값 이상의 본문은 LZ4로 압축")
+	void aboveThreshold() {
+		//when
+		byte[] envelope = CachedBodyEnvelope.encode(BODY, 0);
+
+		//then
+		assertThat(CachedBodyEnvelope.isCompressed(envelope)).isTrue();
+		assertThat(envelope.length).isLessThan(BODY.length);
+		assertThat(CachedBodyEnvelope.decode(envelope)).isEqualTo(BODY);
+	}
+
+	@Test
+	@DisplayName("임계값이 음수라면 압축하지 않음")
+	void compressionDisabled() {
+		//when
+		byte[] envelope = CachedBodyEnvelope.encode(BODY, -1);
+
+		//then
+		assertThat(CachedBodyEnvelope.isCompressed(envelope)).isFalse();
+		assertThat(CachedBodyEnvelope.decode(envelope)).isEqualTo(BODY);
+	}
+
+	@Test
+	@DisplayName("압축의 효과가 없는 본문은 압축하지 않음")
+	void incompressible() {
+		//given
+		byte[] random = new byte[4096];
+		new Random(7).nextBytes(random);
+
+		//when
+		byte[] envelope = CachedBodyEnvelope.encode(random, 0);
+
+		//then
+		assertThat(CachedBodyEnvelope.isCompressed(envelope)).isFalse();
+		assertThat(CachedBodyEnvelope.decode(envelope)).isEqualTo(random);
+	}
+
+	@Test
+	@DisplayName("압축 여부와 관계없이 출력 스트림에 원본 본문을 씀")
+	void writeTo() throws Exception {
+		//given
+		ByteArrayOutputStream raw = new ByteArrayOutputStream();
+		ByteArrayOutputStream compressed = new ByteArrayOutputStream();
+
+		//when
+		CachedBodyEnvelope.writeTo(CachedBodyEnvelope.encode(BODY, -1), raw);
+		CachedBodyEnvelope.writeTo(CachedBodyEnvelope.encode(BODY, 0), compressed);
+
+		//then
+		assertThat(raw.toByteArray()).isEqualTo(BODY);
+		assertThat(compressed.toByteArray()).isEqualTo(BODY);
+	}
+
+	@Test
+	@DisplayName("빈 본문")
+	void emptyBody() {
+		//when
+		byte[] envelope = CachedBodyEnvelope.encode(new byte[0], 0);
+
+		//then
+		assertThat(CachedBodyEnvelope.decode(envelope)).isEmpty();
+	}
+
+	@Test
+	@DisplayName("형식이 올바르지 않은 값")
+	void invalidEnvelope() {
+		//given
+		byte[] wrongMagic = CachedBodyEnvelope.encode(BODY, -1);
+		wrongMagic[0] = 0;
+
+		byte[] wrongVersion = CachedBodyEnvelope.encode(BODY, -1);
+		wrongVersion[1] = 2;
+
+		byte[] truncated = new byte[] {CachedBodyEnvelope.MAGIC, CachedBodyEnvelope.VERSION};
+
+		//when, then
+		assertThatThrownBy(() -> CachedBodyEnvelope.decode(wrongMagic))
+			.isInstanceOf(IllegalArgumentException.class);
+		assertThatThrownBy(() -> CachedBodyEnvelope.decode(wrongVersion))
+			.isInstanceOf(IllegalArgumentException.class)
+			.hasMessageContaining("버전");
+		assertThatThrownBy(() -> CachedBodyEnvelope.decode(truncated))
+			.isInstanceOf(IllegalArgumentException.class);
+	}
+}
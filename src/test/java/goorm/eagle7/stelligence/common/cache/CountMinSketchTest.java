@@ -0,0 +1,70 @@
+package goorm.eagle7.stelligence.common.cache;
+
+import static org.assertj.core.api.Assertions.*;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class CountMinSketchTest {
+
+	@Test
+	@DisplayName("빈도를 실제보다 작게 추정하지 않음")
+	void neverUnderestimate() {
+		//given
+		CountMinSketch sketch = new CountMinSketch(256, 4);
+
+		//when
+		for (long key = 0; key < 2_000; key++) {
+			long count = key < 10 ? 500 : 1;
+			for (int i = 0; i < count; i++) {
+				sketch.increment(key);
+			}
+		}
+
+		//then
+		for (long key = 0; key < 2_000; key++) {
+			assertThat(sketch.estimate(key)).isGreaterThanOrEqualTo(key < 10 ? 500 : 1);
+		}
+		//자주 조회된 키는 충돌이 있더라도 크게 벗어나지 않습니다.
+		assertThat(sketch.estimate(0)).isLessThan(600);
+	}
+
+	@Test
+	@DisplayName("increment는 증가시킨 뒤의 추정 빈도를 반환")
+	void increment() {
+		//given
+		CountMinSketch sketch = new CountMinSketch(1024, 4);
+
+		//when
+		sketch.increment(7L);
+		long estimate = sketch.increment(7L);
+
+		//then
+		assertThat(estimate).isEqualTo(2);
+		assertThat(sketch.estimate(7L)).isEqualTo(2);
+		assertThat(sketch.estimate(8L)).isZero();
+	}
+
+	@Test
+	@DisplayName("halve는 모든 빈도를 절반으로 줄임")
+	void halve() {
+		//given
+		CountMinSketch sketch = new CountMinSketch(1024, 4);
+		for (int i = 0; i < 10; i++) {
+			sketch.increment(1L);
+		}
+
+		//when
+		sketch.halve();
+
+		//then
+		assertThat(sketch.estimate(1L)).isEqualTo(5);
+	}
+
+	@Test
+	@DisplayName("잘못된 크기")
+	void invalidSize() {
+		assertThatThrownBy(() -> new CountMinSketch(0, 4)).isInstanceOf(IllegalArgumentException.class);
+		assertThatThrownBy(() -> new CountMinSketch(16, 9)).isInstanceOf(IllegalArgumentException.class);
+	}
+}
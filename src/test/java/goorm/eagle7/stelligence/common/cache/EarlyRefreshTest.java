@@ -0,0 +1,64 @@
+package goorm.eagle7.stelligence.common.cache;
+
+import static org.assertj.core.api.Assertions.*;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class EarlyRefreshTest {
+
+	private static final long NOW = 1_000_000L;
+
+	@Test
+	@DisplayName("만료 시각이 지난 항목은 항상 갱신")
+	void expired() {
+		//given
+		EarlyRefresh earlyRefresh = new EarlyRefresh(1.0, () -> 1.0);
+
+		//when, then
+		assertThat(earlyRefresh.shouldRefresh(RefreshableEntry.of("value", 100L, NOW), NOW)).isTrue();
+		assertThat(earlyRefresh.shouldRefresh(RefreshableEntry.of("value", 100L, NOW - 1), NOW)).isTrue();
+	}
+
+	@Test
+	@DisplayName("만료 전이라도 난수와 생성 시간에 따라 미리 갱신")
+	void early() {
+		//given
+		//-ln(e^-2) = 2 이므로 생성 시간 100ms의 2배인 200ms 일찍 갱신합니다.
+		EarlyRefresh earlyRefresh = new EarlyRefresh(1.0, () -> Math.exp(-2));
+
+		//when, then
+		assertThat(earlyRefresh.shouldRefresh(RefreshableEntry.of("value", 100L, NOW + 199), NOW)).isTrue();
+		assertThat(earlyRefresh.shouldRefresh(RefreshableEntry.of("value", 100L, NOW + 201), NOW)).isFalse();
+	}
+
+	@Test
+	@DisplayName("beta가 클수록 더 일찍 갱신")
+	void beta() {
+		//given
+		RefreshableEntry<String> entry = RefreshableEntry.of("value", 100L, NOW + 300);
+		EarlyRefresh small = new EarlyRefresh(1.0, () -> Math.exp(-2));
+		EarlyRefresh large = new EarlyRefresh(2.0, () -> Math.exp(-2));
+
+		//when, then
+		assertThat(small.shouldRefresh(entry, NOW)).isFalse();
+		assertThat(large.shouldRefresh(entry, NOW)).isTrue();
+	}
+
+	@Test
+	@DisplayName("beta가 0이라면 만료 시각이 지난 항목만 갱신")
+	void zeroBeta() {
+		//given
+		EarlyRefresh earlyRefresh = new EarlyRefresh(0, () -> Double.MIN_VALUE);
+
+		//when, then
+		assertThat(earlyRefresh.shouldRefresh(RefreshableEntry.of("value", 100L, NOW + 1), NOW)).isFalse();
+		assertThat(earlyRefresh.shouldRefresh(RefreshableEntry.of("value", 100L, NOW), NOW)).isTrue();
+	}
+
+	@Test
+	@DisplayName("beta는 음수일 수 없음")
+	void negativeBeta() {
+		assertThatThrownBy(() -> new EarlyRefresh(-1.0)).isInstanceOf(IllegalArgumentException.class);
+	}
+}
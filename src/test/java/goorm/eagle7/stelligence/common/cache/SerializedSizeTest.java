@@ -0,0 +1,44 @@
+package goorm.eagle7.stelligence.common.cache;
+
+import static org.assertj.core.api.Assertions.*;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.serializer.RedisSerializer;
+
+class SerializedSizeTest {
+
+	RedisSerializer<String> serializer = SerializedSize.measuring(RedisSerializer.string());
+
+	@Test
+	@DisplayName("마지막으로 직렬화, 역직렬화한 바이트 수를 한 번만 반환")
+	void take() {
+		//given
+		SerializedSize.take();
+
+		//when
+		byte[] bytes = serializer.serialize("가나다");
+
+		//then
+		assertThat(SerializedSize.take()).isEqualTo(9);
+		assertThat(SerializedSize.take()).isEqualTo(-1);
+
+		assertThat(serializer.deserialize(bytes)).isEqualTo("가나다");
+		assertThat(SerializedSize.take()).isEqualTo(9);
+	}
+
+	@Test
+	@DisplayName("다른 스레드의 기록은 보이지 않음")
+	void threadLocal() throws InterruptedException {
+		//given
+		SerializedSize.take();
+
+		//when
+		Thread thread = new Thread(() -> serializer.serialize("value"));
+		thread.start();
+		thread.join();
+
+		//then
+		assertThat(SerializedSize.take()).isEqualTo(-1);
+	}
+}
@@ -0,0 +1,146 @@
+package goorm.eagle7.stelligence.common.cache;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class SingleFlightTest {
+
+	private static final int THREADS = 32;
+
+	private final ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+
+	@AfterEach
+	void tearDown() {
+		executor.shutdownNow();
+	}
+
+	@Test
+	@DisplayName("같은 키에 대한 동시 호출은 한 번만 수행")
+	void coalesce() throws Exception {
+		//given
+		SingleFlight<Long, String> singleFlight = new SingleFlight<>(Duration.ofSeconds(5));
+		AtomicInteger loads = new AtomicInteger();
+		CountDownLatch started = new CountDownLatch(1);
+		CountDownLatch release = new CountDownLatch(1);
+
+		//when
+		List<Future<String>> results = new ArrayList<>();
+		results.add(executor.submit(() -> singleFlight.execute(1L, () -> {
+			loads.incrementAndGet();
+			started.countDown();
+			await(release);
+			return "value";
+		})));
+		started.await();
+
+		for (int i = 1; i < THREADS; i++) {
+			results.add(executor.submit(() -> singleFlight.execute(1L, () -> {
+				loads.incrementAndGet();
+				return "other";
+			})));
+		}
+		//나머지 호출이 수행 중인 호출을 기다리기 시작할 시간을 줍니다.
+		Thread.sleep(100);
+		release.countDown();
+
+		//then
+		for (Future<String> result : results) {
+			assertThat(result.get(5, TimeUnit.SECONDS)).isEqualTo("value");
+		}
+		assertThat(loads.get()).isEqualTo(1);
+		assertThat(singleFlight.inFlight()).isZero();
+	}
+
+	@Test
+	@DisplayName("다른 키는 합치지 않음")
+	void differentKeys() {
+		SingleFlight<Long, String> singleFlight = new SingleFlight<>(Duration.ofSeconds(5));
+
+		assertThat(singleFlight.execute(1L, () -> "one")).isEqualTo("one");
+		assertThat(singleFlight.execute(2L, () -> "two")).isEqualTo("two");
+	}
+
+	@Test
+	@DisplayName("수행이 끝난 뒤의 호출은 다시 수행")
+	void notMemoized() {
+		SingleFlight<Long, Integer> singleFlight = new SingleFlight<>(Duration.ofSeconds(5));
+		AtomicInteger loads = new AtomicInteger();
+
+		singleFlight.execute(1L, loads::incrementAndGet);
+		singleFlight.execute(1L, loads::incrementAndGet);
+
+		assertThat(loads.get()).isEqualTo(2);
+	}
+
+	@Test
+	@DisplayName("수행 중 발생한 예외는 기다리던 호출에도 전달")
+	void propagateException() throws Exception {
+		//given
+		SingleFlight<Long, String> singleFlight = new SingleFlight<>(Duration.ofSeconds(5));
+		CountDownLatch started = new CountDownLatch(1);
+		CountDownLatch release = new CountDownLatch(1);
+
+		Future<String> leader = executor.submit(() -> singleFlight.execute(1L, () -> {
+			started.countDown();
+			await(release);
+			throw new IllegalArgumentException("failed");
+		}));
+		started.await();
+		Future<String> waiter = executor.submit(() -> singleFlight.execute(1L, () -> "other"));
+		Thread.sleep(100);
+
+		//when
+		release.countDown();
+
+		//then
+		assertThatThrownBy(() -> leader.get(5, TimeUnit.SECONDS)).hasCauseInstanceOf(IllegalArgumentException.class);
+		assertThatThrownBy(() -> waiter.get(5, TimeUnit.SECONDS)).hasCauseInstanceOf(IllegalArgumentException.class);
+		assertThat(singleFlight.inFlight()).isZero();
+	}
+
+	@Test
+	@DisplayName("기다리는 시간이 초과되면 직접 수행")
+	void timeout() throws Exception {
+		//given
+		SingleFlight<Long, String> singleFlight = new SingleFlight<>(Duration.ofMillis(50));
+		CountDownLatch started = new CountDownLatch(1);
+		CountDownLatch release = new CountDownLatch(1);
+
+		Future<String> leader = executor.submit(() -> singleFlight.execute(1L, () -> {
+			started.countDown();
+			await(release);
+			return "slow";
+		}));
+		started.await();
+
+		//when
+		String result = singleFlight.execute(1L, () -> "direct");
+		release.countDown();
+
+		//then
+		assertThat(result).isEqualTo("direct");
+		assertThat(leader.get(5, TimeUnit.SECONDS)).isEqualTo("slow");
+	}
+
+	private static void await(CountDownLatch latch) {
+		try {
+			latch.await();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new IllegalStateException(e);
+		}
+	}
+}
@@ -0,0 +1,48 @@
+package goorm.eagle7.stelligence.common.cache;
+
+import static org.assertj.core.api.Assertions.*;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class TopKCounterTest {
+
+	@Test
+	@DisplayName("가장 많이 기록된 k개의 키만 빈도가 높은 순서로 유지")
+	void top() {
+		//given
+		TopKCounter<String> counter = new TopKCounter<>(2, 1024, String::hashCode);
+
+		//when
+		record(counter, "a", 3);
+		record(counter, "b", 10);
+		record(counter, "c", 1);
+		record(counter, "d", 5);
+
+		//then
+		assertThat(counter.top(10)).containsExactly(new TopKCounter.Count<>("b", 10), new TopKCounter.Count<>("d", 5));
+		assertThat(counter.top(1)).extracting(TopKCounter.Count::key).containsExactly("b");
+	}
+
+	@Test
+	@DisplayName("halve 이후에는 새로운 기록이 더 큰 비중을 가짐")
+	void halve() {
+		//given
+		TopKCounter<Long> counter = new TopKCounter<>(2, 1024, Long::longValue);
+		record(counter, 1L, 10);
+		record(counter, 2L, 8);
+
+		//when
+		counter.halve();
+		record(counter, 3L, 7);
+
+		//then
+		assertThat(counter.top(10)).extracting(TopKCounter.Count::key).containsExactly(3L, 1L);
+	}
+
+	private <K> void record(TopKCounter<K> counter, K key, int times) {
+		for (int i = 0; i < times; i++) {
+			counter.record(key);
+		}
+	}
+}
@@ -0,0 +1,206 @@
+package goorm.eagle7.stelligence.common.cache;
+
+import static goorm.eagle7.stelligence.config.mockdata.TestFixtureGenerator.*;
+import static org.assertj.core.api.Assertions.*;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.cache.Cache;
+import org.springframework.cache.support.AbstractValueAdaptingCache;
+import org.springframework.cache.support.SimpleCacheManager;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+
+import goorm.eagle7.stelligence.domain.document.content.dto.DocumentResponse;
+import goorm.eagle7.stelligence.domain.document.content.dto.SectionResponse;
+import goorm.eagle7.stelligence.domain.section.model.Heading;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 자주 조회되는 문서를 캐시에서 읽을 때의 지연 시간을 L1의 유무에 따라 비교합니다.
+ *
+ * <p>L2는 RedisConfig와 같은 직렬화 방식으로 값을 바이트 배열로 저장하고, 조회할 때마다 역직렬화하는 캐시로 대신합니다.
+ * 따라서 측정된 L2의 지연 시간에는 Redis와의 네트워크 왕복 시간이 포함되지 않습니다.
+ *
+ * <p>일반 테스트에서는 제외되며 ./gradlew benchmark 로 실행할 수 있습니다.
+ */
+@Slf4j
+@Tag("benchmark")
+class TwoLevelCacheBenchmarkTest {
+
+	private static final int SECTIONS = 200;
+	private static final String SECTION_CONTENT = "<p>" + "자주 조회되는 문서의 섹션 본문입니다. ".repeat(60) + "</p>";
+
+	private static final int THREADS = 8;
+	private static final int WARMUP_READS = 200;
+	private static final int READS_PER_THREAD = 2_000;
+
+	@Test
+	@DisplayName("자주 조회되는 문서의 캐시 조회 지연 시간 비교 - L2만 사용하는 경우와 L1을 함께 사용하는 경우")
+	void hotDocumentRead() throws Exception {
+		DocumentResponse documentResponse = hotDocument();
+
+		Cache l2 = new SerializingCache("document");
+		l2.put(1L, documentResponse);
+		SimpleCacheManager remoteCacheManager = new SimpleCacheManager();
+		remoteCacheManager.setCaches(List.of(l2));
+		remoteCacheManager.afterPropertiesSet();
+
+		TwoLevelCacheManager twoLevelCacheManager = new TwoLevelCacheManager(remoteCacheManager,
+			Mockito.mock(StringRedisTemplate.class), 1000, Duration.ofMinutes(1));
+		twoLevelCacheManager.afterPropertiesSet();
+		Cache twoLevel = twoLevelCacheManager.getCache("document");
+		twoLevel.put(1L, documentResponse);
+
+		Latency withoutL1 = measure(l2);
+		Latency withL1 = measure(twoLevel);
+
+		log.info("[benchmark] sections={}, threads={}, reads={}, "
+				+ "L2 only: p50={}us p99={}us, with L1: p50={}us p99={}us",
+			SECTIONS, THREADS, THREADS * READS_PER_THREAD,
+			withoutL1.p50Micros(), withoutL1.p99Micros(), withL1.p50Micros(), withL1.p99Micros());
+
+		assertThat(withL1.p99Micros()).isLessThan(withoutL1.p99Micros());
+	}
+
+	private Latency measure(Cache cache) throws Exception {
+		for (int i = 0; i < WARMUP_READS; i++) {
+			cache.get(1L, DocumentResponse.class);
+		}
+
+		ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+		CountDownLatch start = new CountDownLatch(1);
+		List<Future<long[]>> results = new ArrayList<>();
+		for (int t = 0; t < THREADS; t++) {
+			results.add(executor.submit(() -> {
+				start.await();
+				long[] nanos = new long[READS_PER_THREAD];
+				for (int i = 0; i < READS_PER_THREAD; i++) {
+					long begin = System.nanoTime();
+					DocumentResponse read = cache.get(1L, DocumentResponse.class);
+					nanos[i] = System.nanoTime() - begin;
+					assertThat(read.getSections()).hasSize(SECTIONS);
+				}
+				return nanos;
+			}));
+		}
+		start.countDown();
+
+		long[] all = new long[THREADS * READS_PER_THREAD];
+		int offset = 0;
+		for (Future<long[]> result : results) {
+			long[] nanos = result.get(5, TimeUnit.MINUTES);
+			System.arraycopy(nanos, 0, all, offset, nanos.length);
+			offset += nanos.length;
+		}
+		executor.shutdownNow();
+
+		Arrays.sort(all);
+		return new Latency(all);
+	}
+
+	private DocumentResponse hotDocument() {
+		List<SectionResponse> sections = new ArrayList<>(SECTIONS);
+		for (long i = 1; i <= SECTIONS; i++) {
+			sections.add(SectionResponse.of(i, 1L, Heading.H2, "title" + i, SECTION_CONTENT));
+		}
+		return DocumentResponse.of(document(1L, member(1L, "author"), "hot", 1L), 1L, sections,
+			Collections.emptyList(), null, null);
+	}
+
+	private record Latency(long[] sortedNanos) {
+		long p50Micros() {
+			return percentile(0.50);
+		}
+
+		long p99Micros() {
+			return percentile(0.99);
+		}
+
+		private long percentile(double percentile) {
+			int index = (int)Math.ceil(percentile * sortedNanos.length) - 1;
+			return sortedNanos[Math.max(0, index)] / 1_000;
+		}
+	}
+
+	/**
+	 * RedisCache처럼 값을 직렬화하여 저장하고 조회할 때마다 역직렬화하는 캐시입니다.
+	 */
+	private static class SerializingCache extends AbstractValueAdaptingCache {
+
+		private final String name;
+		private final Map<Object, byte[]> store = new ConcurrentHashMap<>();
+		private final GenericJackson2JsonRedisSerializer serializer = new GenericJackson2JsonRedisSerializer()
+			.configure(objectMapper -> objectMapper.registerModule(new JavaTimeModule()));
+
+		SerializingCache(String name) {
+			super(false);
+			this.name = name;
+		}
+
+		@Override
+		protected Object lookup(Object key) {
+			byte[] bytes = store.get(key);
+			return bytes == null ? null : serializer.deserialize(bytes);
+		}
+
+		@Override
+		public String getName() {
+			return name;
+		}
+
+		@Override
+		public Object getNativeCache() {
+			return store;
+		}
+
+		@Override
+		@SuppressWarnings("unchecked")
+		public <T> T get(Object key, Callable<T> valueLoader) {
+			Object value = lookup(key);
+			if (value != null) {
+				return (T)value;
+			}
+			try {
+				T loaded = valueLoader.call();
+				put(key, loaded);
+				return loaded;
+			} catch (Exception e) {
+				throw new ValueRetrievalException(key, valueLoader, e);
+			}
+		}
+
+		@Override
+		public void put(Object key, Object value) {
+			store.put(key, serializer.serialize(value));
+		}
+
+		@Override
+		public void evict(Object key) {
+			store.remove(key);
+		}
+
+		@Override
+		public void clear() {
+			store.clear();
+		}
+	}
+}
@@ -0,0 +1,265 @@
+package goorm.eagle7.stelligence.common.cache;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.Cache;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@ExtendWith(MockitoExtension.class)
+class TwoLevelCacheManagerTest {
+
+	@Mock
+	StringRedisTemplate redisTemplate;
+
+	ConcurrentMapCacheManager remoteCacheManager;
+	SimpleMeterRegistry meterRegistry;
+	TwoLevelCacheManager cacheManager;
+
+	@BeforeEach
+	void setUp() {
+		remoteCacheManager = new ConcurrentMapCacheManager();
+		meterRegistry = new SimpleMeterRegistry();
+		cacheManager = new TwoLevelCacheManager(remoteCacheManager, redisTemplate, 100, Duration.ofMinutes(1),
+			new CacheMetrics(meterRegistry));
+		cacheManager.afterPropertiesSet();
+	}
+
+	@Test
+	@DisplayName("L2에서 조회한 값은 L1에 저장되어 다음 조회에서 L2를 거치지 않음")
+	void readThrough() {
+		//given
+		Cache remote = remoteCacheManager.getCache("document");
+		remote.put(1L, "value");
+		Cache cache = cacheManager.getCache("document");
+
+		//when
+		assertThat(cache.get(1L, String.class)).isEqualTo("value");
+		remote.evict(1L);
+
+		//then
+		assertThat(cache.get(1L, String.class)).isEqualTo("value");
+		verifyNoInteractions(redisTemplate);
+	}
+
+	@Test
+	@DisplayName("L1, L2 모두 없는 값은 null")
+	void miss() {
+		Cache cache = cacheManager.getCache("document");
+
+		assertThat(cache.get(1L)).isNull();
+		assertThat(cache.get(1L, String.class)).isNull();
+	}
+
+	@Test
+	@DisplayName("값을 불러오는 조회는 L2에 저장한 뒤 L1에 저장")
+	void getWithLoader() {
+		Cache cache = cacheManager.getCache("RootGraph");
+
+		assertThat(cache.get(3, () -> "graph")).isEqualTo("graph");
+		assertThat(remoteCacheManager.getCache("RootGraph").get(3, String.class)).isEqualTo("graph");
+		assertThat(cache.get(3, () -> "other")).isEqualTo("graph");
+	}
+
+	@Test
+	@DisplayName("삭제는 L1, L2 모두에 반영되고 무효화 메시지를 발행")
+	void evict() {
+		//given
+		Cache cache = cacheManager.getCache("document");
+		cache.put(1L, "value");
+
+		//when
+		cache.evict(1L);
+
+		//then
+		assertThat(cache.get(1L)).isNull();
+		assertThat(remoteCacheManager.getCache("document").get(1L)).isNull();
+
+		ArgumentCaptor<String> message = ArgumentCaptor.forClass(String.class);
+		verify(redisTemplate, times(2)).convertAndSend(eq(TwoLevelCacheManager.INVALIDATION_CHANNEL),
+			message.capture());
+		assertThat(message.getValue()).contains("\"cacheName\":\"document\"").contains("\"key\":\"1\"");
+	}
+
+	@Test
+	@DisplayName("비우기는 키 없이 무효화 메시지를 발행")
+	void clear() {
+		//given
+		Cache cache = cacheManager.getCache("RootGraph");
+		cache.put(3, "graph");
+
+		//when
+		cache.clear();
+
+		//then
+		assertThat(cache.get(3)).isNull();
+		ArgumentCaptor<String> message = ArgumentCaptor.forClass(String.class);
+		verify(redisTemplate, times(2)).convertAndSend(eq(TwoLevelCacheManager.INVALIDATION_CHANNEL),
+			message.capture());
+		assertThat(message.getValue()).contains("\"key\":null");
+	}
+
+	@Test
+	@DisplayName("다른 서버의 무효화 메시지를 받으면 L1에서만 삭제")
+	void invalidatedByOtherNode() {
+		//given
+		Cache cache = cacheManager.getCache("document");
+		cache.put(1L, "value");
+		cache.put(2L, "value");
+		//다른 서버가 L2의 값을 변경합니다.
+		remoteCacheManager.getCache("document").put(1L, "changed");
+
+		//when
+		cacheManager.onMessage(message("{\"origin\":\"other\",\"cacheName\":\"document\",\"key\":\"1\"}"), null);
+
+		//then
+		assertThat(((TwoLevelCache)cache).localSize()).isEqualTo(1);
+		assertThat(cache.get(1L, String.class)).isEqualTo("changed");
+	}
+
+	@Test
+	@DisplayName("다른 서버의 비우기 메시지를 받으면 L1 전체를 비움")
+	void clearedByOtherNode() {
+		//given
+		Cache cache = cacheManager.getCache("RootGraph");
+		cache.put(1, "graph");
+		cache.put(2, "graph");
+		remoteCacheManager.getCache("RootGraph").clear();
+
+		//when
+		cacheManager.onMessage(message("{\"origin\":\"other\",\"cacheName\":\"RootGraph\",\"key\":null}"), null);
+
+		//then
+		assertThat(cache.get(1)).isNull();
+		assertThat(cache.get(2)).isNull();
+	}
+
+	@Test
+	@DisplayName("자신이 발행한 메시지는 무시")
+	void ignoreOwnMessage() {
+		//given
+		Cache cache = cacheManager.getCache("document");
+		ArgumentCaptor<String> message = ArgumentCaptor.forClass(String.class);
+		cache.put(1L, "value");
+		verify(redisTemplate).convertAndSend(eq(TwoLevelCacheManager.INVALIDATION_CHANNEL), message.capture());
+		remoteCacheManager.getCache("document").evict(1L);
+
+		//when
+		cacheManager.onMessage(message(message.getValue()), null);
+
+		//then
+		assertThat(cache.get(1L, String.class)).isEqualTo("value");
+	}
+
+	@Test
+	@DisplayName("무효화 메시지 발행에 실패해도 캐시는 동작")
+	void publishFailure() {
+		//given
+		when(redisTemplate.convertAndSend(anyString(), anyString()))
+			.thenThrow(new RedisConnectionFailureException("connection refused"));
+		Cache cache = cacheManager.getCache("document");
+
+		//when
+		cache.put(1L, "value");
+		cache.evict(1L);
+
+		//then
+		assertThat(cache.get(1L)).isNull();
+	}
+
+	@Test
+	@DisplayName("잘못된 메시지는 무시")
+	void invalidMessage() {
+		Cache cache = cacheManager.getCache("document");
+		cache.put(1L, "value");
+
+		assertThatCode(() -> cacheManager.onMessage(message("not json"), null)).doesNotThrowAnyException();
+		assertThat(cache.get(1L, String.class)).isEqualTo("value");
+	}
+
+	@Test
+	@DisplayName("캐시 이름과 조회 결과별로 조회 수를 기록")
+	void getMetrics() {
+		//given
+		Cache cache = cacheManager.getCache("document");
+		remoteCacheManager.getCache("document").put(1L, "value");
+
+		//when
+		cache.get(1L); //L2
+		cache.get(1L); //L1
+		cache.get(2L); //없음
+
+		//then
+		assertThat(gets("document", "hit", "local")).isEqualTo(1);
+		assertThat(gets("document", "hit", "remote")).isEqualTo(1);
+		assertThat(gets("document", "miss", "none")).isEqualTo(1);
+		assertThat(meterRegistry.find(CacheStats.GETS).tag("cache", "RootGraph").meters()).isEmpty();
+	}
+
+	@Test
+	@DisplayName("캐시를 놓친 뒤 같은 키가 저장되면 로딩 시간을 기록")
+	void loadTimeMetrics() {
+		//given
+		Cache cache = cacheManager.getCache("document");
+
+		//when
+		cache.get(1L);
+		cache.put(1L, "value");
+		cache.put(2L, "value"); //놓치지 않은 키의 저장은 로딩이 아닙니다.
+		cache.get(3, () -> "value");
+
+		//then
+		assertThat(meterRegistry.get(CacheStats.LOAD).tag("cache", "document").timer().count()).isEqualTo(2);
+		assertThat(meterRegistry.get(CacheStats.PUTS).tag("cache", "document").counter().count()).isEqualTo(3);
+	}
+
+	@Test
+	@DisplayName("L1에서 제거된 값과 삭제된 값을 원인별로 기록")
+	void evictionMetrics() {
+		//given
+		TwoLevelCacheManager smallCacheManager = new TwoLevelCacheManager(remoteCacheManager, redisTemplate, 1,
+			Duration.ofMinutes(1), new CacheMetrics(meterRegistry));
+		Cache cache = smallCacheManager.getCache("document");
+
+		//when
+		for (long key = 0; key < 10; key++) {
+			cache.put(key, "value");
+		}
+		((com.github.benmanes.caffeine.cache.Cache<?, ?>)cache.getNativeCache()).cleanUp();
+		cache.evict(0L);
+
+		//then
+		assertThat(meterRegistry.get(CacheStats.EVICTIONS).tags("cache", "document", "cause", "size").counter()
+			.count()).isPositive();
+		assertThat(meterRegistry.get(CacheStats.EVICTIONS).tags("cache", "document", "cause", "explicit").counter()
+			.count()).isEqualTo(1);
+	}
+
+	private double gets(String cacheName, String result, String level) {
+		return meterRegistry.get(CacheStats.GETS)
+			.tags("cache", cacheName, "result", result, "level", level)
+			.counter()
+			.count();
+	}
+
+	private DefaultMessage message(String body) {
+		return new DefaultMessage(TwoLevelCacheManager.INVALIDATION_CHANNEL.getBytes(StandardCharsets.UTF_8),
+			body.getBytes(StandardCharsets.UTF_8));
+	}
+}
@@ -0,0 +1,93 @@
+package goorm.eagle7.stelligence.common.compression;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.Random;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class CompressedTextConverterTest {
+
+	CompressedTextConverter converter = new CompressedTextConverter();
+
+	@Test
+	@DisplayName("임계값 이상의 텍스트는 압축되고 원본으로 복원된다.")
+	void compressLargeText() {
+		//given
+		String html = "<h2>제목</h2><p>위키 문서의 본문입니다. <a href=\"/documents/1\">링크</a></p>".repeat(50);
+
+		//when
+		String stored = converter.convertToDatabaseColumn(html);
+
+		//then
+		assertThat(stored).startsWith(TextCompressor.FORMAT_HEADER);
+		assertThat(stored.length()).isLessThan(html.length());
+		assertThat(converter.convertToEntityAttribute(stored)).isEqualTo(html);
+	}
+
+	@Test
+	@DisplayName("임계값보다 짧은 텍스트는 압축하지 않고 표시만 붙인다.")
+	void notCompressSmallText() {
+		String text = "<p>짧은 본문</p>";
+
+		String stored = converter.convertToDatabaseColumn(text);
+
+		assertThat(stored).isEqualTo(TextCompressor.RAW_MARKER + text);
+		assertThat(converter.convertToEntityAttribute(stored)).isEqualTo(text);
+	}
+
+	@Test
+	@DisplayName("압축의 효과가 없는 텍스트는 압축하지 않는다.")
+	void notCompressIncompressibleText() {
+		//given
+		Random random = new Random(7);
+		StringBuilder sb = new StringBuilder();
+		for (int i = 0; i < TextCompressor.COMPRESSION_THRESHOLD * 2; i++) {
+			sb.append((char)('!' + random.nextInt(90)));
+		}
+		String text = sb.toString();
+
+		//when
+		String stored = converter.convertToDatabaseColumn(text);
+
+		//then
+		assertThat(stored).isEqualTo(TextCompressor.RAW_MARKER + text);
+		assertThat(converter.convertToEntityAttribute(stored)).isEqualTo(text);
+	}
+
+	@Test
+	@DisplayName("압축 형식의 헤더로 시작하는 텍스트도 압축된 값으로 오인되지 않는다.")
+	void textStartingWithFormatHeader() {
+		//given
+		String shortText = TextCompressor.FORMAT_HEADER + "not base64!";
+		String longText = TextCompressor.FORMAT_HEADER + "<p>헤더로 시작하는 긴 본문</p>".repeat(100);
+		String markedText = TextCompressor.RAW_MARKER + "<p>표시로 시작하는 본문</p>";
+
+		//when
+		String storedShort = converter.convertToDatabaseColumn(shortText);
+		String storedLong = converter.convertToDatabaseColumn(longText);
+		String storedMarked = converter.convertToDatabaseColumn(markedText);
+
+		//then
+		assertThat(converter.convertToEntityAttribute(storedShort)).isEqualTo(shortText);
+		assertThat(converter.convertToEntityAttribute(storedLong)).isEqualTo(longText);
+		assertThat(converter.convertToEntityAttribute(storedMarked)).isEqualTo(markedText);
+	}
+
+	@Test
+	@DisplayName("압축 이전에 저장된 값은 그대로 읽힌다.")
+	void readLegacyValue() {
+		String legacy = "<p>압축 도입 이전의 본문</p>".repeat(100);
+
+		assertThat(TextCompressor.isMarked(legacy)).isFalse();
+		assertThat(converter.convertToEntityAttribute(legacy)).isEqualTo(legacy);
+	}
+
+	@Test
+	@DisplayName("null은 null로 변환된다.")
+	void convertNull() {
+		assertThat(converter.convertToDatabaseColumn(null)).isNull();
+		assertThat(converter.convertToEntityAttribute(null)).isNull();
+	}
+}
@@ -0,0 +1,146 @@
+package goorm.eagle7.stelligence.common.sequence;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class PooledSectionIdGeneratorTest {
+
+	@Mock
+	JdbcSectionIdGenerator sequence;
+
+	AtomicLong sequenceValue = new AtomicLong(1);
+	AtomicLong now = new AtomicLong();
+
+	@Test
+	@DisplayName("하나의 블록을 예약하고 블록 안에서는 sequence를 조회하지 않음")
+	void allocateFromBlock() {
+		//given
+		PooledSectionIdGenerator generator = generator(10);
+
+		//when
+		Long first = generator.getAndIncrementSectionId();
+		Long second = generator.getAndIncrementSectionIds(3);
+		Long third = generator.getAndIncrementSectionId();
+
+		//then
+		assertThat(first).isEqualTo(1L);
+		assertThat(second).isEqualTo(2L);
+		assertThat(third).isEqualTo(5L);
+		verify(sequence, times(1)).getAndIncrementSectionIds(10);
+	}
+
+	@Test
+	@DisplayName("블록에 남은 ID가 부족하면 나머지를 버리고 새로운 블록을 예약")
+	void refill() {
+		//given
+		PooledSectionIdGenerator generator = generator(10);
+		generator.getAndIncrementSectionIds(8);
+
+		//when
+		Long sectionId = generator.getAndIncrementSectionIds(3);
+
+		//then
+		assertThat(sectionId).isEqualTo(11L);
+		verify(sequence, times(2)).getAndIncrementSectionIds(anyInt());
+	}
+
+	@Test
+	@DisplayName("블록을 빨리 소진하면 크기를 두 배로, 오래 걸리면 절반으로 조절")
+	void adaptBlockSize() {
+		//given
+		PooledSectionIdGenerator generator = generator(40);
+		generator.getAndIncrementSectionIds(10);
+
+		//when
+		now.addAndGet(TimeUnit.MILLISECONDS.toNanos(100));
+		generator.getAndIncrementSectionIds(20); //refill-interval보다 빨리 소진
+		now.addAndGet(TimeUnit.SECONDS.toNanos(60));
+		generator.getAndIncrementSectionId(); //refill-interval의 8배보다 오래 걸림
+
+		//then
+		verify(sequence, times(2)).getAndIncrementSectionIds(10);
+		verify(sequence).getAndIncrementSectionIds(20);
+	}
+
+	@Test
+	@DisplayName("블록의 크기는 최대 크기를 넘지 않으며, 최대 크기보다 많은 요청은 바로 할당")
+	void maxBlockSize() {
+		//given
+		PooledSectionIdGenerator generator = generator(40);
+
+		//when
+		for (int i = 0; i < 110; i++) {
+			generator.getAndIncrementSectionId(); //10, 20, 40, 40개의 블록을 차례로 소진
+		}
+		Long sectionId = generator.getAndIncrementSectionIds(100);
+
+		//then
+		verify(sequence).getAndIncrementSectionIds(10);
+		verify(sequence).getAndIncrementSectionIds(20);
+		verify(sequence, times(2)).getAndIncrementSectionIds(40);
+		verify(sequence).getAndIncrementSectionIds(100);
+		assertThat(sectionId).isEqualTo(111L);
+	}
+
+	@Test
+	@DisplayName("동시에 할당해도 ID는 중복되지 않음")
+	void concurrentAllocation() throws InterruptedException {
+		//given
+		PooledSectionIdGenerator generator = new PooledSectionIdGenerator(sequence, 10, 10, 1000, 1000L,
+			System::nanoTime);
+		stubSequence();
+		Set<Long> sectionIds = ConcurrentHashMap.newKeySet();
+		ExecutorService executor = Executors.newFixedThreadPool(8);
+
+		//when
+		for (int i = 0; i < 8; i++) {
+			executor.execute(() -> {
+				for (int j = 0; j < 5_000; j++) {
+					sectionIds.add(generator.getAndIncrementSectionId());
+				}
+			});
+		}
+		executor.shutdown();
+
+		//then
+		assertThat(executor.awaitTermination(10, TimeUnit.SECONDS)).isTrue();
+		assertThat(sectionIds).hasSize(40_000);
+	}
+
+	@Test
+	@DisplayName("잘못된 개수")
+	void invalidCount() {
+		PooledSectionIdGenerator generator = new PooledSectionIdGenerator(sequence, 10, 10, 40, 1000L, now::get);
+
+		assertThatThrownBy(() -> generator.getAndIncrementSectionIds(0)).isInstanceOf(IllegalArgumentException.class);
+		verifyNoInteractions(sequence);
+	}
+
+	/**
+	 * 최소 10, 최대 maxBlockSize, 처음 10개씩 예약하며 refill-interval은 1초입니다.
+	 */
+	private PooledSectionIdGenerator generator(int maxBlockSize) {
+		stubSequence();
+		return new PooledSectionIdGenerator(sequence, 10, 10, maxBlockSize, 1000L, now::get);
+	}
+
+	private void stubSequence() {
+		when(sequence.getAndIncrementSectionIds(anyInt()))
+			.thenAnswer(invocation -> sequenceValue.getAndAdd(invocation.<Integer>getArgument(0)));
+	}
+}
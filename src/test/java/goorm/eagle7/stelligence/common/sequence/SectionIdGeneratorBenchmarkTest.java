@@ -0,0 +1,135 @@
+package goorm.eagle7.stelligence.common.sequence;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 여러 스레드가 동시에 문서를 생성할 때 JdbcSectionIdGenerator와 PooledSectionIdGenerator의 처리량을 비교합니다.
+ *
+ * <p>문서 생성은 트랜잭션 안에서 섹션의 ID를 할당받으며, 다음의 세 방식을 비교합니다.
+ * <ul>
+ *     <li>jdbc : 섹션마다 JdbcSectionIdGenerator.getAndIncrementSectionId를 호출하여 row lock을 잡습니다.</li>
+ *     <li>jdbc-batch : 문서의 섹션 수만큼 JdbcSectionIdGenerator.getAndIncrementSectionIds를 한 번 호출합니다.</li>
+ *     <li>pooled : 문서의 섹션 수만큼 PooledSectionIdGenerator.getAndIncrementSectionIds를 한 번 호출합니다.
+ *     (DocumentContentService.createDocument와 같음)</li>
+ * </ul>
+ * 섹션의 저장 등 나머지 작업은 모든 방식에서 같으므로 제외하고, ID 할당에 드는 시간만 측정합니다.
+ * 모든 스레드가 할당받은 ID는 중복되지 않아야 합니다.
+ *
+ * <p>일반 테스트에서는 제외되며 ./gradlew benchmark 로 실행할 수 있습니다.
+ */
+@Slf4j
+@Tag("benchmark")
+@DataJpaTest
+@Import(JdbcSectionIdGenerator.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED) //스레드마다 별도의 트랜잭션을 사용합니다.
+class SectionIdGeneratorBenchmarkTest {
+
+	private static final int THREADS = 4;
+	private static final int DOCUMENTS_PER_THREAD = 500;
+	private static final int SECTION_COUNT = 10;
+
+	@Autowired
+	JdbcSectionIdGenerator jdbcSectionIdGenerator;
+
+	@Autowired
+	SequenceTableRepository sequenceTableRepository;
+
+	@Autowired
+	PlatformTransactionManager transactionManager;
+
+	@BeforeEach
+	void setUp() {
+		if (!sequenceTableRepository.existsById("section")) {
+			sequenceTableRepository.save(new SequenceTable("section"));
+		}
+	}
+
+	@Test
+	@DisplayName("동시 문서 생성 처리량 - 섹션마다 row lock vs 블록 예약")
+	void compareConcurrentCreation() throws InterruptedException {
+		PooledSectionIdGenerator pooledSectionIdGenerator = new PooledSectionIdGenerator(jdbcSectionIdGenerator,
+			1000, 100, 10000, 1000L);
+
+		SectionAllocation perSection = sectionIds -> {
+			for (int section = 0; section < SECTION_COUNT; section++) {
+				sectionIds.add(jdbcSectionIdGenerator.getAndIncrementSectionId());
+			}
+		};
+		SectionAllocation jdbcBatch = sectionIds -> addBlock(sectionIds,
+			jdbcSectionIdGenerator.getAndIncrementSectionIds(SECTION_COUNT));
+		SectionAllocation pooled = sectionIds -> addBlock(sectionIds,
+			pooledSectionIdGenerator.getAndIncrementSectionIds(SECTION_COUNT));
+
+		//JIT 등의 영향을 줄이기 위해 한 번씩 먼저 실행합니다.
+		createDocuments(perSection);
+		createDocuments(jdbcBatch);
+		createDocuments(pooled);
+
+		double jdbcThroughput = createDocuments(perSection);
+		double jdbcBatchThroughput = createDocuments(jdbcBatch);
+		double pooledThroughput = createDocuments(pooled);
+
+		log.info("[benchmark] threads={}, documents={}, sections/document={}, jdbc={} documents/s, "
+				+ "jdbc-batch={} documents/s, pooled={} documents/s",
+			THREADS, THREADS * DOCUMENTS_PER_THREAD, SECTION_COUNT, String.format("%.1f", jdbcThroughput),
+			String.format("%.1f", jdbcBatchThroughput), String.format("%.1f", pooledThroughput));
+	}
+
+	/**
+	 * THREADS개의 스레드가 동시에 문서를 생성하고 초당 생성한 문서 수를 반환합니다.
+	 */
+	private double createDocuments(SectionAllocation allocation) throws InterruptedException {
+		TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+		Set<Long> sectionIds = ConcurrentHashMap.newKeySet();
+		ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+
+		long start = System.nanoTime();
+		for (int i = 0; i < THREADS; i++) {
+			executor.execute(() -> {
+				for (int document = 0; document < DOCUMENTS_PER_THREAD; document++) {
+					transactionTemplate.executeWithoutResult(status -> allocation.allocate(sectionIds));
+				}
+			});
+		}
+		executor.shutdown();
+		assertThat(executor.awaitTermination(5, TimeUnit.MINUTES)).isTrue();
+		double elapsedSeconds = (System.nanoTime() - start) / 1_000_000_000.0;
+
+		assertThat(sectionIds).hasSize(THREADS * DOCUMENTS_PER_THREAD * SECTION_COUNT);
+		return THREADS * DOCUMENTS_PER_THREAD / elapsedSeconds;
+	}
+
+	private static void addBlock(Set<Long> sectionIds, long firstSectionId) {
+		for (int section = 0; section < SECTION_COUNT; section++) {
+			sectionIds.add(firstSectionId + section);
+		}
+	}
+
+	/**
+	 * 문서 하나의 섹션 ID를 할당받아 sectionIds에 추가합니다.
+	 */
+	@FunctionalInterface
+	private interface SectionAllocation {
+		void allocate(Set<Long> sectionIds);
+	}
+}
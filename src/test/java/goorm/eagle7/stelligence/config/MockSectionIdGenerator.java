@@ -6,14 +6,29 @@ import goorm.eagle7.stelligence.common.sequence.SectionIdGenerator;
 
 public class MockSectionIdGenerator implements SectionIdGenerator {
 
-	private AtomicLong sequenceValue = new AtomicLong(1L);
+	private final long initialValue;
+	private AtomicLong sequenceValue;
+
+	public MockSectionIdGenerator() {
+		this(1L);
+	}
+
+	public MockSectionIdGenerator(long initialValue) {
+		this.initialValue = initialValue;
+		this.sequenceValue = new AtomicLong(initialValue);
+	}
 
 	@Override
 	public Long getAndIncrementSectionId() {
 		return sequenceValue.getAndIncrement();
 	}
 
+	@Override
+	public Long getAndIncrementSectionIds(int count) {
+		return sequenceValue.getAndAdd(count);
+	}
+
 	public void clear() {
-		sequenceValue.set(1L);
+		sequenceValue.set(initialValue);
 	}
 }
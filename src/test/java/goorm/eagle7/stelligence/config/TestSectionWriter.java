@@ -0,0 +1,34 @@
+package goorm.eagle7.stelligence.config;
+
+import goorm.eagle7.stelligence.domain.section.model.Section;
+import goorm.eagle7.stelligence.domain.section.model.SectionBody;
+import jakarta.persistence.EntityManager;
+
+/**
+ * 테스트 데이터로 사용할 섹션을 영속성 컨텍스트를 통해 저장합니다.
+ * 운영 코드는 SectionBatchWriter로 섹션을 저장합니다.
+ */
+public final class TestSectionWriter {
+
+	private TestSectionWriter() {
+	}
+
+	/**
+	 * 섹션을 본문과 함께 저장합니다. 같은 내용의 본문이 이미 저장되어 있다면 저장된 본문을 참조합니다.
+	 * @param em 엔티티 매니저
+	 * @param section 저장할 섹션
+	 * @return 영속 상태의 섹션
+	 */
+	public static Section save(EntityManager em, Section section) {
+		SectionBody body = section.getBody();
+		if (body != null) {
+			SectionBody storedBody = em.find(SectionBody.class, body.getHash());
+			if (storedBody == null) {
+				em.persist(body);
+			} else {
+				section.referStoredBody(storedBody);
+			}
+		}
+		return em.merge(section);
+	}
+}
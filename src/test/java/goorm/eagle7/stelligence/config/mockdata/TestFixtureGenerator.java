@@ -21,6 +21,7 @@ import goorm.eagle7.stelligence.domain.member.model.Role;
 import goorm.eagle7.stelligence.domain.member.model.SocialType;
 import goorm.eagle7.stelligence.domain.section.model.Heading;
 import goorm.eagle7.stelligence.domain.section.model.Section;
+import goorm.eagle7.stelligence.domain.section.model.SectionBody;
 
 /**
  * 테스트를 위한 객체 생성기입니다.
@@ -133,7 +134,7 @@ public class TestFixtureGenerator {
 	}
 
 	public static Section section(Long id, Long revision, Document document, Heading heading, String title,
-		String content, int order) {
+		String content, long order) {
 
 		try {
 			Class<?> sectionClazz = Class.forName("goorm.eagle7.stelligence.domain.section.model.Section");
@@ -148,7 +149,7 @@ public class TestFixtureGenerator {
 			Field documentField = sectionClazz.getDeclaredField("document");
 			Field headingField = sectionClazz.getDeclaredField("heading");
 			Field titleField = sectionClazz.getDeclaredField("title");
-			Field contentField = sectionClazz.getDeclaredField("content");
+			Field bodyField = sectionClazz.getDeclaredField("body");
 			Field orderField = sectionClazz.getDeclaredField("order");
 
 			idField.setAccessible(true);
@@ -156,7 +157,7 @@ public class TestFixtureGenerator {
 			revisionField.setAccessible(true);
 			headingField.setAccessible(true);
 			titleField.setAccessible(true);
-			contentField.setAccessible(true);
+			bodyField.setAccessible(true);
 			orderField.setAccessible(true);
 
 			idField.set(section, id);
@@ -164,7 +165,7 @@ public class TestFixtureGenerator {
 			revisionField.set(section, revision);
 			headingField.set(section, heading);
 			titleField.set(section, title);
-			contentField.set(section, content);
+			bodyField.set(section, content == null ? null : SectionBody.of(content));
 			orderField.set(section, order);
 
 			return (Section)section;
@@ -19,10 +19,10 @@ import goorm.eagle7.stelligence.api.exception.BaseException;
 import goorm.eagle7.stelligence.domain.amendment.dto.AmendmentRequest;
 import goorm.eagle7.stelligence.domain.amendment.model.AmendmentType;
 import goorm.eagle7.stelligence.domain.contribute.dto.ContributeRequest;
-import goorm.eagle7.stelligence.domain.debate.model.DebateStatus;
-import goorm.eagle7.stelligence.domain.debate.repository.DebateRepository;
 import goorm.eagle7.stelligence.domain.document.content.DocumentContentRepository;
 import goorm.eagle7.stelligence.domain.document.content.model.Document;
+import goorm.eagle7.stelligence.domain.document.status.DocumentStateService;
+import goorm.eagle7.stelligence.domain.document.status.model.DocumentState;
 import goorm.eagle7.stelligence.domain.section.SectionRepository;
 import goorm.eagle7.stelligence.domain.section.model.Heading;
 
@@ -36,7 +36,7 @@ class ContributeRequestValidatorTest {
 	@Mock
 	DocumentContentRepository documentContentRepository;
 	@Mock
-	DebateRepository debateRepository;
+	DocumentStateService documentStateService;
 	@InjectMocks
 	ContributeRequestValidator contributeRequestValidator;
 
@@ -64,8 +64,8 @@ class ContributeRequestValidatorTest {
 
 		//when
 		when(documentContentRepository.findById(1L)).thenReturn(Optional.of(mock(Document.class)));
-		when(contributeRepository.existsByDocumentAndStatus(any(), any())).thenReturn(false);
-		when(sectionRepository.findSectionIdByVersion(any(), any())).thenReturn(List.of(1L, 2L, 3L));
+		when(documentStateService.getState(1L)).thenReturn(DocumentState.editable(1L));
+		when(sectionRepository.findLatestSectionIdByDocumentId(any())).thenReturn(List.of(1L, 2L, 3L));
 		when(documentContentRepository.findByTitle("title")).thenReturn(Optional.of(targetDocument));
 		when(contributeRepository.existsDuplicateRequestedDocumentTitle("title")).thenReturn(false);
 
@@ -114,7 +114,9 @@ class ContributeRequestValidatorTest {
 
 		//when
 		when(documentContentRepository.findById(1L)).thenReturn(Optional.of(mock(Document.class)));
-		when(contributeRepository.existsByDocumentAndStatus(any(), any())).thenReturn(true);
+		DocumentState votingState = DocumentState.editable(1L);
+		votingState.startVoting(1L);
+		when(documentStateService.getState(1L)).thenReturn(votingState);
 
 		//then
 		assertThatThrownBy(
@@ -131,9 +133,9 @@ class ContributeRequestValidatorTest {
 
 		//when
 		when(documentContentRepository.findById(1L)).thenReturn(Optional.of(mock(Document.class)));
-		when(contributeRepository.existsByDocumentAndStatus(any(), any())).thenReturn(false);
-		when(debateRepository.existsByContributeDocumentIdAndStatus(1L, DebateStatus.OPEN))
-			.thenReturn(true);
+		DocumentState debatingState = DocumentState.editable(1L);
+		debatingState.startDebate(1L);
+		when(documentStateService.getState(1L)).thenReturn(debatingState);
 
 		//then
 		assertThatThrownBy(() -> contributeRequestValidator.validate(contributeRequest))
@@ -150,8 +152,8 @@ class ContributeRequestValidatorTest {
 
 		//when
 		when(documentContentRepository.findById(1L)).thenReturn(Optional.of(mock(Document.class)));
-		when(contributeRepository.existsByDocumentAndStatus(any(), any())).thenReturn(false);
-		when(sectionRepository.findSectionIdByVersion(any(), any())).thenReturn(Collections.emptyList());
+		when(documentStateService.getState(1L)).thenReturn(DocumentState.editable(1L));
+		when(sectionRepository.findLatestSectionIdByDocumentId(any())).thenReturn(Collections.emptyList());
 		when(documentContentRepository.findByTitle("newTitle")).thenReturn(Optional.of(targetDocument));
 
 		assertThatThrownBy(
@@ -168,8 +170,8 @@ class ContributeRequestValidatorTest {
 
 		//when
 		when(documentContentRepository.findById(1L)).thenReturn(Optional.of(mock(Document.class)));
-		when(contributeRepository.existsByDocumentAndStatus(any(), any())).thenReturn(false);
-		when(sectionRepository.findSectionIdByVersion(any(), any())).thenReturn(Collections.emptyList());
+		when(documentStateService.getState(1L)).thenReturn(DocumentState.editable(1L));
+		when(sectionRepository.findLatestSectionIdByDocumentId(any())).thenReturn(Collections.emptyList());
 		when(documentContentRepository.findByTitle("newTitle")).thenReturn(Optional.empty());
 		when(contributeRepository.existsDuplicateRequestedDocumentTitle("newTitle")).thenReturn(true);
 
@@ -189,8 +191,8 @@ class ContributeRequestValidatorTest {
 
 		//when
 		when(documentContentRepository.findById(1L)).thenReturn(Optional.of(mock(Document.class)));
-		when(contributeRepository.existsByDocumentAndStatus(any(), any())).thenReturn(false);
-		when(sectionRepository.findSectionIdByVersion(any(), any())).thenReturn(List.of(2L));
+		when(documentStateService.getState(1L)).thenReturn(DocumentState.editable(1L));
+		when(sectionRepository.findLatestSectionIdByDocumentId(any())).thenReturn(List.of(2L));
 
 		//then
 		assertThatThrownBy(
@@ -211,8 +213,8 @@ class ContributeRequestValidatorTest {
 
 		//when
 		when(documentContentRepository.findById(1L)).thenReturn(Optional.of(mock(Document.class)));
-		when(contributeRepository.existsByDocumentAndStatus(any(), any())).thenReturn(false);
-		when(sectionRepository.findSectionIdByVersion(any(), any())).thenReturn(List.of(1L, 2L));
+		when(documentStateService.getState(1L)).thenReturn(DocumentState.editable(1L));
+		when(sectionRepository.findLatestSectionIdByDocumentId(any())).thenReturn(List.of(1L, 2L));
 
 		//then
 		assertThatThrownBy(
@@ -233,8 +235,8 @@ class ContributeRequestValidatorTest {
 
 		//when
 		when(documentContentRepository.findById(1L)).thenReturn(Optional.of(mock(Document.class)));
-		when(contributeRepository.existsByDocumentAndStatus(any(), any())).thenReturn(false);
-		when(sectionRepository.findSectionIdByVersion(any(), any())).thenReturn(List.of(1L, 2L));
+		when(documentStateService.getState(1L)).thenReturn(DocumentState.editable(1L));
+		when(sectionRepository.findLatestSectionIdByDocumentId(any())).thenReturn(List.of(1L, 2L));
 
 		//then
 		assertThatThrownBy(
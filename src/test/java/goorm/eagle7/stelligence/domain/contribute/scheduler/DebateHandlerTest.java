@@ -19,6 +19,7 @@ import goorm.eagle7.stelligence.domain.contribute.model.ContributeStatus;
 import goorm.eagle7.stelligence.domain.debate.repository.DebateRepository;
 import goorm.eagle7.stelligence.domain.debate.model.Debate;
 import goorm.eagle7.stelligence.domain.document.content.model.Document;
+import goorm.eagle7.stelligence.domain.document.status.DocumentStateService;
 
 @ExtendWith(MockitoExtension.class)
 class DebateHandlerTest {
@@ -29,6 +30,9 @@ class DebateHandlerTest {
 	@Mock
 	private DebateRepository debateRepository;
 
+	@Mock
+	private DocumentStateService documentStateService;
+
 	@InjectMocks
 	private DebateHandler debateHandler;
 
@@ -49,6 +53,8 @@ class DebateHandlerTest {
 		// 토론으로 전환된 수정요청은 상태가 토론중으로 변경되며, 토론은 debateRepository에 의해 저장된다.
 		assertThat(contribute.getStatus()).isEqualTo(ContributeStatus.DEBATING);
 		verify(debateRepository, times(1)).save(any(Debate.class));
+		// 문서는 토론중 상태로 변경된다.
+		verify(documentStateService, times(1)).debateOpened(any(Debate.class));
 	}
 
 	@Test
@@ -84,5 +90,6 @@ class DebateHandlerTest {
 
 		// 예외가 발생했으니 토론은 저장되지 않는다.
 		verify(debateRepository, never()).save(any(Debate.class));
+		verify(documentStateService, never()).debateOpened(any(Debate.class));
 	}
 }
\ No newline at end of file
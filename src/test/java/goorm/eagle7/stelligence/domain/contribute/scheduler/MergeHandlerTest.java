@@ -14,7 +14,6 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.mockito.stubbing.Answer;
-import org.springframework.cache.CacheManager;
 
 import goorm.eagle7.stelligence.domain.amendment.model.Amendment;
 import goorm.eagle7.stelligence.domain.amendment.model.AmendmentType;
@@ -26,8 +25,16 @@ import goorm.eagle7.stelligence.domain.contribute.scheduler.template.CreateAmend
 import goorm.eagle7.stelligence.domain.contribute.scheduler.template.DeleteAmendmentMergeTemplate;
 import goorm.eagle7.stelligence.domain.contribute.scheduler.template.UpdateAmendmentMergeTemplate;
 import goorm.eagle7.stelligence.domain.document.DocumentService;
+import goorm.eagle7.stelligence.domain.document.content.DocumentCacheEvictor;
+import goorm.eagle7.stelligence.domain.document.content.RenderedRevisionService;
 import goorm.eagle7.stelligence.domain.document.content.model.Document;
+import goorm.eagle7.stelligence.domain.document.content.search.ContentSearchIndex;
+import goorm.eagle7.stelligence.domain.document.contributor.DocumentContributorService;
+import goorm.eagle7.stelligence.domain.document.status.DocumentStateService;
+import goorm.eagle7.stelligence.domain.document.warmup.DocumentCacheWarmer;
 import goorm.eagle7.stelligence.domain.member.model.Member;
+import goorm.eagle7.stelligence.domain.section.RevisionManifestService;
+import goorm.eagle7.stelligence.domain.section.SectionBatchWriter;
 import goorm.eagle7.stelligence.domain.section.model.Heading;
 import goorm.eagle7.stelligence.domain.section.model.Section;
 
@@ -38,7 +45,7 @@ class MergeHandlerTest {
 	ContributeRepository contributeRepository;
 
 	@Mock
-	CacheManager cacheManager;
+	DocumentCacheEvictor documentCacheEvictor;
 
 	@Mock
 	CreateAmendmentMergeTemplate createAmendmentMergeTemplate;
@@ -55,6 +62,27 @@ class MergeHandlerTest {
 	@Mock
 	DocumentService documentService;
 
+	@Mock
+	RevisionManifestService revisionManifestService;
+
+	@Mock
+	RenderedRevisionService renderedRevisionService;
+
+	@Mock
+	ContentSearchIndex contentSearchIndex;
+
+	@Mock
+	DocumentContributorService documentContributorService;
+
+	@Mock
+	DocumentStateService documentStateService;
+
+	@Mock
+	DocumentCacheWarmer documentCacheWarmer;
+
+	@Mock
+	SectionBatchWriter sectionBatchWriter;
+
 	@InjectMocks
 	MergeHandler mergeHandler;
 
@@ -96,14 +124,26 @@ class MergeHandlerTest {
 		verify(amendmentMergeTemplateMapper, times(1)).getTemplateForType(AmendmentType.UPDATE);
 		verify(amendmentMergeTemplateMapper, times(1)).getTemplateForType(AmendmentType.DELETE);
 
-		verify(updateAmendmentMergeTemplate, times(1)).handle(document, a1);
-		verify(deleteAmendmentMergeTemplate, times(1)).handle(document, a2);
+		verify(updateAmendmentMergeTemplate, times(1)).handle(eq(document), eq(a1), any());
+		verify(deleteAmendmentMergeTemplate, times(1)).handle(eq(document), eq(a2), any());
 
 		//제목변경과 부모 문서 변경 메서드가 각각 1번씩 호출되었는지 확인
 		verify(documentService, times(1)).changeDocumentTitle(document.getId(), contribute.getAfterDocumentTitle());
 		verify(documentService, times(1)).changeParentDocument(document.getId(),
 			contribute.getAfterParentDocument().getId());
 
+		//증가된 버전의 매니페스트가 기록되었는지 확인
+		verify(revisionManifestService, times(1)).recordLatestRevision(document);
+		verify(renderedRevisionService, times(1)).recordLatestRevision(document);
+		verify(contentSearchIndex, times(1)).reindexOnCommit(document.getId());
+
+		//수정요청의 작성자가 기여자로 기록되었는지 확인
+		verify(documentContributorService, times(1)).recordContribution(contribute);
+
+		//문서의 캐시가 삭제되고 다시 만들어지는지 확인
+		verify(documentCacheEvictor, times(1)).evict(document.getId());
+		verify(documentCacheWarmer, times(1)).warmOnCommit(document.getId());
+		verify(documentStateService, times(1)).votingFinished(contribute);
 	}
 
 	@Test
@@ -156,11 +196,11 @@ class MergeHandlerTest {
 		//CREATE 내에서는 targetSection의 order 의 오름차순으로 수행되어야 함
 		//targetSection이 같다면 creatingOrder의 오름차순으로 수행되어야 함
 		InOrder inOrder = inOrder(createAmendmentMergeTemplate);
-		inOrder.verify(createAmendmentMergeTemplate).handle(document, a5);
-		inOrder.verify(createAmendmentMergeTemplate).handle(document, a4);
-		inOrder.verify(createAmendmentMergeTemplate).handle(document, a3);
-		inOrder.verify(createAmendmentMergeTemplate).handle(document, a1);
-		inOrder.verify(createAmendmentMergeTemplate).handle(document, a2);
+		inOrder.verify(createAmendmentMergeTemplate).handle(eq(document), eq(a5), any());
+		inOrder.verify(createAmendmentMergeTemplate).handle(eq(document), eq(a4), any());
+		inOrder.verify(createAmendmentMergeTemplate).handle(eq(document), eq(a3), any());
+		inOrder.verify(createAmendmentMergeTemplate).handle(eq(document), eq(a1), any());
+		inOrder.verify(createAmendmentMergeTemplate).handle(eq(document), eq(a2), any());
 	}
 
 	@Test
@@ -199,13 +239,13 @@ class MergeHandlerTest {
 		InOrder inOrder = inOrder(createAmendmentMergeTemplate, updateAmendmentMergeTemplate,
 			deleteAmendmentMergeTemplate);
 		//CREATE 타입이 먼저 수행되어야 함
-		inOrder.verify(createAmendmentMergeTemplate).handle(document, a5);
-		inOrder.verify(createAmendmentMergeTemplate).handle(document, a4);
+		inOrder.verify(createAmendmentMergeTemplate).handle(eq(document), eq(a5), any());
+		inOrder.verify(createAmendmentMergeTemplate).handle(eq(document), eq(a4), any());
 
 		//DELETE와 UPDATE는 순서는 상관 없으나, CREATE가 끝난 후에 수행되어야 함
-		inOrder.verify(updateAmendmentMergeTemplate).handle(document, a1);
-		inOrder.verify(deleteAmendmentMergeTemplate).handle(document, a2);
-		inOrder.verify(updateAmendmentMergeTemplate).handle(document, a3);
+		inOrder.verify(updateAmendmentMergeTemplate).handle(eq(document), eq(a1), any());
+		inOrder.verify(deleteAmendmentMergeTemplate).handle(eq(document), eq(a2), any());
+		inOrder.verify(updateAmendmentMergeTemplate).handle(eq(document), eq(a3), any());
 	}
 
 	@Test
@@ -14,6 +14,7 @@ import goorm.eagle7.stelligence.domain.contribute.ContributeRepository;
 import goorm.eagle7.stelligence.domain.contribute.model.Contribute;
 import goorm.eagle7.stelligence.domain.contribute.model.ContributeStatus;
 import goorm.eagle7.stelligence.domain.document.content.model.Document;
+import goorm.eagle7.stelligence.domain.document.status.DocumentStateService;
 
 @ExtendWith(MockitoExtension.class)
 class RejectHandlerTest {
@@ -21,6 +22,9 @@ class RejectHandlerTest {
 	@Mock
 	ContributeRepository contributeRepository;
 
+	@Mock
+	DocumentStateService documentStateService;
+
 	@InjectMocks
 	RejectHandler rejectHandler;
 
@@ -36,5 +40,6 @@ class RejectHandlerTest {
 
 		//then
 		assertThat(contribute.getStatus()).isEqualTo(ContributeStatus.REJECTED);
+		verify(documentStateService).votingFinished(contribute);
 	}
 }
\ No newline at end of file
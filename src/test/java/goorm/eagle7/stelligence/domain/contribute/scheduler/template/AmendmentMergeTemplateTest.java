@@ -0,0 +1,155 @@
+package goorm.eagle7.stelligence.domain.contribute.scheduler.template;
+
+import static goorm.eagle7.stelligence.config.mockdata.TestFixtureGenerator.*;
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import goorm.eagle7.stelligence.common.sequence.SectionIdGenerator;
+import goorm.eagle7.stelligence.domain.amendment.model.Amendment;
+import goorm.eagle7.stelligence.domain.amendment.model.AmendmentType;
+import goorm.eagle7.stelligence.domain.document.content.model.Document;
+import goorm.eagle7.stelligence.domain.section.SectionBatch;
+import goorm.eagle7.stelligence.domain.section.SectionBatchWriter;
+import goorm.eagle7.stelligence.domain.section.SectionRepository;
+import goorm.eagle7.stelligence.domain.section.model.Heading;
+import goorm.eagle7.stelligence.domain.section.model.Section;
+import goorm.eagle7.stelligence.domain.section.model.SectionOrder;
+
+@ExtendWith(MockitoExtension.class)
+class AmendmentMergeTemplateTest {
+
+	@Mock
+	SectionRepository sectionRepository;
+
+	@Mock
+	SectionIdGenerator sectionIdGenerator;
+
+	@Mock
+	SectionBatchWriter sectionBatchWriter;
+
+	@Test
+	@DisplayName("수정된 섹션은 기존 섹션의 새로운 revision으로 batch에 추가되고 바로 저장되지 않는다.")
+	void updateStagesRevisedSection() {
+		//given
+		UpdateAmendmentMergeTemplate template = new UpdateAmendmentMergeTemplate(sectionRepository);
+		SectionBatch batch = new SectionBatch(sectionBatchWriter);
+
+		Document document = document(1L, null, "title", 1L);
+		Section section = section(1L, 1L, document, Heading.H1, "title", "content", 1);
+		Amendment amendment = amendment(1L, null, AmendmentType.UPDATE, section, Heading.H1, "newTitle", "newContent",
+			0);
+
+		//when
+		template.handle(document, amendment, batch);
+
+		//then
+		verifyNoInteractions(sectionRepository, sectionBatchWriter);
+		assertThat(batch.pending()).hasSize(1);
+		assertThat(batch.pending().get(0).getId()).isEqualTo(1L);
+		assertThat(batch.pending().get(0).getRevision()).isEqualTo(2L);
+
+		batch.flush();
+		verify(sectionBatchWriter).write(argThat(sections -> sections.size() == 1 && !sections.get(0).isDeleted()),
+			eq(Set.of()));
+	}
+
+	@Test
+	@DisplayName("이번 Merge에서 순서가 다시 부여된 섹션을 수정하면 다시 부여된 순서를 따른다.")
+	void updateReorderedSection() {
+		//given
+		UpdateAmendmentMergeTemplate template = new UpdateAmendmentMergeTemplate(sectionRepository);
+		SectionBatch batch = new SectionBatch(sectionBatchWriter);
+
+		Document document = document(1L, null, "title", 1L);
+		Section section = section(1L, 1L, document, Heading.H1, "title", "content", 10);
+		batch.revised(section.reorderedRevision(2L, SectionOrder.of(1)));
+		Amendment amendment = amendment(1L, null, AmendmentType.UPDATE, section, Heading.H1, "newTitle", "newContent",
+			0);
+
+		//when
+		template.handle(document, amendment, batch);
+
+		//then
+		assertThat(batch.pending()).hasSize(1);
+		assertThat(batch.pending().get(0).getTitle()).isEqualTo("newTitle");
+		assertThat(batch.pending().get(0).getOrder()).isEqualTo(SectionOrder.of(1));
+	}
+
+	@Test
+	@DisplayName("삭제된 섹션은 새로운 섹션으로 기록되지 않아 latest_section에서 제거된다.")
+	void deleteStagesDeletedSection() {
+		//given
+		DeleteAmendmentMergeTemplate template = new DeleteAmendmentMergeTemplate(sectionRepository);
+		SectionBatch batch = new SectionBatch(sectionBatchWriter);
+
+		Document document = document(1L, null, "title", 1L);
+		Section section = section(1L, 1L, document, Heading.H1, "title", "content", 1);
+		Amendment amendment = amendment(1L, null, AmendmentType.DELETE, section, null, null, null, 0);
+
+		//when
+		template.handle(document, amendment, batch);
+		batch.flush();
+
+		//then
+		verify(sectionBatchWriter).write(argThat(sections -> sections.size() == 1 && sections.get(0).isDeleted()),
+			eq(Set.of()));
+	}
+
+	@Test
+	@DisplayName("생성된 섹션은 새로운 섹션으로 기록되어 latest_section에 추가된다.")
+	void createStagesCreatedSection() {
+		//given
+		CreateAmendmentMergeTemplate template = new CreateAmendmentMergeTemplate(sectionRepository,
+			sectionIdGenerator);
+		SectionBatch batch = new SectionBatch(sectionBatchWriter);
+
+		Document document = document(1L, null, "title", 1L);
+		Section section = section(1L, 1L, document, Heading.H1, "title", "content", 1);
+		Amendment amendment = amendment(1L, null, AmendmentType.CREATE, section, Heading.H2, "newTitle",
+			"newContent", 0);
+		when(sectionIdGenerator.getAndIncrementSectionId()).thenReturn(2L);
+
+		//when
+		template.handle(document, amendment, batch);
+		batch.flush();
+
+		//then
+		verify(sectionBatchWriter).write(argThat(sections -> sections.size() == 1 && sections.get(0).getId() == 2L),
+			eq(Set.of(2L)));
+	}
+
+	@Test
+	@DisplayName("같은 대상 섹션 뒤에 연속으로 생성된 섹션은 저장되지 않은 앞의 섹션 뒤에 위치한다.")
+	void createAfterPendingSection() {
+		//given
+		CreateAmendmentMergeTemplate template = new CreateAmendmentMergeTemplate(sectionRepository,
+			sectionIdGenerator);
+		SectionBatch batch = new SectionBatch(sectionBatchWriter);
+
+		Document document = document(1L, null, "title", 1L);
+		Section section = section(1L, 1L, document, Heading.H1, "title", "content", 1);
+		Amendment first = amendment(1L, null, AmendmentType.CREATE, section, Heading.H2, "first", "first", 0);
+		Amendment second = amendment(2L, null, AmendmentType.CREATE, section, Heading.H2, "second", "second", 1);
+		when(sectionIdGenerator.getAndIncrementSectionId()).thenReturn(2L, 3L);
+
+		//when
+		template.handle(document, first, batch);
+		template.handle(document, second, batch);
+
+		//then
+		List<Section> pending = batch.pending();
+		assertThat(pending).hasSize(2);
+		assertThat(pending.get(0).getOrder()).isGreaterThan(section.getOrder());
+		assertThat(pending.get(1).getOrder()).isGreaterThan(pending.get(0).getOrder());
+		verifyNoInteractions(sectionBatchWriter);
+	}
+}
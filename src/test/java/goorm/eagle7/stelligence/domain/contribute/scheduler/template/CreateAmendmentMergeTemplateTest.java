@@ -5,7 +5,9 @@ import static org.assertj.core.api.Assertions.*;
 import static org.mockito.Mockito.*;
 
 import java.util.List;
+import java.util.Optional;
 
+import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
@@ -16,9 +18,12 @@ import goorm.eagle7.stelligence.common.sequence.SectionIdGenerator;
 import goorm.eagle7.stelligence.domain.amendment.model.Amendment;
 import goorm.eagle7.stelligence.domain.amendment.model.AmendmentType;
 import goorm.eagle7.stelligence.domain.document.content.model.Document;
+import goorm.eagle7.stelligence.domain.section.SectionBatch;
+import goorm.eagle7.stelligence.domain.section.SectionBatchWriter;
 import goorm.eagle7.stelligence.domain.section.SectionRepository;
 import goorm.eagle7.stelligence.domain.section.model.Heading;
 import goorm.eagle7.stelligence.domain.section.model.Section;
+import goorm.eagle7.stelligence.domain.section.model.SectionOrder;
 
 @ExtendWith(MockitoExtension.class)
 class CreateAmendmentMergeTemplateTest {
@@ -29,6 +34,9 @@ class CreateAmendmentMergeTemplateTest {
 	@Mock
 	SectionIdGenerator sectionIdGenerator;
 
+	@Mock
+	SectionBatchWriter sectionBatchWriter;
+
 	@InjectMocks
 	CreateAmendmentMergeTemplate createAmendmentMergeTemplate;
 
@@ -36,13 +44,18 @@ class CreateAmendmentMergeTemplateTest {
 	void createSection() {
 		//given
 		Document document = document(1L, null, "title", 1L);
-		Section section = section(1L, 1L, document, Heading.H1, "title", "content", 1);
+		Section section = section(1L, 1L, document, Heading.H1, "title", "content", SectionOrder.of(1));
 		Amendment amendment = amendment(1L, null, AmendmentType.CREATE, section, Heading.H1, "newTitle", "newContent",
 			1);
 
 		//when
 		when(sectionIdGenerator.getAndIncrementSectionId()).thenReturn(1L);
-		Section createdSection = createAmendmentMergeTemplate.createSection(document, amendment);
+		when(sectionRepository.findNextOrder(document, 1L, SectionOrder.of(1)))
+			.thenReturn(Optional.of(SectionOrder.of(2)));
+		when(sectionRepository.findLastOrderBetween(document, 2L, SectionOrder.of(1), SectionOrder.of(2)))
+			.thenReturn(Optional.of(SectionOrder.of(1)));
+		Section createdSection = createAmendmentMergeTemplate.createSection(document, amendment,
+			new SectionBatch(sectionBatchWriter));
 
 		//then
 		verify(sectionIdGenerator, times(1)).getAndIncrementSectionId();
@@ -57,32 +70,132 @@ class CreateAmendmentMergeTemplateTest {
 		//새로 생성된 섹션의 revision은 document의 revision + 1이다.
 		assertThat(createdSection.getRevision()).isEqualTo(document.getLatestRevision() + 1);
 
-		//createdSection의 order는 targetSection의 order + 1이다.
-		assertThat(createdSection.getOrder()).isEqualTo(section.getOrder() + 1);
+		//createdSection의 order는 targetSection과 다음 섹션의 order 사이의 값이다.
+		assertThat(createdSection.getOrder()).isBetween(SectionOrder.of(1) + 1, SectionOrder.of(2) - 1);
 	}
 
 	@Test
-	void afterMerged() {
+	@DisplayName("같은 섹션 뒤에 먼저 생성된 섹션이 있다면 그 뒤에 위치한다.")
+	void createSectionAfterPreviouslyCreatedSection() {
 		//given
-		Document document = document(1L, null, "title", 3L);
-		Section section = section(1L, 1L, document, Heading.H1, "title", "content", 3);
+		Document document = document(1L, null, "title", 1L);
+		Section section = section(1L, 1L, document, Heading.H1, "title", "content", SectionOrder.of(1));
+		Amendment amendment = amendment(1L, null, AmendmentType.CREATE, section, Heading.H1, "newTitle", "newContent",
+			2);
+		long previouslyCreatedOrder = SectionOrder.between(SectionOrder.of(1), SectionOrder.of(2));
+
+		//when
+		when(sectionIdGenerator.getAndIncrementSectionId()).thenReturn(2L);
+		when(sectionRepository.findNextOrder(document, 1L, SectionOrder.of(1)))
+			.thenReturn(Optional.of(SectionOrder.of(2)));
+		when(sectionRepository.findLastOrderBetween(document, 2L, SectionOrder.of(1), SectionOrder.of(2)))
+			.thenReturn(Optional.of(previouslyCreatedOrder));
+		Section createdSection = createAmendmentMergeTemplate.createSection(document, amendment,
+			new SectionBatch(sectionBatchWriter));
+
+		//then
+		assertThat(createdSection.getOrder()).isBetween(previouslyCreatedOrder + 1, SectionOrder.of(2) - 1);
+	}
+
+	@Test
+	@DisplayName("마지막 섹션 뒤에 생성되는 섹션은 GAP만큼 뒤에 위치한다.")
+	void createSectionAtLast() {
+		//given
+		Document document = document(1L, null, "title", 1L);
+		Section section = section(1L, 1L, document, Heading.H1, "title", "content", SectionOrder.of(3));
+		Amendment amendment = amendment(1L, null, AmendmentType.CREATE, section, Heading.H1, "newTitle", "newContent",
+			1);
+
+		//when
+		when(sectionIdGenerator.getAndIncrementSectionId()).thenReturn(1L);
+		when(sectionRepository.findNextOrder(document, 1L, SectionOrder.of(3))).thenReturn(Optional.empty());
+		when(sectionRepository.findLastOrderBetween(document, 2L, SectionOrder.of(3), Long.MAX_VALUE))
+			.thenReturn(Optional.of(SectionOrder.of(3)));
+		Section createdSection = createAmendmentMergeTemplate.createSection(document, amendment,
+			new SectionBatch(sectionBatchWriter));
+
+		//then
+		assertThat(createdSection.getOrder()).isEqualTo(SectionOrder.of(4));
+	}
 
-		Section s1 = section(2L, 1L, document, Heading.H1, "title", "content", 1);
-		Section s2 = section(3L, 1L, document, Heading.H2, "title", "content", 2);
-		Section s3 = section(4L, 1L, document, Heading.H3, "title", "content", 3);
-		Section s4 = section(5L, 1L, document, Heading.H4, "title", "content", 4);
+	@Test
+	@DisplayName("섹션 사이의 간격이 부족하다면 기존 섹션의 행은 그대로 두고 새로운 revision으로 순서를 다시 부여한다.")
+	void createSectionWithRebalance() {
+		//given
+		Document document = document(1L, null, "title", 1L);
+		Section section = section(1L, 1L, document, Heading.H1, "title", "content", 10);
+		Section next = section(2L, 1L, document, Heading.H1, "title", "content", 11);
+		Amendment amendment = amendment(1L, null, AmendmentType.CREATE, section, Heading.H1, "newTitle", "newContent",
+			1);
+		SectionBatch batch = new SectionBatch(sectionBatchWriter);
 
 		//when
-		when(sectionRepository.findByVersionWhereOrderGreaterEqualThan(document, document.getLatestRevision(), 3))
-			.thenReturn(List.of(s3, s4));
+		when(sectionIdGenerator.getAndIncrementSectionId()).thenReturn(3L);
+		when(sectionRepository.findNextOrder(document, 1L, 10L)).thenReturn(Optional.of(11L));
+		when(sectionRepository.findLastOrderBetween(document, 2L, 10L, 11L)).thenReturn(Optional.of(10L));
+		when(sectionRepository.findByVersionWithoutBody(document, 1L)).thenReturn(List.of(section, next));
+		Section createdSection = createAmendmentMergeTemplate.createSection(document, amendment, batch);
+
+		//then
+		//이전 버전을 구성하는 섹션의 순서는 변경되지 않는다.
+		assertThat(section.getOrder()).isEqualTo(10L);
+		assertThat(next.getOrder()).isEqualTo(11L);
+
+		//생성 중인 버전에서는 새로운 revision의 섹션이 다시 부여된 순서를 갖는다.
+		assertThat(batch.isReordered()).isTrue();
+		assertThat(batch.find(1L)).hasValueSatisfying(reordered -> {
+			assertThat(reordered.getRevision()).isEqualTo(2L);
+			assertThat(reordered.getOrder()).isEqualTo(SectionOrder.of(1));
+			assertThat(reordered.getTitle()).isEqualTo("title");
+		});
+		assertThat(batch.find(2L)).hasValueSatisfying(reordered ->
+			assertThat(reordered.getOrder()).isEqualTo(SectionOrder.of(2)));
+
+		assertThat(createdSection.getOrder()).isBetween(SectionOrder.of(1) + 1, SectionOrder.of(2) - 1);
+	}
+
+	@Test
+	@DisplayName("순서가 다시 부여된 이후에 생성되는 섹션은 생성 중인 버전의 순서를 기준으로 위치한다.")
+	void createSectionAfterRebalance() {
+		//given
+		Document document = document(1L, null, "title", 1L);
+		Section first = section(1L, 1L, document, Heading.H1, "title", "content", 10);
+		Section second = section(2L, 1L, document, Heading.H1, "title", "content", 11);
+		Section third = section(3L, 1L, document, Heading.H1, "title", "content", 12);
+		SectionBatch batch = new SectionBatch(sectionBatchWriter);
+
+		when(sectionIdGenerator.getAndIncrementSectionId()).thenReturn(4L, 5L);
+		when(sectionRepository.findNextOrder(document, 1L, 10L)).thenReturn(Optional.of(11L));
+		when(sectionRepository.findLastOrderBetween(document, 2L, 10L, 11L)).thenReturn(Optional.of(10L));
+		when(sectionRepository.findByVersionWithoutBody(document, 1L)).thenReturn(List.of(first, second, third));
+		Section afterFirst = createAmendmentMergeTemplate.createSection(document,
+			amendment(1L, null, AmendmentType.CREATE, first, Heading.H1, "new", "new", 1), batch);
+		batch.created(afterFirst);
 
+		//when
+		Section afterSecond = createAmendmentMergeTemplate.createSection(document,
+			amendment(2L, null, AmendmentType.CREATE, second, Heading.H1, "new", "new", 1), batch);
+
+		//then
+		//second의 새로운 순서와 third의 새로운 순서 사이에 위치한다.
+		long secondOrder = batch.find(2L).orElseThrow().getOrder();
+		long thirdOrder = batch.find(3L).orElseThrow().getOrder();
+		assertThat(afterSecond.getOrder()).isBetween(secondOrder + 1, thirdOrder - 1);
+		assertThat(afterFirst.getOrder()).isLessThan(secondOrder);
+		verify(sectionRepository, never()).findNextOrder(document, 1L, 11L);
+	}
+
+	@Test
+	void afterMerged() {
+		//given
+		Document document = document(1L, null, "title", 3L);
+		Section section = section(1L, 1L, document, Heading.H1, "title", "content", SectionOrder.of(3));
+
+		//when
 		createAmendmentMergeTemplate.afterMerged(section);
 
 		//then
-		//section의 order보다 높은 order를 가진 section들의 order가 1씩 증가했는지 확인
-		assertThat(s1.getOrder()).isEqualTo(1);
-		assertThat(s2.getOrder()).isEqualTo(2);
-		assertThat(s3.getOrder()).isEqualTo(4);
-		assertThat(s4.getOrder()).isEqualTo(5);
+		//섹션이 생성되더라도 다른 섹션들의 순서는 변경되지 않는다.
+		verifyNoInteractions(sectionRepository);
 	}
-}
\ No newline at end of file
+}
@@ -2,6 +2,7 @@ package goorm.eagle7.stelligence.domain.contribute.scheduler.template;
 
 import static goorm.eagle7.stelligence.config.mockdata.TestFixtureGenerator.*;
 import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
 
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -10,6 +11,8 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import goorm.eagle7.stelligence.domain.amendment.model.Amendment;
 import goorm.eagle7.stelligence.domain.amendment.model.AmendmentType;
 import goorm.eagle7.stelligence.domain.document.content.model.Document;
+import goorm.eagle7.stelligence.domain.section.SectionBatch;
+import goorm.eagle7.stelligence.domain.section.SectionBatchWriter;
 import goorm.eagle7.stelligence.domain.section.model.Heading;
 import goorm.eagle7.stelligence.domain.section.model.Section;
 
@@ -26,7 +29,8 @@ class DeleteAmendmentMergeTemplateTest {
 		Amendment amendment = amendment(1L, null, AmendmentType.DELETE, section, null, null, null, 0);
 
 		//when
-		Section createdSection = deleteAmendmentMergeTemplate.createSection(document, amendment);
+		Section createdSection = deleteAmendmentMergeTemplate.createSection(document, amendment,
+			new SectionBatch(mock(SectionBatchWriter.class)));
 
 		//then
 		assertThat(createdSection.getId()).isEqualTo(section.getId());
@@ -0,0 +1,142 @@
+package goorm.eagle7.stelligence.domain.contribute.scheduler.template;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.List;
+
+import org.hibernate.Session;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+
+import goorm.eagle7.stelligence.config.TestConfig;
+import goorm.eagle7.stelligence.config.TestSectionWriter;
+import goorm.eagle7.stelligence.domain.amendment.model.Amendment;
+import goorm.eagle7.stelligence.domain.document.content.model.Document;
+import goorm.eagle7.stelligence.domain.section.SectionBatch;
+import goorm.eagle7.stelligence.domain.section.SectionBatchWriter;
+import goorm.eagle7.stelligence.domain.section.SectionRepository;
+import goorm.eagle7.stelligence.domain.section.model.Heading;
+import goorm.eagle7.stelligence.domain.section.model.LatestSection;
+import goorm.eagle7.stelligence.domain.section.model.Section;
+import goorm.eagle7.stelligence.domain.section.model.SectionBody;
+import goorm.eagle7.stelligence.domain.section.model.SectionId;
+import goorm.eagle7.stelligence.domain.section.model.SectionOrder;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 500개의 섹션을 가진 문서의 맨 앞에 섹션을 삽입할 때의 비용을 측정합니다.
+ *
+ * <p>본문을 함께 읽고 이후 섹션들의 순서를 1씩 증가시키던 이전 방식과
+ * 간격을 둔 순서로 새로운 섹션만 저장하는 현재의 Merge 경로를 비교하여 영속성 컨텍스트의 크기, 힙 사용량, 소요 시간을 출력합니다.
+ *
+ * <p>일반 테스트에서는 제외되며 ./gradlew benchmark 로 실행할 수 있습니다.
+ */
+@Slf4j
+@Tag("benchmark")
+@DataJpaTest
+@Import({TestConfig.class, CreateAmendmentMergeTemplate.class, SectionBatchWriter.class})
+class SectionOrderMergeBenchmarkTest {
+
+	private static final int SECTION_COUNT = 500;
+	private static final String BODY = "<p>" + "긴 섹션 본문입니다. ".repeat(400) + "</p>";
+
+	@Autowired
+	TestEntityManager em;
+
+	@Autowired
+	SectionRepository sectionRepository;
+
+	@Autowired
+	CreateAmendmentMergeTemplate createAmendmentMergeTemplate;
+
+	@Autowired
+	SectionBatchWriter sectionBatchWriter;
+
+	private Long documentId;
+
+	@BeforeEach
+	void setUp() {
+		Document document = Document.createDocument("benchmark", null, null);
+		em.persist(document);
+		documentId = document.getId();
+
+		for (int order = 1; order <= SECTION_COUNT; order++) {
+			//섹션 ID는 MockSectionIdGenerator와 겹치지 않도록 큰 값을 사용합니다.
+			Section section = TestSectionWriter.save(em.getEntityManager(), Section.createSection(document,
+				100_000L + order, 1L, Heading.H2, "title" + order, BODY + order, SectionOrder.of(order)));
+			em.persist(LatestSection.of(section));
+		}
+
+		em.flush();
+		em.clear();
+	}
+
+	@Test
+	@DisplayName("섹션 삽입 비용 비교 - 이후 섹션의 순서를 변경하는 이전 방식과 현재의 Merge 경로")
+	void compareOrderShift() {
+		//본문을 함께 읽고 이후 섹션들의 순서를 변경하는 이전 방식
+		Measurement eager = measure(() -> {
+			Document document = em.find(Document.class, documentId);
+			sectionRepository.findByVersion(document, document.getLatestRevision())
+				.forEach(section -> section.changeOrder(section.getOrder() + 1));
+		});
+
+		SectionId nextSectionId = SectionId.of(100_002L, 1L);
+		long nextSectionOrder = em.find(Section.class, nextSectionId).getOrder();
+
+		//현재의 Merge 경로
+		Measurement lazy = measure(() -> {
+			Document document = em.find(Document.class, documentId);
+			Section target = em.find(Section.class, SectionId.of(100_001L, 1L));
+			Amendment amendment = Amendment.forCreate(target, Heading.H2, "new title", "<p>new content</p>", 1);
+			SectionBatch batch = new SectionBatch(sectionBatchWriter);
+			createAmendmentMergeTemplate.handle(document, amendment, batch);
+			batch.flush();
+		});
+
+		log.info("[benchmark] sections={}, with body: time={}ms heap={}KB bodies in context={}, "
+				+ "lazy body: time={}ms heap={}KB bodies in context={}",
+			SECTION_COUNT, eager.millis, eager.heapKb, eager.bodies, lazy.millis, lazy.heapKb, lazy.bodies);
+
+		//Merge 경로에서는 본문이 영속성 컨텍스트에 올라오지 않아야 한다. (새로운 섹션은 JDBC로 저장된다.)
+		assertThat(lazy.bodies).isLessThanOrEqualTo(1);
+		//Merge 경로에서는 이후 섹션들의 순서를 변경하지 않는다.
+		assertThat(em.find(Section.class, nextSectionId).getOrder()).isEqualTo(nextSectionOrder);
+		assertThat(eager.bodies).isEqualTo(SECTION_COUNT);
+	}
+
+	private Measurement measure(Runnable work) {
+		em.clear();
+		System.gc();
+		Runtime runtime = Runtime.getRuntime();
+		long heapBefore = runtime.totalMemory() - runtime.freeMemory();
+
+		long start = System.nanoTime();
+		work.run();
+		em.flush();
+		long millis = (System.nanoTime() - start) / 1_000_000;
+
+		System.gc();
+		long heapAfter = runtime.totalMemory() - runtime.freeMemory();
+		long bodies = countManagedBodies();
+		em.clear();
+
+		return new Measurement(millis, (heapAfter - heapBefore) / 1024, bodies);
+	}
+
+	private long countManagedBodies() {
+		List<?> keys = List.copyOf(em.getEntityManager().unwrap(Session.class).getStatistics().getEntityKeys());
+		return keys.stream()
+			.filter(key -> key.toString().contains(SectionBody.class.getName()))
+			.count();
+	}
+
+	private record Measurement(long millis, long heapKb, long bodies) {
+	}
+}
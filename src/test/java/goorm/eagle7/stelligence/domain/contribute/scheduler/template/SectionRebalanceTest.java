@@ -0,0 +1,112 @@
+package goorm.eagle7.stelligence.domain.contribute.scheduler.template;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+
+import goorm.eagle7.stelligence.config.TestConfig;
+import goorm.eagle7.stelligence.config.TestSectionWriter;
+import goorm.eagle7.stelligence.domain.amendment.model.Amendment;
+import goorm.eagle7.stelligence.domain.document.content.model.Document;
+import goorm.eagle7.stelligence.domain.section.SectionBatch;
+import goorm.eagle7.stelligence.domain.section.SectionBatchWriter;
+import goorm.eagle7.stelligence.domain.section.model.Heading;
+import goorm.eagle7.stelligence.domain.section.model.LatestSection;
+import goorm.eagle7.stelligence.domain.section.model.Section;
+import goorm.eagle7.stelligence.domain.section.model.SectionId;
+
+/**
+ * 생성 중인 버전의 순서를 다시 부여해도 이전 버전의 순서는 바뀌지 않는지 확인합니다.
+ */
+@DataJpaTest
+@Import({TestConfig.class, CreateAmendmentMergeTemplate.class, DeleteAmendmentMergeTemplate.class,
+	SectionBatchWriter.class})
+class SectionRebalanceTest {
+
+	//섹션 ID는 MockSectionIdGenerator와 겹치지 않도록 큰 값을 사용합니다.
+	private static final long FIRST = 100_001L;
+	private static final long SECOND = 100_002L;
+	private static final long THIRD = 100_003L;
+
+	@Autowired
+	TestEntityManager em;
+
+	@Autowired
+	CreateAmendmentMergeTemplate createAmendmentMergeTemplate;
+
+	@Autowired
+	DeleteAmendmentMergeTemplate deleteAmendmentMergeTemplate;
+
+	@Autowired
+	SectionBatchWriter sectionBatchWriter;
+
+	private Long documentId;
+
+	@BeforeEach
+	void setUp() {
+		Document document = Document.createDocument("title", null, null);
+		em.persist(document);
+		documentId = document.getId();
+
+		//섹션 사이에 간격이 없어 삽입하려면 순서를 다시 부여해야 합니다.
+		saveSection(document, FIRST, 10);
+		saveSection(document, SECOND, 11);
+		saveSection(document, THIRD, 12);
+
+		em.flush();
+		em.clear();
+	}
+
+	@Test
+	@DisplayName("순서를 다시 부여한 다음 버전이 생겨도 이전 버전의 순서는 그대로 유지된다.")
+	void rebalanceKeepsPreviousRevision() {
+		//given
+		Document document = em.find(Document.class, documentId);
+		List<Long> before = sectionIdsOf(document, 1L);
+		List<Long> ordersBefore = ordersOf(document, 1L);
+
+		//when
+		//첫 번째 섹션 뒤에 섹션을 삽입하고, 세 번째 섹션을 삭제합니다.
+		SectionBatch batch = new SectionBatch(sectionBatchWriter);
+		Section first = em.find(Section.class, SectionId.of(FIRST, 1L));
+		Section third = em.find(Section.class, SectionId.of(THIRD, 1L));
+		createAmendmentMergeTemplate.handle(document,
+			Amendment.forCreate(first, Heading.H2, "new", "<p>new</p>", 1), batch);
+		deleteAmendmentMergeTemplate.handle(document, Amendment.forDelete(third), batch);
+		batch.flush();
+		em.flush();
+		em.clear();
+
+		//then
+		document = em.find(Document.class, documentId);
+		assertThat(sectionIdsOf(document, 1L)).isEqualTo(before).containsExactly(FIRST, SECOND, THIRD);
+		assertThat(ordersOf(document, 1L)).isEqualTo(ordersBefore);
+
+		List<Section> revision2 = sectionRepository.findByVersion(document, 2L).stream().sorted().toList();
+		assertThat(revision2).extracting(Section::getTitle).containsExactly("title", "new", "title");
+		assertThat(revision2).extracting(Section::getId).startsWith(FIRST).endsWith(SECOND);
+		assertThat(revision2).allMatch(section -> section.getRevision() == 2L);
+	}
+
+	private void saveSection(Document document, long id, long order) {
+		Section section = TestSectionWriter.save(em.getEntityManager(),
+			Section.createSection(document, id, 1L, Heading.H2, "title", "<p>content" + id + "</p>", order));
+		em.persist(LatestSection.of(section));
+	}
+
+	private List<Long> sectionIdsOf(Document document, Long revision) {
+		return sectionRepository.findByVersion(document, revision).stream().sorted().map(Section::getId).toList();
+	}
+
+	private List<Long> ordersOf(Document document, Long revision) {
+		return sectionRepository.findByVersion(document, revision).stream().sorted().map(Section::getOrder).toList();
+	}
+}
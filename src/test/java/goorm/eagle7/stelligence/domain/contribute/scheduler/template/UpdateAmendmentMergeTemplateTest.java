@@ -2,12 +2,15 @@ package goorm.eagle7.stelligence.domain.contribute.scheduler.template;
 
 import static goorm.eagle7.stelligence.config.mockdata.TestFixtureGenerator.*;
 import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
 
 import org.junit.jupiter.api.Test;
 
 import goorm.eagle7.stelligence.domain.amendment.model.Amendment;
 import goorm.eagle7.stelligence.domain.amendment.model.AmendmentType;
 import goorm.eagle7.stelligence.domain.document.content.model.Document;
+import goorm.eagle7.stelligence.domain.section.SectionBatch;
+import goorm.eagle7.stelligence.domain.section.SectionBatchWriter;
 import goorm.eagle7.stelligence.domain.section.model.Heading;
 import goorm.eagle7.stelligence.domain.section.model.Section;
 
@@ -24,7 +27,8 @@ class UpdateAmendmentMergeTemplateTest {
 			1);
 
 		//when
-		Section createdSection = updateAmendmentMergeTemplate.createSection(document, amendment);
+		Section createdSection = updateAmendmentMergeTemplate.createSection(document, amendment,
+			new SectionBatch(mock(SectionBatchWriter.class)));
 
 		//then
 		assertThat(createdSection.getId()).isEqualTo(section.getId());
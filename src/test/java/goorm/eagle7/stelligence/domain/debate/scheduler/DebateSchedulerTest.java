@@ -18,6 +18,7 @@ import goorm.eagle7.stelligence.config.mockdata.TestFixtureGenerator;
 import goorm.eagle7.stelligence.domain.debate.repository.DebateRepository;
 import goorm.eagle7.stelligence.domain.debate.model.Debate;
 import goorm.eagle7.stelligence.domain.debate.model.DebateStatus;
+import goorm.eagle7.stelligence.domain.document.status.DocumentStateService;
 
 @ExtendWith(MockitoExtension.class)
 class DebateSchedulerTest {
@@ -25,6 +26,9 @@ class DebateSchedulerTest {
 	@Mock
 	private DebateRepository debateRepository;
 
+	@Mock
+	private DocumentStateService documentStateService;
+
 	@InjectMocks
 	private DebateScheduler debateScheduler;
 
@@ -59,6 +63,24 @@ class DebateSchedulerTest {
 			// then
 			verify(debateRepository, times(1)).findOpenDebateIdByEndAt(now);
 			verify(debateRepository, times(1)).closeAllById(targetDebateIdList);
+			verify(documentStateService, times(1)).debatesClosed(targetDebateIdList);
+		}
+	}
+
+	@Test
+	@DisplayName("수정대기 시간이 지난 문서를 편집가능 상태로 전환")
+	void expirePendingDocuments() {
+		// given
+		LocalDateTime now = LocalDateTime.now();
+
+		try (MockedStatic<LocalDateTime> mockedLocalDateTime = Mockito.mockStatic(LocalDateTime.class)) {
+			mockedLocalDateTime.when(LocalDateTime::now).thenReturn(now);
+
+			// when
+			debateScheduler.expirePendingDocuments();
+
+			// then
+			verify(documentStateService, times(1)).expirePending(now);
 		}
 	}
 }
\ No newline at end of file
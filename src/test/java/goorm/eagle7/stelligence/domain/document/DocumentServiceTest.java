@@ -4,6 +4,7 @@ import static goorm.eagle7.stelligence.config.mockdata.TestFixtureGenerator.*;
 import static org.assertj.core.api.Assertions.*;
 import static org.mockito.Mockito.*;
 
+import java.util.Collections;
 import java.util.Optional;
 
 import org.junit.jupiter.api.DisplayName;
@@ -14,9 +15,13 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import goorm.eagle7.stelligence.domain.document.content.DocumentContentService;
+import goorm.eagle7.stelligence.domain.document.content.DocumentResponseCache;
 import goorm.eagle7.stelligence.domain.document.content.model.Document;
 import goorm.eagle7.stelligence.domain.document.dto.DocumentCreateRequest;
 import goorm.eagle7.stelligence.domain.document.graph.DocumentGraphService;
+import goorm.eagle7.stelligence.domain.document.graph.dto.DocumentGraphResponse;
+import goorm.eagle7.stelligence.domain.document.status.DocumentStateService;
+import goorm.eagle7.stelligence.domain.document.warmup.DocumentAccessStatistics;
 import goorm.eagle7.stelligence.domain.member.MemberRepository;
 import goorm.eagle7.stelligence.domain.member.model.Member;
 
@@ -29,12 +34,21 @@ class DocumentServiceTest {
 	@Mock
 	private DocumentContentService documentContentService;
 
+	@Mock
+	private DocumentResponseCache documentResponseCache;
+
 	@Mock
 	private DocumentGraphService documentGraphService;
 
 	@Mock
 	private DocumentRequestValidator documentRequestValidator;
 
+	@Mock
+	private DocumentStateService documentStateService;
+
+	@Mock
+	private DocumentAccessStatistics documentAccessStatistics;
+
 	@InjectMocks
 	private DocumentService documentService;
 
@@ -78,7 +92,10 @@ class DocumentServiceTest {
 		documentService.getDocumentContent(1L, null);
 
 		//then
-		verify(documentContentService, times(1)).getDocument(1L);
+		//최신 버전은 캐시를 통해 조회합니다.
+		verify(documentResponseCache, times(1)).get(1L);
+		verify(documentContentService, never()).getDocument(1L);
+		verify(documentAccessStatistics, times(1)).record(1L);
 	}
 
 	@Test
@@ -94,16 +111,26 @@ class DocumentServiceTest {
 	@Test
 	@DisplayName("graph 조회 - 최상위 문서")
 	void getDocumentGraphRoot() {
+		//given
+		when(documentGraphService.findFromRootNodesWithDepth(3))
+			.thenReturn(DocumentGraphResponse.of(Collections.emptyList(), Collections.emptyList()));
+
 		//when
 		documentService.getDocumentGraph(null, 3);
 
 		//then
 		verify(documentGraphService, times(1)).findFromRootNodesWithDepth(3);
+		//노드의 문서 상태는 캐시된 그래프와 별개로 조회한다.
+		verify(documentStateService, times(1)).getStatuses(Collections.emptyList());
 	}
 
 	@Test
 	@DisplayName("graph 조회 - 특정 문서")
 	void getDocumentGraphSpecific() {
+		//given
+		when(documentGraphService.findGraphWithDepth(1L, 3))
+			.thenReturn(DocumentGraphResponse.of(Collections.emptyList(), Collections.emptyList()));
+
 		//when
 		documentService.getDocumentGraph(1L, 3);
 
@@ -0,0 +1,115 @@
+package goorm.eagle7.stelligence.domain.document.bulk;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.io.SequenceInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Enumeration;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+
+import goorm.eagle7.stelligence.common.sequence.SectionIdGenerator;
+import goorm.eagle7.stelligence.config.HtmlPolicyConfig;
+import goorm.eagle7.stelligence.config.MockSectionIdGenerator;
+import goorm.eagle7.stelligence.domain.document.bulk.dto.BulkImportResult;
+import goorm.eagle7.stelligence.domain.document.content.parser.SectionSanitizer;
+import goorm.eagle7.stelligence.domain.document.content.parser.TagDocumentParser;
+import goorm.eagle7.stelligence.domain.document.content.search.ContentSearchIndex;
+import goorm.eagle7.stelligence.domain.document.graph.DocumentNodeBulkWriter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 100,000개 문서의 대량 가져오기 처리량과 힙 사용량을 측정합니다.
+ *
+ * <p>입력은 한 줄씩 필요할 때 생성하므로 파일 전체가 메모리에 올라가지 않습니다.
+ * 문서의 10%는 바로 앞 문서를 상위 문서로 가지며, 섹션의 일부는 같은 본문을 공유합니다.
+ * 문서 노드는 Neo4j 없이 측정하기 위해 mock으로 대체합니다.
+ *
+ * <p>일반 테스트에서는 제외되며 ./gradlew benchmark 로 실행할 수 있습니다.
+ */
+@Slf4j
+@Tag("benchmark")
+@DataJpaTest
+@Import({BulkDocumentImporter.class, BulkDocumentWriter.class, ContentSearchIndex.class, TagDocumentParser.class,
+	SectionSanitizer.class, HtmlPolicyConfig.class, SimpleMeterRegistry.class, ConcurrentMapCacheManager.class})
+class BulkDocumentImportBenchmarkTest {
+
+	private static final int DOCUMENT_COUNT = 100_000;
+	private static final int SECTION_COUNT = 5;
+
+	@TestConfiguration
+	static class BulkImportBenchmarkConfig {
+
+		@Bean
+		SectionIdGenerator sectionIdGenerator() {
+			return new MockSectionIdGenerator();
+		}
+
+		@Bean
+		DocumentNodeBulkWriter documentNodeBulkWriter() {
+			return mock(DocumentNodeBulkWriter.class);
+		}
+	}
+
+	@Autowired
+	BulkDocumentImporter bulkDocumentImporter;
+
+	@Test
+	@DisplayName("문서 100,000개 가져오기 처리량 및 힙 사용량 측정")
+	void report() {
+		BulkImportResult result = bulkDocumentImporter.importDocuments(generate(),
+			null, Runtime.getRuntime().availableProcessors());
+
+		log.info("가져온 문서 : {}, 섹션 : {}, 소요 시간 : {}ms", result.getImportedDocuments(),
+			result.getImportedSections(), result.getElapsedMillis());
+		log.info("처리량 : {} documents/s, 최대 힙 사용량 : {}MB", String.format("%.1f", result.getDocumentsPerSecond()),
+			result.getPeakUsedHeapBytes() / (1024 * 1024));
+
+		assertThat(result.getImportedDocuments()).isEqualTo(DOCUMENT_COUNT);
+		assertThat(result.getImportedSections()).isEqualTo((long)DOCUMENT_COUNT * SECTION_COUNT);
+	}
+
+	private InputStream generate() {
+		return new SequenceInputStream(new Enumeration<>() {
+			private int next = 0;
+
+			@Override
+			public boolean hasMoreElements() {
+				return next < DOCUMENT_COUNT;
+			}
+
+			@Override
+			public InputStream nextElement() {
+				return new ByteArrayInputStream(line(next++).getBytes(StandardCharsets.UTF_8));
+			}
+		});
+	}
+
+	private String line(int index) {
+		StringBuilder content = new StringBuilder();
+		for (int section = 0; section < SECTION_COUNT; section++) {
+			content.append("<h2>섹션 ").append(section).append("</h2>");
+			if (section == 0) {
+				content.append("<p>이 문서는 작성 중입니다.</p>");
+			} else {
+				content.append("<p>문서 ").append(index).append("의 ").append(section).append("번째 섹션입니다. ")
+					.append("본문 내용입니다. ".repeat(20)).append("</p>");
+			}
+		}
+
+		String parent = index > 0 && index % 10 == 0 ? ", \"parentTitle\": \"bulk-" + (index - 1) + "\"" : "";
+		return "{\"title\": \"bulk-" + index + "\"" + parent + ", \"content\": \"" + content + "\"}\n";
+	}
+}
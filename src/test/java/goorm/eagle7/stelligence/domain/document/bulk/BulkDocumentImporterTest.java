@@ -0,0 +1,275 @@
+package goorm.eagle7.stelligence.domain.document.bulk;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.transaction.TestTransaction;
+
+import goorm.eagle7.stelligence.common.compression.TextCompressor;
+import goorm.eagle7.stelligence.common.sequence.SectionIdGenerator;
+import goorm.eagle7.stelligence.config.HtmlPolicyConfig;
+import goorm.eagle7.stelligence.config.MockSectionIdGenerator;
+import goorm.eagle7.stelligence.config.mockdata.WithMockData;
+import goorm.eagle7.stelligence.domain.document.bulk.dto.BulkImportResult;
+import goorm.eagle7.stelligence.domain.document.content.DocumentContentRepository;
+import goorm.eagle7.stelligence.domain.document.content.model.Document;
+import goorm.eagle7.stelligence.domain.document.content.parser.SectionSanitizer;
+import goorm.eagle7.stelligence.domain.document.content.parser.TagDocumentParser;
+import goorm.eagle7.stelligence.domain.document.content.search.ContentSearchIndex;
+import goorm.eagle7.stelligence.domain.document.graph.DocumentNodeBulkWriter;
+import goorm.eagle7.stelligence.domain.section.model.SectionBody;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@DataJpaTest
+@WithMockData
+@Import({BulkDocumentImporter.class, BulkDocumentWriter.class, ContentSearchIndex.class, TagDocumentParser.class,
+	SectionSanitizer.class, HtmlPolicyConfig.class, SimpleMeterRegistry.class, ConcurrentMapCacheManager.class})
+class BulkDocumentImporterTest {
+
+	@TestConfiguration
+	static class BulkImportTestConfig {
+
+		@Bean
+		SectionIdGenerator sectionIdGenerator() {
+			return new MockSectionIdGenerator(1000L);
+		}
+
+		@Bean
+		DocumentNodeBulkWriter documentNodeBulkWriter() {
+			return mock(DocumentNodeBulkWriter.class);
+		}
+	}
+
+	@Autowired
+	BulkDocumentImporter bulkDocumentImporter;
+
+	@Autowired
+	DocumentNodeBulkWriter documentNodeBulkWriter;
+
+	@Autowired
+	DocumentContentRepository documentContentRepository;
+
+	@Autowired
+	JdbcTemplate jdbcTemplate;
+
+	@BeforeEach
+	void setUp() {
+		reset(documentNodeBulkWriter);
+	}
+
+	@Test
+	@DisplayName("문서 가져오기 - 문서, 섹션, 매니페스트, 렌더링 결과가 저장되고 상위 문서가 연결된다.")
+	void importDocuments() {
+		//given
+		InputStream input = ndjson(
+			"{\"title\": \"bulk1\", \"content\": \"<h1>섹션1</h1><p>내용1</p><h2>섹션2</h2><p>내용2</p>\"}",
+			"{\"title\": \"bulk2\", \"parentTitle\": \"bulk1\", \"content\": \"<h1>섹션3</h1><p>내용3</p>\"}",
+			"{\"title\": \"bulk3\", \"parentTitle\": \"title1\", \"content\": \"<h1>섹션4</h1><p>내용4</p>\"}"
+		);
+
+		//when
+		BulkImportResult result = bulkDocumentImporter.importDocuments(input, 1L, 2);
+
+		//then
+		assertThat(result.getReadDocuments()).isEqualTo(3);
+		assertThat(result.getImportedDocuments()).isEqualTo(3);
+		assertThat(result.getImportedSections()).isEqualTo(4);
+		assertThat(result.getFailedDocuments()).isZero();
+		assertThat(result.getErrors()).isEmpty();
+
+		Document bulk1 = documentContentRepository.findByTitle("bulk1").orElseThrow();
+		Document bulk2 = documentContentRepository.findByTitle("bulk2").orElseThrow();
+		Document bulk3 = documentContentRepository.findByTitle("bulk3").orElseThrow();
+
+		assertThat(bulk1.getLatestRevision()).isEqualTo(1L);
+		assertThat(bulk1.getAuthor().getId()).isEqualTo(1L);
+		assertThat(bulk1.getParentDocument()).isNull();
+		assertThat(bulk2.getParentDocument().getId()).isEqualTo(bulk1.getId());
+		assertThat(bulk3.getParentDocument().getId()).isEqualTo(1L);
+
+		//섹션은 블록으로 할당받은 ID를 순서대로 가집니다.
+		assertThat(jdbcTemplate.queryForList(
+			"select section_id from section where document_id = ? order by orders", Long.class, bulk1.getId()))
+			.containsExactly(1000L, 1001L);
+		assertThat(jdbcTemplate.queryForList(
+			"select section_id from latest_section where document_id = ?", Long.class, bulk1.getId()))
+			.containsExactlyInAnyOrder(1000L, 1001L);
+		assertThat(jdbcTemplate.queryForObject(
+			"select section_keys from revision_manifest where document_id = ? and revision = 1", String.class,
+			bulk1.getId()))
+			.isEqualTo("1000:1,1001:1");
+
+		String rendered = jdbcTemplate.queryForObject(
+			"select content from rendered_revision where document_id = ? and revision = 1", String.class,
+			bulk2.getId());
+		assertThat(TextCompressor.decompress(rendered)).contains("섹션3", "<p>내용3</p>");
+
+		assertThat(jdbcTemplate.queryForObject(
+			"select contributes from member where member_id = 1", Long.class))
+			.isEqualTo(3L);
+	}
+
+	@Test
+	@DisplayName("문서 가져오기 - 문서 노드와 상위 문서 링크를 한 번에 생성한다.")
+	void importDocumentsCreatesGraph() {
+		//given
+		InputStream input = ndjson(
+			"{\"title\": \"bulk1\", \"content\": \"<h1>섹션1</h1><p>내용1</p>\"}",
+			"{\"title\": \"bulk2\", \"parentTitle\": \"bulk1\", \"content\": \"<h1>섹션2</h1><p>내용2</p>\"}"
+		);
+
+		//when
+		bulkDocumentImporter.importDocuments(input, null, 1);
+
+		//then
+		Long bulk1Id = documentContentRepository.findByTitle("bulk1").orElseThrow().getId();
+		Long bulk2Id = documentContentRepository.findByTitle("bulk2").orElseThrow().getId();
+
+		@SuppressWarnings("unchecked")
+		ArgumentCaptor<List<Map<String, Object>>> nodes = ArgumentCaptor.forClass(List.class);
+		@SuppressWarnings("unchecked")
+		ArgumentCaptor<List<Map<String, Object>>> links = ArgumentCaptor.forClass(List.class);
+		verify(documentNodeBulkWriter, times(1)).createNodesWithLinks(nodes.capture(), links.capture());
+
+		assertThat(nodes.getValue()).containsExactly(
+			Map.of("documentId", bulk1Id, "title", "bulk1"),
+			Map.of("documentId", bulk2Id, "title", "bulk2"));
+		assertThat(links.getValue()).containsExactly(
+			Map.of("parentDocumentId", bulk1Id, "childDocumentId", bulk2Id));
+	}
+
+	@Test
+	@DisplayName("문서 가져오기 - 노드 생성에 실패해 롤백되면 이미 생성된 노드를 삭제한다.")
+	void importDocumentsDeletesNodesOnRollback() {
+		//given
+		InputStream input = ndjson(
+			"{\"title\": \"bulk1\", \"content\": \"<h1>섹션1</h1><p>내용1</p>\"}",
+			"{\"title\": \"bulk2\", \"parentTitle\": \"bulk1\", \"content\": \"<h1>섹션2</h1><p>내용2</p>\"}"
+		);
+		//노드는 생성되었지만 링크 생성에 실패한 경우입니다.
+		doThrow(new IllegalStateException("link failed"))
+			.when(documentNodeBulkWriter).createNodesWithLinks(anyList(), anyList());
+
+		//when
+		BulkImportResult result = bulkDocumentImporter.importDocuments(input, null, 2);
+		TestTransaction.end();
+
+		//then
+		assertThat(result.getImportedDocuments()).isZero();
+		assertThat(result.getFailedDocuments()).isEqualTo(2);
+
+		@SuppressWarnings("unchecked")
+		ArgumentCaptor<List<Map<String, Object>>> nodes = ArgumentCaptor.forClass(List.class);
+		verify(documentNodeBulkWriter).createNodesWithLinks(nodes.capture(), anyList());
+		List<Object> createdIds = nodes.getValue().stream().map(node -> node.get("documentId")).toList();
+		verify(documentNodeBulkWriter).deleteNodes(argThat(documentIds -> documentIds.equals(createdIds)));
+	}
+
+	@Test
+	@DisplayName("문서 가져오기 - 유효하지 않은 줄은 건너뛰고 나머지는 저장한다.")
+	void importDocumentsSkipsInvalidLines() {
+		//given
+		InputStream input = ndjson(
+			"{\"title\": \"title1\", \"content\": \"<h1>a</h1><p>a</p>\"}",
+			"{\"title\": \"new_title_2\", \"content\": \"<h1>a</h1><p>a</p>\"}",
+			"{\"title\": \"bulk1\", \"content\": \"<h1>a</h1><p>a</p>\"}",
+			"",
+			"{\"title\": \"bulk1\", \"content\": \"<h1>b</h1><p>b</p>\"}",
+			"{\"title\": \"bulk2\", \"parentTitle\": \"nothing\", \"content\": \"<h1>a</h1><p>a</p>\"}",
+			"{\"title\": \"bulk3\", \"content\": \"\"}",
+			"{\"title\": \"bulk4\", \"content\": "
+		);
+
+		//when
+		BulkImportResult result = bulkDocumentImporter.importDocuments(input, null, 2);
+
+		//then
+		assertThat(result.getReadDocuments()).isEqualTo(7);
+		assertThat(result.getImportedDocuments()).isEqualTo(1);
+		assertThat(result.getFailedDocuments()).isEqualTo(6);
+		assertThat(result.getErrors()).containsExactlyInAnyOrder(
+			"1번째 줄 : 이미 존재하는 제목입니다.",
+			"2번째 줄 : 이미 해당 제목으로 변경중인 수정요청이 존재합니다.",
+			"5번째 줄 : 같은 제목의 문서가 이미 포함되어 있습니다.",
+			"6번째 줄 : 상위 문서가 존재하지 않습니다.",
+			"7번째 줄 : 문서의 내용이 비어있습니다.",
+			"8번째 줄 : 올바른 JSON 형식이 아닙니다."
+		);
+		assertThat(documentContentRepository.findByTitle("bulk1")).isPresent();
+		assertThat(documentContentRepository.existsByTitle("bulk2")).isFalse();
+	}
+
+	@Test
+	@DisplayName("문서 가져오기 - 같은 본문은 section_body에 한 번만 저장된다.")
+	void importDocumentsSharesBodies() {
+		//given
+		InputStream input = ndjson(
+			"{\"title\": \"bulk1\", \"content\": \"<h1>a</h1><p>같은 본문</p>\"}",
+			"{\"title\": \"bulk2\", \"content\": \"<h1>b</h1><p>같은 본문</p>\"}"
+		);
+
+		//when
+		bulkDocumentImporter.importDocuments(input, null, 2);
+
+		//then
+		assertThat(jdbcTemplate.queryForObject(
+			"select count(*) from section_body where content_hash = ?", Long.class,
+			SectionBody.hash("<p>같은 본문</p>")))
+			.isEqualTo(1L);
+		assertThat(jdbcTemplate.queryForObject(
+			"select count(*) from section where content_hash = ?", Long.class,
+			SectionBody.hash("<p>같은 본문</p>")))
+			.isEqualTo(2L);
+	}
+
+	@Test
+	@DisplayName("문서 가져오기 - 렌더링 결과가 64KB보다 큰 문서도 저장된다.")
+	void importLargeDocument() {
+		//given
+		//섹션 하나는 작지만 합쳐진 내용은 압축되어도 64KB보다 크도록 반복되지 않는 내용을 사용합니다.
+		String content = IntStream.range(0, 40)
+			.mapToObj(i -> "<h1>섹션" + i + "</h1>" + Stream.generate(() -> "<p>" + UUID.randomUUID() + "</p>")
+				.limit(60)
+				.collect(Collectors.joining()))
+			.collect(Collectors.joining());
+		InputStream input = ndjson("{\"title\": \"bulk1\", \"content\": \"" + content + "\"}");
+
+		//when
+		BulkImportResult result = bulkDocumentImporter.importDocuments(input, null, 1);
+
+		//then
+		assertThat(result.getImportedDocuments()).isEqualTo(1);
+		Long documentId = documentContentRepository.findByTitle("bulk1").orElseThrow().getId();
+		String rendered = jdbcTemplate.queryForObject(
+			"select content from rendered_revision where document_id = ? and revision = 1", String.class,
+			documentId);
+		assertThat(rendered.length()).isGreaterThan(65_535);
+		assertThat(TextCompressor.decompress(rendered)).contains("섹션0", "섹션39");
+	}
+
+	private InputStream ndjson(String... lines) {
+		return new ByteArrayInputStream(String.join("\n", lines).getBytes(StandardCharsets.UTF_8));
+	}
+}
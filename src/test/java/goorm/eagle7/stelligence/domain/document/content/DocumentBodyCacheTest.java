@@ -0,0 +1,179 @@
+package goorm.eagle7.stelligence.domain.document.content;
+
+import static goorm.eagle7.stelligence.config.mockdata.TestFixtureGenerator.*;
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.io.ByteArrayOutputStream;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+
+import com.fasterxml.jackson.databind.MapperFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+
+import goorm.eagle7.stelligence.api.ResponseTemplate;
+import goorm.eagle7.stelligence.common.cache.CachedBodyEnvelope;
+import goorm.eagle7.stelligence.domain.document.content.dto.DocumentResponse;
+import goorm.eagle7.stelligence.domain.document.content.dto.SectionResponse;
+import goorm.eagle7.stelligence.domain.document.content.model.Document;
+import goorm.eagle7.stelligence.domain.document.status.DocumentStateService;
+import goorm.eagle7.stelligence.domain.document.status.model.DocumentState;
+import goorm.eagle7.stelligence.domain.member.dto.MemberSimpleResponse;
+import goorm.eagle7.stelligence.domain.member.model.Member;
+import goorm.eagle7.stelligence.domain.section.model.Heading;
+
+@ExtendWith(MockitoExtension.class)
+class DocumentBodyCacheTest {
+
+	@Mock
+	DocumentReadService documentReadService;
+
+	@Mock
+	DocumentStateService documentStateService;
+
+	ConcurrentMapCacheManager cacheManager = new ConcurrentMapCacheManager(DocumentBodyCache.CACHE_NAME);
+
+	ObjectMapper objectMapper = new ObjectMapper()
+		.registerModule(new JavaTimeModule())
+		.disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+
+	DocumentResponse documentResponse;
+
+	@BeforeEach
+	void setUp() {
+		Member author = member(1L, "author");
+		Document document = document(1L, author, "스텔리전스", 2L);
+		List<SectionResponse> sections = List.of(
+			SectionResponse.of(1L, 2L, Heading.H1, "개요", "<p>\"따옴표\"와 한글이 섞인 본문</p>"),
+			SectionResponse.of(2L, 2L, Heading.H2, "역사", "<p>history</p>")
+		);
+		documentResponse = DocumentResponse.of(document, 2L, sections, List.of(MemberSimpleResponse.from(author)),
+			null, null);
+	}
+
+	@Test
+	@DisplayName("캐시를 놓치면 문서를 만들어 캐시에 저장하고, 응답은 객체를 직렬화한 결과와 같음")
+	void miss() throws Exception {
+		//given
+		DocumentBodyCache documentBodyCache = cache(-1);
+		DocumentState state = DocumentState.editable(1L);
+		when(documentReadService.getLatestDocument(1L)).thenReturn(documentResponse);
+		when(documentStateService.getState(1L)).thenReturn(state);
+
+		//when
+		byte[] written = write(documentBodyCache, 1L);
+
+		//then
+		assertThat(written).isEqualTo(expected(state));
+		assertThat(cacheManager.getCache(DocumentBodyCache.CACHE_NAME).get(1L, byte[].class)).isNotNull();
+	}
+
+	@Test
+	@DisplayName("캐시된 본문에 현재 문서 상태를 이어 붙여 응답")
+	void hitWithCurrentStatus() throws Exception {
+		//given
+		DocumentBodyCache documentBodyCache = cache(-1);
+		when(documentReadService.getLatestDocument(1L)).thenReturn(documentResponse);
+
+		DocumentState voting = DocumentState.editable(1L);
+		voting.startVoting(5L);
+		DocumentState debating = DocumentState.editable(1L);
+		debating.startDebate(7L);
+		when(documentStateService.getState(1L)).thenReturn(DocumentState.editable(1L), voting, debating);
+
+		//when
+		write(documentBodyCache, 1L);
+		byte[] votingWritten = write(documentBodyCache, 1L);
+		byte[] debatingWritten = write(documentBodyCache, 1L);
+
+		//then
+		assertThat(votingWritten).isEqualTo(expected(voting));
+		assertThat(debatingWritten).isEqualTo(expected(debating));
+		verify(documentReadService, times(1)).getLatestDocument(1L);
+	}
+
+	@Test
+	@DisplayName("압축된 본문도 같은 응답을 씀")
+	void compressed() throws Exception {
+		//given
+		DocumentBodyCache documentBodyCache = cache(0);
+		DocumentState state = DocumentState.editable(1L);
+		when(documentReadService.getLatestDocument(1L)).thenReturn(documentResponse);
+		when(documentStateService.getState(1L)).thenReturn(state);
+
+		//when
+		byte[] missWritten = write(documentBodyCache, 1L);
+		byte[] hitWritten = write(documentBodyCache, 1L);
+
+		//then
+		byte[] envelope = cacheManager.getCache(DocumentBodyCache.CACHE_NAME).get(1L, byte[].class);
+		assertThat(CachedBodyEnvelope.isCompressed(envelope)).isTrue();
+		assertThat(missWritten).isEqualTo(expected(state));
+		assertThat(hitWritten).isEqualTo(expected(state));
+	}
+
+	@Test
+	@DisplayName("문서를 만드는 동안 Merge가 커밋되었다면 저장한 본문을 삭제")
+	void mergedWhileRebuilding() throws Exception {
+		//given
+		DocumentBodyCache documentBodyCache = cache(-1);
+		DocumentState state = DocumentState.editable(1L);
+		when(documentReadService.getLatestDocument(1L)).thenReturn(documentResponse);
+		when(documentReadService.isOutdated(1L, documentResponse.getLatestRevision())).thenReturn(true);
+		when(documentStateService.getState(1L)).thenReturn(state);
+
+		//when
+		byte[] written = write(documentBodyCache, 1L);
+
+		//then
+		assertThat(written).isEqualTo(expected(state));
+		assertThat(cacheManager.getCache(DocumentBodyCache.CACHE_NAME).get(1L)).isNull();
+	}
+
+	@Test
+	@DisplayName("필드를 이름순으로 정렬하는 ObjectMapper에서도 응답은 객체를 직렬화한 결과와 같음")
+	void sortedProperties() throws Exception {
+		//given
+		objectMapper = JsonMapper.builder()
+			.addModule(new JavaTimeModule())
+			.disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+			.enable(MapperFeature.SORT_PROPERTIES_ALPHABETICALLY)
+			.build();
+		DocumentBodyCache documentBodyCache = cache(-1);
+		DocumentState state = DocumentState.editable(1L);
+		state.startVoting(5L);
+		when(documentReadService.getLatestDocument(1L)).thenReturn(documentResponse);
+		when(documentStateService.getState(1L)).thenReturn(state);
+
+		//when
+		byte[] written = write(documentBodyCache, 1L);
+
+		//then
+		assertThat(written).isEqualTo(expected(state));
+	}
+
+	private DocumentBodyCache cache(int compressionThreshold) {
+		return new DocumentBodyCache(documentReadService, documentStateService, cacheManager, objectMapper,
+			compressionThreshold, 1000L);
+	}
+
+	private byte[] write(DocumentBodyCache documentBodyCache, Long documentId) throws Exception {
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		documentBodyCache.write(documentId, out);
+		return out.toByteArray();
+	}
+
+	private byte[] expected(DocumentState state) throws Exception {
+		return objectMapper.writeValueAsBytes(ResponseTemplate.ok(documentResponse.withStatus(state)));
+	}
+}
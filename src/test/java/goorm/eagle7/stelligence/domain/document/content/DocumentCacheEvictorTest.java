@@ -0,0 +1,58 @@
+package goorm.eagle7.stelligence.domain.document.content;
+
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+
+@ExtendWith(MockitoExtension.class)
+class DocumentCacheEvictorTest {
+
+	@Mock
+	CacheManager cacheManager;
+
+	@Mock
+	Cache cache;
+
+	@InjectMocks
+	DocumentCacheEvictor documentCacheEvictor;
+
+	@Test
+	@DisplayName("문서들의 document, documentBody 캐시를 삭제한다.")
+	void evictAll() {
+		//given
+		when(cacheManager.getCache(anyString())).thenReturn(cache);
+
+		//when
+		documentCacheEvictor.evictAll(List.of(1L, 2L));
+
+		//then
+		verify(cacheManager, times(1)).getCache(DocumentResponseCache.CACHE_NAME);
+		verify(cacheManager, times(1)).getCache(DocumentBodyCache.CACHE_NAME);
+		verify(cache, times(2)).evict(1L);
+		verify(cache, times(2)).evict(2L);
+	}
+
+	@Test
+	@DisplayName("존재하지 않는 캐시는 건너뛴다.")
+	void cacheNotFound() {
+		//given
+		when(cacheManager.getCache(DocumentResponseCache.CACHE_NAME)).thenReturn(null);
+		when(cacheManager.getCache(DocumentBodyCache.CACHE_NAME)).thenReturn(cache);
+
+		//when
+		documentCacheEvictor.evict(1L);
+
+		//then
+		verify(cache, times(1)).evict(1L);
+	}
+}
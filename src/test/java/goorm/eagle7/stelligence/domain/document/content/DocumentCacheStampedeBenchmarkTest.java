@@ -0,0 +1,149 @@
+package goorm.eagle7.stelligence.domain.document.content;
+
+import static goorm.eagle7.stelligence.config.mockdata.TestFixtureGenerator.*;
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.LongFunction;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.Cache;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+
+import goorm.eagle7.stelligence.common.cache.RedisLease;
+import goorm.eagle7.stelligence.domain.document.content.dto.DocumentResponse;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 인기 문서의 캐시가 삭제된 직후 500개의 요청이 동시에 문서를 조회할 때 발생하는 DB 쿼리 수를 측정합니다.
+ *
+ * <p>캐시를 놓친 요청이 각자 문서를 만드는 이전 방식(@Cacheable)과 DocumentResponseCache의 single flight를 비교합니다.
+ * DB는 쿼리 수를 세는 모킹된 DocumentReadService와 DocumentContentService로 대신하며, 문서를 만드는 데에는 REBUILD_MILLIS가 걸린다고 가정합니다.
+ *
+ * <p>일반 테스트에서는 제외되며 ./gradlew benchmark 로 실행할 수 있습니다.
+ */
+@Slf4j
+@Tag("benchmark")
+class DocumentCacheStampedeBenchmarkTest {
+
+	private static final int READERS = 500;
+	private static final long REBUILD_MILLIS = 50;
+
+	//문서 정보와 상태, 기여자 / 최신 섹션
+	private static final int REBUILD_QUERIES = 2;
+	//최근 수정요청, 최근 토론
+	private static final int REFRESH_QUERIES = 2;
+
+	private final AtomicInteger queries = new AtomicInteger();
+	private final AtomicInteger rebuilds = new AtomicInteger();
+
+	private DocumentContentService documentContentService;
+	private DocumentReadService documentReadService;
+	private ConcurrentMapCacheManager cacheManager;
+	private Cache cache;
+
+	@BeforeEach
+	void setUp() {
+		DocumentResponse documentResponse = DocumentResponse.of(document(1L, member(1L, "author"), "title", 1L), 1L,
+			Collections.emptyList(), Collections.emptyList(), null, null);
+
+		documentReadService = mock(DocumentReadService.class);
+		when(documentReadService.getLatestDocument(1L)).thenAnswer(invocation -> {
+			rebuilds.incrementAndGet();
+			queries.addAndGet(REBUILD_QUERIES);
+			Thread.sleep(REBUILD_MILLIS);
+			return documentResponse;
+		});
+		documentContentService = mock(DocumentContentService.class);
+		when(documentContentService.refreshStatus(any())).thenAnswer(invocation -> {
+			queries.addAndGet(REFRESH_QUERIES);
+			return invocation.getArgument(0);
+		});
+
+		cacheManager = new ConcurrentMapCacheManager(DocumentResponseCache.CACHE_NAME);
+		cache = cacheManager.getCache(DocumentResponseCache.CACHE_NAME);
+	}
+
+	@Test
+	@DisplayName("캐시 삭제 직후 동시 조회의 DB 쿼리 수 비교 - 각자 생성하는 이전 방식과 single flight")
+	void stampede() throws Exception {
+		//캐시를 놓치면 각자 문서를 만들어 저장하는 이전 방식
+		Measurement naive = measure(documentId -> {
+			DocumentResponse cached = cache.get(documentId, DocumentResponse.class);
+			if (cached != null) {
+				return cached;
+			}
+			DocumentResponse documentResponse = documentReadService.getLatestDocument(documentId);
+			cache.put(documentId, documentResponse);
+			return documentResponse;
+		});
+
+		DocumentResponseCache documentResponseCache = new DocumentResponseCache(documentContentService, documentReadService,
+			cacheManager, mock(RedisLease.class), false, 3000L, 5000L, 300L, 1.0);
+		Measurement singleFlight = measure(documentResponseCache::get);
+
+		log.info("[benchmark] readers={}, rebuild={}ms, "
+				+ "naive: rebuilds={} queries={} time={}ms qps={}, "
+				+ "single flight: rebuilds={} queries={} time={}ms qps={}",
+			READERS, REBUILD_MILLIS,
+			naive.rebuilds, naive.queries, naive.millis, naive.qps(),
+			singleFlight.rebuilds, singleFlight.queries, singleFlight.millis, singleFlight.qps());
+
+		//single flight에서는 문서를 한 번만 만들고, 나머지 요청은 결과를 기다리거나 캐시에서 읽는다.
+		assertThat(singleFlight.rebuilds).isEqualTo(1);
+		assertThat(singleFlight.queries).isLessThanOrEqualTo(REBUILD_QUERIES + (READERS - 1) * REFRESH_QUERIES);
+		assertThat(naive.rebuilds).isGreaterThan(1);
+	}
+
+	/**
+	 * 캐시를 삭제한 뒤 READERS개의 요청을 동시에 시작하여 쿼리 수와 소요 시간을 측정합니다.
+	 */
+	private Measurement measure(LongFunction<DocumentResponse> reader) throws Exception {
+		cache.evict(1L);
+		queries.set(0);
+		rebuilds.set(0);
+
+		ExecutorService executor = Executors.newFixedThreadPool(READERS);
+		CountDownLatch ready = new CountDownLatch(READERS);
+		CountDownLatch start = new CountDownLatch(1);
+
+		List<Future<DocumentResponse>> results = new ArrayList<>(READERS);
+		for (int i = 0; i < READERS; i++) {
+			results.add(executor.submit(() -> {
+				ready.countDown();
+				start.await();
+				return reader.apply(1L);
+			}));
+		}
+
+		ready.await();
+		long startNanos = System.nanoTime();
+		start.countDown();
+		for (Future<DocumentResponse> result : results) {
+			assertThat(result.get(30, TimeUnit.SECONDS)).isNotNull();
+		}
+		long millis = Math.max(1, (System.nanoTime() - startNanos) / 1_000_000);
+		executor.shutdownNow();
+
+		return new Measurement(rebuilds.get(), queries.get(), millis);
+	}
+
+	private record Measurement(int rebuilds, int queries, long millis) {
+		long qps() {
+			return queries * 1000L / millis;
+		}
+	}
+}
@@ -3,14 +3,23 @@ package goorm.eagle7.stelligence.domain.document.content;
 import static org.assertj.core.api.Assertions.*;
 
 import java.util.List;
+import java.util.stream.Stream;
 
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 
+import goorm.eagle7.stelligence.config.TestSectionWriter;
 import goorm.eagle7.stelligence.config.mockdata.WithMockData;
-import goorm.eagle7.stelligence.domain.member.model.Member;
+import goorm.eagle7.stelligence.domain.document.content.dto.LatestSectionContent;
+import goorm.eagle7.stelligence.domain.document.content.model.Document;
+import goorm.eagle7.stelligence.domain.section.LatestSectionRepository;
+import goorm.eagle7.stelligence.domain.section.model.Heading;
+import goorm.eagle7.stelligence.domain.section.model.LatestSection;
+import goorm.eagle7.stelligence.domain.section.model.Section;
+import goorm.eagle7.stelligence.domain.section.model.SectionBody;
+import jakarta.persistence.EntityManager;
 
 @DataJpaTest
 @WithMockData
@@ -19,40 +28,56 @@ class DocumentContentRepositoryTest {
 	@Autowired
 	private DocumentContentRepository documentContentRepository;
 
-	@Test
-	@DisplayName("특정 문자열 포함 documentId 찾기 테스트 - 전체")
-	void findDocumentIdWhereContentContains() {
-		List<Long> test = documentContentRepository.findDocumentIdWhichContainsKeywordInLatestVersion("");
+	@Autowired
+	private LatestSectionRepository latestSectionRepository;
 
-		assertThat(test).hasSize(4);
-	}
+	@Autowired
+	private EntityManager em;
 
 	@Test
-	@DisplayName("특정 문자열 포함 documentId 찾기 테스트 - 삭제된 섹션은 조회의 대상이 되어서는 안된다.")
-	void findDocumentIdWhereContentContainsDelete() {
-		List<Long> test = documentContentRepository.findDocumentIdWhichContainsKeywordInLatestVersion("content1");
-
-		//1의 content1은 삭제되었으므로, 2, 3, 4만 조회되어야 한다.
-		assertThat(test).containsExactly(2L, 3L, 4L);
+	@DisplayName("최신 버전 섹션 본문 조회 - 삭제된 섹션은 조회의 대상이 되어서는 안된다.")
+	void findLatestSectionContentsByDocumentId() {
+		List<LatestSectionContent> contents = documentContentRepository.findLatestSectionContentsByDocumentId(1L);
+
+		//1번 섹션은 삭제되었으므로 2, 3, 13번 섹션의 본문만 조회되어야 한다.
+		assertThat(contents).extracting(LatestSectionContent::content)
+			.containsExactlyInAnyOrder("document1_content2_update\\n", "document1_content3\\n",
+				"document1_content4_insert\\n");
 	}
 
 	@Test
-	@DisplayName("문서 기여자 조회")
-	void findContributorsByDocumentId() {
-		List<Member> contributors1 = documentContentRepository.findContributorsByDocumentId(1L);
-
-		//1번 문서에는 1, 2번 사용자가 기여했다.
-		assertThat(contributors1).hasSize(2);
-
-		assertThat(contributors1.get(0).getId()).isEqualTo(1L);
-		assertThat(contributors1.get(1).getId()).isEqualTo(2L);
-
-		List<Member> contributors2 = documentContentRepository.findContributorsByDocumentId(2L);
-
-		//2번 문서에는 3번 사용자가 기여했다.
-		assertThat(contributors2).hasSize(1);
-
-		assertThat(contributors2.get(0).getId()).isEqualTo(3L);
+	@DisplayName("최신 버전 섹션 본문 조회 - 압축되어 저장된 본문도 복원되어 조회된다.")
+	void findLatestSectionContentsByDocumentIdCompressed() {
+		//given
+		Document document = documentContentRepository.findById(3L).orElseThrow();
+		String content = "<p>압축될 만큼 긴 본문입니다.</p>".repeat(100) + "<p>needle</p>";
+		Section section = Section.createSection(document, 9L, 2L, Heading.H3, "title", content, 3);
+		TestSectionWriter.save(em, section);
+		latestSectionRepository.save(LatestSection.of(section));
+		em.flush();
+		em.clear();
+
+		//DB에는 압축된 상태로 저장되어 있어야 한다.
+		Number storedLength = (Number)em.createNativeQuery(
+				"select length(content) from section_body where content_hash = ?")
+			.setParameter(1, SectionBody.hash(content))
+			.getSingleResult();
+		assertThat(storedLength.intValue()).isLessThan(content.length());
+
+		//when
+		List<LatestSectionContent> contents = documentContentRepository.findLatestSectionContentsByDocumentId(3L);
+
+		//then
+		assertThat(contents).extracting(LatestSectionContent::content).contains(content);
+	}
 
+	@Test
+	@DisplayName("최신 버전 섹션 본문 스트리밍 - 문서 ID 순서로 조회된다.")
+	void streamLatestSectionContents() {
+		try (Stream<LatestSectionContent> contents = documentContentRepository.streamLatestSectionContents()) {
+			assertThat(contents.map(LatestSectionContent::documentId).toList())
+				.hasSize(13)
+				.isSorted();
+		}
 	}
 }
\ No newline at end of file
@@ -20,9 +20,14 @@ import goorm.eagle7.stelligence.config.MockSectionIdGenerator;
 import goorm.eagle7.stelligence.domain.document.content.dto.SectionRequest;
 import goorm.eagle7.stelligence.domain.document.content.model.Document;
 import goorm.eagle7.stelligence.domain.document.content.parser.DocumentParser;
+import goorm.eagle7.stelligence.domain.document.content.search.ContentSearchIndex;
+import goorm.eagle7.stelligence.domain.document.status.DocumentStateService;
 import goorm.eagle7.stelligence.domain.member.model.Member;
+import goorm.eagle7.stelligence.domain.section.RevisionManifestService;
+import goorm.eagle7.stelligence.domain.section.SectionBatchWriter;
 import goorm.eagle7.stelligence.domain.section.SectionRepository;
 import goorm.eagle7.stelligence.domain.section.model.Heading;
+import goorm.eagle7.stelligence.domain.section.model.SectionOrder;
 
 /**
  * DocumentService를 테스트합니다.
@@ -36,12 +41,27 @@ class DocumentContentServiceCreateUnitTest {
 	@Mock
 	SectionRepository sectionRepository;
 
+	@Mock
+	SectionBatchWriter sectionBatchWriter;
+
+	@Mock
+	RevisionManifestService revisionManifestService;
+
+	@Mock
+	RenderedRevisionService renderedRevisionService;
+
+	@Mock
+	ContentSearchIndex contentSearchIndex;
+
 	@Mock
 	SectionIdGenerator sectionIdGenerator = new MockSectionIdGenerator();
 
 	@Mock
 	DocumentParser documentParser;
 
+	@Mock
+	DocumentStateService documentStateService;
+
 	@InjectMocks
 	DocumentContentService documentContentService;
 
@@ -62,6 +82,7 @@ class DocumentContentServiceCreateUnitTest {
 
 		//문서 파싱 결과를 반환하도록 설정
 		when(documentParser.parse(rawContent)).thenReturn(sectionRequests);
+		when(sectionIdGenerator.getAndIncrementSectionIds(2)).thenReturn(1L);
 
 		//when
 		Document document = documentContentService.createDocument(title, rawContent, null, author);
@@ -70,9 +91,15 @@ class DocumentContentServiceCreateUnitTest {
 
 		//각각의 모듈이 정상적으로 호출되었는지 확인
 		verify(documentContentRepository, times(1)).save(any());
-		verify(sectionRepository, times(2)).save(any());
-		verify(sectionIdGenerator, times(2)).getAndIncrementSectionId();
+		verify(sectionBatchWriter, times(1)).write(argThat(sections -> sections.size() == 2),
+			argThat(createdIds -> createdIds.containsAll(List.of(1L, 2L))));
+		verify(sectionRepository, never()).save(any());
+		verify(revisionManifestService, times(1)).record(any(), eq(1L), argThat(sections -> sections.size() == 2));
+		verify(renderedRevisionService, times(1)).record(any(), eq(1L), argThat(sections -> sections.size() == 2));
+		verify(contentSearchIndex, times(1)).indexOnCommit(any(), argThat(contents -> contents.size() == 2));
+		verify(sectionIdGenerator, times(1)).getAndIncrementSectionIds(2);
 		verify(documentParser, times(1)).parse(rawContent);
+		verify(documentStateService, times(1)).documentCreated(any());
 
 		//document의 값이 정상적으로 들어갔는지 확인
 		assertThat(document.getTitle()).isEqualTo(title);
@@ -84,8 +111,9 @@ class DocumentContentServiceCreateUnitTest {
 		//section의 값이 정상적으로 들어갔는지 확인
 		assertThat(document.getSections().get(0).getHeading()).isEqualTo(Heading.H1);
 		assertThat(document.getSections().get(1).getTitle()).isEqualTo("title2");
-		assertThat(document.getSections().get(0).getOrder()).isEqualTo(1);
-		assertThat(document.getSections().get(1).getOrder()).isEqualTo(2);
+		assertThat(document.getSections().get(0).getOrder()).isEqualTo(SectionOrder.of(1));
+		assertThat(document.getSections().get(1).getOrder()).isEqualTo(SectionOrder.of(2));
+		assertThat(document.getSections().get(1).getId()).isEqualTo(2L);
 	}
 
 	@Test
@@ -106,6 +134,7 @@ class DocumentContentServiceCreateUnitTest {
 
 		//when
 		when(documentParser.parse(rawContent)).thenReturn(sectionRequests);
+		when(sectionIdGenerator.getAndIncrementSectionIds(2)).thenReturn(1L);
 		when(documentContentRepository.findById(2L)).thenReturn(
 			Optional.of(parent));
 		Document document = documentContentService.createDocument(title, rawContent, 2L, author);
@@ -13,18 +13,24 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import goorm.eagle7.stelligence.api.exception.BaseException;
-import goorm.eagle7.stelligence.domain.contribute.ContributeRepository;
 import goorm.eagle7.stelligence.domain.contribute.model.Contribute;
 import goorm.eagle7.stelligence.domain.contribute.model.ContributeStatus;
 import goorm.eagle7.stelligence.domain.debate.model.Debate;
 import goorm.eagle7.stelligence.domain.debate.model.DebateStatus;
-import goorm.eagle7.stelligence.domain.debate.repository.DebateRepository;
 import goorm.eagle7.stelligence.domain.document.content.dto.DocumentResponse;
 import goorm.eagle7.stelligence.domain.document.content.dto.DocumentStatus;
+import goorm.eagle7.stelligence.domain.document.content.dto.SectionResponse;
 import goorm.eagle7.stelligence.domain.document.content.model.Document;
+import goorm.eagle7.stelligence.domain.document.content.parser.SectionResponseConcatenator;
+import goorm.eagle7.stelligence.domain.document.content.search.ContentSearchIndex;
+import goorm.eagle7.stelligence.domain.document.contributor.DocumentContributorService;
+import goorm.eagle7.stelligence.domain.document.status.DocumentStateService;
+import goorm.eagle7.stelligence.domain.document.status.model.DocumentState;
+import goorm.eagle7.stelligence.domain.section.RevisionManifestService;
 import goorm.eagle7.stelligence.domain.section.SectionRepository;
 import goorm.eagle7.stelligence.domain.section.model.Heading;
 import goorm.eagle7.stelligence.domain.section.model.Section;
@@ -39,10 +45,22 @@ class DocumentContentServiceReadUnitTest {
 	SectionRepository sectionRepository;
 
 	@Mock
-	ContributeRepository contributeRepository;
+	RevisionManifestService revisionManifestService;
 
 	@Mock
-	DebateRepository debateRepository;
+	RenderedRevisionService renderedRevisionService;
+
+	@Mock
+	ContentSearchIndex contentSearchIndex;
+
+	@Mock
+	DocumentContributorService documentContributorService;
+
+	@Mock
+	DocumentStateService documentStateService;
+
+	@Spy
+	RevisionContentCache revisionContentCache = new RevisionContentCache(1_000_000L);
 
 	@InjectMocks
 	DocumentContentService documentContentService;
@@ -63,8 +81,10 @@ class DocumentContentServiceReadUnitTest {
 
 		//최신버전을 찾아 호출해야한다.
 		//원래는 getDocument(1L, 3L)을 검증하는게 맞지만, documentContentService는 모킹 대상이 아니므로 오류가 발생
-		//따라서 이후 호출되는 findByVersion을 통해 검증함
-		verify(sectionRepository).findByVersion(document, 3L);
+		//따라서 이후 호출되는 findLatestByDocumentId를 통해 검증함
+		//최신 버전은 revision 서브쿼리 대신 latest_section을 통해 조회해야 한다.
+		verify(sectionRepository).findLatestByDocumentId(1L);
+		verify(sectionRepository, never()).findByVersion(any(), any());
 
 		//최신버전의 문서를 조회했으므로, 현재 버전은 3이어야 한다.
 		assertThat(documentResponse.getCurrentRevision()).isEqualTo(3L);
@@ -102,11 +122,8 @@ class DocumentContentServiceReadUnitTest {
 		when(sectionRepository.findByVersion(document, 3L))
 			.thenReturn(List.of(s1, s2, s3));
 
-		//토론이 진행중이지 않은 상태
-		when(debateRepository.findLatestDebateByDocumentId(1L)).thenReturn(Optional.empty());
-
-		//투표중이지 않은 상태
-		when(contributeRepository.findLatestContributeByDocumentId(1L)).thenReturn(Optional.empty());
+		//토론과 투표가 진행중이지 않은 상태
+		when(documentStateService.getState(1L)).thenReturn(DocumentState.editable(1L));
 
 		DocumentResponse documentResponse = documentContentService.getDocument(1L, 3L);
 
@@ -126,6 +143,83 @@ class DocumentContentServiceReadUnitTest {
 		assertThat(documentResponse.getLatestRevision()).isEqualTo(4L);
 	}
 
+	@Test
+	@DisplayName("문서 조회 - 특정버전 - 매니페스트가 존재하는 경우")
+	void getDocumentByVersionWithManifest() {
+		//given
+		Document document = document(1L, member(1L, "hello"), "title11", 4L);
+
+		Section s1 = section(1L, 1L, document, Heading.H1, "title1", "content1", 1);
+		Section s2 = section(3L, 3L, document, Heading.H3, "title2", "content2", 2);
+
+		when(documentContentRepository.findById(1L))
+			.thenReturn(Optional.of(document));
+
+		//매니페스트를 통해 순서대로 정렬된 섹션이 조회된다.
+		when(revisionManifestService.findSections(1L, 3L))
+			.thenReturn(Optional.of(List.of(s1, s2)));
+
+		//when
+		DocumentResponse documentResponse = documentContentService.getDocument(1L, 3L);
+
+		//then
+		//매니페스트가 존재하면 revision 서브쿼리를 수행하지 않아야 한다.
+		verify(sectionRepository, never()).findByVersion(any(), any());
+
+		assertThat(documentResponse.getSections()).hasSize(2);
+		assertThat(documentResponse.getSections().get(0).getSectionId()).isEqualTo(1L);
+		assertThat(documentResponse.getSections().get(1).getSectionId()).isEqualTo(3L);
+		assertThat(documentResponse.getCurrentRevision()).isEqualTo(3L);
+	}
+
+	@Test
+	@DisplayName("문서 조회 - 특정버전 - 과거 버전의 섹션은 캐시되어 다시 조회하지 않는다.")
+	void getDocumentByVersionCached() {
+		//given
+		Document document = document(1L, member(1L, "hello"), "title11", 4L);
+		Section s1 = section(1L, 1L, document, Heading.H1, "title1", "content1", 1);
+
+		when(documentContentRepository.findById(1L)).thenReturn(Optional.of(document));
+		when(sectionRepository.findByVersion(document, 3L)).thenReturn(List.of(s1));
+
+		//when
+		DocumentResponse first = documentContentService.getDocument(1L, 3L);
+		DocumentResponse second = documentContentService.getDocument(1L, 3L);
+
+		//then
+		//섹션과 렌더링된 내용은 한 번만 조회한다.
+		verify(sectionRepository, times(1)).findByVersion(document, 3L);
+		verify(renderedRevisionService, times(1)).findContent(1L, 3L);
+
+		//문서 상태와 기여자는 매번 조회한다.
+		verify(documentStateService, times(2)).getState(1L);
+		verify(documentContributorService, times(2)).getContributors(1L);
+
+		assertThat(second.getSections()).isSameAs(first.getSections());
+		assertThat(second.getContent()).isEqualTo(first.getContent());
+
+		//캐시된 버전의 렌더링된 내용은 DB를 조회하지 않는다.
+		assertThat(documentContentService.getRenderedContent(1L, 3L)).isEqualTo(first.getContent());
+		verify(renderedRevisionService, times(1)).findContent(1L, 3L);
+	}
+
+	@Test
+	@DisplayName("문서 조회 - 특정버전 - 최신 버전은 캐시하지 않는다.")
+	void getDocumentByLatestVersionNotCached() {
+		//given
+		Document document = document(1L, member(1L, "hello"), "title11", 3L);
+
+		when(documentContentRepository.findById(1L)).thenReturn(Optional.of(document));
+
+		//when
+		documentContentService.getDocument(1L, 3L);
+		documentContentService.getDocument(1L, 3L);
+
+		//then
+		verify(sectionRepository, times(2)).findLatestByDocumentId(1L);
+		assertThat(revisionContentCache.getIfPresent(1L, 3L)).isEmpty();
+	}
+
 	@Test
 	@DisplayName("문서 조회 - 특정버전 - 문서가 없는 경우")
 	void getDocumentByVersionFailNoDocument() {
@@ -160,7 +254,7 @@ class DocumentContentServiceReadUnitTest {
 	@DisplayName("특정 내용을 담고 있는 문서의 ID 목록 조회")
 	void getDocumentIdWhichContainsKeywordInLatestVersionSuccess() {
 		//given
-		when(documentContentRepository.findDocumentIdWhichContainsKeywordInLatestVersion("keyword"))
+		when(contentSearchIndex.search("keyword"))
 			.thenReturn(List.of(1L, 2L, 3L));
 
 		//when
@@ -177,19 +271,18 @@ class DocumentContentServiceReadUnitTest {
 		Document document = document(1L, member(1L, "hello"), "title11", 1L);
 
 		Section s1 = section(1L, 1L, document, Heading.H1, "title1", "content1", 1);
-		Contribute contribute = contribute(2L, null, ContributeStatus.DEBATING, document);
-		Debate debate = debate(3L, contribute, DebateStatus.CLOSED,
-			LocalDateTime.now().minusMinutes(Debate.DEBATE_PENDING_DURATION_MINUTE).minusMinutes(1L), 1);
+
+		//토론은 종료되고, 수정 대기 시간이 지났으나 아직 스케줄러에 의해 상태가 변경되지 않음
+		DocumentState state = DocumentState.editable(1L);
+		state.startDebate(3L);
+		state.closeDebate(LocalDateTime.now().minusMinutes(1L));
 
 		//when
 		when(documentContentRepository.findById(1L)).thenReturn(Optional.of(document));
 
-		when(sectionRepository.findByVersion(document, 1L)).thenReturn(List.of(s1));
+		when(sectionRepository.findLatestByDocumentId(1L)).thenReturn(List.of(s1));
 
-		//투표는 토론으로 이관된 상태
-		when(contributeRepository.findLatestContributeByDocumentId(1L)).thenReturn(Optional.of(contribute));
-		//토론은 종료되고, 수정 대기 상태에서 벗어남
-		when(debateRepository.findLatestDebateByDocumentId(1L)).thenReturn(Optional.of(debate));
+		when(documentStateService.getState(1L)).thenReturn(state);
 
 		DocumentResponse documentResponse = documentContentService.getDocument(1L);
 
@@ -213,12 +306,10 @@ class DocumentContentServiceReadUnitTest {
 		//when
 		when(documentContentRepository.findById(1L)).thenReturn(Optional.of(document));
 
-		when(sectionRepository.findByVersion(document, 1L)).thenReturn(List.of(s1));
+		when(sectionRepository.findLatestByDocumentId(1L)).thenReturn(List.of(s1));
 
-		//투표는 토론으로 이관된 상태
-		when(contributeRepository.findLatestContributeByDocumentId(1L)).thenReturn(Optional.of(contribute));
-		//토론이 진행중
-		when(debateRepository.findLatestDebateByDocumentId(1L)).thenReturn(Optional.of(debate));
+		//투표는 토론으로 이관되어 토론이 진행중
+		when(documentStateService.getState(1L)).thenReturn(DocumentState.of(1L, contribute, debate));
 
 		DocumentResponse documentResponse = documentContentService.getDocument(1L);
 
@@ -242,12 +333,10 @@ class DocumentContentServiceReadUnitTest {
 		//when
 		when(documentContentRepository.findById(1L)).thenReturn(Optional.of(document));
 
-		when(sectionRepository.findByVersion(document, 1L)).thenReturn(List.of(s1));
+		when(sectionRepository.findLatestByDocumentId(1L)).thenReturn(List.of(s1));
 
-		//투표는 토론으로 이관된 상태
-		when(contributeRepository.findLatestContributeByDocumentId(1L)).thenReturn(Optional.of(contribute));
-		//토론 종료 후 수정 대기중
-		when(debateRepository.findLatestDebateByDocumentId(1L)).thenReturn(Optional.of(debate));
+		//투표는 토론으로 이관되었고, 토론 종료 후 수정 대기중
+		when(documentStateService.getState(1L)).thenReturn(DocumentState.of(1L, contribute, debate));
 
 		DocumentResponse documentResponse = documentContentService.getDocument(1L);
 
@@ -270,13 +359,10 @@ class DocumentContentServiceReadUnitTest {
 		//when
 		when(documentContentRepository.findById(1L)).thenReturn(Optional.of(document));
 
-		when(sectionRepository.findByVersion(document, 1L)).thenReturn(List.of(s1));
+		when(sectionRepository.findLatestByDocumentId(1L)).thenReturn(List.of(s1));
 
-		//토론이 진행중이지 않음
-		when(debateRepository.findLatestDebateByDocumentId(1L)).thenReturn(Optional.empty());
-
-		//투표중인 상태
-		when(contributeRepository.findLatestContributeByDocumentId(1L)).thenReturn(Optional.of(contribute));
+		//토론이 진행중이지 않고, 투표중인 상태
+		when(documentStateService.getState(1L)).thenReturn(DocumentState.of(1L, contribute, null));
 
 		DocumentResponse documentResponse = documentContentService.getDocument(1L);
 
@@ -297,13 +383,7 @@ class DocumentContentServiceReadUnitTest {
 
 		//when
 		when(documentContentRepository.findById(1L)).thenReturn(Optional.of(document));
-		when(sectionRepository.findByVersion(document, 1L)).thenReturn(List.of(s1));
-
-		//토론이 진행중이지 않음
-		when(debateRepository.findLatestDebateByDocumentId(1L)).thenReturn(Optional.empty());
-
-		//투표가 진행중이지 않음
-		when(contributeRepository.findLatestContributeByDocumentId(1L)).thenReturn(Optional.empty());
+		when(sectionRepository.findLatestByDocumentId(1L)).thenReturn(List.of(s1));
 
 		DocumentResponse documentResponse = documentContentService.getDocument(1L);
 
@@ -311,4 +391,53 @@ class DocumentContentServiceReadUnitTest {
 		assertThat(documentResponse.getParentDocumentId()).isEqualTo(2L);
 		assertThat(documentResponse.getParentDocumentTitle()).isEqualTo("parentTitle");
 	}
+
+	@Test
+	@DisplayName("문서 조회 - 렌더링된 내용이 기록되어 있다면 그대로 사용한다.")
+	void getDocumentWithRenderedContent() {
+		//given
+		Document document = document(1L, member(1L, "hello"), "title11", 1L);
+		Section s1 = section(1L, 1L, document, Heading.H1, "title1", "content1", 1);
+
+		when(documentContentRepository.findById(1L)).thenReturn(Optional.of(document));
+		when(sectionRepository.findLatestByDocumentId(1L)).thenReturn(List.of(s1));
+		when(renderedRevisionService.findContent(1L, 1L)).thenReturn(Optional.of("rendered"));
+
+		//when
+		DocumentResponse documentResponse = documentContentService.getDocument(1L);
+
+		//then
+		assertThat(documentResponse.getContent()).isEqualTo("rendered");
+	}
+
+	@Test
+	@DisplayName("렌더링 내용 조회 - 기록된 내용이 있다면 문서와 섹션을 조회하지 않는다.")
+	void getRenderedContent() {
+		//given
+		when(renderedRevisionService.findContent(1L, 2L)).thenReturn(Optional.of("rendered"));
+
+		//when
+		String content = documentContentService.getRenderedContent(1L, 2L);
+
+		//then
+		assertThat(content).isEqualTo("rendered");
+		verifyNoInteractions(documentContentRepository, sectionRepository);
+	}
+
+	@Test
+	@DisplayName("렌더링 내용 조회 - 기록된 내용이 없다면 섹션을 합친다.")
+	void getRenderedContentWithoutRecord() {
+		//given
+		Document document = document(1L, member(1L, "hello"), "title11", 1L);
+		Section s1 = section(1L, 1L, document, Heading.H1, "title1", "content1", 1);
+
+		when(documentContentRepository.findById(1L)).thenReturn(Optional.of(document));
+		when(sectionRepository.findLatestByDocumentId(1L)).thenReturn(List.of(s1));
+
+		//when
+		String content = documentContentService.getRenderedContent(1L, 1L);
+
+		//then
+		assertThat(content).isEqualTo(SectionResponseConcatenator.concat(List.of(SectionResponse.of(s1))));
+	}
 }
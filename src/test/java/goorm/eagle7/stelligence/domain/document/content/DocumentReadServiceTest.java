@@ -0,0 +1,118 @@
+package goorm.eagle7.stelligence.domain.document.content;
+
+import static org.assertj.core.api.Assertions.*;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+
+import goorm.eagle7.stelligence.api.exception.BaseException;
+import goorm.eagle7.stelligence.config.mockdata.WithMockData;
+import goorm.eagle7.stelligence.domain.document.content.dto.DocumentResponse;
+import goorm.eagle7.stelligence.domain.document.content.dto.DocumentStatus;
+import goorm.eagle7.stelligence.domain.document.content.dto.SectionResponse;
+import goorm.eagle7.stelligence.domain.member.dto.MemberSimpleResponse;
+import jakarta.persistence.EntityManager;
+
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@WithMockData
+@Import(DocumentReadService.class)
+class DocumentReadServiceTest {
+
+	@Autowired
+	private DocumentReadService documentReadService;
+
+	@Autowired
+	private EntityManager em;
+
+	private Statistics statistics;
+
+	@BeforeEach
+	void setUp() {
+		em.clear();
+		statistics = em.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+		statistics.clear();
+	}
+
+	@Test
+	@DisplayName("최신 문서 조회 - 두 번의 쿼리로 응답을 만든다.")
+	void getLatestDocumentStatementCount() {
+		//when
+		documentReadService.getLatestDocument(1L);
+
+		//then
+		assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+		assertThat(statistics.getEntityLoadCount()).isZero();
+	}
+
+	@Test
+	@DisplayName("최신 문서 조회 - 문서 정보, 섹션, 기여자")
+	void getLatestDocument() {
+		//when
+		DocumentResponse documentResponse = documentReadService.getLatestDocument(1L);
+
+		//then
+		assertThat(documentResponse.getDocumentId()).isEqualTo(1L);
+		assertThat(documentResponse.getTitle()).isEqualTo("title1");
+		assertThat(documentResponse.getLatestRevision()).isEqualTo(3L);
+		assertThat(documentResponse.getCurrentRevision()).isEqualTo(3L);
+
+		//삭제된 1번 섹션을 제외한 최신 섹션이 순서대로 조회된다.
+		assertThat(documentResponse.getSections()).extracting(SectionResponse::getSectionId)
+			.containsExactly(2L, 3L, 13L);
+		assertThat(documentResponse.getContent()).contains("document1_title2_update", "document1_title4_insert")
+			.doesNotContain("document1_title1");
+
+		//MERGED 상태의 수정요청을 작성한 회원만 기여자이다.
+		assertThat(documentResponse.getContributors()).extracting(MemberSimpleResponse::getNickname)
+			.containsExactly("nickname1", "nickname2");
+	}
+
+	@Test
+	@DisplayName("최신 문서 조회 - 가장 최근의 수정요청이 투표중이라면 VOTING")
+	void getLatestDocumentVoting() {
+		//when
+		DocumentResponse documentResponse = documentReadService.getLatestDocument(2L);
+
+		//then
+		assertThat(documentResponse.getDocumentStatus()).isEqualTo(DocumentStatus.VOTING);
+		assertThat(documentResponse.getContributeId()).isEqualTo(5L);
+		assertThat(documentResponse.getDebateId()).isNull();
+		assertThat(documentResponse.getContributors()).extracting(MemberSimpleResponse::getNickname)
+			.containsExactly("nickname3");
+	}
+
+	@Test
+	@DisplayName("최신 문서 조회 - 가장 최근의 토론이 진행중이라면 DEBATING")
+	void getLatestDocumentDebating() {
+		//when
+		DocumentResponse documentResponse = documentReadService.getLatestDocument(3L);
+
+		//then
+		assertThat(documentResponse.getDocumentStatus()).isEqualTo(DocumentStatus.DEBATING);
+		assertThat(documentResponse.getDebateId()).isEqualTo(7L);
+		assertThat(documentResponse.getContributors()).isEmpty();
+	}
+
+	@Test
+	@DisplayName("최신 문서 조회 - 존재하지 않는 문서")
+	void getLatestDocumentNotFound() {
+		assertThatThrownBy(() -> documentReadService.getLatestDocument(100L))
+			.isInstanceOf(BaseException.class)
+			.hasMessage("문서가 존재하지 않습니다. 문서 ID : 100");
+	}
+
+	@Test
+	@DisplayName("버전 확인 - 조회한 버전이 최신 버전과 다르거나 문서가 없다면 오래된 것으로 판단한다.")
+	void isOutdated() {
+		//1번 문서의 최신 버전은 3입니다.
+		assertThat(documentReadService.isOutdated(1L, 3L)).isFalse();
+		assertThat(documentReadService.isOutdated(1L, 2L)).isTrue();
+		assertThat(documentReadService.isOutdated(999L, 1L)).isTrue();
+	}
+}
@@ -0,0 +1,334 @@
+package goorm.eagle7.stelligence.domain.document.content;
+
+import static goorm.eagle7.stelligence.config.mockdata.TestFixtureGenerator.*;
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+
+import goorm.eagle7.stelligence.common.cache.RedisLease;
+import goorm.eagle7.stelligence.common.cache.RefreshableEntry;
+import goorm.eagle7.stelligence.domain.document.content.dto.DocumentResponse;
+import goorm.eagle7.stelligence.domain.member.model.Member;
+
+@ExtendWith(MockitoExtension.class)
+class DocumentResponseCacheTest {
+
+	@Mock
+	DocumentContentService documentContentService;
+
+	@Mock
+	DocumentReadService documentReadService;
+
+	@Mock
+	RedisLease redisLease;
+
+	ConcurrentMapCacheManager cacheManager = new ConcurrentMapCacheManager(DocumentResponseCache.CACHE_NAME);
+
+	DocumentResponse documentResponse;
+
+	@BeforeEach
+	void setUp() {
+		Member author = member(1L, "author");
+		documentResponse = DocumentResponse.of(document(1L, author, "title", 1L), 1L, Collections.emptyList(),
+			Collections.emptyList(), null, null);
+	}
+
+	@Test
+	@DisplayName("캐시된 응답은 문서 상태만 갱신하여 반환")
+	void hit() {
+		//given
+		DocumentResponseCache documentResponseCache = cache(false);
+		DocumentResponse refreshed = DocumentResponse.of(document(1L, member(1L, "author"), "title", 1L), 1L,
+			Collections.emptyList(), Collections.emptyList(), null, null);
+		putEntry(documentResponse, System.currentTimeMillis() + 300_000);
+		when(documentContentService.refreshStatus(documentResponse)).thenReturn(refreshed);
+
+		//when
+		DocumentResponse result = documentResponseCache.get(1L);
+
+		//then
+		assertThat(result).isSameAs(refreshed);
+		verify(documentReadService, never()).getLatestDocument(anyLong());
+	}
+
+	@Test
+	@DisplayName("캐시를 놓치면 문서를 만들어 캐시에 저장")
+	void miss() {
+		//given
+		DocumentResponseCache documentResponseCache = cache(false);
+		when(documentReadService.getLatestDocument(1L)).thenReturn(documentResponse);
+
+		//when
+		DocumentResponse result = documentResponseCache.get(1L);
+
+		//then
+		assertThat(result).isSameAs(documentResponse);
+		RefreshableEntry<?> entry = (RefreshableEntry<?>)cacheManager.getCache(DocumentResponseCache.CACHE_NAME)
+			.get(1L).get();
+		assertThat(entry.getValue()).isSameAs(documentResponse);
+		assertThat(entry.getComputeMillis()).isPositive();
+		assertThat(entry.getExpiresAtMillis()).isGreaterThan(System.currentTimeMillis());
+		verify(documentContentService, never()).refreshStatus(any());
+		verifyNoInteractions(redisLease);
+	}
+
+	@Test
+	@DisplayName("문서를 만드는 동안 Merge가 커밋되었다면 저장한 항목을 삭제")
+	void mergedWhileRebuilding() {
+		//given
+		DocumentResponseCache documentResponseCache = cache(false);
+		when(documentReadService.getLatestDocument(1L)).thenReturn(documentResponse);
+		when(documentReadService.isOutdated(1L, documentResponse.getLatestRevision())).thenReturn(true);
+
+		//when
+		DocumentResponse result = documentResponseCache.get(1L);
+
+		//then
+		assertThat(result).isSameAs(documentResponse);
+		assertThat(cacheManager.getCache(DocumentResponseCache.CACHE_NAME).get(1L)).isNull();
+	}
+
+	@Test
+	@DisplayName("백그라운드 갱신 중 Merge가 커밋되었다면 갱신한 항목을 삭제")
+	void mergedWhileRefreshing() {
+		//given
+		DocumentResponseCache documentResponseCache = cache(false);
+		putEntry(documentResponse, System.currentTimeMillis());
+		when(documentContentService.refreshStatus(documentResponse)).thenReturn(documentResponse);
+		when(documentReadService.getLatestDocument(1L)).thenReturn(documentResponse);
+		when(documentReadService.isOutdated(1L, documentResponse.getLatestRevision())).thenReturn(true);
+
+		//when
+		documentResponseCache.get(1L);
+
+		//then
+		verify(documentReadService, timeout(1000).times(1)).isOutdated(1L, documentResponse.getLatestRevision());
+		await(() -> assertThat(cacheManager.getCache(DocumentResponseCache.CACHE_NAME).get(1L)).isNull());
+		documentResponseCache.shutdown();
+	}
+
+	@Test
+	@DisplayName("동시에 캐시를 놓친 요청들은 한 번만 문서를 생성")
+	void concurrentMiss() throws Exception {
+		//given
+		DocumentResponseCache documentResponseCache = cache(false);
+		CountDownLatch release = new CountDownLatch(1);
+		when(documentReadService.getLatestDocument(1L)).thenAnswer(invocation -> {
+			release.await();
+			return documentResponse;
+		});
+
+		int threads = 50;
+		ExecutorService executor = Executors.newFixedThreadPool(threads);
+
+		//when
+		List<Future<DocumentResponse>> results = new ArrayList<>();
+		for (int i = 0; i < threads; i++) {
+			results.add(executor.submit(() -> documentResponseCache.get(1L)));
+		}
+		Thread.sleep(200);
+		release.countDown();
+
+		//then
+		for (Future<DocumentResponse> result : results) {
+			assertThat(result.get(5, TimeUnit.SECONDS)).isSameAs(documentResponse);
+		}
+		verify(documentReadService, times(1)).getLatestDocument(1L);
+		executor.shutdownNow();
+	}
+
+	@Test
+	@DisplayName("임대를 얻으면 문서를 만든 뒤 임대를 해제")
+	void leaseAcquired() {
+		//given
+		DocumentResponseCache documentResponseCache = cache(true);
+		when(redisLease.tryAcquire(eq("document:1"), any())).thenReturn(Optional.of("token"));
+		when(documentReadService.getLatestDocument(1L)).thenReturn(documentResponse);
+
+		//when
+		DocumentResponse result = documentResponseCache.get(1L);
+
+		//then
+		assertThat(result).isSameAs(documentResponse);
+		verify(redisLease, times(1)).release("document:1", "token");
+	}
+
+	@Test
+	@DisplayName("다른 서버가 임대 중이라면 캐시가 채워질 때까지 기다림")
+	void leaseHeldByOtherNode() {
+		//given
+		DocumentResponseCache documentResponseCache = cache(true);
+		when(redisLease.tryAcquire(eq("document:1"), any())).thenAnswer(invocation -> {
+			//다른 서버가 문서를 만들어 캐시에 저장합니다.
+			putEntry(documentResponse, System.currentTimeMillis() + 300_000);
+			return Optional.empty();
+		});
+		when(documentContentService.refreshStatus(documentResponse)).thenReturn(documentResponse);
+
+		//when
+		DocumentResponse result = documentResponseCache.get(1L);
+
+		//then
+		assertThat(result).isSameAs(documentResponse);
+		verify(documentReadService, never()).getLatestDocument(anyLong());
+		verify(redisLease, never()).release(anyString(), anyString());
+	}
+
+	@Test
+	@DisplayName("문서 생성 중 발생한 예외는 캐시에 저장하지 않음")
+	void exception() {
+		//given
+		DocumentResponseCache documentResponseCache = cache(false);
+		when(documentReadService.getLatestDocument(1L)).thenThrow(new IllegalArgumentException());
+
+		//when, then
+		assertThatThrownBy(() -> documentResponseCache.get(1L)).isInstanceOf(IllegalArgumentException.class);
+		assertThat(cacheManager.getCache(DocumentResponseCache.CACHE_NAME).get(1L)).isNull();
+	}
+
+	@Test
+	@DisplayName("만료가 임박한 항목은 캐시된 응답을 반환하고 백그라운드에서 갱신")
+	void earlyRefresh() {
+		//given
+		DocumentResponseCache documentResponseCache = cache(false);
+		DocumentResponse rebuilt = DocumentResponse.of(document(1L, member(1L, "author"), "rebuilt", 2L), 2L,
+			Collections.emptyList(), Collections.emptyList(), null, null);
+		putEntry(documentResponse, System.currentTimeMillis());
+		when(documentContentService.refreshStatus(documentResponse)).thenReturn(documentResponse);
+		when(documentReadService.getLatestDocument(1L)).thenReturn(rebuilt);
+
+		//when
+		DocumentResponse result = documentResponseCache.get(1L);
+
+		//then
+		assertThat(result).isSameAs(documentResponse);
+		verify(documentReadService, timeout(1000).times(1)).getLatestDocument(1L);
+		await(() -> assertThat(cachedValue()).isSameAs(rebuilt));
+		documentResponseCache.shutdown();
+	}
+
+	@Test
+	@DisplayName("만료까지 충분히 남은 항목은 갱신하지 않음")
+	void noEarlyRefresh() throws Exception {
+		//given
+		DocumentResponseCache documentResponseCache = cache(false);
+		putEntry(documentResponse, System.currentTimeMillis() + 300_000);
+		when(documentContentService.refreshStatus(documentResponse)).thenReturn(documentResponse);
+
+		//when
+		for (int i = 0; i < 100; i++) {
+			documentResponseCache.get(1L);
+		}
+
+		//then
+		Thread.sleep(100);
+		verify(documentReadService, never()).getLatestDocument(anyLong());
+		documentResponseCache.shutdown();
+	}
+
+	@Test
+	@DisplayName("다른 서버가 임대 중이라면 미리 갱신하지 않음")
+	void earlyRefreshLeaseHeldByOtherNode() throws Exception {
+		//given
+		DocumentResponseCache documentResponseCache = cache(true);
+		putEntry(documentResponse, System.currentTimeMillis());
+		when(documentContentService.refreshStatus(documentResponse)).thenReturn(documentResponse);
+		when(redisLease.tryAcquire(eq("document:1"), any())).thenReturn(Optional.empty());
+
+		//when
+		DocumentResponse result = documentResponseCache.get(1L);
+
+		//then
+		assertThat(result).isSameAs(documentResponse);
+		verify(redisLease, timeout(1000).times(1)).tryAcquire(eq("document:1"), any());
+		Thread.sleep(100);
+		verify(documentReadService, never()).getLatestDocument(anyLong());
+		documentResponseCache.shutdown();
+	}
+
+	@Test
+	@DisplayName("이전 형식으로 저장된 값은 캐시를 놓친 것으로 간주")
+	void legacyValue() {
+		//given
+		DocumentResponseCache documentResponseCache = cache(false);
+		cacheManager.getCache(DocumentResponseCache.CACHE_NAME).put(1L, documentResponse);
+		DocumentResponse rebuilt = DocumentResponse.of(document(1L, member(1L, "author"), "rebuilt", 2L), 2L,
+			Collections.emptyList(), Collections.emptyList(), null, null);
+		when(documentReadService.getLatestDocument(1L)).thenReturn(rebuilt);
+
+		//when
+		DocumentResponse result = documentResponseCache.get(1L);
+
+		//then
+		assertThat(result).isSameAs(rebuilt);
+		assertThat(cachedValue()).isSameAs(rebuilt);
+	}
+
+	@Test
+	@DisplayName("워밍은 캐시에 없는 문서만 만들어 저장")
+	void warm() {
+		//given
+		DocumentResponseCache documentResponseCache = cache(false);
+		when(documentReadService.getLatestDocument(1L)).thenReturn(documentResponse);
+
+		//when
+		documentResponseCache.warm(1L);
+		documentResponseCache.warm(1L);
+
+		//then
+		assertThat(cachedValue()).isSameAs(documentResponse);
+		verify(documentReadService, times(1)).getLatestDocument(1L);
+		verify(documentContentService, never()).refreshStatus(any());
+	}
+
+	private DocumentResponseCache cache(boolean leaseEnabled) {
+		return new DocumentResponseCache(documentContentService, documentReadService, cacheManager, redisLease,
+			leaseEnabled, 3000L, 5000L, 300L, 1.0);
+	}
+
+	private void putEntry(DocumentResponse value, long expiresAtMillis) {
+		cacheManager.getCache(DocumentResponseCache.CACHE_NAME)
+			.put(1L, RefreshableEntry.of(value, 10L, expiresAtMillis));
+	}
+
+	private Object cachedValue() {
+		return ((RefreshableEntry<?>)cacheManager.getCache(DocumentResponseCache.CACHE_NAME).get(1L).get()).getValue();
+	}
+
+	/**
+	 * 백그라운드 작업이 끝날 때까지 조건을 다시 확인합니다.
+	 */
+	private static void await(Runnable assertion) {
+		long deadline = System.currentTimeMillis() + 1000;
+		while (true) {
+			try {
+				assertion.run();
+				return;
+			} catch (AssertionError e) {
+				if (System.currentTimeMillis() > deadline) {
+					throw e;
+				}
+				Thread.yield();
+			}
+		}
+	}
+}
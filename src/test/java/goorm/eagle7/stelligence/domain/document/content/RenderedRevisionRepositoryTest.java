@@ -0,0 +1,54 @@
+package goorm.eagle7.stelligence.domain.document.content;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.UUID;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import goorm.eagle7.stelligence.domain.document.content.model.RenderedRevision;
+import jakarta.persistence.EntityManager;
+
+@DataJpaTest
+class RenderedRevisionRepositoryTest {
+
+	//TEXT 컬럼의 최대 크기입니다.
+	private static final int TEXT_COLUMN_LIMIT = 65_535;
+
+	@Autowired
+	private RenderedRevisionRepository renderedRevisionRepository;
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	@Autowired
+	private EntityManager em;
+
+	@Test
+	@DisplayName("렌더링 결과 저장 - 64KB보다 큰 문서도 저장하고 그대로 조회할 수 있다.")
+	void saveLargeRenderedRevision() {
+		//given
+		//압축되어도 64KB보다 크도록 반복되지 않는 내용을 사용합니다.
+		String content = Stream.generate(() -> "<p>" + UUID.randomUUID() + "</p>")
+			.limit(3_000)
+			.collect(Collectors.joining());
+
+		//when
+		renderedRevisionRepository.save(RenderedRevision.of(1_000L, 1L, content));
+		em.flush();
+		em.clear();
+
+		//then
+		Integer storedLength = jdbcTemplate.queryForObject(
+			"select char_length(content) from rendered_revision where document_id = 1000 and revision = 1",
+			Integer.class);
+		assertThat(storedLength).isGreaterThan(TEXT_COLUMN_LIMIT);
+		assertThat(renderedRevisionRepository.findContent(1_000L, 1L)).hasValue(content);
+	}
+}
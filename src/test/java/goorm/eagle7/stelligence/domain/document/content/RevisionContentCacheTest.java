@@ -0,0 +1,72 @@
+package goorm.eagle7.stelligence.domain.document.content;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import goorm.eagle7.stelligence.domain.document.content.dto.RevisionContent;
+import goorm.eagle7.stelligence.domain.document.content.dto.SectionResponse;
+import goorm.eagle7.stelligence.domain.section.model.Heading;
+import goorm.eagle7.stelligence.domain.section.model.SectionId;
+
+class RevisionContentCacheTest {
+
+	@Test
+	@DisplayName("같은 버전은 한 번만 불러온다.")
+	void loadOnce() {
+		//given
+		RevisionContentCache cache = new RevisionContentCache(1_000L);
+		AtomicInteger loads = new AtomicInteger();
+
+		//when
+		RevisionContent first = cache.get(1L, 1L, () -> {
+			loads.incrementAndGet();
+			return revisionContent("content");
+		});
+		RevisionContent second = cache.get(1L, 1L, () -> {
+			loads.incrementAndGet();
+			return revisionContent("other");
+		});
+
+		//then
+		assertThat(loads.get()).isEqualTo(1);
+		assertThat(second).isSameAs(first);
+		assertThat(cache.getIfPresent(1L, 1L)).containsSame(first);
+		assertThat(cache.getIfPresent(1L, 2L)).isEmpty();
+		assertThat(cache.getIfPresent(2L, 1L)).isEmpty();
+	}
+
+	@Test
+	@DisplayName("저장된 문자열의 길이가 최대 길이를 넘으면 제거한다.")
+	void evictBySize() {
+		//given
+		RevisionContentCache cache = new RevisionContentCache(1_000L);
+
+		//when
+		//버전마다 제목, 본문, 렌더링된 내용으로 약 210자를 차지합니다.
+		for (long revision = 1; revision <= 20; revision++) {
+			cache.get(1L, revision, () -> revisionContent("a".repeat(100)));
+		}
+
+		//then
+		assertThat(cache.size()).isLessThanOrEqualTo(1_000L / 200);
+	}
+
+	@Test
+	@DisplayName("섹션의 키를 순서대로 반환한다.")
+	void sectionKeys() {
+		RevisionContent revisionContent = new RevisionContent(List.of(
+			SectionResponse.of(3L, 2L, Heading.H1, "title", "content"),
+			SectionResponse.of(1L, 1L, Heading.H2, "title", "content")), "rendered");
+
+		assertThat(revisionContent.sectionKeys()).containsExactly(SectionId.of(3L, 2L), SectionId.of(1L, 1L));
+	}
+
+	private RevisionContent revisionContent(String content) {
+		return new RevisionContent(List.of(SectionResponse.of(1L, 1L, Heading.H1, "title", content)), content);
+	}
+}
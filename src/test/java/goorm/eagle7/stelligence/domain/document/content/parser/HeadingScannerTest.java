@@ -0,0 +1,84 @@
+package goorm.eagle7.stelligence.domain.document.content.parser;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import goorm.eagle7.stelligence.domain.document.content.dto.SectionRequest;
+import goorm.eagle7.stelligence.domain.section.model.Heading;
+
+class HeadingScannerTest {
+
+	/**
+	 * HeadingScanner 도입 이전에 사용하던 정규식입니다.
+	 */
+	private static final Pattern HEADING_TAG_PATTERN = Pattern.compile(
+		"(<h([1-6])>(.*?)</h\\2>)(.*?)(?=<h[1-6]>|$)", Pattern.DOTALL);
+
+	@Test
+	@DisplayName("닫히지 않은 heading은 무시하고, 다음 heading 이전까지를 본문으로 한다.")
+	void unclosedHeading() {
+		List<SectionRequest> result = HeadingScanner.scan("<h1>title<p>a</p><h2>title2</h2> <p>b</p> <h3>c");
+
+		assertThat(result).hasSize(1);
+		assertThat(result.get(0).getHeading()).isEqualTo(Heading.H2);
+		assertThat(result.get(0).getTitle()).isEqualTo("title2");
+		assertThat(result.get(0).getContent()).isEqualTo("<p>b</p>");
+	}
+
+	@Test
+	@DisplayName("제목은 처음 등장하는 같은 수준의 닫는 태그까지이다.")
+	void nestedHeadingInTitle() {
+		List<SectionRequest> result = HeadingScanner.scan("<h1>a<h2>b</h2>c</h1><p>d</p>");
+
+		assertThat(result).hasSize(1);
+		assertThat(result.get(0).getTitle()).isEqualTo("a<h2>b</h2>c");
+		assertThat(result.get(0).getContent()).isEqualTo("<p>d</p>");
+	}
+
+	@Test
+	@DisplayName("heading이 없다면 빈 목록을 반환한다.")
+	void noHeading() {
+		assertThat(HeadingScanner.scan("")).isEmpty();
+		assertThat(HeadingScanner.scan("<p>content</p><h7>x</h7>")).isEmpty();
+	}
+
+	@Test
+	@DisplayName("무작위 입력에 대해 기존 정규식과 같은 결과를 만든다.")
+	void sameAsRegex() {
+		String[] tokens = {"<h1>", "</h1>", "<h2>", "</h2>", "<h3>", "</h3>", "<h7>", "<h", "h1>", "</h", "<",
+			"a", "b", " ", "\n", "\r", "\r\n", "\u2028", "<p>", "</p>"};
+		Random random = new Random(7);
+
+		for (int i = 0; i < 20_000; i++) {
+			StringBuilder sb = new StringBuilder();
+			int length = random.nextInt(25);
+			for (int j = 0; j < length; j++) {
+				sb.append(tokens[random.nextInt(tokens.length)]);
+			}
+			String html = sb.toString();
+
+			assertThat(HeadingScanner.scan(html))
+				.as(html)
+				.usingRecursiveFieldByFieldElementComparator()
+				.isEqualTo(parseWithRegex(html));
+		}
+	}
+
+	private List<SectionRequest> parseWithRegex(String html) {
+		List<SectionRequest> sectionRequests = new ArrayList<>();
+		Matcher matcher = HEADING_TAG_PATTERN.matcher(html);
+		while (matcher.find()) {
+			sectionRequests.add(new SectionRequest(Heading.valueOf("H" + matcher.group(2)), matcher.group(3),
+				matcher.group(4).trim()));
+		}
+		return sectionRequests;
+	}
+}
@@ -0,0 +1,62 @@
+package goorm.eagle7.stelligence.domain.document.content.parser;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class HeadingSplitterTest {
+
+	@Test
+	@DisplayName("대소문자와 속성에 관계없이 heading 시작 태그 앞에서 나눈다.")
+	void split() {
+		String html = "<p>intro</p><h1>a</h1><p>b</p><H2 class=\"x\">c</H2><hr><h3\n>d</h3><h7>e</h7>";
+
+		List<String> fragments = HeadingSplitter.split(html);
+
+		assertThat(fragments).containsExactly(
+			"<p>intro</p>",
+			"<h1>a</h1><p>b</p>",
+			"<H2 class=\"x\">c</H2><hr>",
+			"<h3\n>d</h3><h7>e</h7>");
+		assertThat(String.join("", fragments)).isEqualTo(html);
+		assertThat(HeadingSplitter.split("")).containsExactly("");
+	}
+
+	@Test
+	@DisplayName("주석, 속성값, script와 style의 내용 안에 적힌 heading에서는 나누지 않는다.")
+	void skipNonMarkup() {
+		String html = "<h1>a</h1>"
+			+ "<!-- <h2>comment</h2> -->"
+			+ "<img alt=\"<h2>double</h2>\" title='<h2>single</h2>' data-x=a>"
+			+ "<script>document.write(\"<h2>script</h2>\");</SCRIPT >"
+			+ "<style>p::after { content: '<h2>' }</style>"
+			+ "<!DOCTYPE <h2>><?xml <h2>?>"
+			+ "<h2>b</h2>";
+
+		List<String> fragments = HeadingSplitter.split(html);
+
+		assertThat(fragments).hasSize(2);
+		assertThat(fragments.get(1)).isEqualTo("<h2>b</h2>");
+		assertThat(String.join("", fragments)).isEqualTo(html);
+	}
+
+	@Test
+	@DisplayName("닫히지 않은 주석이나 속성값, script 이후에서는 나누지 않는다.")
+	void unterminated() {
+		assertThat(HeadingSplitter.split("<h1>a</h1><!-- <h2>b</h2>")).hasSize(1);
+		assertThat(HeadingSplitter.split("<h1>a</h1><p title=\"<h2>b</h2>")).hasSize(1);
+		assertThat(HeadingSplitter.split("<h1>a</h1><script><h2>b</h2></scripts>")).hasSize(1);
+		assertThat(HeadingSplitter.split("<h1>a</h1><plaintext><h2>b</h2>")).hasSize(1);
+	}
+
+	@Test
+	@DisplayName("태그를 시작하지 않는 '<'는 문자로 취급한다.")
+	void lessThanAsText() {
+		List<String> fragments = HeadingSplitter.split("<p>1 < 2 <3</p><h2>b</h2><");
+
+		assertThat(fragments).containsExactly("<p>1 < 2 <3</p>", "<h2>b</h2><");
+	}
+}
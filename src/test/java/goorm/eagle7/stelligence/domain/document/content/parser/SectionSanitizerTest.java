@@ -0,0 +1,118 @@
+package goorm.eagle7.stelligence.domain.document.content.parser;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.util.List;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.owasp.html.PolicyFactory;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@ExtendWith(MockitoExtension.class)
+class SectionSanitizerTest {
+
+	@Mock
+	PolicyFactory policyFactory;
+
+	SimpleMeterRegistry meterRegistry;
+	SectionSanitizer sectionSanitizer;
+
+	@BeforeEach
+	void setUp() {
+		meterRegistry = new SimpleMeterRegistry();
+		sectionSanitizer = new SectionSanitizer(policyFactory, meterRegistry, 1024 * 1024, 4);
+	}
+
+	@AfterEach
+	void tearDown() {
+		sectionSanitizer.shutdown();
+	}
+
+	@Test
+	@DisplayName("같은 내용은 한 번만 Sanitize하고 이후에는 캐시된 결과를 반환한다.")
+	void cached() {
+		//given
+		when(policyFactory.sanitize("<p onclick=\"x\">a</p>")).thenReturn("<p>a</p>");
+
+		//when
+		String first = sectionSanitizer.sanitize("<p onclick=\"x\">a</p>");
+		String second = sectionSanitizer.sanitize("<p onclick=\"x\">a</p>");
+
+		//then
+		assertThat(first).isEqualTo("<p>a</p>");
+		assertThat(second).isEqualTo("<p>a</p>");
+		verify(policyFactory, times(1)).sanitize(anyString());
+
+		assertThat(meterRegistry.get("html.sanitize.cache").tag("result", "hit").counter().count()).isEqualTo(1);
+		assertThat(meterRegistry.get("html.sanitize.cache").tag("result", "miss").counter().count()).isEqualTo(1);
+		assertThat(meterRegistry.get("html.sanitize.cache.hit.ratio").gauge().value()).isEqualTo(0.5);
+		assertThat(meterRegistry.get("html.sanitize").timer().count()).isEqualTo(1);
+	}
+
+	@Test
+	@DisplayName("null과 빈 문자열은 Sanitize하지 않는다.")
+	void empty() {
+		assertThat(sectionSanitizer.sanitize(null)).isNull();
+		assertThat(sectionSanitizer.sanitize("")).isEmpty();
+
+		verifyNoInteractions(policyFactory);
+	}
+
+	@Test
+	@DisplayName("큰 문서의 조각들은 병렬로 Sanitize하며, 결과는 입력과 같은 순서이다.")
+	void sanitizeAllInParallel() {
+		//given
+		when(policyFactory.sanitize(anyString())).thenAnswer(invocation -> invocation.getArgument(0, String.class)
+			.toUpperCase());
+		List<String> fragments = IntStream.range(0, 32)
+			.mapToObj(i -> "<h2>" + i + "</h2>" + "<p>content</p>".repeat(500))
+			.toList();
+
+		//when
+		List<String> result = sectionSanitizer.sanitizeAll(fragments);
+
+		//then
+		assertThat(result).containsExactlyElementsOf(fragments.stream().map(String::toUpperCase).toList());
+	}
+
+	@Test
+	@DisplayName("캐시는 저장된 결과의 전체 문자 수를 넘지 않도록 오래 사용되지 않은 결과부터 제거한다.")
+	void evictLeastRecentlyUsed() {
+		//given
+		SectionSanitizer.SanitizedCache cache = new SectionSanitizer.SanitizedCache(10);
+
+		//when
+		cache.put("a", "aaaa");
+		cache.put("b", "bbbb");
+		cache.get("a");
+		cache.put("c", "cccc");
+
+		//then
+		assertThat(cache.get("a")).isEqualTo("aaaa");
+		assertThat(cache.get("b")).isNull();
+		assertThat(cache.get("c")).isEqualTo("cccc");
+		assertThat(cache.weight()).isEqualTo(8);
+		assertThat(cache.size()).isEqualTo(2);
+	}
+
+	@Test
+	@DisplayName("캐시 전체보다 큰 결과는 저장하지 않는다.")
+	void tooLargeToCache() {
+		SectionSanitizer.SanitizedCache cache = new SectionSanitizer.SanitizedCache(4);
+
+		cache.put("a", "aaaaa");
+
+		assertThat(cache.get("a")).isNull();
+		assertThat(cache.weight()).isZero();
+	}
+}
@@ -1,20 +1,24 @@
 package goorm.eagle7.stelligence.domain.document.content.parser;
 
 import static org.assertj.core.api.Assertions.*;
+import static org.mockito.AdditionalAnswers.*;
+import static org.mockito.ArgumentMatchers.*;
 
 import java.util.List;
 
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.Mockito;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.owasp.html.PolicyFactory;
 
+import goorm.eagle7.stelligence.config.HtmlPolicyConfig;
 import goorm.eagle7.stelligence.domain.document.content.dto.SectionRequest;
 import goorm.eagle7.stelligence.domain.section.model.Heading;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 
 @ExtendWith(MockitoExtension.class)
 class TagDocumentParserTest {
@@ -22,9 +26,14 @@ class TagDocumentParserTest {
 	@Mock
 	PolicyFactory policyFactory;
 
-	@InjectMocks
 	TagDocumentParser tagDocumentParser;
 
+	@BeforeEach
+	void setUp() {
+		SectionSanitizer sectionSanitizer = new SectionSanitizer(policyFactory, new SimpleMeterRegistry(), 1024 * 1024, 1);
+		tagDocumentParser = new TagDocumentParser(sectionSanitizer);
+	}
+
 	@Test
 	@DisplayName("정상 요청")
 	void parse() {
@@ -39,7 +48,7 @@ class TagDocumentParserTest {
 				+ "<p>content3</p>";
 
 		//when
-		Mockito.when(policyFactory.sanitize(rawContent)).thenReturn(rawContent);
+		Mockito.when(policyFactory.sanitize(anyString())).thenAnswer(returnsFirstArg());
 		List<SectionRequest> result = tagDocumentParser.parse(rawContent);
 
 		//then
@@ -72,7 +81,7 @@ class TagDocumentParserTest {
 				+ "<p>content3</p>";
 
 		//when
-		Mockito.when(policyFactory.sanitize(rawContent)).thenReturn(rawContent);
+		Mockito.when(policyFactory.sanitize(anyString())).thenAnswer(returnsFirstArg());
 		List<SectionRequest> result = tagDocumentParser.parse(rawContent);
 
 		//then
@@ -100,7 +109,7 @@ class TagDocumentParserTest {
 				+ "<p>content3</p>";
 
 		//when
-		Mockito.when(policyFactory.sanitize(rawContent)).thenReturn(rawContent);
+		Mockito.when(policyFactory.sanitize(anyString())).thenAnswer(returnsFirstArg());
 		List<SectionRequest> result = tagDocumentParser.parse(rawContent);
 
 		//then
@@ -118,4 +127,49 @@ class TagDocumentParserTest {
 		assertThat(result.get(2).getTitle()).isEqualTo("title3");
 		assertThat(result.get(2).getContent()).isEqualTo("<p>content3</p>");
 	}
-}
\ No newline at end of file
+
+	@Test
+	@DisplayName("heading 단위의 조각으로 Sanitize하며, 같은 조각은 다시 Sanitize하지 않는다.")
+	void sanitizeByFragment() {
+		//given
+		String first = "<h1>title</h1><p>content</p>";
+		String second = "<h2>title2</h2><p>content2</p>";
+
+		//when
+		Mockito.when(policyFactory.sanitize(anyString())).thenAnswer(returnsFirstArg());
+		tagDocumentParser.parse(first + second);
+		List<SectionRequest> result = tagDocumentParser.parse(first + "<h2>title2</h2><p>changed</p>");
+
+		//then
+		Mockito.verify(policyFactory, Mockito.times(1)).sanitize(first);
+		Mockito.verify(policyFactory, Mockito.times(1)).sanitize(second);
+		Mockito.verify(policyFactory, Mockito.times(1)).sanitize("<h2>title2</h2><p>changed</p>");
+		assertThat(result).extracting(SectionRequest::getContent).containsExactly("<p>content</p>", "<p>changed</p>");
+	}
+
+	@Test
+	@DisplayName("주석, 속성값, 스크립트 안의 heading은 섹션의 경계가 되지 않는다.")
+	void headingInsideCommentOrAttribute() {
+		//given
+		SectionSanitizer sectionSanitizer = new SectionSanitizer(new HtmlPolicyConfig().htmlPolicyBuilder(),
+			new SimpleMeterRegistry(), 1024 * 1024, 1);
+		TagDocumentParser parser = new TagDocumentParser(sectionSanitizer);
+		String rawContent =
+			"<h1>title</h1>"
+				+ "<!-- <h2>comment</h2> -->"
+				+ "<p>content</p>"
+				+ "<img src=\"https://example.com/a.png\" alt=\"<h2>attribute</h2>\">"
+				+ "<script>document.write(\"<h2>script</h2>\");</script>";
+
+		//when
+		List<SectionRequest> result = parser.parse(rawContent);
+
+		//then
+		assertThat(result).hasSize(1);
+		assertThat(result.get(0).getHeading()).isEqualTo(Heading.H1);
+		assertThat(result.get(0).getTitle()).isEqualTo("title");
+		assertThat(result.get(0).getContent())
+			.startsWith("<p>content</p>")
+			.doesNotContain("<h2>", "comment", "script");
+	}
+}
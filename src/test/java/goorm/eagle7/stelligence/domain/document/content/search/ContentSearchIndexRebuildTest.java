@@ -0,0 +1,77 @@
+package goorm.eagle7.stelligence.domain.document.content.search;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+
+import goorm.eagle7.stelligence.domain.document.content.DocumentContentRepository;
+import goorm.eagle7.stelligence.domain.document.content.dto.LatestSectionContent;
+
+@ExtendWith(MockitoExtension.class)
+class ContentSearchIndexRebuildTest {
+
+	@Mock
+	DocumentContentRepository documentContentRepository;
+
+	@Mock
+	ApplicationEventPublisher eventPublisher;
+
+	@InjectMocks
+	ContentSearchIndex contentSearchIndex;
+
+	@Test
+	@DisplayName("색인 재생성 - 재생성 중에 다시 색인된 문서는 교체된 색인에도 반영된다.")
+	void reindexDuringRebuild() {
+		//given
+		//1번 문서를 읽은 직후, 2번 문서를 읽기 전에 1번 문서의 수정이 커밋됩니다.
+		when(documentContentRepository.streamLatestSectionContents()).thenReturn(Stream.of(
+			new LatestSectionContent(1L, "<p>before</p>"),
+			new LatestSectionContent(2L, "<p>other</p>")
+		).peek(content -> {
+			if (content.documentId().equals(2L)) {
+				contentSearchIndex.indexOnCommit(1L, List.of("<p>after</p>"));
+			}
+		}));
+
+		//when
+		int indexed = contentSearchIndex.rebuild();
+
+		//then
+		assertThat(indexed).isEqualTo(2);
+		assertThat(contentSearchIndex.search("after")).containsExactly(1L);
+		assertThat(contentSearchIndex.search("before")).isEmpty();
+		assertThat(contentSearchIndex.search("other")).containsExactly(2L);
+	}
+
+	@Test
+	@DisplayName("색인 재생성 - 재생성이 끝난 뒤의 변경사항은 기록되지 않고 바로 반영된다.")
+	void reindexAfterRebuild() {
+		//given
+		when(documentContentRepository.streamLatestSectionContents())
+			.thenReturn(Stream.of(new LatestSectionContent(1L, "<p>before</p>")))
+			.thenReturn(Stream.of(new LatestSectionContent(1L, "<p>before</p>")));
+		contentSearchIndex.rebuild();
+
+		//when
+		contentSearchIndex.indexOnCommit(1L, List.of("<p>after</p>"));
+		contentSearchIndex.rebuild();
+
+		//then
+		//두 번째 재생성에서 읽은 본문이 반영되어야 합니다.
+		assertThat(contentSearchIndex.search("before")).containsExactly(1L);
+		assertThat(contentSearchIndex.search("after")).isEmpty();
+
+		//다른 서버에도 반영되도록 이벤트를 발행합니다.
+		verify(eventPublisher, times(1)).publishEvent(new ContentIndexedEvent(1L));
+	}
+}
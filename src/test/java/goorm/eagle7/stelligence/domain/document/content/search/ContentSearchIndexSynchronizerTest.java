@@ -0,0 +1,85 @@
+package goorm.eagle7.stelligence.domain.document.content.search;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.nio.charset.StandardCharsets;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+@ExtendWith(MockitoExtension.class)
+class ContentSearchIndexSynchronizerTest {
+
+	@Mock
+	ContentSearchIndex contentSearchIndex;
+
+	@Mock
+	StringRedisTemplate redisTemplate;
+
+	@InjectMocks
+	ContentSearchIndexSynchronizer contentSearchIndexSynchronizer;
+
+	@Test
+	@DisplayName("색인된 문서의 ID를 다른 서버에 발행한다.")
+	void publish() {
+		//when
+		contentSearchIndexSynchronizer.publish(new ContentIndexedEvent(1L));
+
+		//then
+		ArgumentCaptor<String> message = ArgumentCaptor.forClass(String.class);
+		verify(redisTemplate).convertAndSend(eq(ContentSearchIndexSynchronizer.REINDEX_CHANNEL), message.capture());
+		assertThat(message.getValue()).contains("\"documentId\":1");
+	}
+
+	@Test
+	@DisplayName("다른 서버에서 발행한 메시지를 받으면 문서를 다시 색인한다.")
+	void reindexOnMessage() {
+		//when
+		contentSearchIndexSynchronizer.onMessage(message("{\"origin\":\"other\",\"documentId\":1}"), null);
+
+		//then
+		verify(contentSearchIndex, times(1)).reindex(1L);
+	}
+
+	@Test
+	@DisplayName("자신이 발행한 메시지는 무시한다.")
+	void ignoreOwnMessage() {
+		//given
+		contentSearchIndexSynchronizer.publish(new ContentIndexedEvent(1L));
+		ArgumentCaptor<String> message = ArgumentCaptor.forClass(String.class);
+		verify(redisTemplate).convertAndSend(eq(ContentSearchIndexSynchronizer.REINDEX_CHANNEL), message.capture());
+
+		//when
+		contentSearchIndexSynchronizer.onMessage(message(message.getValue()), null);
+
+		//then
+		verifyNoInteractions(contentSearchIndex);
+	}
+
+	@Test
+	@DisplayName("발행에 실패하더라도 예외를 전파하지 않는다.")
+	void publishFailure() {
+		//given
+		when(redisTemplate.convertAndSend(anyString(), anyString()))
+			.thenThrow(new RedisConnectionFailureException("connection refused"));
+
+		//when, then
+		assertThatCode(() -> contentSearchIndexSynchronizer.publish(new ContentIndexedEvent(1L)))
+			.doesNotThrowAnyException();
+	}
+
+	private DefaultMessage message(String body) {
+		return new DefaultMessage(ContentSearchIndexSynchronizer.REINDEX_CHANNEL.getBytes(StandardCharsets.UTF_8),
+			body.getBytes(StandardCharsets.UTF_8));
+	}
+}
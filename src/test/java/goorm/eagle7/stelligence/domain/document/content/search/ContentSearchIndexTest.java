@@ -0,0 +1,116 @@
+package goorm.eagle7.stelligence.domain.document.content.search;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.transaction.TestTransaction;
+
+import goorm.eagle7.stelligence.config.TestSectionWriter;
+import goorm.eagle7.stelligence.config.mockdata.WithMockData;
+import goorm.eagle7.stelligence.domain.document.content.DocumentContentRepository;
+import goorm.eagle7.stelligence.domain.document.content.model.Document;
+import goorm.eagle7.stelligence.domain.section.LatestSectionRepository;
+import goorm.eagle7.stelligence.domain.section.model.Heading;
+import goorm.eagle7.stelligence.domain.section.model.LatestSection;
+import goorm.eagle7.stelligence.domain.section.model.Section;
+import jakarta.persistence.EntityManager;
+
+@DataJpaTest
+@WithMockData
+@Import(ContentSearchIndex.class)
+class ContentSearchIndexTest {
+
+	@Autowired
+	ContentSearchIndex contentSearchIndex;
+
+	@Autowired
+	DocumentContentRepository documentContentRepository;
+
+	@Autowired
+	LatestSectionRepository latestSectionRepository;
+
+	@Autowired
+	EntityManager em;
+
+	@BeforeEach
+	void setUp() {
+		contentSearchIndex.rebuild();
+	}
+
+	@Test
+	@DisplayName("특정 문자열 포함 documentId 찾기 테스트 - 전체")
+	void search() {
+		List<Long> documentIds = contentSearchIndex.search("");
+
+		assertThat(documentIds).hasSize(4);
+	}
+
+	@Test
+	@DisplayName("특정 문자열 포함 documentId 찾기 테스트 - 삭제된 섹션은 조회의 대상이 되어서는 안된다.")
+	void searchDeleted() {
+		List<Long> documentIds = contentSearchIndex.search("content1");
+
+		//1의 content1은 삭제되었으므로, 2, 3, 4만 조회되어야 한다.
+		assertThat(documentIds).containsExactly(2L, 3L, 4L);
+	}
+
+	@Test
+	@DisplayName("특정 문자열 포함 documentId 찾기 테스트 - 압축되어 저장된 본문도 검색된다.")
+	void searchCompressed() {
+		//given
+		saveLatestSection(3L, 9L, "<p>압축될 만큼 긴 본문입니다.</p>".repeat(100) + "<p>needle</p>");
+
+		//when
+		contentSearchIndex.rebuild();
+
+		//then
+		assertThat(contentSearchIndex.search("NEEDLE")).containsExactly(3L);
+	}
+
+	@Test
+	@DisplayName("다시 색인 - 트랜잭션이 롤백되면 색인에 반영되지 않는다.")
+	void reindexOnCommitRollback() {
+		//given
+		saveLatestSection(3L, 9L, "<p>needle</p>");
+
+		//when
+		contentSearchIndex.reindexOnCommit(3L);
+		assertThat(contentSearchIndex.search("needle")).isEmpty();
+
+		TestTransaction.flagForRollback();
+		TestTransaction.end();
+
+		//then
+		assertThat(contentSearchIndex.search("needle")).isEmpty();
+		assertThat(contentSearchIndex.search("document3")).containsExactly(3L);
+	}
+
+	@Test
+	@DisplayName("다시 색인 - 다른 서버의 변경사항은 조회한 본문을 즉시 반영한다.")
+	void reindex() {
+		//given
+		saveLatestSection(3L, 9L, "<p>needle</p>");
+
+		//when
+		contentSearchIndex.reindex(3L);
+
+		//then
+		assertThat(contentSearchIndex.search("needle")).containsExactly(3L);
+	}
+
+	private void saveLatestSection(Long documentId, Long sectionId, String content) {
+		Document document = documentContentRepository.findById(documentId).orElseThrow();
+		Section section = Section.createSection(document, sectionId, 2L, Heading.H3, "title", content, 3);
+		TestSectionWriter.save(em, section);
+		latestSectionRepository.save(LatestSection.of(section));
+		em.flush();
+		em.clear();
+	}
+}
@@ -0,0 +1,133 @@
+package goorm.eagle7.stelligence.domain.document.content.search;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.List;
+import java.util.stream.LongStream;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class NGramIndexTest {
+
+	@Test
+	@DisplayName("부분 문자열 검색 - 한글 본문도 부분 문자열로 검색된다.")
+	void searchKorean() {
+		NGramIndex index = new NGramIndex();
+		index.index(1L, List.of("<p>집단 지성으로 문서를 작성합니다.</p>"));
+		index.index(2L, List.of("<p>지성인의 모임</p>"));
+		index.index(3L, List.of("<p>문서 작성</p>"));
+
+		assertThat(index.search("지성")).containsExactly(1L, 2L);
+		assertThat(index.search("단 지")).containsExactly(1L);
+		assertThat(index.search("성으로문서")).isEmpty();
+	}
+
+	@Test
+	@DisplayName("부분 문자열 검색 - 대소문자를 구분하지 않는다.")
+	void searchIgnoreCase() {
+		NGramIndex index = new NGramIndex();
+		index.index(1L, List.of("Stelligence"));
+
+		assertThat(index.search("STELL")).containsExactly(1L);
+		assertThat(index.search("s")).containsExactly(1L);
+	}
+
+	@Test
+	@DisplayName("부분 문자열 검색 - 검색어가 많이 등장하는 문서가 먼저 조회된다.")
+	void searchRanked() {
+		NGramIndex index = new NGramIndex();
+		index.index(1L, List.of("star"));
+		index.index(2L, List.of("star star", "star"));
+		index.index(3L, List.of("star", "star"));
+		index.index(4L, List.of("sun"));
+
+		assertThat(index.search("star")).containsExactly(2L, 3L, 1L);
+		assertThat(index.search("")).containsExactly(1L, 2L, 3L, 4L);
+	}
+
+	@Test
+	@DisplayName("부분 문자열 검색 - 소문자로 바꾸면 길어지는 문자(U+0130)가 있어도 색인된다.")
+	void searchLowerCaseExpands() {
+		NGramIndex index = new NGramIndex();
+		index.index(1L, List.of("\u0130stanbul \u0130zmir", "Ankara"));
+
+		assertThat(index.search("stanbul")).containsExactly(1L);
+		assertThat(index.search("\u0130zmir")).containsExactly(1L);
+		assertThat(index.search("ankara")).containsExactly(1L);
+	}
+
+	@Test
+	@DisplayName("부분 문자열 검색 - 섹션의 경계를 넘어서 일치하지 않는다.")
+	void searchNotAcrossSections() {
+		NGramIndex index = new NGramIndex();
+		index.index(1L, List.of("abc", "def"));
+
+		assertThat(index.search("cd")).isEmpty();
+		assertThat(index.search("bc")).containsExactly(1L);
+		assertThat(index.search("de")).containsExactly(1L);
+	}
+
+	@Test
+	@DisplayName("다시 색인 - 이전 본문은 더이상 검색되지 않는다.")
+	void reindex() {
+		NGramIndex index = new NGramIndex();
+		index.index(1L, List.of("old content"));
+		index.index(1L, List.of("new content"));
+
+		assertThat(index.search("old")).isEmpty();
+		assertThat(index.search("new")).containsExactly(1L);
+		assertThat(index.search("content")).containsExactly(1L);
+		assertThat(index.size()).isEqualTo(1);
+	}
+
+	@Test
+	@DisplayName("색인 제외 - 제외된 문서는 검색되지 않는다.")
+	void remove() {
+		NGramIndex index = new NGramIndex();
+		index.index(1L, List.of("content"));
+		index.index(2L, List.of("content"));
+
+		index.remove(1L);
+
+		assertThat(index.search("content")).containsExactly(2L);
+		assertThat(index.size()).isEqualTo(1);
+	}
+
+	@Test
+	@DisplayName("포스팅 재작성 - 재작성 이후에도 같은 결과를 반환한다.")
+	void compact() {
+		NGramIndex index = new NGramIndex();
+		for (long revision = 1; revision <= NGramIndex.COMPACT_THRESHOLD + 10; revision++) {
+			index.index(1L, List.of("document1 revision" + revision));
+			index.index(2L, List.of("document2 revision" + revision));
+		}
+
+		//삭제된 번호가 임계치를 넘으면 색인 중에 포스팅이 재작성된다.
+		assertThat(index.search("revision" + (NGramIndex.COMPACT_THRESHOLD + 10))).containsExactly(1L, 2L);
+		assertThat(index.search("revision5")).isEmpty();
+		assertThat(index.search("document2")).containsExactly(2L);
+		assertThat(index.size()).isEqualTo(2);
+	}
+
+	@Test
+	@DisplayName("많은 문서 - 일부를 제외하고 다시 색인해도 남은 문서만 검색된다.")
+	void manyDocuments() {
+		NGramIndex index = new NGramIndex();
+		for (long documentId = 1; documentId <= 3000; documentId++) {
+			index.index(documentId, List.of("star" + documentId));
+		}
+		for (long documentId = 2; documentId <= 3000; documentId += 2) {
+			index.remove(documentId);
+		}
+		index.index(3L, List.of("sun"));
+
+		List<Long> expected = LongStream.rangeClosed(1, 3000)
+			.filter(documentId -> documentId % 2 == 1 && documentId != 3)
+			.boxed()
+			.toList();
+		assertThat(index.search("star")).containsExactlyElementsOf(expected);
+		assertThat(index.search("sun")).containsExactly(3L);
+		assertThat(index.size()).isEqualTo(1500);
+	}
+}
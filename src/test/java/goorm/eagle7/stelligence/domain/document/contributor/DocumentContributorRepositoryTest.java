@@ -0,0 +1,128 @@
+package goorm.eagle7.stelligence.domain.document.contributor;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+
+import goorm.eagle7.stelligence.config.mockdata.WithMockData;
+import goorm.eagle7.stelligence.domain.document.contributor.model.DocumentContributor;
+import jakarta.persistence.EntityManager;
+
+@DataJpaTest
+@WithMockData
+class DocumentContributorRepositoryTest {
+
+	@Autowired
+	private DocumentContributorRepository documentContributorRepository;
+
+	@Autowired
+	private EntityManager em;
+
+	@Test
+	@DisplayName("문서 기여자 조회")
+	void findByDocumentIdOrderByNicknameAsc() {
+		List<DocumentContributor> contributors1 = documentContributorRepository.findByDocumentIdOrderByNicknameAsc(1L);
+
+		//1번 문서에는 1, 2번 사용자가 기여했다.
+		assertThat(contributors1).extracting(DocumentContributor::getMemberId).containsExactly(1L, 2L);
+
+		List<DocumentContributor> contributors2 = documentContributorRepository.findByDocumentIdOrderByNicknameAsc(2L);
+
+		//2번 문서에는 3번 사용자가 기여했다.
+		assertThat(contributors2).extracting(DocumentContributor::getMemberId).containsExactly(3L);
+
+		//3번 문서에는 기여자가 없다.
+		assertThat(documentContributorRepository.findByDocumentIdOrderByNicknameAsc(3L)).isEmpty();
+	}
+
+	@Test
+	@DisplayName("기여 기록 - 이미 기여한 회원은 기여 횟수와 마지막 기여 시간만 갱신된다.")
+	void upsertContributionOfContributor() {
+		//given
+		LocalDateTime now = LocalDateTime.of(2024, 3, 22, 0, 0);
+
+		//when
+		documentContributorRepository.upsertContribution(1L, 1L, "changed", null, now);
+		em.clear();
+
+		//then
+		DocumentContributor contributor = documentContributorRepository.findByDocumentIdAndMemberId(1L, 1L)
+			.orElseThrow();
+		assertThat(contributor.getContributions()).isEqualTo(2);
+		assertThat(contributor.getFirstContributedAt()).isEqualTo(LocalDateTime.of(2024, 3, 21, 0, 0));
+		assertThat(contributor.getLastContributedAt()).isEqualTo(now);
+		assertThat(contributor.getNickname()).isEqualTo("nickname1");
+		assertThat(documentContributorRepository.findByDocumentIdOrderByNicknameAsc(1L)).hasSize(2);
+	}
+
+	@Test
+	@DisplayName("기여 기록 - 처음 기여한 회원은 새로운 기여자로 저장된다.")
+	void upsertContributionOfNewContributor() {
+		//given
+		LocalDateTime now = LocalDateTime.of(2024, 3, 22, 0, 0);
+
+		//when
+		documentContributorRepository.upsertContribution(2L, 1L, "nickname1", "image_url1", now);
+		em.clear();
+
+		//then
+		assertThat(documentContributorRepository.findByDocumentIdOrderByNicknameAsc(2L))
+			.extracting(DocumentContributor::getMemberId, DocumentContributor::getContributions,
+				DocumentContributor::getFirstContributedAt, DocumentContributor::getLastContributedAt)
+			.containsExactly(tuple(1L, 1, now, now), tuple(3L, 1, LocalDateTime.of(2024, 3, 21, 0, 2),
+				LocalDateTime.of(2024, 3, 21, 0, 2)));
+	}
+
+	@Test
+	@DisplayName("회원이 기여한 문서 ID 조회")
+	void findDocumentIdsByMemberId() {
+		assertThat(documentContributorRepository.findDocumentIdsByMemberId(1L)).containsExactly(1L);
+		assertThat(documentContributorRepository.findDocumentIdsByMemberId(3L)).containsExactly(2L);
+		assertThat(documentContributorRepository.findDocumentIdsByMemberId(4L)).isEmpty();
+	}
+
+	@Test
+	@DisplayName("회원의 프로필 변경 - 회원이 기여한 모든 문서의 기여자 정보가 변경된다.")
+	void updateProfileByMemberId() {
+		//when
+		int updated = documentContributorRepository.updateProfileByMemberId(1L, "탈퇴한 회원NeutronStar1", null);
+		em.clear();
+
+		//then
+		assertThat(updated).isEqualTo(1);
+		DocumentContributor contributor = documentContributorRepository.findByDocumentIdAndMemberId(1L, 1L)
+			.orElseThrow();
+		assertThat(contributor.getNickname()).isEqualTo("탈퇴한 회원NeutronStar1");
+		assertThat(contributor.getImageUrl()).isNull();
+
+		//다른 회원의 기여자 정보는 변경되지 않는다.
+		assertThat(documentContributorRepository.findByDocumentIdAndMemberId(1L, 2L).orElseThrow().getNickname())
+			.isEqualTo("nickname2");
+	}
+
+	@Test
+	@DisplayName("수정요청으로부터 기여자 생성 - MERGED 상태의 수정요청을 작성한 회원만 기여자가 된다.")
+	void backfillFromContribute() {
+		//given
+		documentContributorRepository.deleteAllInBatch();
+
+		//when
+		int inserted = documentContributorRepository.backfillFromContribute();
+		em.clear();
+
+		//then
+		assertThat(inserted).isEqualTo(3);
+		assertThat(documentContributorRepository.findByDocumentIdOrderByNicknameAsc(1L))
+			.extracting(DocumentContributor::getNickname)
+			.containsExactly("nickname1", "nickname2");
+		assertThat(documentContributorRepository.findByDocumentIdOrderByNicknameAsc(2L))
+			.extracting(DocumentContributor::getMemberId, DocumentContributor::getContributions)
+			.containsExactly(tuple(3L, 1));
+	}
+}
@@ -0,0 +1,90 @@
+package goorm.eagle7.stelligence.domain.document.contributor;
+
+import static goorm.eagle7.stelligence.config.mockdata.TestFixtureGenerator.*;
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import goorm.eagle7.stelligence.domain.contribute.model.Contribute;
+import goorm.eagle7.stelligence.domain.contribute.model.ContributeStatus;
+import goorm.eagle7.stelligence.domain.document.content.DocumentCacheEvictor;
+import goorm.eagle7.stelligence.domain.document.content.model.Document;
+import goorm.eagle7.stelligence.domain.document.contributor.model.DocumentContributor;
+import goorm.eagle7.stelligence.domain.member.dto.MemberSimpleResponse;
+import goorm.eagle7.stelligence.domain.member.model.Member;
+
+@ExtendWith(MockitoExtension.class)
+class DocumentContributorServiceTest {
+
+	@Mock
+	DocumentContributorRepository documentContributorRepository;
+
+	@Mock
+	DocumentCacheEvictor documentCacheEvictor;
+
+	@InjectMocks
+	DocumentContributorService documentContributorService;
+
+	@Test
+	@DisplayName("Merge된 수정요청의 작성자를 저장된 프로필과 함께 기여자로 기록한다.")
+	void recordContribution() {
+		//given
+		Member member = member(1L, "pete");
+		Document document = document(1L, member, "title", 1L);
+		Contribute contribute = contribute(1L, member, ContributeStatus.MERGED, document);
+
+		//when
+		documentContributorService.recordContribution(contribute);
+
+		//then
+		verify(documentContributorRepository, times(1))
+			.upsertContribution(eq(1L), eq(1L), eq("pete"), eq(member.getImageUrl()), any(LocalDateTime.class));
+	}
+
+	@Test
+	@DisplayName("기여자는 저장된 닉네임과 프로필 사진으로 조회한다.")
+	void getContributors() {
+		//given
+		LocalDateTime now = LocalDateTime.now();
+		when(documentContributorRepository.findByDocumentIdOrderByNicknameAsc(1L)).thenReturn(List.of(
+			DocumentContributor.of(1L, 2L, "alice", "image2", now),
+			DocumentContributor.of(1L, 1L, "pete", "image1", now)
+		));
+
+		//when
+		List<MemberSimpleResponse> contributors = documentContributorService.getContributors(1L);
+
+		//then
+		assertThat(contributors).extracting(MemberSimpleResponse::getMemberId).containsExactly(2L, 1L);
+		assertThat(contributors).extracting(MemberSimpleResponse::getNickname).containsExactly("alice", "pete");
+		assertThat(contributors).extracting(MemberSimpleResponse::getProfileImgUrl)
+			.containsExactly("image2", "image1");
+	}
+
+	@Test
+	@DisplayName("회원의 프로필이 변경되면 기여자 정보도 변경한다.")
+	void updateProfile() {
+		//given
+		Member member = member(1L, "renamed");
+		when(documentContributorRepository.findDocumentIdsByMemberId(1L)).thenReturn(List.of(1L, 2L));
+
+		//when
+		documentContributorService.updateProfile(member);
+
+		//then
+		verify(documentContributorRepository, times(1)).updateProfileByMemberId(1L, "renamed", member.getImageUrl());
+
+		//기여한 문서들의 캐시를 삭제한다.
+		verify(documentCacheEvictor, times(1)).evictAll(List.of(1L, 2L));
+	}
+}
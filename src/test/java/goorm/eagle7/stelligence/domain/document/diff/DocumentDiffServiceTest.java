@@ -0,0 +1,129 @@
+package goorm.eagle7.stelligence.domain.document.diff;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.context.annotation.Import;
+
+import goorm.eagle7.stelligence.api.exception.BaseException;
+import goorm.eagle7.stelligence.config.mockdata.WithMockData;
+import goorm.eagle7.stelligence.domain.document.content.RevisionContentCache;
+import goorm.eagle7.stelligence.domain.document.content.dto.RevisionContent;
+import goorm.eagle7.stelligence.domain.document.content.dto.SectionResponse;
+import goorm.eagle7.stelligence.domain.document.diff.dto.DiffOperation;
+import goorm.eagle7.stelligence.domain.document.diff.dto.DocumentDiffResponse;
+import goorm.eagle7.stelligence.domain.document.diff.dto.SectionChangeType;
+import goorm.eagle7.stelligence.domain.document.diff.dto.SectionDiffResponse;
+import goorm.eagle7.stelligence.domain.section.RevisionManifestService;
+import goorm.eagle7.stelligence.domain.section.model.Heading;
+
+@DataJpaTest
+@WithMockData
+@Import({DocumentDiffService.class, RevisionManifestService.class, RevisionContentCache.class,
+	ConcurrentMapCacheManager.class})
+class DocumentDiffServiceTest {
+
+	@Autowired
+	DocumentDiffService documentDiffService;
+
+	@Autowired
+	RevisionManifestService revisionManifestService;
+
+	@Autowired
+	RevisionContentCache revisionContentCache;
+
+	@Autowired
+	CacheManager cacheManager;
+
+	@Test
+	@DisplayName("버전 비교 - 추가, 삭제, 변경된 섹션만 반환한다.")
+	void getDiff() {
+		//when
+		DocumentDiffResponse diff = documentDiffService.getDiff(1L, 1L, 3L);
+
+		//then
+		//3번 섹션은 변경되지 않았으므로 포함되지 않는다.
+		assertThat(diff.getSections())
+			.extracting(SectionDiffResponse::getSectionId, SectionDiffResponse::getChangeType)
+			.containsExactly(
+				tuple(2L, SectionChangeType.CHANGED),
+				tuple(13L, SectionChangeType.ADDED),
+				tuple(1L, SectionChangeType.REMOVED)
+			);
+
+		SectionDiffResponse changed = diff.getSections().get(0);
+		assertThat(changed.getBeforeRevision()).isEqualTo(1L);
+		assertThat(changed.getAfterRevision()).isEqualTo(2L);
+		assertThat(changed.getBeforeTitle()).isEqualTo("document1_title2");
+		assertThat(changed.getAfterTitle()).isEqualTo("document1_title2_update");
+		assertThat(changed.getContentDiff())
+			.extracting(segment -> segment.getOperation())
+			.containsExactly(DiffOperation.DELETE, DiffOperation.INSERT);
+	}
+
+	@Test
+	@DisplayName("버전 비교 - 매니페스트를 통한 결과와 서브쿼리를 통한 결과가 같다.")
+	void getDiffWithManifest() {
+		DocumentDiffResponse withoutManifest = documentDiffService.getDiff(1L, 1L, 2L);
+
+		revisionManifestService.backfill(1L);
+		cacheManager.getCache(DocumentDiffService.CACHE_NAME).clear();
+		DocumentDiffResponse withManifest = documentDiffService.getDiff(1L, 1L, 2L);
+
+		assertThat(withManifest.getSections())
+			.extracting(SectionDiffResponse::getSectionId, SectionDiffResponse::getChangeType)
+			.containsExactlyElementsOf(withoutManifest.getSections().stream()
+				.map(section -> tuple(section.getSectionId(), section.getChangeType()))
+				.toList());
+	}
+
+	@Test
+	@DisplayName("버전 비교 - 결과는 버전 쌍을 키로 캐시된다.")
+	void getDiffCached() {
+		DocumentDiffResponse diff = documentDiffService.getDiff(1L, 1L, 3L);
+
+		assertThat(cacheManager.getCache(DocumentDiffService.CACHE_NAME).get("1:1:3", DocumentDiffResponse.class))
+			.isSameAs(diff);
+		assertThat(documentDiffService.getDiff(1L, 1L, 3L)).isSameAs(diff);
+	}
+
+	@Test
+	@DisplayName("버전 비교 - 캐시된 과거 버전의 섹션을 사용한다.")
+	void getDiffWithCachedRevisions() {
+		//given
+		//DB와 구분되도록 다른 제목을 가진 섹션으로 캐시합니다.
+		revisionContentCache.get(1L, 1L, () -> new RevisionContent(List.of(
+			SectionResponse.of(1L, 1L, Heading.H1, "cached_title1", "content1"),
+			SectionResponse.of(2L, 1L, Heading.H2, "cached_title2", "content2")), "rendered1"));
+		revisionContentCache.get(1L, 2L, () -> new RevisionContent(List.of(
+			SectionResponse.of(2L, 2L, Heading.H2, "cached_title2_update", "content2 update")), "rendered2"));
+
+		//when
+		DocumentDiffResponse diff = documentDiffService.getDiff(1L, 1L, 2L);
+
+		//then
+		assertThat(diff.getSections())
+			.extracting(SectionDiffResponse::getSectionId, SectionDiffResponse::getChangeType)
+			.containsExactly(
+				tuple(2L, SectionChangeType.CHANGED),
+				tuple(1L, SectionChangeType.REMOVED)
+			);
+		assertThat(diff.getSections().get(0).getBeforeTitle()).isEqualTo("cached_title2");
+		assertThat(diff.getSections().get(0).getAfterTitle()).isEqualTo("cached_title2_update");
+	}
+
+	@Test
+	@DisplayName("버전 비교 - 존재하지 않는 버전")
+	void getDiffWithInvalidRevision() {
+		assertThatThrownBy(() -> documentDiffService.getDiff(1L, 1L, 4L))
+			.isInstanceOf(BaseException.class)
+			.hasMessage("존재하지 않는 버전입니다. 버전 : 4");
+	}
+}
@@ -0,0 +1,72 @@
+package goorm.eagle7.stelligence.domain.document.diff;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import goorm.eagle7.stelligence.domain.document.diff.dto.DiffOperation;
+import goorm.eagle7.stelligence.domain.document.diff.dto.DiffSegment;
+
+class WordDiffTest {
+
+	@Test
+	@DisplayName("변경된 단어만 삭제, 삽입으로 표시된다.")
+	void diff() {
+		List<DiffSegment> segments = WordDiff.diff("the quick brown fox", "the slow brown dog");
+
+		assertThat(segments).extracting(DiffSegment::getOperation, DiffSegment::getText)
+			.containsExactly(
+				tuple(DiffOperation.EQUAL, "the "),
+				tuple(DiffOperation.DELETE, "quick"),
+				tuple(DiffOperation.INSERT, "slow"),
+				tuple(DiffOperation.EQUAL, " brown "),
+				tuple(DiffOperation.DELETE, "fox"),
+				tuple(DiffOperation.INSERT, "dog")
+			);
+	}
+
+	@Test
+	@DisplayName("같은 문자열은 하나의 EQUAL 조각이 된다.")
+	void diffSame() {
+		assertThat(WordDiff.diff("<p>same content</p>", "<p>same content</p>"))
+			.extracting(DiffSegment::getOperation)
+			.containsExactly(DiffOperation.EQUAL);
+	}
+
+	@Test
+	@DisplayName("비교 결과로부터 이전, 이후 문자열을 복원할 수 있다.")
+	void reconstruct() {
+		String before = "<p>Stelligence는 집단 지성으로 문서를 함께 작성하는 서비스입니다.</p>\n<p>누구나 수정을 요청할 수 있습니다.</p>";
+		String after = "<p>Stelligence는 문서를 함께 작성하고 토론하는 서비스입니다.</p>\n<p>누구나 수정을 요청하고 투표할 수 있습니다.</p>";
+
+		List<DiffSegment> segments = WordDiff.diff(before, after);
+
+		StringBuilder restoredBefore = new StringBuilder();
+		StringBuilder restoredAfter = new StringBuilder();
+		for (DiffSegment segment : segments) {
+			if (segment.getOperation() != DiffOperation.INSERT) {
+				restoredBefore.append(segment.getText());
+			}
+			if (segment.getOperation() != DiffOperation.DELETE) {
+				restoredAfter.append(segment.getText());
+			}
+		}
+
+		assertThat(restoredBefore.toString()).isEqualTo(before);
+		assertThat(restoredAfter.toString()).isEqualTo(after);
+	}
+
+	@Test
+	@DisplayName("한쪽이 비어있다면 전체가 삽입 또는 삭제된다.")
+	void diffEmpty() {
+		assertThat(WordDiff.diff("", "new words"))
+			.extracting(DiffSegment::getOperation, DiffSegment::getText)
+			.containsExactly(tuple(DiffOperation.INSERT, "new words"));
+		assertThat(WordDiff.diff("old words", ""))
+			.extracting(DiffSegment::getOperation, DiffSegment::getText)
+			.containsExactly(tuple(DiffOperation.DELETE, "old words"));
+	}
+}
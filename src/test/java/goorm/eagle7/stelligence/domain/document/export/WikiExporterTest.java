@@ -0,0 +1,124 @@
+package goorm.eagle7.stelligence.domain.document.export;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import goorm.eagle7.stelligence.config.mockdata.WithMockData;
+import goorm.eagle7.stelligence.domain.document.export.dto.WikiExportResult;
+
+@DataJpaTest
+@WithMockData
+@Import(WikiExporter.class)
+class WikiExporterTest {
+
+	private final ObjectMapper objectMapper = new ObjectMapper();
+
+	@Autowired
+	WikiExporter wikiExporter;
+
+	@Test
+	@DisplayName("전체 내보내기 - 모든 문서와 모든 버전의 섹션, 수정요청을 한 줄씩 쓴다.")
+	void export() throws Exception {
+		//given
+		ByteArrayOutputStream output = new ByteArrayOutputStream();
+		List<Long> checkpoints = new ArrayList<>();
+
+		//when
+		WikiExportResult result = wikiExporter.export(output, 0L, checkpoints::add);
+
+		//then
+		List<JsonNode> lines = parse(output);
+		assertThat(lines).hasSize(4 + 16 + 6);
+		assertThat(result.getExportedDocuments()).isEqualTo(4);
+		assertThat(result.getExportedSections()).isEqualTo(16);
+		assertThat(result.getExportedContributes()).isEqualTo(6);
+		assertThat(result.getLastDocumentId()).isEqualTo(4L);
+		assertThat(checkpoints).containsExactly(4L);
+
+		//문서, 섹션, 수정요청 순서로 출력됩니다.
+		assertThat(lines.get(0).get("type").asText()).isEqualTo("document");
+		assertThat(lines.get(0).get("title").asText()).isEqualTo("title1");
+		assertThat(lines.get(0).get("latestRevision").asLong()).isEqualTo(3L);
+		assertThat(lines.get(4).get("type").asText()).isEqualTo("section");
+		assertThat(lines.get(20).get("type").asText()).isEqualTo("contribute");
+
+		//본문은 압축이 해제되어 출력됩니다.
+		JsonNode firstSection = lines.get(4);
+		assertThat(firstSection.get("sectionId").asLong()).isEqualTo(1L);
+		assertThat(firstSection.get("revision").asLong()).isEqualTo(1L);
+		assertThat(firstSection.get("deleted").asBoolean()).isFalse();
+		assertThat(firstSection.get("content").asText()).isEqualTo("document1_content1\\n");
+
+		//삭제된 섹션
+		JsonNode deletedSection = lines.get(5);
+		assertThat(deletedSection.get("sectionId").asLong()).isEqualTo(1L);
+		assertThat(deletedSection.get("revision").asLong()).isEqualTo(3L);
+		assertThat(deletedSection.get("deleted").asBoolean()).isTrue();
+		assertThat(deletedSection.get("content").isNull()).isTrue();
+	}
+
+	@Test
+	@DisplayName("체크포인트 이후의 문서만 내보낸다.")
+	void exportAfterCheckpoint() throws Exception {
+		//given
+		ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+		//when
+		WikiExportResult result = wikiExporter.export(output, 2L, lastDocumentId -> {
+		});
+
+		//then
+		List<JsonNode> lines = parse(output);
+		assertThat(lines).allSatisfy(line -> assertThat(line.get("documentId").asLong()).isGreaterThan(2L));
+		assertThat(result.getExportedDocuments()).isEqualTo(2);
+		assertThat(result.getExportedSections()).isEqualTo(6);
+		assertThat(result.getExportedContributes()).isEqualTo(1);
+		assertThat(result.getLastDocumentId()).isEqualTo(4L);
+	}
+
+	@Test
+	@DisplayName("마지막 문서 이후의 체크포인트라면 아무것도 내보내지 않는다.")
+	void exportNothing() {
+		//given
+		ByteArrayOutputStream output = new ByteArrayOutputStream();
+		List<Long> checkpoints = new ArrayList<>();
+
+		//when
+		WikiExportResult result = wikiExporter.export(output, 4L, checkpoints::add);
+
+		//then
+		assertThat(output.size()).isZero();
+		assertThat(checkpoints).isEmpty();
+		assertThat(result.getExportedDocuments()).isZero();
+		assertThat(result.getLastDocumentId()).isEqualTo(4L);
+	}
+
+	@Test
+	@DisplayName("MySQL에서는 결과를 한 행씩 스트리밍하도록 fetch size를 지정한다.")
+	void resolveFetchSize() {
+		assertThat(WikiExporter.resolveFetchSize("MySQL", 500)).isEqualTo(Integer.MIN_VALUE);
+		assertThat(WikiExporter.resolveFetchSize("H2", 500)).isEqualTo(500);
+		assertThat(WikiExporter.resolveFetchSize(null, 500)).isEqualTo(500);
+	}
+
+	private List<JsonNode> parse(ByteArrayOutputStream output) throws Exception {
+		List<JsonNode> lines = new ArrayList<>();
+		for (String line : output.toString(StandardCharsets.UTF_8).split("\n")) {
+			lines.add(objectMapper.readTree(line));
+		}
+		return lines;
+	}
+}
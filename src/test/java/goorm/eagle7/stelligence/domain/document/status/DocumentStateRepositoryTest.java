@@ -0,0 +1,71 @@
+package goorm.eagle7.stelligence.domain.document.status;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+
+import goorm.eagle7.stelligence.config.mockdata.WithMockData;
+import goorm.eagle7.stelligence.domain.document.content.dto.DocumentStatus;
+import goorm.eagle7.stelligence.domain.document.status.model.DocumentState;
+import jakarta.persistence.EntityManager;
+
+@DataJpaTest
+@WithMockData
+class DocumentStateRepositoryTest {
+
+	@Autowired
+	private DocumentStateRepository documentStateRepository;
+
+	@Autowired
+	private EntityManager em;
+
+	@Test
+	@DisplayName("토론을 대상으로 하는 문서 상태 조회")
+	void findByDebateIdIn() {
+		//when
+		List<DocumentState> states = documentStateRepository.findByDebateIdIn(List.of(2L, 7L));
+
+		//then
+		//1번 문서는 2번 토론이, 3번 문서는 7번 토론이 진행중이다.
+		assertThat(states).extracting(DocumentState::getDocumentId).containsExactlyInAnyOrder(1L, 3L);
+	}
+
+	@Test
+	@DisplayName("수정대기 시간이 지난 문서만 편집가능 상태로 변경된다.")
+	void expirePending() {
+		//given
+		LocalDateTime now = LocalDateTime.now();
+
+		DocumentState expired = documentStateRepository.findById(1L).orElseThrow();
+		expired.closeDebate(now.minusMinutes(1L));
+
+		DocumentState pending = documentStateRepository.findById(3L).orElseThrow();
+		pending.closeDebate(now.plusMinutes(10L));
+		em.flush();
+
+		//when
+		int updated = documentStateRepository.expirePending(now);
+		em.clear();
+
+		//then
+		assertThat(updated).isEqualTo(1);
+
+		DocumentState expiredResult = documentStateRepository.findById(1L).orElseThrow();
+		assertThat(expiredResult.getStatus()).isEqualTo(DocumentStatus.EDITABLE);
+		assertThat(expiredResult.getDebateId()).isNull();
+		assertThat(expiredResult.getPendingUntil()).isNull();
+
+		DocumentState pendingResult = documentStateRepository.findById(3L).orElseThrow();
+		assertThat(pendingResult.getStatus()).isEqualTo(DocumentStatus.PENDING);
+		assertThat(pendingResult.getDebateId()).isEqualTo(7L);
+
+		//다른 상태의 문서는 변경되지 않는다.
+		assertThat(documentStateRepository.findById(2L).orElseThrow().getStatus()).isEqualTo(DocumentStatus.VOTING);
+	}
+}
@@ -0,0 +1,94 @@
+package goorm.eagle7.stelligence.domain.document.status;
+
+import static goorm.eagle7.stelligence.config.mockdata.TestFixtureGenerator.*;
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import goorm.eagle7.stelligence.domain.contribute.model.Contribute;
+import goorm.eagle7.stelligence.domain.contribute.model.ContributeStatus;
+import goorm.eagle7.stelligence.domain.debate.model.Debate;
+import goorm.eagle7.stelligence.domain.debate.model.DebateStatus;
+import goorm.eagle7.stelligence.domain.debate.repository.DebateRepository;
+import goorm.eagle7.stelligence.domain.document.content.dto.DocumentStatus;
+import goorm.eagle7.stelligence.domain.document.content.model.Document;
+import goorm.eagle7.stelligence.domain.document.status.model.DocumentState;
+
+@ExtendWith(MockitoExtension.class)
+class DocumentStateServiceTest {
+
+	@Mock
+	DocumentStateRepository documentStateRepository;
+
+	@Mock
+	DebateRepository debateRepository;
+
+	@InjectMocks
+	DocumentStateService documentStateService;
+
+	@Test
+	@DisplayName("상태가 기록되지 않은 문서는 편집가능 상태로 간주한다.")
+	void getStateWithoutRecord() {
+		//given
+		when(documentStateRepository.findById(1L)).thenReturn(Optional.empty());
+
+		//when
+		DocumentState state = documentStateService.getState(1L);
+
+		//then
+		assertThat(state.getDocumentId()).isEqualTo(1L);
+		assertThat(state.getStatus()).isEqualTo(DocumentStatus.EDITABLE);
+	}
+
+	@Test
+	@DisplayName("수정요청이 생성되면 문서는 투표중 상태가 된다.")
+	void votingStarted() {
+		//given
+		Document document = document(1L, null, "title", 1L);
+		Contribute contribute = contribute(2L, null, ContributeStatus.VOTING, document);
+		DocumentState state = DocumentState.editable(1L);
+
+		when(documentStateRepository.findById(1L)).thenReturn(Optional.of(state));
+
+		//when
+		documentStateService.votingStarted(contribute);
+
+		//then
+		assertThat(state.getStatus()).isEqualTo(DocumentStatus.VOTING);
+		assertThat(state.getContributeId()).isEqualTo(2L);
+	}
+
+	@Test
+	@DisplayName("토론이 종료되면 토론의 종료 시간으로부터 수정대기 시간을 계산한다.")
+	void debatesClosed() {
+		//given
+		LocalDateTime endAt = LocalDateTime.now();
+		Document document = document(1L, null, "title", 1L);
+		Contribute contribute = contribute(2L, null, ContributeStatus.DEBATING, document);
+		Debate debate = debate(3L, contribute, DebateStatus.CLOSED, endAt, 1);
+
+		DocumentState state = DocumentState.editable(1L);
+		state.startDebate(3L);
+
+		when(debateRepository.findAllById(List.of(3L))).thenReturn(List.of(debate));
+		when(documentStateRepository.findByDebateIdIn(List.of(3L))).thenReturn(List.of(state));
+
+		//when
+		documentStateService.debatesClosed(List.of(3L));
+
+		//then
+		assertThat(state.getStatus()).isEqualTo(DocumentStatus.PENDING);
+		assertThat(state.getDebateId()).isEqualTo(3L);
+		assertThat(state.getPendingUntil()).isEqualTo(endAt.plusMinutes(Debate.DEBATE_PENDING_DURATION_MINUTE));
+	}
+}
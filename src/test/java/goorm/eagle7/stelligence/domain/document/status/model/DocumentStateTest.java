@@ -0,0 +1,152 @@
+package goorm.eagle7.stelligence.domain.document.status.model;
+
+import static goorm.eagle7.stelligence.config.mockdata.TestFixtureGenerator.*;
+import static org.assertj.core.api.Assertions.*;
+
+import java.time.LocalDateTime;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import goorm.eagle7.stelligence.domain.contribute.model.Contribute;
+import goorm.eagle7.stelligence.domain.contribute.model.ContributeStatus;
+import goorm.eagle7.stelligence.domain.debate.model.Debate;
+import goorm.eagle7.stelligence.domain.debate.model.DebateStatus;
+import goorm.eagle7.stelligence.domain.document.content.dto.DocumentStatus;
+import goorm.eagle7.stelligence.domain.document.content.model.Document;
+
+class DocumentStateTest {
+
+	@Test
+	@DisplayName("최근 수정요청과 토론으로부터 생성 - 투표중")
+	void ofVoting() {
+		//given
+		Document document = document(1L, null, "title", 1L);
+		Contribute contribute = contribute(2L, null, ContributeStatus.VOTING, document);
+
+		//when
+		DocumentState state = DocumentState.of(1L, contribute, null);
+
+		//then
+		LocalDateTime now = LocalDateTime.now();
+		assertThat(state.getStatus(now)).isEqualTo(DocumentStatus.VOTING);
+		assertThat(state.getActiveContributeId(now)).isEqualTo(2L);
+		assertThat(state.getActiveDebateId(now)).isNull();
+	}
+
+	@Test
+	@DisplayName("최근 수정요청과 토론으로부터 생성 - 토론중")
+	void ofDebating() {
+		//given
+		Document document = document(1L, null, "title", 1L);
+		Contribute contribute = contribute(2L, null, ContributeStatus.DEBATING, document);
+		Debate debate = debate(3L, contribute, DebateStatus.OPEN, LocalDateTime.now().plusHours(1L), 1);
+
+		//when
+		DocumentState state = DocumentState.of(1L, contribute, debate);
+
+		//then
+		LocalDateTime now = LocalDateTime.now();
+		assertThat(state.getStatus(now)).isEqualTo(DocumentStatus.DEBATING);
+		assertThat(state.getActiveContributeId(now)).isNull();
+		assertThat(state.getActiveDebateId(now)).isEqualTo(3L);
+	}
+
+	@Test
+	@DisplayName("최근 수정요청과 토론으로부터 생성 - 토론 종료 후 수정대기중")
+	void ofPending() {
+		//given
+		LocalDateTime endAt = LocalDateTime.now();
+		Document document = document(1L, null, "title", 1L);
+		Contribute contribute = contribute(2L, null, ContributeStatus.DEBATING, document);
+		Debate debate = debate(3L, contribute, DebateStatus.CLOSED, endAt, 1);
+
+		//when
+		DocumentState state = DocumentState.of(1L, contribute, debate);
+
+		//then
+		assertThat(state.getStatus(LocalDateTime.now())).isEqualTo(DocumentStatus.PENDING);
+		assertThat(state.getPendingUntil()).isEqualTo(endAt.plusMinutes(Debate.DEBATE_PENDING_DURATION_MINUTE));
+		assertThat(state.getActiveDebateId(LocalDateTime.now())).isEqualTo(3L);
+	}
+
+	@Test
+	@DisplayName("최근 수정요청과 토론으로부터 생성 - 수정대기 시간이 지난 경우 편집가능")
+	void ofPendingExpired() {
+		//given
+		Document document = document(1L, null, "title", 1L);
+		Contribute contribute = contribute(2L, null, ContributeStatus.DEBATING, document);
+		Debate debate = debate(3L, contribute, DebateStatus.CLOSED,
+			LocalDateTime.now().minusMinutes(Debate.DEBATE_PENDING_DURATION_MINUTE).minusMinutes(1L), 1);
+
+		//when
+		DocumentState state = DocumentState.of(1L, contribute, debate);
+
+		//then
+		assertThat(state.getStatus()).isEqualTo(DocumentStatus.EDITABLE);
+		assertThat(state.getDebateId()).isNull();
+	}
+
+	@Test
+	@DisplayName("수정대기 시간이 지나면 스케줄러가 상태를 변경하기 전에도 편집가능 상태로 판단한다.")
+	void pendingExpiresOnRead() {
+		//given
+		LocalDateTime now = LocalDateTime.now();
+		DocumentState state = DocumentState.editable(1L);
+		state.startDebate(3L);
+		state.closeDebate(now.plusMinutes(10L));
+
+		//when, then
+		assertThat(state.getStatus(now)).isEqualTo(DocumentStatus.PENDING);
+		assertThat(state.getStatus(now.plusMinutes(10L))).isEqualTo(DocumentStatus.EDITABLE);
+		assertThat(state.getActiveDebateId(now.plusMinutes(10L))).isNull();
+
+		//기록된 상태는 변경되지 않는다.
+		assertThat(state.getStatus()).isEqualTo(DocumentStatus.PENDING);
+	}
+
+	@Test
+	@DisplayName("수정대기중에 생성된 수정요청의 투표가 끝나면 대기 시간이 남아있는 경우 수정대기중 상태로 돌아간다.")
+	void finishVotingReturnsToPending() {
+		//given
+		LocalDateTime now = LocalDateTime.now();
+		DocumentState state = DocumentState.editable(1L);
+		state.startDebate(3L);
+		state.closeDebate(now.plusMinutes(10L));
+		state.startVoting(4L);
+
+		//when
+		state.finishVoting(now);
+
+		//then
+		assertThat(state.getStatus(now)).isEqualTo(DocumentStatus.PENDING);
+		assertThat(state.getContributeId()).isNull();
+		assertThat(state.getDebateId()).isEqualTo(3L);
+	}
+
+	@Test
+	@DisplayName("투표가 끝났을 때 대기 시간이 지났다면 편집가능 상태가 된다.")
+	void finishVotingAfterPending() {
+		//given
+		LocalDateTime now = LocalDateTime.now();
+		DocumentState state = DocumentState.editable(1L);
+		state.startDebate(3L);
+		state.closeDebate(now.minusMinutes(1L));
+		state.startVoting(4L);
+
+		//when
+		state.finishVoting(now);
+
+		//then
+		assertThat(state.getStatus()).isEqualTo(DocumentStatus.EDITABLE);
+		assertThat(state.getContributeId()).isNull();
+		assertThat(state.getDebateId()).isNull();
+		assertThat(state.getPendingUntil()).isNull();
+	}
+
+	@Test
+	@DisplayName("기록되지 않은 상태는 편집가능 상태로 판단한다.")
+	void statusAtWithoutState() {
+		assertThat(DocumentState.statusAt(null, null, null, LocalDateTime.now())).isEqualTo(DocumentStatus.EDITABLE);
+	}
+}
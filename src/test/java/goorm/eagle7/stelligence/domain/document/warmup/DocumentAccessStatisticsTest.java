@@ -0,0 +1,112 @@
+package goorm.eagle7.stelligence.domain.document.warmup;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.data.redis.core.ZSetOperations.TypedTuple;
+
+@ExtendWith(MockitoExtension.class)
+class DocumentAccessStatisticsTest {
+
+	@Mock
+	StringRedisTemplate redisTemplate;
+
+	@Mock
+	ZSetOperations<String, String> zSetOperations;
+
+	DocumentAccessStatistics documentAccessStatistics;
+
+	@BeforeEach
+	void setUp() {
+		documentAccessStatistics = new DocumentAccessStatistics(redisTemplate, 3, 1024);
+	}
+
+	@Test
+	@DisplayName("가장 많이 조회된 topK개의 문서만 유지")
+	void top() {
+		//given
+		record(1L, 10);
+		record(2L, 5);
+		record(3L, 3);
+		record(4L, 1);
+		record(5L, 7);
+
+		//when
+		List<Long> top = documentAccessStatistics.top(10);
+
+		//then
+		assertThat(top).containsExactly(1L, 5L, 2L);
+	}
+
+	@Test
+	@DisplayName("후보를 Redis에 저장하고 빈도를 절반으로 줄임")
+	@SuppressWarnings("unchecked")
+	void persist() {
+		//given
+		when(redisTemplate.opsForZSet()).thenReturn(zSetOperations);
+		record(1L, 10);
+		record(2L, 4);
+
+		//when
+		documentAccessStatistics.persist();
+
+		//then
+		ArgumentCaptor<Set<TypedTuple<String>>> captor = ArgumentCaptor.forClass(Set.class);
+		verify(zSetOperations).add(eq(DocumentAccessStatistics.KEY), captor.capture());
+		assertThat(captor.getValue()).containsExactlyInAnyOrder(TypedTuple.of("1", 10.0), TypedTuple.of("2", 4.0));
+		verify(zSetOperations).removeRange(DocumentAccessStatistics.KEY, 0, -4L);
+
+		//빈도가 절반으로 줄어든 뒤에는 새로운 조회가 더 큰 비중을 가집니다.
+		record(3L, 6);
+		assertThat(documentAccessStatistics.top(10)).containsExactly(3L, 1L, 2L);
+	}
+
+	@Test
+	@DisplayName("저장된 후보를 빈도가 높은 순서로 조회")
+	void loadPersisted() {
+		//given
+		when(redisTemplate.opsForZSet()).thenReturn(zSetOperations);
+		when(zSetOperations.reverseRange(DocumentAccessStatistics.KEY, 0, 1L))
+			.thenReturn(new LinkedHashSet<>(List.of("3", "1")));
+
+		//when
+		List<Long> documentIds = documentAccessStatistics.loadPersisted(2);
+
+		//then
+		assertThat(documentIds).containsExactly(3L, 1L);
+	}
+
+	@Test
+	@DisplayName("Redis에 접근할 수 없다면 빈 목록")
+	void loadPersistedFailure() {
+		//given
+		when(redisTemplate.opsForZSet()).thenThrow(new RedisConnectionFailureException("down"));
+
+		//when
+		List<Long> documentIds = documentAccessStatistics.loadPersisted(2);
+
+		//then
+		assertThat(documentIds).isEmpty();
+	}
+
+	private void record(Long documentId, int times) {
+		for (int i = 0; i < times; i++) {
+			documentAccessStatistics.record(documentId);
+		}
+	}
+}
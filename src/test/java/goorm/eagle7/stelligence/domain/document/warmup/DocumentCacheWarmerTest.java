@@ -0,0 +1,133 @@
+package goorm.eagle7.stelligence.domain.document.warmup;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import goorm.eagle7.stelligence.api.exception.BaseException;
+import goorm.eagle7.stelligence.domain.document.content.DocumentResponseCache;
+import goorm.eagle7.stelligence.domain.document.graph.DocumentGraphService;
+
+@ExtendWith(MockitoExtension.class)
+class DocumentCacheWarmerTest {
+
+	@Mock
+	DocumentResponseCache documentResponseCache;
+
+	@Mock
+	DocumentGraphService documentGraphService;
+
+	@Mock
+	DocumentAccessStatistics documentAccessStatistics;
+
+	DocumentCacheWarmer documentCacheWarmer;
+
+	@AfterEach
+	void tearDown() {
+		if (documentCacheWarmer != null) {
+			documentCacheWarmer.shutdown();
+		}
+	}
+
+	@Test
+	@DisplayName("저장된 인기 문서와 루트 그래프를 캐시에 채움")
+	void warmUp() {
+		//given
+		documentCacheWarmer = warmer(true);
+		when(documentAccessStatistics.loadPersisted(100)).thenReturn(List.of(3L, 1L));
+
+		//when
+		int warmed = documentCacheWarmer.warmUp();
+
+		//then
+		assertThat(warmed).isEqualTo(4);
+		verify(documentGraphService).findFromRootNodesWithDepth(0);
+		verify(documentGraphService).findFromRootNodesWithDepth(1);
+		verify(documentResponseCache).warm(3L);
+		verify(documentResponseCache).warm(1L);
+	}
+
+	@Test
+	@DisplayName("일부 문서의 워밍에 실패하더라도 나머지는 계속 수행")
+	void warmUpFailure() {
+		//given
+		documentCacheWarmer = warmer(true);
+		when(documentAccessStatistics.loadPersisted(100)).thenReturn(List.of(3L, 1L));
+		doThrow(new BaseException("존재하지 않는 문서입니다.")).when(documentResponseCache).warm(3L);
+
+		//when
+		int warmed = documentCacheWarmer.warmUp();
+
+		//then
+		assertThat(warmed).isEqualTo(3);
+		verify(documentResponseCache).warm(1L);
+	}
+
+	@Test
+	@DisplayName("트랜잭션이 없다면 즉시 백그라운드에서 문서의 캐시를 다시 만듦")
+	void warmOnCommit() {
+		//given
+		documentCacheWarmer = warmer(true);
+
+		//when
+		documentCacheWarmer.warmOnCommit(1L);
+
+		//then
+		verify(documentResponseCache, timeout(1000)).warm(1L);
+	}
+
+	@Test
+	@DisplayName("작업 큐가 가득 차면 문서의 캐시를 다시 만드는 작업을 건너뜀")
+	void warmOnCommitQueueFull() {
+		//given
+		documentCacheWarmer = new DocumentCacheWarmer(documentResponseCache, documentGraphService,
+			documentAccessStatistics, true, 100, List.of(0, 1), 1, 5000L);
+		CountDownLatch release = new CountDownLatch(1);
+		doAnswer(invocation -> {
+			release.await();
+			return null;
+		}).when(documentResponseCache).warm(1L);
+
+		//하나는 수행 중이고 나머지는 큐를 채웁니다.
+		for (int i = 0; i < DocumentCacheWarmer.QUEUE_SIZE + 1; i++) {
+			documentCacheWarmer.warmOnCommit(1L);
+		}
+
+		//when
+		assertThatCode(() -> documentCacheWarmer.warmOnCommit(2L)).doesNotThrowAnyException();
+		release.countDown();
+
+		//then
+		verify(documentResponseCache, timeout(1000).times(DocumentCacheWarmer.QUEUE_SIZE + 1)).warm(1L);
+		verify(documentResponseCache, never()).warm(2L);
+	}
+
+	@Test
+	@DisplayName("비활성화되어 있다면 아무것도 하지 않음")
+	void disabled() throws Exception {
+		//given
+		documentCacheWarmer = warmer(false);
+
+		//when
+		documentCacheWarmer.run(null);
+		documentCacheWarmer.warmOnCommit(1L);
+
+		//then
+		Thread.sleep(100);
+		verifyNoInteractions(documentResponseCache, documentGraphService, documentAccessStatistics);
+	}
+
+	private DocumentCacheWarmer warmer(boolean enabled) {
+		return new DocumentCacheWarmer(documentResponseCache, documentGraphService, documentAccessStatistics,
+			enabled, 100, List.of(0, 1), 2, 5000L);
+	}
+}
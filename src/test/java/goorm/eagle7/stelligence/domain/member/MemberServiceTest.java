@@ -19,6 +19,7 @@ import goorm.eagle7.stelligence.api.exception.BaseException;
 import goorm.eagle7.stelligence.common.login.CookieUtils;
 import goorm.eagle7.stelligence.config.mockdata.TestFixtureGenerator;
 import goorm.eagle7.stelligence.domain.badge.model.Badge;
+import goorm.eagle7.stelligence.domain.document.contributor.DocumentContributorService;
 import goorm.eagle7.stelligence.domain.member.dto.MemberBadgesListResponse;
 import goorm.eagle7.stelligence.domain.member.dto.MemberDetailResponse;
 import goorm.eagle7.stelligence.domain.member.dto.MemberSimpleResponse;
@@ -36,6 +37,8 @@ class MemberServiceTest {
 	private MemberRepository memberRepository;
 	@Mock
 	private WithdrawnMemberRepository withdrawnMemberRepository;
+	@Mock
+	private DocumentContributorService documentContributorService;
 
 	@InjectMocks
 	private MemberService memberService;
@@ -146,6 +149,9 @@ class MemberServiceTest {
 		assertThat(stdMember.getContributes()).isZero();
 		assertThat(stdMember.getBadges()).isEmpty();
 
+		// 기여한 문서들의 기여자 정보 변경 확인
+		verify(documentContributorService, times(1)).updateProfile(stdMember);
+
 	}
 
 	/**
@@ -194,6 +200,8 @@ class MemberServiceTest {
 		// then
 		// nickname이 변경되었는지 확인
 		assertThat(stdMember.getNickname()).isEqualTo(newNickname);
+		// 기여한 문서들의 기여자 정보 변경 확인
+		verify(documentContributorService, times(1)).updateProfile(stdMember);
 
 	}
 
@@ -226,6 +234,7 @@ class MemberServiceTest {
 		verify(memberRepository, times(1)).existsByNicknameAndActiveTrue(newNickname);
 		// nickname이 변경되었는지 확인 - 예외이므로 바뀌지 않고, 기존 그대로
 		assertThat(stdMember.getNickname()).isEqualTo(stdNickname);
+		verify(documentContributorService, never()).updateProfile(any());
 
 	}
 
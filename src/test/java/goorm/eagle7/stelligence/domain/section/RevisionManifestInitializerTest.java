@@ -0,0 +1,64 @@
+package goorm.eagle7.stelligence.domain.section;
+
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import goorm.eagle7.stelligence.api.exception.BaseException;
+
+@ExtendWith(MockitoExtension.class)
+class RevisionManifestInitializerTest {
+
+	@Mock
+	RevisionManifestRepository revisionManifestRepository;
+
+	@Mock
+	RevisionManifestService revisionManifestService;
+
+	@InjectMocks
+	RevisionManifestInitializer revisionManifestInitializer;
+
+	@Test
+	@DisplayName("마지막으로 처리한 문서 ID 이후의 페이지를 이어서 조회하고, 실패한 문서는 건너뛴다.")
+	void backfillAll() {
+		//given
+		when(revisionManifestRepository.findDocumentIdsWithoutManifest(eq(0L), any())).thenReturn(List.of(1L, 2L));
+		when(revisionManifestRepository.findDocumentIdsWithoutManifest(eq(2L), any())).thenReturn(List.of(5L));
+		when(revisionManifestRepository.findDocumentIdsWithoutManifest(eq(5L), any())).thenReturn(List.of());
+		when(revisionManifestService.backfill(2L)).thenThrow(new BaseException("문서가 존재하지 않습니다. 문서 ID : 2"));
+
+		//when
+		revisionManifestInitializer.backfillAll();
+
+		//then
+		verify(revisionManifestService).backfill(1L);
+		verify(revisionManifestService).backfill(2L);
+		verify(revisionManifestService).backfill(5L);
+	}
+
+	@Test
+	@DisplayName("중단되면 남은 문서의 매니페스트를 생성하지 않는다.")
+	void interrupted() {
+		//given
+		when(revisionManifestRepository.findDocumentIdsWithoutManifest(eq(0L), any())).thenReturn(List.of(1L, 2L));
+
+		//when
+		Thread.currentThread().interrupt();
+		try {
+			revisionManifestInitializer.backfillAll();
+		} finally {
+			Thread.interrupted();
+		}
+
+		//then
+		verifyNoInteractions(revisionManifestService);
+	}
+}
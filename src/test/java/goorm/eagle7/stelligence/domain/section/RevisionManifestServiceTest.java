@@ -0,0 +1,109 @@
+package goorm.eagle7.stelligence.domain.section;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+
+import goorm.eagle7.stelligence.config.mockdata.WithMockData;
+import goorm.eagle7.stelligence.domain.document.content.DocumentContentRepository;
+import goorm.eagle7.stelligence.domain.document.content.model.Document;
+import goorm.eagle7.stelligence.domain.section.model.RevisionManifest;
+import goorm.eagle7.stelligence.domain.section.model.Section;
+import goorm.eagle7.stelligence.domain.section.model.SectionId;
+
+@DataJpaTest
+@WithMockData
+@Import(RevisionManifestService.class)
+class RevisionManifestServiceTest {
+
+	@Autowired
+	RevisionManifestService revisionManifestService;
+
+	@Autowired
+	RevisionManifestRepository revisionManifestRepository;
+
+	@Autowired
+	SectionRepository sectionRepository;
+
+	@Autowired
+	DocumentContentRepository documentContentRepository;
+
+	@Test
+	@DisplayName("매니페스트가 없는 문서 조회")
+	void findDocumentIdsWithoutManifest() {
+		assertThat(revisionManifestRepository.findDocumentIdsWithoutManifest(0L, PageRequest.of(0, 10)))
+			.containsExactly(1L, 2L, 3L, 4L);
+		assertThat(revisionManifestRepository.findDocumentIdsWithoutManifest(1L, PageRequest.of(0, 2)))
+			.containsExactly(2L, 3L);
+	}
+
+	@Test
+	@DisplayName("섹션 이력으로부터 모든 버전의 매니페스트 생성")
+	void backfill() {
+		//when
+		int created = revisionManifestService.backfill(1L);
+
+		//then
+		assertThat(created).isEqualTo(3);
+		assertThat(keysOf(1L, 1L)).containsExactly(SectionId.of(1L, 1L), SectionId.of(2L, 1L), SectionId.of(3L, 1L));
+		assertThat(keysOf(1L, 2L)).containsExactly(SectionId.of(1L, 1L), SectionId.of(2L, 2L), SectionId.of(3L, 1L),
+			SectionId.of(13L, 2L));
+		//3번 버전에서 1번 섹션이 삭제되었다.
+		assertThat(keysOf(1L, 3L)).containsExactly(SectionId.of(2L, 2L), SectionId.of(3L, 1L), SectionId.of(13L, 2L));
+		assertThat(revisionManifestRepository.findDocumentIdsWithoutManifest(0L, PageRequest.of(0, 10)))
+			.doesNotContain(1L);
+	}
+
+	@Test
+	@DisplayName("매니페스트를 통한 조회는 revision 서브쿼리 조회와 같은 결과를 순서대로 반환한다.")
+	void findSectionsEqualsFindByVersion() {
+		for (long documentId = 1; documentId <= 4; documentId++) {
+			revisionManifestService.backfill(documentId);
+			Document document = documentContentRepository.findById(documentId).orElseThrow();
+
+			for (long revision = 1; revision <= document.getLatestRevision(); revision++) {
+				List<Section> byManifest = revisionManifestService.findSections(documentId, revision).orElseThrow();
+				List<Section> byVersion = sectionRepository.findByVersion(document, revision)
+					.stream()
+					.sorted()
+					.toList();
+
+				assertThat(byManifest).containsExactlyElementsOf(byVersion);
+			}
+		}
+	}
+
+	@Test
+	@DisplayName("최신 버전의 매니페스트 기록")
+	void recordLatestRevision() {
+		//given
+		Document document = documentContentRepository.findById(2L).orElseThrow();
+
+		//when
+		revisionManifestService.recordLatestRevision(document);
+
+		//then
+		//2번 문서의 2번 버전은 14번 섹션이 두번째 순서로 삽입되었다.
+		assertThat(keysOf(2L, 2L)).containsExactly(SectionId.of(4L, 1L), SectionId.of(14L, 2L), SectionId.of(5L, 1L),
+			SectionId.of(6L, 1L));
+	}
+
+	@Test
+	@DisplayName("매니페스트가 없는 버전은 빈 값을 반환한다.")
+	void findSectionsWithoutManifest() {
+		assertThat(revisionManifestService.findSections(1L, 1L)).isEmpty();
+	}
+
+	private List<SectionId> keysOf(Long documentId, Long revision) {
+		return revisionManifestRepository.findByDocumentIdAndRevision(documentId, revision)
+			.map(RevisionManifest::getSectionKeys)
+			.orElseThrow();
+	}
+}
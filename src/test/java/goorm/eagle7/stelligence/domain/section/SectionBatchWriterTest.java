@@ -0,0 +1,194 @@
+package goorm.eagle7.stelligence.domain.section;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.LongStream;
+
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ParameterizedPreparedStatementSetter;
+
+import goorm.eagle7.stelligence.domain.document.content.model.Document;
+import goorm.eagle7.stelligence.domain.section.model.Heading;
+import goorm.eagle7.stelligence.domain.section.model.LatestSection;
+import goorm.eagle7.stelligence.domain.section.model.Section;
+import goorm.eagle7.stelligence.domain.section.model.SectionBody;
+import goorm.eagle7.stelligence.domain.section.model.SectionId;
+import goorm.eagle7.stelligence.domain.section.model.SectionOrder;
+import jakarta.persistence.EntityManager;
+
+/**
+ * SectionBatchWriter가 섹션의 수와 관계없이 정해진 수의 문장만 실행하는지 확인합니다.
+ * 문장의 수는 JdbcTemplate의 호출 횟수로 측정하며, batch 하나는 하나의 문장으로 셉니다.
+ */
+@DataJpaTest
+class SectionBatchWriterTest {
+
+	//섹션 ID는 Mock 데이터와 겹치지 않도록 큰 값을 사용합니다.
+	private static final long FIRST_SECTION_ID = 100_000L;
+
+	@Autowired
+	private DataSource dataSource;
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	@Autowired
+	private SectionRepository sectionRepository;
+
+	@Autowired
+	private LatestSectionRepository latestSectionRepository;
+
+	@Autowired
+	private EntityManager em;
+
+	private StatementCountingJdbcTemplate countingJdbcTemplate;
+	private SectionBatchWriter sectionBatchWriter;
+	private Document document;
+
+	@BeforeEach
+	void setUp() {
+		countingJdbcTemplate = new StatementCountingJdbcTemplate(dataSource);
+		sectionBatchWriter = new SectionBatchWriter(countingJdbcTemplate);
+
+		document = Document.createDocument("title", null, null);
+		em.persist(document);
+		em.flush();
+	}
+
+	@Test
+	@DisplayName("200개의 섹션을 가진 문서 생성 - 3개의 문장으로 저장")
+	void writeCreatedDocument() {
+		//given
+		SectionBatch batch = new SectionBatch(sectionBatchWriter);
+		LongStream.range(0, 200).forEach(i -> batch.created(section(FIRST_SECTION_ID + i, 1L, "content" + i,
+			SectionOrder.of((int)i + 1))));
+
+		//when
+		batch.flush();
+
+		//then
+		assertThat(countingJdbcTemplate.statements).containsExactly(
+			"MERGE section_body", "INSERT section", "INSERT latest_section");
+		assertThat(count("section")).isEqualTo(200);
+		assertThat(count("latest_section")).isEqualTo(200);
+		assertThat(sectionRepository.findLatestByDocumentId(document.getId()))
+			.extracting(Section::getContent)
+			.contains("content0", "content199");
+		assertThat(batch.isEmpty()).isTrue();
+	}
+
+	@Test
+	@DisplayName("이미 저장된 본문 - 존재 여부를 조회하지 않고 중복 없이 저장")
+	void skipStoredBodies() {
+		//given
+		sectionBatchWriter.write(List.of(section(FIRST_SECTION_ID, 1L, "content", SectionOrder.of(1))),
+			Set.of(FIRST_SECTION_ID));
+		countingJdbcTemplate.statements.clear();
+
+		//when
+		sectionBatchWriter.write(List.of(section(FIRST_SECTION_ID + 1, 1L, "content", SectionOrder.of(2))),
+			Set.of(FIRST_SECTION_ID + 1));
+
+		//then
+		assertThat(countingJdbcTemplate.statements).containsExactly(
+			"MERGE section_body", "INSERT section", "INSERT latest_section");
+		assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM section_body WHERE content_hash = ?",
+			Long.class, SectionBody.hash("content"))).isEqualTo(1L);
+	}
+
+	@Test
+	@DisplayName("Merge - 생성, 수정, 삭제된 섹션에 따라 latest_section을 추가, 변경, 제거")
+	void writeMergedRevision() {
+		//given
+		sectionBatchWriter.write(List.of(
+			section(FIRST_SECTION_ID, 1L, "first", SectionOrder.of(1)),
+			section(FIRST_SECTION_ID + 1, 1L, "second", SectionOrder.of(2))
+		), Set.of(FIRST_SECTION_ID, FIRST_SECTION_ID + 1));
+		countingJdbcTemplate.statements.clear();
+
+		SectionBatch batch = new SectionBatch(sectionBatchWriter);
+		batch.created(section(FIRST_SECTION_ID + 2, 2L, "created", SectionOrder.of(3)));
+		batch.created(section(FIRST_SECTION_ID + 3, 2L, null, SectionOrder.of(4))); //생성된 뒤 삭제된 섹션
+		batch.revised(section(FIRST_SECTION_ID, 2L, "updated", SectionOrder.of(1)));
+		batch.revised(section(FIRST_SECTION_ID + 1, 2L, null, SectionOrder.of(2)));
+
+		//when
+		batch.flush();
+		em.clear();
+
+		//then
+		assertThat(countingJdbcTemplate.statements).containsExactly("MERGE section_body", "INSERT section", "INSERT latest_section", "UPDATE latest_section", "DELETE latest_section");
+		assertThat(latestSectionRepository.findAll())
+			.extracting(LatestSection::getSectionId, LatestSection::getRevision)
+			.containsExactlyInAnyOrder(tuple(FIRST_SECTION_ID, 2L), tuple(FIRST_SECTION_ID + 2, 2L));
+		assertThat(sectionRepository.findById(SectionId.of(FIRST_SECTION_ID + 1, 2L)))
+			.hasValueSatisfying(section -> assertThat(section.isDeleted()).isTrue());
+	}
+
+	/**
+	 * content가 null이면 삭제된 섹션을 생성합니다.
+	 */
+	private Section section(long id, long revision, String content, long order) {
+		return content == null
+			? Section.createSection(document, id, revision, null, null, null, order)
+			: Section.createSection(document, id, revision, Heading.H2, "title", content, order);
+	}
+
+	private long count(String table) {
+		return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM " + table + " WHERE document_id = ?", Long.class,
+			document.getId());
+	}
+
+	/**
+	 * 실행한 문장을 "종류 테이블" 형식으로 기록합니다.
+	 */
+	static class StatementCountingJdbcTemplate extends JdbcTemplate {
+
+		final List<String> statements = new ArrayList<>();
+
+		StatementCountingJdbcTemplate(DataSource dataSource) {
+			super(dataSource);
+		}
+
+		@Override
+		public int[] batchUpdate(String sql, List<Object[]> batchArgs) {
+			statements.add(describe(sql));
+			return super.batchUpdate(sql, batchArgs);
+		}
+
+		@Override
+		public <T> int[][] batchUpdate(String sql, Collection<T> batchArgs, int batchSize,
+			ParameterizedPreparedStatementSetter<T> pss) {
+			statements.add(describe(sql));
+			return super.batchUpdate(sql, batchArgs, batchSize, pss);
+		}
+
+		@Override
+		public <T> List<T> queryForList(String sql, Class<T> elementType, Object... args) {
+			statements.add(describe(sql));
+			return super.queryForList(sql, elementType, args);
+		}
+
+		private String describe(String sql) {
+			List<String> words = List.of(sql.split("\\s+"));
+			String keyword = words.get(0);
+			int table = switch (keyword) {
+				case "INSERT", "MERGE" -> words.indexOf("INTO") + 1;
+				case "SELECT", "DELETE" -> words.indexOf("FROM") + 1;
+				default -> 1;
+			};
+			return keyword + " " + words.get(table);
+		}
+	}
+}
@@ -0,0 +1,86 @@
+package goorm.eagle7.stelligence.domain.section;
+
+import static org.assertj.core.api.Assertions.*;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.DefaultApplicationArguments;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import goorm.eagle7.stelligence.common.compression.TextCompressor;
+import goorm.eagle7.stelligence.domain.section.model.SectionBody;
+
+/**
+ * section.content 컬럼이 남아있는 기존 테이블을 흉내내기 위해 컬럼을 추가합니다.
+ * DDL은 트랜잭션을 커밋하므로 테스트 트랜잭션을 사용하지 않고, 추가한 데이터와 컬럼은 직접 정리합니다.
+ */
+@DataJpaTest
+@Import(SectionBodyInitializer.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class SectionBodyInitializerTest {
+
+	private static final long DOCUMENT_ID = 100_000L;
+
+	@Autowired
+	SectionBodyInitializer sectionBodyInitializer;
+
+	@Autowired
+	JdbcTemplate jdbcTemplate;
+
+	@BeforeEach
+	void setUp() {
+		jdbcTemplate.update("ALTER TABLE section ADD COLUMN content CLOB");
+		jdbcTemplate.update("INSERT INTO document (document_id, title, latest_revision, created_at, updated_at)"
+			+ " VALUES (?, 'legacy', 2, NOW(), NOW())", DOCUMENT_ID);
+	}
+
+	@AfterEach
+	void tearDown() {
+		jdbcTemplate.update("DELETE FROM section WHERE document_id = ?", DOCUMENT_ID);
+		jdbcTemplate.update("DELETE FROM section_body");
+		jdbcTemplate.update("DELETE FROM document WHERE document_id = ?", DOCUMENT_ID);
+		jdbcTemplate.update("ALTER TABLE section DROP COLUMN content");
+	}
+
+	@Test
+	@DisplayName("기존 본문 이전 - section.content의 본문을 section_body로 옮기고 content_hash를 채운다.")
+	void moveLegacyContents() {
+		//given
+		//chunk의 경계를 넘도록 섹션을 만들고, 같은 본문을 가진 섹션과 삭제된 섹션을 포함합니다.
+		for (long id = 1; id <= SectionBodyInitializer.CHUNK_SIZE + 1; id++) {
+			insertLegacySection(id, 1L, "<p>legacy" + id + "</p>");
+		}
+		insertLegacySection(1L, 2L, "<p>legacy1</p>");
+		insertLegacySection(2L, 2L, null);
+
+		//when
+		sectionBodyInitializer.run(new DefaultApplicationArguments());
+
+		//then
+		assertThat(jdbcTemplate.queryForObject(
+			"SELECT COUNT(*) FROM section WHERE document_id = ? AND content_hash IS NULL", Long.class, DOCUMENT_ID))
+			.isEqualTo(1L);
+		assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM section_body", Long.class))
+			.isEqualTo(SectionBodyInitializer.CHUNK_SIZE + 1L);
+		assertThat(jdbcTemplate.queryForObject(
+			"SELECT content_hash FROM section WHERE section_id = ? AND revision = 2", String.class, DOCUMENT_ID + 1))
+			.isEqualTo(SectionBody.hash("<p>legacy1</p>"));
+		assertThat(TextCompressor.decompress(jdbcTemplate.queryForObject(
+			"SELECT content FROM section_body WHERE content_hash = ?", String.class,
+			SectionBody.hash("<p>legacy1</p>"))))
+			.isEqualTo("<p>legacy1</p>");
+	}
+
+	private void insertLegacySection(long sectionId, long revision, String content) {
+		jdbcTemplate.update("INSERT INTO section (section_id, revision, document_id, orders, content,"
+			+ " created_at, updated_at) VALUES (?, ?, ?, ?, ?, NOW(), NOW())",
+			sectionId + DOCUMENT_ID, revision, DOCUMENT_ID, sectionId, content);
+	}
+}
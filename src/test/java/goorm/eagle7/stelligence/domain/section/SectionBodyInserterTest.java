@@ -0,0 +1,28 @@
+package goorm.eagle7.stelligence.domain.section;
+
+import static goorm.eagle7.stelligence.domain.section.SectionBodyInserter.*;
+import static org.assertj.core.api.Assertions.*;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class SectionBodyInserterTest {
+
+	@Test
+	@DisplayName("MySQL - 키 중복을 무시하는 INSERT")
+	void resolveMySql() {
+		assertThat(resolveInsertStatement("MySQL")).isEqualTo(INSERT_IGNORING_DUPLICATES_MYSQL);
+	}
+
+	@Test
+	@DisplayName("H2 - MERGE INTO ... KEY")
+	void resolveH2() {
+		assertThat(resolveInsertStatement("H2")).isEqualTo(INSERT_IGNORING_DUPLICATES_H2);
+	}
+
+	@Test
+	@DisplayName("DB의 종류를 확인하지 못한 경우 - 운영 DB인 MySQL의 문장")
+	void resolveUnknown() {
+		assertThat(resolveInsertStatement(null)).isEqualTo(INSERT_IGNORING_DUPLICATES_MYSQL);
+	}
+}
@@ -0,0 +1,154 @@
+package goorm.eagle7.stelligence.domain.section;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+
+import goorm.eagle7.stelligence.config.TestSectionWriter;
+import goorm.eagle7.stelligence.domain.document.content.model.Document;
+import goorm.eagle7.stelligence.domain.section.model.Heading;
+import goorm.eagle7.stelligence.domain.section.model.LatestSection;
+import goorm.eagle7.stelligence.domain.section.model.Section;
+import goorm.eagle7.stelligence.domain.section.model.SectionId;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 섹션 본문을 section_body로 분리했을 때의 저장 공간 절감과 조회 시간을 측정합니다.
+ *
+ * <p>수정 이력은 다음과 같이 합성합니다.
+ * <ul>
+ *     <li>모든 문서는 같은 틀의 본문(빈 본문, 공통 안내문)으로 시작하는 섹션을 일부 가지고 있습니다.</li>
+ *     <li>수정의 절반은 제목만 바꾸고 본문은 그대로 둡니다.</li>
+ *     <li>수정의 일부는 이전 본문으로 되돌리는 수정입니다.</li>
+ * </ul>
+ *
+ * <p>일반 테스트에서는 제외되며 ./gradlew benchmark 로 실행할 수 있습니다.
+ */
+@Slf4j
+@Tag("benchmark")
+@DataJpaTest
+class SectionBodyStorageBenchmarkTest {
+
+	private static final int DOCUMENT_COUNT = 20;
+	private static final int SECTION_COUNT = 30;
+	private static final int REVISION_COUNT = 200;
+	private static final int ITERATIONS = 200;
+
+	private static final String BODY = "<p>" + "본문 내용입니다. ".repeat(100) + "</p>";
+	private static final List<String> TEMPLATE_BODIES = List.of("", "<p>이 섹션은 작성 중입니다.</p>");
+
+	@Autowired
+	TestEntityManager em;
+
+	@Autowired
+	SectionRepository sectionRepository;
+
+	@Test
+	@DisplayName("section_body 저장 공간 및 최신 버전 조회 시간 측정")
+	void report() {
+		Random random = new Random(7);
+		long logicalBytes = 0;
+		long sectionRows = 0;
+		Long lastDocumentId = null;
+
+		for (int d = 0; d < DOCUMENT_COUNT; d++) {
+			Document document = Document.createDocument("benchmark" + d, null, null);
+			em.persist(document);
+			lastDocumentId = document.getId();
+
+			String[] titles = new String[SECTION_COUNT + 1];
+			String[] bodies = new String[SECTION_COUNT + 1];
+			String[] previousBodies = new String[SECTION_COUNT + 1];
+			long[] revisions = new long[SECTION_COUNT + 1];
+			long baseId = (long)d * SECTION_COUNT;
+
+			for (int i = 1; i <= SECTION_COUNT; i++) {
+				titles[i] = "title" + i;
+				bodies[i] = i <= TEMPLATE_BODIES.size() ? TEMPLATE_BODIES.get(i - 1) : BODY + i;
+				revisions[i] = 1L;
+				logicalBytes += persistSection(document, baseId + i, 1L, titles[i], bodies[i], i);
+				sectionRows++;
+			}
+
+			for (long revision = 2; revision <= REVISION_COUNT; revision++) {
+				int i = random.nextInt(SECTION_COUNT) + 1;
+				int kind = random.nextInt(10);
+				if (kind < 5) {
+					//제목만 수정
+					titles[i] = "title" + i + "-" + revision;
+				} else if (kind < 6 && previousBodies[i] != null) {
+					//이전 본문으로 되돌림
+					String temp = bodies[i];
+					bodies[i] = previousBodies[i];
+					previousBodies[i] = temp;
+				} else {
+					previousBodies[i] = bodies[i];
+					bodies[i] = BODY + i + "-" + revision;
+				}
+				revisions[i] = revision;
+				logicalBytes += persistSection(document, baseId + i, revision, titles[i], bodies[i], i);
+				sectionRows++;
+				document.incrementLatestRevision();
+			}
+
+			for (int i = 1; i <= SECTION_COUNT; i++) {
+				Section latest = em.find(Section.class,
+					SectionId.of(baseId + i, revisions[i]));
+				em.persist(LatestSection.of(latest));
+			}
+
+			em.flush();
+			em.clear();
+		}
+
+		Long bodyRows = em.getEntityManager()
+			.createQuery("select count(b) from SectionBody b", Long.class)
+			.getSingleResult();
+		Long storedBytes = em.getEntityManager()
+			.createQuery("select coalesce(sum(length(b.content)), 0) from SectionBody b", Long.class)
+			.getSingleResult();
+
+		//최신 버전 조회 시간을 측정합니다.
+		Long documentId = lastDocumentId;
+		for (int i = 0; i < 20; i++) {
+			readLatest(documentId);
+		}
+		long start = System.nanoTime();
+		for (int i = 0; i < ITERATIONS; i++) {
+			readLatest(documentId);
+		}
+		double readMillis = (System.nanoTime() - start) / 1_000_000.0 / ITERATIONS;
+
+		log.info("[benchmark] section rows={}, section_body rows={}, logical body chars={}, stored body chars={}, "
+				+ "reduction={}%, latest read avg={}ms",
+			sectionRows, bodyRows, logicalBytes, storedBytes,
+			String.format("%.1f", 100.0 * (logicalBytes - storedBytes) / logicalBytes),
+			String.format("%.3f", readMillis));
+
+		assertThat(bodyRows).isLessThan(sectionRows);
+		assertThat(storedBytes).isLessThan(logicalBytes);
+	}
+
+	private void readLatest(Long documentId) {
+		sectionRepository.findLatestByDocumentId(documentId).forEach(Section::getContent);
+		em.clear();
+	}
+
+	/**
+	 * 섹션을 저장하고, 본문이 섹션에 직접 저장되었다면 차지했을 길이를 반환합니다.
+	 */
+	private long persistSection(Document document, long sectionId, long revision, String title, String body,
+		int order) {
+		TestSectionWriter.save(em.getEntityManager(),
+			Section.createSection(document, sectionId, revision, Heading.H2, title, body, order));
+		return body.length();
+	}
+}
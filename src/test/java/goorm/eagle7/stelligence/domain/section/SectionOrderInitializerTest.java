@@ -0,0 +1,47 @@
+package goorm.eagle7.stelligence.domain.section;
+
+import static org.assertj.core.api.Assertions.*;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 이전에 INT로 생성된 orders 컬럼을 흉내내기 위해 컬럼의 타입을 변경합니다.
+ * DDL은 트랜잭션을 커밋하므로 테스트 트랜잭션을 사용하지 않고, 변경한 컬럼은 직접 되돌립니다.
+ */
+@DataJpaTest
+@Import(SectionOrderInitializer.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class SectionOrderInitializerTest {
+
+	@Autowired
+	SectionOrderInitializer sectionOrderInitializer;
+
+	@Autowired
+	JdbcTemplate jdbcTemplate;
+
+	@Test
+	@DisplayName("orders 컬럼이 BIGINT라면 변경하지 않는다.")
+	void bigintColumn() {
+		assertThatCode(() -> sectionOrderInitializer.widenOrderColumn()).doesNotThrowAnyException();
+	}
+
+	@Test
+	@DisplayName("MySQL이 아닌 DB에서 orders 컬럼이 INT라면 시작을 중단한다.")
+	void narrowColumn() {
+		jdbcTemplate.execute("ALTER TABLE section ALTER COLUMN orders SET DATA TYPE INT");
+		try {
+			assertThatThrownBy(() -> sectionOrderInitializer.widenOrderColumn())
+				.isInstanceOf(IllegalStateException.class)
+				.hasMessageContaining("BIGINT");
+		} finally {
+			jdbcTemplate.execute("ALTER TABLE section ALTER COLUMN orders SET DATA TYPE BIGINT");
+		}
+	}
+}
@@ -0,0 +1,117 @@
+package goorm.eagle7.stelligence.domain.section;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.List;
+import java.util.Random;
+import java.util.function.Supplier;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+
+import goorm.eagle7.stelligence.config.TestSectionWriter;
+import goorm.eagle7.stelligence.domain.document.content.model.Document;
+import goorm.eagle7.stelligence.domain.section.model.Heading;
+import goorm.eagle7.stelligence.domain.section.model.LatestSection;
+import goorm.eagle7.stelligence.domain.section.model.Section;
+import goorm.eagle7.stelligence.domain.section.model.SectionId;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 최신 버전 섹션 조회에 대해 revision 서브쿼리 방식과 latest_section 방식을 비교합니다.
+ * 수백 개의 revision을 가진 문서를 생성한 뒤 두 방식의 평균 조회 시간을 출력합니다.
+ *
+ * <p>일반 테스트에서는 제외되며 ./gradlew benchmark 로 실행할 수 있습니다.
+ */
+@Slf4j
+@Tag("benchmark")
+@DataJpaTest
+class SectionReadBenchmarkTest {
+
+	private static final int SECTION_COUNT = 50;
+	private static final int REVISION_COUNT = 500;
+	private static final int WARM_UP = 20;
+	private static final int ITERATIONS = 200;
+
+	@Autowired
+	TestEntityManager em;
+
+	@Autowired
+	SectionRepository sectionRepository;
+
+	private Document document;
+
+	/**
+	 * SECTION_COUNT개의 섹션을 가진 문서를 생성하고, 매 revision마다 임의의 섹션 하나를 수정합니다.
+	 */
+	@BeforeEach
+	void setUp() {
+		document = Document.createDocument("benchmark", null, null);
+		em.persist(document);
+
+		Random random = new Random(7);
+		long[] latestRevisions = new long[SECTION_COUNT + 1];
+
+		for (long sectionId = 1; sectionId <= SECTION_COUNT; sectionId++) {
+			persistSection(sectionId, 1L, (int)sectionId);
+			latestRevisions[(int)sectionId] = 1L;
+		}
+
+		for (long revision = 2; revision <= REVISION_COUNT; revision++) {
+			long sectionId = random.nextInt(SECTION_COUNT) + 1;
+			persistSection(sectionId, revision, (int)sectionId);
+			latestRevisions[(int)sectionId] = revision;
+			document.incrementLatestRevision();
+		}
+
+		for (long sectionId = 1; sectionId <= SECTION_COUNT; sectionId++) {
+			Section latest = em.find(Section.class, SectionId.of(sectionId, latestRevisions[(int)sectionId]));
+			em.persist(LatestSection.of(latest));
+		}
+
+		em.flush();
+		em.clear();
+	}
+
+	@Test
+	@DisplayName("최신 버전 조회 - revision 서브쿼리 vs latest_section")
+	void compareLatestRead() {
+		Document target = em.find(Document.class, document.getId());
+		Long latestRevision = target.getLatestRevision();
+
+		double subqueryMillis = measure(() -> sectionRepository.findByVersion(target, latestRevision));
+		double latestMillis = measure(() -> sectionRepository.findLatestByDocumentId(target.getId()));
+
+		log.info("[benchmark] sections={}, revisions={}, findByVersion avg={}ms, findLatestByDocumentId avg={}ms",
+			SECTION_COUNT, REVISION_COUNT, String.format("%.3f", subqueryMillis), String.format("%.3f", latestMillis));
+
+		//두 방식의 결과는 같아야 한다.
+		List<Section> bySubquery = sectionRepository.findByVersion(target, latestRevision);
+		List<Section> byLatest = sectionRepository.findLatestByDocumentId(target.getId());
+		assertThat(byLatest).hasSize(SECTION_COUNT).containsExactlyInAnyOrderElementsOf(bySubquery);
+	}
+
+	private double measure(Supplier<List<Section>> query) {
+		for (int i = 0; i < WARM_UP; i++) {
+			query.get();
+			em.clear();
+		}
+
+		long start = System.nanoTime();
+		for (int i = 0; i < ITERATIONS; i++) {
+			query.get();
+			em.clear();
+		}
+		return (System.nanoTime() - start) / 1_000_000.0 / ITERATIONS;
+	}
+
+	private void persistSection(long sectionId, long revision, int order) {
+		TestSectionWriter.save(em.getEntityManager(), Section.createSection(document, sectionId, revision, Heading.H2,
+			"title" + sectionId, "content " + sectionId + " at revision " + revision, order));
+	}
+}
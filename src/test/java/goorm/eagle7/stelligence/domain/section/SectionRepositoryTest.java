@@ -2,15 +2,25 @@ package goorm.eagle7.stelligence.domain.section;
 
 import static org.assertj.core.api.Assertions.*;
 
+import java.util.List;
 import java.util.Optional;
 
+import org.hibernate.Hibernate;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 
+import goorm.eagle7.stelligence.config.TestSectionWriter;
 import goorm.eagle7.stelligence.config.mockdata.WithMockData;
+import goorm.eagle7.stelligence.domain.document.content.DocumentContentRepository;
+import goorm.eagle7.stelligence.domain.document.content.model.Document;
+import goorm.eagle7.stelligence.domain.section.model.Heading;
 import goorm.eagle7.stelligence.domain.section.model.Section;
+import goorm.eagle7.stelligence.domain.section.model.SectionBody;
+import goorm.eagle7.stelligence.domain.section.model.SectionId;
+import goorm.eagle7.stelligence.domain.section.model.SectionOrder;
+import jakarta.persistence.EntityManager;
 
 @DataJpaTest
 @WithMockData
@@ -19,6 +29,12 @@ class SectionRepositoryTest {
 	@Autowired
 	private SectionRepository sectionRepository;
 
+	@Autowired
+	private DocumentContentRepository documentContentRepository;
+
+	@Autowired
+	private EntityManager em;
+
 	@Test
 	@DisplayName("최신 섹션 조회 - 성공")
 	void findLatestSectionSuccess() {
@@ -36,4 +52,124 @@ class SectionRepositoryTest {
 
 		assertThat(latestSection).isEmpty();
 	}
-}
\ No newline at end of file
+
+	@Test
+	@DisplayName("최신 버전 섹션 조회 - latest_section")
+	void findLatestByDocumentId() {
+		List<Section> sections = sectionRepository.findLatestByDocumentId(1L);
+
+		//1번 섹션은 삭제되었으므로, (2,2) (3,1) (13,2)만 조회되어야 한다.
+		assertThat(sections)
+			.extracting(Section::getId, Section::getRevision)
+			.containsExactlyInAnyOrder(
+				tuple(2L, 2L),
+				tuple(3L, 1L),
+				tuple(13L, 2L)
+			);
+	}
+
+	@Test
+	@DisplayName("최신 버전 섹션 조회 - 서브쿼리 방식과 결과가 같아야 한다.")
+	void findLatestByDocumentIdEqualsFindByVersion() {
+		for (long documentId = 1L; documentId <= 4L; documentId++) {
+			Document document = documentContentRepository.findById(documentId).orElseThrow();
+
+			List<Section> latest = sectionRepository.findLatestByDocumentId(documentId);
+			List<Section> byVersion = sectionRepository.findByVersion(document, document.getLatestRevision());
+
+			assertThat(latest).containsExactlyInAnyOrderElementsOf(byVersion);
+		}
+	}
+
+	@Test
+	@DisplayName("최신 버전 섹션 ID 조회")
+	void findLatestSectionIdByDocumentId() {
+		List<Long> sectionIds = sectionRepository.findLatestSectionIdByDocumentId(2L);
+
+		assertThat(sectionIds).containsExactlyInAnyOrder(4L, 5L, 6L, 14L);
+	}
+
+	@Test
+	@DisplayName("섹션 저장 - 같은 본문은 한 번만 저장된다.")
+	void saveSectionDeduplicatesBody() {
+		//given
+		Document document = documentContentRepository.findById(1L).orElseThrow();
+		String content = "document1_content2_update\\n"; //(2,2) 섹션과 같은 본문
+
+		//when
+		TestSectionWriter.save(em, Section.createSection(document, 2L, 4L, Heading.H2, "title", content, 2));
+		TestSectionWriter.save(em, Section.createSection(document, 3L, 4L, Heading.H3, "title", content, 3));
+		em.flush();
+		em.clear();
+
+		//then
+		Long bodyCount = em.createQuery("select count(b) from SectionBody b where b.hash = :hash", Long.class)
+			.setParameter("hash", SectionBody.hash(content))
+			.getSingleResult();
+		assertThat(bodyCount).isEqualTo(1L);
+
+		Section updated = sectionRepository.findById(SectionId.of(3L, 4L)).orElseThrow();
+		assertThat(updated.getContent()).isEqualTo(content);
+	}
+
+	@Test
+	@DisplayName("섹션 저장 - 삭제된 섹션은 본문을 갖지 않는다.")
+	void saveDeletedSection() {
+		//given
+		Document document = documentContentRepository.findById(1L).orElseThrow();
+
+		//when
+		TestSectionWriter.save(em, Section.createSection(document, 2L, 4L, null, null, null, 2));
+		em.flush();
+		em.clear();
+
+		//then
+		Section deleted = sectionRepository.findById(SectionId.of(2L, 4L)).orElseThrow();
+		assertThat(deleted.isDeleted()).isTrue();
+		assertThat(deleted.getContent()).isNull();
+	}
+
+	@Test
+	@DisplayName("다음 섹션의 순서 조회")
+	void findNextOrder() {
+		Document document = documentContentRepository.findById(1L).orElseThrow();
+
+		assertThat(sectionRepository.findNextOrder(document, 3L, 2L)).contains(3L);
+		assertThat(sectionRepository.findNextOrder(document, 3L, 4L)).isEmpty();
+	}
+
+	@Test
+	@DisplayName("범위 내 마지막 섹션의 순서 조회")
+	void findLastOrderBetween() {
+		Document document = documentContentRepository.findById(1L).orElseThrow();
+
+		assertThat(sectionRepository.findLastOrderBetween(document, 3L, 1L, 4L)).contains(3L);
+		assertThat(sectionRepository.findLastOrderBetween(document, 1L, 4L, Long.MAX_VALUE)).isEmpty();
+	}
+
+	@Test
+	@DisplayName("특정 버전의 섹션 조회 - 삭제된 섹션을 포함하여 순서대로 조회하며 본문은 읽지 않는다.")
+	void findByVersionWithoutBody() {
+		Document document = documentContentRepository.findById(1L).orElseThrow();
+
+		List<Section> sections = sectionRepository.findByVersionWithoutBody(document, 3L);
+
+		assertThat(sections).extracting(Section::getId).containsExactly(1L, 2L, 3L, 13L);
+		assertThat(sections.get(0).isDeleted()).isTrue();
+		assertThat(sections.get(1).getBody()).matches(body -> !Hibernate.isInitialized(body));
+	}
+
+	@Test
+	@DisplayName("이전 방식의 순서 변환 - 상대적인 순서가 유지된다.")
+	void spreadOrders() {
+		assertThat(sectionRepository.existsOrderLessThanGap(SectionOrder.GAP)).isTrue();
+
+		sectionRepository.spreadOrders(SectionOrder.GAP);
+
+		assertThat(sectionRepository.existsOrderLessThanGap(SectionOrder.GAP)).isFalse();
+		Document document = documentContentRepository.findById(1L).orElseThrow();
+		assertThat(sectionRepository.findByVersionWithoutBody(document, 3L))
+			.extracting(Section::getOrder)
+			.containsExactly(SectionOrder.of(1), SectionOrder.of(2), SectionOrder.of(3), SectionOrder.of(4));
+	}
+}
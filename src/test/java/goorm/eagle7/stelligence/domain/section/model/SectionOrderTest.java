@@ -0,0 +1,30 @@
+package goorm.eagle7.stelligence.domain.section.model;
+
+import static org.assertj.core.api.Assertions.*;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class SectionOrderTest {
+
+	@Test
+	@DisplayName("두 순서 사이의 중간 값을 반환한다.")
+	void between() {
+		assertThat(SectionOrder.between(SectionOrder.of(1), SectionOrder.of(2)))
+			.isEqualTo(SectionOrder.of(1) + SectionOrder.GAP / 2);
+	}
+
+	@Test
+	@DisplayName("뒤 섹션이 없다면 GAP만큼 뒤의 값을 반환한다.")
+	void betweenAtLast() {
+		assertThat(SectionOrder.between(SectionOrder.of(3), null)).isEqualTo(SectionOrder.of(4));
+	}
+
+	@Test
+	@DisplayName("두 순서 사이에 간격이 없다면 예외가 발생한다.")
+	void betweenWithoutRoom() {
+		assertThat(SectionOrder.hasRoomBetween(10L, 11L)).isFalse();
+		assertThatThrownBy(() -> SectionOrder.between(10L, 11L))
+			.isInstanceOf(IllegalArgumentException.class);
+	}
+}
@@ -23,6 +23,24 @@ values (1, 'title1', 3, null, NOW(), NOW()),
        (3, 'title3', 1, null, NOW(), NOW()),
        (4, 'title4', 1, null, NOW(), NOW());
 
+-- 섹션의 본문은 내용의 SHA-256 해시를 키로 section_body에 저장됩니다.
+insert into section_body (content_hash, content)
+values ('c333eb010bd1cbb5bd05298db52345437c97c8917fa89cd647fd6bbd36502d4d', 'document1_content1\n'),
+       ('3b12edd616a2bacd43c4c20fd26c7ffde47402f85ca56f39a1892c415389b57c', 'document1_content2\n'),
+       ('4ef9a1095de6e22cd22d34741753cac7dd116bbcd587f3d11c304ff70d67a5e5', 'document1_content2_update\n'),
+       ('f4815a649e025f070e00c7e2af5c17aa86b4d65ce445fdb174ba7c2618944ca9', 'document1_content3\n'),
+       ('3698ea94a30acb79813137730d7494180044d547aa634a9e8a35758d664c78ec', 'document1_content4_insert\n'),
+       ('3879fc0bc72d16ae86df1597120169dd57844b27a7540b8d276eb521b07b4bb4', 'document2_content1\n'),
+       ('eab9b21d5aebcbf86ac187b36c651c39a283edd0044c32ee9f72fa38f7e4a320', 'document2_content2\n'),
+       ('a9e48980406acaa5cb25665ab2a35c5f70e1b4e50eaed77141eec0da7d69bc0f', 'document2_content3\n'),
+       ('ba7f4a1834b583017bd46639bf6aadb3a3386e1a7373855e6f29278eb486fab3', 'document2_content4_insert\n'),
+       ('fe14ff013024abf627396bb6cf83b929e30929ef50bb6f205386c82fb3298c92', 'document3_content1\n'),
+       ('1daac527b2828656ae83223c2fd739be4907307575ef62e67408d7284a4cb915', 'document3_content2\n'),
+       ('7060a413a014c78f0bbd1d95c962baffa2f6ff6e64b6a214193cfce12a99c144', 'document3_content3\n'),
+       ('4595c4bd075771a903f394aea7cd6a59ebfa9fe20f3c4b798b89dc2338f4c20f', 'document4_content1\n'),
+       ('397de1154558317bd2063ae4c58ea714d3b77d0bb97abb2368d37c862ae2572d', 'document4_content2\n'),
+       ('3c9d880b3abe070d035d28127c4a9b63c4eea74f2a4dfb1dfe34605348316f9e', 'document4_content3\n');
+
 -- 14개의 섹션이 존재합니다.
 ------ 1번 문서에는 6개의 섹션이 존재합니다.
 ---------- (1,1) (2,1) (3,1) 은 최초의 1번 문서로 생성된 섹션입니다.
@@ -36,23 +54,39 @@ values (1, 'title1', 3, null, NOW(), NOW()),
 ------ 4번 문서에는 3개의 섹션이 존재합니다.
 ----------- (10,1) (11,1) (12,1) 은 최초의 4번 문서로 생성된 섹션입니다.
 -- 관련 링크 : https://excited-cycle-902.notion.site/762ff798869f4320aec03bb4fbff27c9?pvs=4
-insert into section (section_id, revision, document_id, heading, title, content, orders, created_at, updated_at)
-values (1, 1, 1, 'H1', 'document1_title1', 'document1_content1\n', 1, NOW(), NOW()),
+insert into section (section_id, revision, document_id, heading, title, content_hash, orders, created_at, updated_at)
+values (1, 1, 1, 'H1', 'document1_title1', 'c333eb010bd1cbb5bd05298db52345437c97c8917fa89cd647fd6bbd36502d4d', 1, NOW(), NOW()),
        (1, 3, 1, null, null, null, 1, NOW(), NOW()),
-       (2, 1, 1, 'H2', 'document1_title2', 'document1_content2\n', 2, NOW(), NOW()),
-       (2, 2, 1, 'H2', 'document1_title2_update', 'document1_content2_update\n', 2, NOW(), NOW()),
-       (3, 1, 1, 'H3', 'document1_title3', 'document1_content3\n', 3, NOW(), NOW()),
-       (13, 2, 1, 'H1', 'document1_title4_insert', 'document1_content4_insert\n', 4, NOW(), NOW()),
-       (4, 1, 2, 'H1', 'document2_title1', 'document2_content1\n', 1, NOW(), NOW()),
-       (5, 1, 2, 'H2', 'document2_title2', 'document2_content2\n', 3, NOW(), NOW()),
-       (6, 1, 2, 'H3', 'document2_title3', 'document2_content3\n', 4, NOW(), NOW()),
-       (14, 2, 2, 'H1', 'document2_title4_insert', 'document2_content4_insert\n', 2, NOW(), NOW()),
-       (7, 1, 3, 'H1', 'document3_title1', 'document3_content1\n', 1, NOW(), NOW()),
-       (8, 1, 3, 'H2', 'document3_title2', 'document3_content2\n', 2, NOW(), NOW()),
-       (9, 1, 3, 'H3', 'document3_title3', 'document3_content3\n', 3, NOW(), NOW()),
-       (10, 1, 4, 'H1', 'document4_title1', 'document4_content1\n', 1, NOW(), NOW()),
-       (11, 1, 4, 'H2', 'document4_title2', 'document4_content2\n', 2, NOW(), NOW()),
-       (12, 1, 4, 'H3', 'document4_title3', 'document4_content3\n', 3, NOW(), NOW());
+       (2, 1, 1, 'H2', 'document1_title2', '3b12edd616a2bacd43c4c20fd26c7ffde47402f85ca56f39a1892c415389b57c', 2, NOW(), NOW()),
+       (2, 2, 1, 'H2', 'document1_title2_update', '4ef9a1095de6e22cd22d34741753cac7dd116bbcd587f3d11c304ff70d67a5e5', 2, NOW(), NOW()),
+       (3, 1, 1, 'H3', 'document1_title3', 'f4815a649e025f070e00c7e2af5c17aa86b4d65ce445fdb174ba7c2618944ca9', 3, NOW(), NOW()),
+       (13, 2, 1, 'H1', 'document1_title4_insert', '3698ea94a30acb79813137730d7494180044d547aa634a9e8a35758d664c78ec', 4, NOW(), NOW()),
+       (4, 1, 2, 'H1', 'document2_title1', '3879fc0bc72d16ae86df1597120169dd57844b27a7540b8d276eb521b07b4bb4', 1, NOW(), NOW()),
+       (5, 1, 2, 'H2', 'document2_title2', 'eab9b21d5aebcbf86ac187b36c651c39a283edd0044c32ee9f72fa38f7e4a320', 3, NOW(), NOW()),
+       (6, 1, 2, 'H3', 'document2_title3', 'a9e48980406acaa5cb25665ab2a35c5f70e1b4e50eaed77141eec0da7d69bc0f', 4, NOW(), NOW()),
+       (14, 2, 2, 'H1', 'document2_title4_insert', 'ba7f4a1834b583017bd46639bf6aadb3a3386e1a7373855e6f29278eb486fab3', 2, NOW(), NOW()),
+       (7, 1, 3, 'H1', 'document3_title1', 'fe14ff013024abf627396bb6cf83b929e30929ef50bb6f205386c82fb3298c92', 1, NOW(), NOW()),
+       (8, 1, 3, 'H2', 'document3_title2', '1daac527b2828656ae83223c2fd739be4907307575ef62e67408d7284a4cb915', 2, NOW(), NOW()),
+       (9, 1, 3, 'H3', 'document3_title3', '7060a413a014c78f0bbd1d95c962baffa2f6ff6e64b6a214193cfce12a99c144', 3, NOW(), NOW()),
+       (10, 1, 4, 'H1', 'document4_title1', '4595c4bd075771a903f394aea7cd6a59ebfa9fe20f3c4b798b89dc2338f4c20f', 1, NOW(), NOW()),
+       (11, 1, 4, 'H2', 'document4_title2', '397de1154558317bd2063ae4c58ea714d3b77d0bb97abb2368d37c862ae2572d', 2, NOW(), NOW()),
+       (12, 1, 4, 'H3', 'document4_title3', '3c9d880b3abe070d035d28127c4a9b63c4eea74f2a4dfb1dfe34605348316f9e', 3, NOW(), NOW());
+
+-- 각 섹션의 최신 revision을 가리키는 latest_section입니다. 삭제된 1번 섹션은 존재하지 않습니다.
+insert into latest_section (section_id, document_id, revision)
+values (2, 1, 2),
+       (3, 1, 1),
+       (13, 1, 2),
+       (4, 2, 1),
+       (5, 2, 1),
+       (6, 2, 1),
+       (14, 2, 2),
+       (7, 3, 1),
+       (8, 3, 1),
+       (9, 3, 1),
+       (10, 4, 1),
+       (11, 4, 1),
+       (12, 4, 1);
 
 -- SectionId의 sequence_Id는 15부터
 INSERT into sequence_table (sequence_name, sequence_value)
@@ -73,6 +107,23 @@ values (1, 1, 1, 'contribute_title1', 'contribute_description1', 'MERGED', 'titl
        (5, 2, 2, 'contribute_title5', 'contribute_description5', 'VOTING', 'title2', 'new_title_2', null, null,'2024-03-21 00:04:00', NOW()),
        (6, 1, 3, 'contribute_title6', 'contribute_description6', 'DEBATING', 'title3', 'new_title_3', null, null,'2024-03-21 00:05:00', NOW());
 
+-- Merge된 수정요청의 작성자인 문서 기여자입니다.
+------ 1번 문서에는 1, 2번 회원이, 2번 문서에는 3번 회원이 기여했습니다.
+insert into document_contributor (document_id, member_id, nickname, image_url,
+                                  contributions, first_contributed_at, last_contributed_at)
+values (1, 1, 'nickname1', 'image_url1', 1, '2024-03-21 00:00:00', '2024-03-21 00:00:00'),
+       (1, 2, 'nickname2', 'image_url2', 1, '2024-03-21 00:01:00', '2024-03-21 00:01:00'),
+       (2, 3, 'nickname3', 'image_url3', 1, '2024-03-21 00:02:00', '2024-03-21 00:02:00');
+
+-- 문서의 현재 상태입니다. 가장 최근의 수정요청과 토론으로부터 계산한 값과 같습니다.
+------ 1번 문서는 2번 토론이, 3번 문서는 7번 토론이 진행중입니다.
+------ 2번 문서는 5번 수정요청이 투표중입니다.
+insert into document_state (document_id, status, contribute_id, debate_id, pending_until)
+values (1, 'DEBATING', null, 2, null),
+       (2, 'VOTING', 5, 6, null),
+       (3, 'DEBATING', null, 7, null),
+       (4, 'EDITABLE', null, null, null);
+
 
 -- 7개의 admentment가 존재합니다.
 ------ 1번 amendment는 1번 contribute에 포함되어있으며, 섹션 2번을 업데이트하고자하는 수정안입니다.